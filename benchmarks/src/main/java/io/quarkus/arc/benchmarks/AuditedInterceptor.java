@@ -0,0 +1,18 @@
+package io.quarkus.arc.benchmarks;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@Audited
+@Interceptor
+@Priority(1)
+public class AuditedInterceptor {
+
+    @AroundInvoke
+    public Object audit(InvocationContext context) throws Exception {
+        return context.proceed();
+    }
+
+}
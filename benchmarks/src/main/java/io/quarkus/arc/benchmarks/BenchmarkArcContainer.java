@@ -0,0 +1,89 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ArcContainer;
+
+/**
+ * Measures the runtime cost of the ArC container: programmatic lookup, the client proxy dispatch of a normal scoped bean
+ * and the interceptor chain of an intercepted method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BenchmarkArcContainer {
+
+    private static final String NAME = "Quarkus";
+
+    private BenchmarkContainer benchmarkContainer;
+    private ArcContainer container;
+    private Greeter greeter;
+    private SingletonGreeter singletonGreeter;
+    private InterceptedGreeter interceptedGreeter;
+
+    @Setup
+    public void setup() {
+        benchmarkContainer = BenchmarkContainer.start(Greeter.class, SingletonGreeter.class, InterceptedGreeter.class,
+                Audited.class, AuditedInterceptor.class, Measured.class, MeasuredInterceptor.class);
+        container = benchmarkContainer.container();
+        greeter = container.instance(Greeter.class).get();
+        singletonGreeter = container.instance(SingletonGreeter.class).get();
+        interceptedGreeter = container.instance(InterceptedGreeter.class).get();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        benchmarkContainer.close();
+    }
+
+    @Benchmark
+    public Greeter instance() {
+        return container.instance(Greeter.class).get();
+    }
+
+    @Benchmark
+    public Greeter select() {
+        return container.select(Greeter.class).get();
+    }
+
+    @Benchmark
+    public String singleton() {
+        return singletonGreeter.greet(NAME);
+    }
+
+    @Benchmark
+    public String clientProxy() {
+        return greeter.greet(NAME);
+    }
+
+    @Benchmark
+    public String oneInterceptor() {
+        return interceptedGreeter.greetAudited(NAME);
+    }
+
+    @Benchmark
+    public String twoInterceptors() {
+        return interceptedGreeter.greetAuditedAndMeasured(NAME);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkArcContainer.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
@@ -0,0 +1,106 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+
+/**
+ * Starts an ArC container for the given bean classes without the Quarkus build, similar to the {@code ArcTestContainer}
+ * used by the ArC tests.
+ * <p>
+ * The generated classes are written to a temporary directory and loaded by a child class loader, which is set as the TCCL
+ * so that the container can find the generated {@link ComponentsProvider}. The bean classes are loaded by the parent class
+ * loader, i.e. the generated classes are not in the same runtime package and all the bean classes and their members must
+ * be public.
+ */
+public final class BenchmarkContainer implements AutoCloseable {
+
+    private final Path directory;
+    private final ClassLoader oldTccl;
+    private final URLClassLoader classLoader;
+    private final ArcContainer container;
+
+    private BenchmarkContainer(Path directory, ClassLoader oldTccl, URLClassLoader classLoader, ArcContainer container) {
+        this.directory = directory;
+        this.oldTccl = oldTccl;
+        this.classLoader = classLoader;
+        this.container = container;
+    }
+
+    public static BenchmarkContainer start(Class<?>... beanClasses) {
+        Arc.shutdown();
+        try {
+            Path directory = Files.createTempDirectory("arc-benchmark");
+            File classesDirectory = directory.toFile();
+            File componentsProviderFile = directory.resolve("META-INF/services/" + ComponentsProvider.class.getName())
+                    .toFile();
+
+            IndexView index = BeanArchives.buildImmutableBeanArchiveIndex(Index.of(beanClasses));
+            BeanProcessor processor = BeanProcessor.builder()
+                    .setName("benchmark")
+                    .setImmutableBeanArchiveIndex(index)
+                    .setComputingBeanArchiveIndex(BeanArchives.buildComputingBeanArchiveIndex(
+                            BenchmarkContainer.class.getClassLoader(), new ConcurrentHashMap<>(), index))
+                    .setOutput(new ResourceOutput() {
+                        @Override
+                        public void writeResource(Resource resource) throws IOException {
+                            switch (resource.getType()) {
+                                case JAVA_CLASS:
+                                    resource.writeTo(classesDirectory);
+                                    break;
+                                case SERVICE_PROVIDER:
+                                    if (resource.getName().endsWith(ComponentsProvider.class.getName())) {
+                                        componentsProviderFile.getParentFile().mkdirs();
+                                        Files.write(componentsProviderFile.toPath(), resource.getData());
+                                    }
+                                    break;
+                                default:
+                                    throw new IllegalArgumentException();
+                            }
+                        }
+                    })
+                    .build();
+            processor.process();
+
+            ClassLoader oldTccl = Thread.currentThread().getContextClassLoader();
+            URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() },
+                    BenchmarkContainer.class.getClassLoader());
+            Thread.currentThread().setContextClassLoader(classLoader);
+            return new BenchmarkContainer(directory, oldTccl, classLoader, Arc.initialize());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ArcContainer container() {
+        return container;
+    }
+
+    @Override
+    public void close() throws IOException {
+        Arc.shutdown();
+        Thread.currentThread().setContextClassLoader(oldTccl);
+        classLoader.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+}
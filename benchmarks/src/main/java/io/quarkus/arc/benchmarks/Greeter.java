@@ -0,0 +1,15 @@
+package io.quarkus.arc.benchmarks;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A normal scoped bean, i.e. the benchmarks invoke it through its client proxy.
+ */
+@ApplicationScoped
+public class Greeter {
+
+    public String greet(String name) {
+        return name;
+    }
+
+}
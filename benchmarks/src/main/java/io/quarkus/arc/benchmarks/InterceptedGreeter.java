@@ -0,0 +1,19 @@
+package io.quarkus.arc.benchmarks;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class InterceptedGreeter {
+
+    @Audited
+    public String greetAudited(String name) {
+        return name;
+    }
+
+    @Audited
+    @Measured
+    public String greetAuditedAndMeasured(String name) {
+        return name;
+    }
+
+}
@@ -0,0 +1,18 @@
+package io.quarkus.arc.benchmarks;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@Measured
+@Interceptor
+@Priority(2)
+public class MeasuredInterceptor {
+
+    @AroundInvoke
+    public Object measure(InvocationContext context) throws Exception {
+        return context.proceed();
+    }
+
+}
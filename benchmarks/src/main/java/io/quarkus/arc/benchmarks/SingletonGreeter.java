@@ -0,0 +1,15 @@
+package io.quarkus.arc.benchmarks;
+
+import jakarta.inject.Singleton;
+
+/**
+ * A pseudo-scoped bean, i.e. the benchmarks invoke it directly. Used as a baseline for the client proxy dispatch.
+ */
+@Singleton
+public class SingletonGreeter {
+
+    public String greet(String name) {
+        return name;
+    }
+
+}
@@ -0,0 +1,226 @@
+package io.quarkus.jackson;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+
+/**
+ * Measures the throughput of reading a request body with the reflection-based {@code BeanDeserializer} and with
+ * deserializers of the same shape as the ones generated by the {@code JacksonDeserializerFactory} of the REST Jackson
+ * extension when {@code quarkus.rest.jackson.optimization.enable-reflection-free-serializers=true}.
+ * <p>
+ * A {@link ObjectMapper} is created for each fork so that the bean introspection cost of the reflection-based
+ * deserializer is only paid during the warmup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BenchmarkJacksonDeserialization {
+
+    @Param({ "reflection", "generated" })
+    public String mode;
+
+    @Param({ "1", "50" })
+    public int lines;
+
+    private ObjectReader reader;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new Jdk8Module())
+                .registerModule(new ParameterNamesModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("generated".equals(mode)) {
+            SimpleModule module = new SimpleModule();
+            module.addDeserializer(Order.class, new OrderDeserializer());
+            module.addDeserializer(OrderLine.class, new OrderLineDeserializer());
+            mapper.registerModule(module);
+        }
+        reader = mapper.readerFor(Order.class);
+        Order order = new Order();
+        order.setCustomer("Quarkus");
+        order.setDelivery(LocalDate.of(2024, 1, 1));
+        order.setPriority(Priority.HIGH);
+        List<OrderLine> orderLines = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            orderLines.add(new OrderLine("product-" + i, i % 5 + 1, BigDecimal.valueOf(1999 + i, 2)));
+        }
+        order.setLines(orderLines);
+        order.setAttributes(Map.of("gift", List.of("wrap", "card")));
+        json = mapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public Order deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkJacksonDeserialization.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    public enum Priority {
+        LOW,
+        HIGH
+    }
+
+    public static class Order {
+
+        private String customer;
+        private LocalDate delivery;
+        private Priority priority;
+        private List<OrderLine> lines;
+        private Map<String, List<String>> attributes;
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(String customer) {
+            this.customer = customer;
+        }
+
+        public LocalDate getDelivery() {
+            return delivery;
+        }
+
+        public void setDelivery(LocalDate delivery) {
+            this.delivery = delivery;
+        }
+
+        public Priority getPriority() {
+            return priority;
+        }
+
+        public void setPriority(Priority priority) {
+            this.priority = priority;
+        }
+
+        public List<OrderLine> getLines() {
+            return lines;
+        }
+
+        public void setLines(List<OrderLine> lines) {
+            this.lines = lines;
+        }
+
+        public Map<String, List<String>> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(Map<String, List<String>> attributes) {
+            this.attributes = attributes;
+        }
+
+    }
+
+    public record OrderLine(String product, int quantity, BigDecimal price) {
+    }
+
+    /**
+     * The equivalent of the generated deserializer for {@link Order}.
+     */
+    static class OrderDeserializer extends StdDeserializer<Order> {
+
+        OrderDeserializer() {
+            super(Order.class);
+        }
+
+        @Override
+        public Order deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException {
+            Order order = new Order();
+            JsonNode jsonNode = jsonParser.getCodec().readTree(jsonParser);
+            Iterator<Map.Entry<String, JsonNode>> iterator = jsonNode.fields();
+            while (iterator.hasNext()) {
+                Map.Entry<String, JsonNode> entry = iterator.next();
+                JsonNode value = entry.getValue();
+                if (value.isNull()) {
+                    continue;
+                }
+                switch (entry.getKey()) {
+                    case "customer":
+                        order.setCustomer(value.asText());
+                        break;
+                    case "delivery":
+                        order.setDelivery(context.readTreeAsValue(value, LocalDate.class));
+                        break;
+                    case "priority":
+                        order.setPriority(context.readTreeAsValue(value, Priority.class));
+                        break;
+                    case "lines":
+                        order.setLines(context.readTreeAsValue(value, context.getTypeFactory()
+                                .constructCollectionType(ArrayList.class, context.getTypeFactory().constructType(
+                                        OrderLine.class))));
+                        break;
+                    case "attributes":
+                        order.setAttributes(context.readTreeAsValue(value, context.getTypeFactory()
+                                .constructMapType(HashMap.class, context.getTypeFactory().constructType(String.class),
+                                        context.getTypeFactory().constructCollectionType(ArrayList.class,
+                                                context.getTypeFactory().constructType(String.class)))));
+                        break;
+                }
+            }
+            return order;
+        }
+
+    }
+
+    /**
+     * The equivalent of the generated deserializer for the {@link OrderLine} record.
+     */
+    static class OrderLineDeserializer extends StdDeserializer<OrderLine> {
+
+        OrderLineDeserializer() {
+            super(OrderLine.class);
+        }
+
+        @Override
+        public OrderLine deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException {
+            JsonNode jsonNode = jsonParser.getCodec().readTree(jsonParser);
+            JsonNode product = jsonNode.get("product");
+            JsonNode quantity = jsonNode.get("quantity");
+            return new OrderLine(product != null ? product.asText() : null, quantity != null ? quantity.asInt() : 0,
+                    context.readTreeAsValue(jsonNode.get("price"), BigDecimal.class));
+        }
+
+    }
+
+}
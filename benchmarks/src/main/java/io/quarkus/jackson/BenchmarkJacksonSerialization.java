@@ -0,0 +1,113 @@
+package io.quarkus.jackson;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+
+/**
+ * Measures the serialization and deserialization of a typical payload with an {@link ObjectMapper} configured like the
+ * default {@code ObjectMapper} bean of Quarkus, i.e. with the modules registered by the Jackson extension and the
+ * features disabled by the {@code ConfigurationCustomizer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BenchmarkJacksonSerialization {
+
+    @Param({ "1", "50" })
+    public int lines;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private Order order;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new Jdk8Module())
+                .registerModule(new ParameterNamesModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+        // the REST layer looks up the reader and the writer once per type
+        writer = mapper.writerFor(Order.class);
+        reader = mapper.readerFor(Order.class);
+        order = new Order();
+        order.id = 42;
+        order.customer = "Quarkus";
+        order.created = Instant.parse("2024-01-01T10:15:30Z");
+        order.note = Optional.of("Leave at the door");
+        order.lines = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            OrderLine line = new OrderLine();
+            line.product = "product-" + i;
+            line.quantity = i % 5 + 1;
+            line.price = BigDecimal.valueOf(1999 + i, 2);
+            order.lines.add(line);
+        }
+        json = writer.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public Order deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkJacksonSerialization.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    public static class Order {
+
+        public long id;
+        public String customer;
+        public Instant created;
+        public Optional<String> note;
+        public List<OrderLine> lines;
+
+    }
+
+    public static class OrderLine {
+
+        public String product;
+        public int quantity;
+        public BigDecimal price;
+
+    }
+
+}
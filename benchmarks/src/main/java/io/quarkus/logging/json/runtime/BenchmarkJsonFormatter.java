@@ -0,0 +1,88 @@
+package io.quarkus.logging.json.runtime;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.MDC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.logging.json.runtime.JsonLogConfig.AdditionalFieldConfig.Type;
+
+/**
+ * Compares the cost of formatting a log record by the {@link JsonFormatter} with the {@link FastJsonGenerator} and with
+ * the JSON-P based generator. The formatter is configured with additional fields, and the record has MDC entries and
+ * characters that need to be escaped.
+ * <p>
+ * The benchmark is located in the {@code io.quarkus.logging.json.runtime} package because it needs to switch the
+ * package-private generator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BenchmarkJsonFormatter {
+
+    @Param({ "fast", "json-p" })
+    public String generator;
+
+    @Param({ "false", "true" })
+    public boolean exception;
+
+    private JsonFormatter formatter;
+    private ExtLogRecord record;
+
+    @Setup
+    public void setup() {
+        Map<String, AdditionalField> additionalFields = new LinkedHashMap<>();
+        additionalFields.put("service.name", new AdditionalField("benchmark", Type.STRING));
+        additionalFields.put("service.instance", new AdditionalField("42", Type.INT));
+        additionalFields.put("ecs.version", new AdditionalField("1.12.2", Type.STRING));
+        formatter = new JsonFormatter();
+        formatter.setExcludedKeys(Set.of("loggerClassName"));
+        formatter.setAdditionalFields(additionalFields);
+        formatter.setFastGenerator("fast".equals(generator));
+
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+        MDC.put("spanId", "00f067aa0ba902b7");
+        try {
+            record = new ExtLogRecord(java.util.logging.Level.INFO,
+                    "Processed order \"%s\" for customer %s in %d ms", ExtLogRecord.FormatStyle.PRINTF,
+                    BenchmarkJsonFormatter.class.getName());
+            record.setParameters(new Object[] { "A-1234", "c\u00e9line\tdupont", 12 });
+            record.setLoggerName("org.acme.OrderService");
+            if (exception) {
+                record.setThrown(new IllegalStateException("Payment service\nunavailable"));
+            }
+            // capture the MDC and the thread name, as done when the record is queued by an async handler
+            record.copyAll();
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @Benchmark
+    public String format() {
+        return formatter.format(record);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkJsonFormatter.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
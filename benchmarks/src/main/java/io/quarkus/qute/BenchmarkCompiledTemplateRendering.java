@@ -0,0 +1,131 @@
+package io.quarkus.qute;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.BenchmarkTemplateRendering.Item;
+import io.quarkus.qute.BenchmarkTemplateRendering.ItemResolver;
+
+/**
+ * Compares the rendering of an interpreted template with the rendering of the same template compiled to bytecode.
+ * <p>
+ * The {@code compiled} template is a hand-written equivalent of the {@link CompiledTemplate} generated for a type-safe
+ * template when {@code quarkus.qute.compile-templates=true}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BenchmarkCompiledTemplateRendering {
+
+    static final String TEMPLATE = "<html>\n"
+            + "<h1>{title}</h1>\n"
+            + "<p>{item.name}</p>\n"
+            + "<p>{item.price}</p>\n"
+            + "<p>{item.tags.size}</p>\n"
+            + "{#if item.tags.isEmpty}no tags{/if}\n"
+            + "</html>";
+
+    @Param({ "interpreted", "compiled" })
+    public String mode;
+
+    private Template template;
+    private Item item;
+
+    @Setup
+    public void setup() {
+        EngineBuilder builder = Engine.builder().addDefaults().addValueResolver(new ItemResolver())
+                .addResultMapper(new HtmlEscaper(List.of(Variant.TEXT_HTML)));
+        if ("compiled".equals(mode)) {
+            builder.addCompiledTemplate("item.html", new ItemCompiledTemplate(
+                    CompiledTemplate.fingerprint(Engine.builder().addDefaults().build().parse(TEMPLATE).getNodes())));
+        }
+        template = builder.build().parse(TEMPLATE, Variant.forContentType(Variant.TEXT_HTML), "item.html");
+        item = new Item("Item <1>", BigDecimal.valueOf(42), List.of("foo", "bar"));
+    }
+
+    @Benchmark
+    public String render() {
+        return template.data("title", "Items").data("item", item).render();
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkCompiledTemplateRendering.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    static class ItemCompiledTemplate implements CompiledTemplate {
+
+        private final int fingerprint;
+
+        ItemCompiledTemplate(int fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public int getFingerprint() {
+            return fingerprint;
+        }
+
+        @Override
+        public void render(Mapper data, Appendable out, Interpreter interpreter) throws IOException {
+            out.append("<html>\n<h1>");
+            interpreter.renderValue(1, data.get("title"), out);
+            out.append("</h1>\n<p>");
+            node3(data, out, interpreter);
+            out.append("</p>\n<p>");
+            node5(data, out, interpreter);
+            out.append("</p>\n<p>");
+            node7(data, out, interpreter);
+            out.append("</p>\n");
+            interpreter.renderNode(9, out);
+            out.append("\n</html>");
+        }
+
+        static void node3(Mapper data, Appendable out, Interpreter interpreter) throws IOException {
+            if (data.get("item") instanceof Item item) {
+                interpreter.renderValue(3, item.getName(), out);
+            } else {
+                interpreter.renderNode(3, out);
+            }
+        }
+
+        static void node5(Mapper data, Appendable out, Interpreter interpreter) throws IOException {
+            if (data.get("item") instanceof Item item) {
+                interpreter.renderValue(5, item.getPrice(), out);
+            } else {
+                interpreter.renderNode(5, out);
+            }
+        }
+
+        static void node7(Mapper data, Appendable out, Interpreter interpreter) throws IOException {
+            if (data.get("item") instanceof Item item) {
+                List<String> tags = item.getTags();
+                if (tags == null) {
+                    interpreter.renderNode(7, out);
+                    return;
+                }
+                interpreter.renderValue(7, tags.size(), out);
+            } else {
+                interpreter.renderNode(7, out);
+            }
+        }
+
+    }
+
+}
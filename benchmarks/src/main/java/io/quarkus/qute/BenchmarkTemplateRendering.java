@@ -0,0 +1,139 @@
+package io.quarkus.qute;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the rendering of a parsed template with a loop, conditions and virtual methods.
+ * <p>
+ * In a Quarkus application the properties of the data classes are resolved by generated value resolvers. The
+ * {@code generated} resolver mimics them with a hand-written resolver, the {@code reflection} resolver is the fallback
+ * used for the classes which are not annotated with {@link TemplateData}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BenchmarkTemplateRendering {
+
+    private static final String TEMPLATE = "<html>\n"
+            + "<h1>{title}</h1>\n"
+            + "<ul>\n"
+            + "{#for item in items}\n"
+            + "  <li class=\"{#if item_odd}odd{#else}even{/if}\">{item_count}. {item.name}\n"
+            + "  {#if item.price > 100}<strong>{item.price}</strong>{#else}{item.price}{/if}\n"
+            + "  {#if item.tags.isEmpty}no tags{#else}{#each item.tags}{it}{#if it_hasNext}, {/if}{/each}{/if}</li>\n"
+            + "{/for}\n"
+            + "</ul>\n"
+            + "</html>";
+
+    @Param({ "10", "100" })
+    public int items;
+
+    @Param({ "generated", "reflection" })
+    public String resolver;
+
+    private Template template;
+    private List<Item> data;
+
+    @Setup
+    public void setup() {
+        EngineBuilder builder = Engine.builder().addDefaults();
+        if ("generated".equals(resolver)) {
+            builder.addValueResolver(new ItemResolver());
+        } else {
+            builder.addValueResolver(new ReflectionValueResolver());
+        }
+        template = builder.build().parse(TEMPLATE);
+        data = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            List<String> tags = new ArrayList<>();
+            for (int j = 0; j < i % 4; j++) {
+                tags.add("tag" + j);
+            }
+            data.add(new Item("Item " + i, BigDecimal.valueOf(i * 7L % 200), tags));
+        }
+    }
+
+    @Benchmark
+    public String render() {
+        return template.data("title", "Items").data("items", data).render();
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkTemplateRendering.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    public static class Item {
+
+        private final String name;
+        private final BigDecimal price;
+        private final List<String> tags;
+
+        public Item(String name, BigDecimal price, List<String> tags) {
+            this.name = name;
+            this.price = price;
+            this.tags = tags;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+    }
+
+    static class ItemResolver implements ValueResolver {
+
+        @Override
+        public int getPriority() {
+            return WithPriority.DEFAULT_PRIORITY + 1;
+        }
+
+        @Override
+        public boolean appliesTo(EvalContext context) {
+            return ValueResolver.matchClass(context, Item.class);
+        }
+
+        @Override
+        public CompletionStage<Object> resolve(EvalContext context) {
+            Item item = (Item) context.getBase();
+            switch (context.getName()) {
+                case "name":
+                    return CompletedStage.of(item.getName());
+                case "price":
+                    return CompletedStage.of(item.getPrice());
+                case "tags":
+                    return CompletedStage.of(item.getTags());
+                default:
+                    return Results.notFound(context);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,123 @@
+package io.quarkus.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkus.redis.datasource.codecs.BufferCodec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+
+/**
+ * Compares the encoding and decoding of JSON values by the Redis data source with the byte array based {@code Codec}
+ * methods ({@code bytes}) and with the {@link BufferCodec} methods ({@code buffer}).
+ * <p>
+ * The {@code bytes} mode reproduces the copies made before the buffer codecs: the replies are copied into arrays before
+ * being decoded, and the encoded values are copied from the JSON buffer into an array and then into the request buffer.
+ * {@code values} is the number of values per command, e.g. the number of keys passed to {@code MGET}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BenchmarkRedisCodecs {
+
+    @Param({ "bytes", "buffer" })
+    public String mode;
+
+    @Param({ "1", "100" })
+    public int values;
+
+    private BufferCodec codec;
+    private Order order;
+    private List<Buffer> replies;
+
+    @Setup
+    public void setup() {
+        codec = (BufferCodec) Codecs.getDefaultCodecFor(Order.class);
+        order = new Order();
+        order.id = "order-42";
+        order.customer = "John Doe";
+        order.lines = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            order.lines.add(new Line("product-" + i, "A product with a rather long description #" + i, i + 1, 9.99 * i));
+        }
+        // The replies are slices of the buffer read from the connection
+        Buffer read = Buffer.buffer();
+        List<int[]> positions = new ArrayList<>();
+        for (int i = 0; i < values; i++) {
+            int start = read.length();
+            read.appendString("$").appendString("0000\r\n");
+            codec.encode(order, read);
+            positions.add(new int[] { start + 7, read.length() });
+            read.appendString("\r\n");
+        }
+        replies = new ArrayList<>();
+        for (int[] position : positions) {
+            replies.add(read.slice(position[0], position[1]));
+        }
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        boolean bytes = "bytes".equals(mode);
+        for (Buffer reply : replies) {
+            blackhole.consume(bytes ? codec.decode(reply.getBytes()) : codec.decode(reply));
+        }
+    }
+
+    @Benchmark
+    public void encode(Blackhole blackhole) {
+        boolean bytes = "bytes".equals(mode);
+        for (int i = 0; i < values; i++) {
+            blackhole.consume(bytes ? Buffer.buffer(Json.encodeToBuffer(order).getBytes()) : codec.encode(order));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkRedisCodecs.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    public static class Order {
+
+        public String id;
+        public String customer;
+        public List<Line> lines;
+
+    }
+
+    public static class Line {
+
+        public String product;
+        public String description;
+        public int quantity;
+        public double price;
+
+        public Line() {
+        }
+
+        Line(String product, String description, int quantity, double price) {
+            this.product = product;
+            this.description = description;
+            this.quantity = quantity;
+            this.price = price;
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package io.quarkus.scheduler.runtime;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
+import io.quarkus.scheduler.runtime.SimpleScheduler.IntervalTrigger;
+import io.quarkus.scheduler.runtime.SimpleScheduler.ScheduledTask;
+
+/**
+ * Compares the cost of a single trigger check of the {@link SimpleScheduler} for the {@code scan} and {@code timing-wheel}
+ * engines. Each job fires once a minute and the start times are spread over the minute, i.e. only a fraction of the jobs is
+ * due in a given tick.
+ * <p>
+ * The benchmark is located in the {@code io.quarkus.scheduler.runtime} package because it needs to access the package-private
+ * trigger classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BenchmarkTriggerEngine {
+
+    @Param({ "10", "1000", "100000" })
+    public int jobs;
+
+    private ConcurrentMap<String, ScheduledTask> scheduledTasks;
+    private TimingWheel timingWheel;
+    private ZonedDateTime now;
+
+    @Setup(Level.Iteration)
+    public void setup(Blackhole blackhole) {
+        ScheduledInvoker invoker = new ScheduledInvoker() {
+            @Override
+            public CompletionStage<Void> invoke(ScheduledExecution execution) {
+                blackhole.consume(execution);
+                return CompletableFuture.completedStage(null);
+            }
+        };
+        now = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        scheduledTasks = new ConcurrentHashMap<>();
+        timingWheel = new TimingWheel(SimpleScheduler.CHECK_PERIOD, scheduledTasks);
+        for (int i = 0; i < jobs; i++) {
+            String id = "job" + i;
+            IntervalTrigger trigger = new IntervalTrigger(id, now.plusSeconds(i % 60), Duration.ofMinutes(1).toMillis(),
+                    Duration.ofSeconds(1), id);
+            ScheduledTask task = new ScheduledTask(trigger, invoker, true);
+            scheduledTasks.put(id, task);
+            timingWheel.register(task);
+        }
+    }
+
+    @Benchmark
+    public void scan() {
+        now = now.plusSeconds(1);
+        for (ScheduledTask task : scheduledTasks.values()) {
+            task.execute(now, null);
+        }
+    }
+
+    @Benchmark
+    public void timingWheel() {
+        now = now.plusSeconds(1);
+        timingWheel.advance(now, null);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkTriggerEngine.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
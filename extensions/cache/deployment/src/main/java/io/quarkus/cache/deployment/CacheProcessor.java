@@ -14,6 +14,7 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
+import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_OFF_HEAP_CACHE_TYPE;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
 import static java.util.stream.Collectors.toList;
@@ -98,7 +99,9 @@ RestClientAnnotationsTransformerBuildItem restClientAnnotationsTransformer() {
     @BuildStep
     CacheTypeBuildItem type(CacheBuildConfig config) {
         return new CacheTypeBuildItem(
-                CAFFEINE_CACHE_TYPE.equals(config.type()) ? CacheTypeBuildItem.Type.LOCAL : CacheTypeBuildItem.Type.REMOTE);
+                CAFFEINE_CACHE_TYPE.equals(config.type()) || CAFFEINE_OFF_HEAP_CACHE_TYPE.equals(config.type())
+                        ? CacheTypeBuildItem.Type.LOCAL
+                        : CacheTypeBuildItem.Type.REMOTE);
     }
 
     @BuildStep
@@ -256,9 +259,11 @@ void cacheManagerInfos(BuildProducer<CacheManagerInfoBuildItem> producer,
             Optional<MetricsCapabilityBuildItem> metricsCapability, CacheManagerRecorder recorder) {
         producer.produce(new CacheManagerInfoBuildItem(recorder.noOpCacheManagerInfo()));
         producer.produce(new CacheManagerInfoBuildItem(recorder.getCacheManagerInfoWithoutMetrics()));
+        producer.produce(new CacheManagerInfoBuildItem(recorder.getOffHeapCacheManagerInfoWithoutMetrics()));
         if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MICROMETER)) {
             // if we include this unconditionally the native image building will fail when Micrometer is not around
             producer.produce(new CacheManagerInfoBuildItem(recorder.getCacheManagerInfoWithMicrometerMetrics()));
+            producer.produce(new CacheManagerInfoBuildItem(recorder.getOffHeapCacheManagerInfoWithMicrometerMetrics()));
         }
     }
 
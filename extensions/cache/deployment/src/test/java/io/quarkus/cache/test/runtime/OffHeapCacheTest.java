@@ -0,0 +1,113 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineOffHeapCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class OffHeapCacheTest {
+
+    private static final String CACHE_NAME = "off-heap-cache";
+    private static final String NULL_VALUE_KEY = "null";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(CachedService.class, Dto.class))
+            .overrideConfigKey("quarkus.cache." + CACHE_NAME + ".type", "caffeine-off-heap")
+            .overrideConfigKey("quarkus.cache.caffeine." + CACHE_NAME + ".off-heap.maximum-size", "1M");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testOffHeapValues() throws Exception {
+        assertSame(CaffeineOffHeapCacheImpl.class, cache.getClass());
+        CaffeineOffHeapCacheImpl offHeapCache = (CaffeineOffHeapCacheImpl) cache;
+        assertEquals(1024L * 1024, offHeapCache.getCacheInfo().maximumOffHeapSize);
+
+        Dto value1 = cachedService.cachedMethod("foo");
+        Dto value2 = cachedService.cachedMethod("foo");
+        assertEquals(1, cachedService.getInvocations());
+        // Each hit decodes a new instance
+        assertNotSame(value1, value2);
+        assertEquals(value1, value2);
+        assertTrue(offHeapCache.getOffHeapSize() > 0);
+
+        // null values are supported
+        assertNull(cachedService.cachedMethod(NULL_VALUE_KEY));
+        assertNull(cachedService.cachedMethod(NULL_VALUE_KEY));
+        assertEquals(2, cachedService.getInvocations());
+
+        CaffeineCache caffeineCache = cache.as(CaffeineCache.class);
+        caffeineCache.put("bar", CompletableFuture.completedFuture(new Dto("bar")));
+        assertEquals(new Dto("bar"), caffeineCache.getIfPresent("bar").get());
+        assertTrue(caffeineCache.keySet().contains("bar"));
+        // The buffer of a replaced value is released
+        long size = offHeapCache.getOffHeapSize();
+        caffeineCache.put("bar", CompletableFuture.completedFuture(new Dto("baz")));
+        assertEquals(new Dto("baz"), caffeineCache.getIfPresent("bar").get());
+        assertEquals(size, offHeapCache.getOffHeapSize());
+
+        cache.invalidateAll().await().indefinitely();
+        assertEquals(0, offHeapCache.getOffHeapSize());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public Dto cachedMethod(String key) {
+            invocations.incrementAndGet();
+            return NULL_VALUE_KEY.equals(key) ? null : new Dto(key);
+        }
+
+        int getInvocations() {
+            return invocations.get();
+        }
+    }
+
+    public static class Dto implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+
+        public Dto(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Dto && ((Dto) obj).name.equals(name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package io.quarkus.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Converts cache values from/to bytes. A codec is used by caches that store the values outside of the Java heap, such as the
+ * {@code caffeine-off-heap} cache type.
+ * <p>
+ * Implementations must be thread-safe and must declare a public no-args constructor.
+ */
+public interface CacheValueCodec {
+
+    /**
+     * Writes the binary representation of the given value to the output.
+     *
+     * @param value the value to encode, never {@code null}
+     * @param output the output
+     * @throws IOException if the value cannot be encoded
+     */
+    void encode(Object value, OutputStream output) throws IOException;
+
+    /**
+     * Reads a value previously written by {@link #encode(Object, OutputStream)}.
+     *
+     * @param input the input
+     * @return the decoded value
+     * @throws IOException if the value cannot be decoded
+     */
+    Object decode(InputStream input) throws IOException;
+
+}
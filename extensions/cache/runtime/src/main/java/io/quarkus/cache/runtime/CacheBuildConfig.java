@@ -18,6 +18,8 @@ public interface CacheBuildConfig {
 
     String CAFFEINE_CACHE_TYPE = "caffeine";
 
+    String CAFFEINE_OFF_HEAP_CACHE_TYPE = "caffeine-off-heap";
+
     /**
      * Default cache type (backend provider). If no explicit type is defined for a cache, this type will be used.
      */
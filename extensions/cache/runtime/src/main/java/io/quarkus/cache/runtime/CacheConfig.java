@@ -11,6 +11,7 @@
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
@@ -80,6 +81,30 @@ interface CaffeineCacheConfig {
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
              */
             Optional<Boolean> metricsEnabled();
+
+            /**
+             * Off-heap storage configuration. These values are only used if the cache type is {@code caffeine-off-heap}.
+             */
+            OffHeapConfig offHeap();
+        }
+
+        interface OffHeapConfig {
+
+            /**
+             * Maximum number of bytes the encoded values of the cache may occupy outside of the Java heap. As the size grows
+             * close to the maximum, the cache evicts entries that are less likely to be used again. The keys are stored on the
+             * heap and are not counted.
+             * <p>
+             * Note that the off-heap memory is also limited by the {@code -XX:MaxDirectMemorySize} JVM option.
+             */
+            Optional<MemorySize> maximumSize();
+
+            /**
+             * The fully qualified name of the {@link io.quarkus.cache.CacheValueCodec} implementation used to encode the
+             * cache values. The class must declare a public no-args constructor. By default, the values are encoded using the
+             * Java serialization and must implement {@link java.io.Serializable}.
+             */
+            Optional<String> codec();
         }
     }
 }
@@ -1,6 +1,7 @@
 package io.quarkus.cache.runtime;
 
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
+import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_OFF_HEAP_CACHE_TYPE;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -195,4 +196,35 @@ public Supplier<CacheManager> get(Context context) {
         };
     }
 
+    public CacheManagerInfo getOffHeapCacheManagerInfoWithMicrometerMetrics() {
+        return new CacheManagerInfo() {
+            @Override
+            public boolean supports(Context context) {
+                return context.cacheEnabled() && context.cacheType().equals(CAFFEINE_OFF_HEAP_CACHE_TYPE)
+                        && (context.metrics() == Context.Metrics.MICROMETER);
+            }
+
+            @Override
+            public Supplier<CacheManager> get(Context context) {
+                return CaffeineCacheManagerBuilder.buildOffHeapWithMicrometerMetrics(context.cacheNames(),
+                        cacheConfigRV.getValue());
+            }
+        };
+    }
+
+    public CacheManagerInfo getOffHeapCacheManagerInfoWithoutMetrics() {
+        return new CacheManagerInfo() {
+            @Override
+            public boolean supports(Context context) {
+                return context.cacheEnabled() && context.cacheType().equals(CAFFEINE_OFF_HEAP_CACHE_TYPE)
+                        && (context.metrics() == Context.Metrics.NONE);
+            }
+
+            @Override
+            public Supplier<CacheManager> get(Context context) {
+                return CaffeineCacheManagerBuilder.buildOffHeapWithoutMetrics(context.cacheNames(), cacheConfigRV.getValue());
+            }
+        };
+    }
+
 }
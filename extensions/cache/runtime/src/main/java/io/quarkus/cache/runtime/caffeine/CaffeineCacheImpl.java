@@ -51,9 +51,7 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.initialCapacity != null) {
             builder.initialCapacity(cacheInfo.initialCapacity);
         }
-        if (cacheInfo.maximumSize != null) {
-            builder.maximumSize(cacheInfo.maximumSize);
-        }
+        configureEviction(builder, cacheInfo);
         if (cacheInfo.expireAfterWrite != null) {
             builder.expireAfterWrite(cacheInfo.expireAfterWrite);
         }
@@ -77,6 +75,39 @@ public StatsCounter get() {
         cache = builder.buildAsync();
     }
 
+    /**
+     * Configures the size-based eviction of the cache. This method is called from the constructor and must not use the state
+     * of subclasses.
+     *
+     * @param builder the Caffeine builder
+     * @param cacheInfo the cache info
+     */
+    protected void configureEviction(Caffeine<Object, Object> builder, CaffeineCacheInfo cacheInfo) {
+        if (cacheInfo.maximumSize != null) {
+            builder.maximumSize(cacheInfo.maximumSize);
+        }
+    }
+
+    /**
+     * Converts a value returned by a value loader to the value stored by Caffeine.
+     *
+     * @param value the loaded value, may be {@code null}
+     * @return the value stored by Caffeine
+     */
+    protected Object toCacheValue(Object value) {
+        return NullValueConverter.toCacheValue(value);
+    }
+
+    /**
+     * Converts a value stored by Caffeine to the value returned to the caller.
+     *
+     * @param value the value stored by Caffeine
+     * @return the value returned to the caller
+     */
+    protected Object fromCacheValue(Object value) {
+        return NullValueConverter.fromCacheValue(value);
+    }
+
     @Override
     public String getName() {
         return cacheInfo.name;
@@ -116,7 +147,7 @@ public CompletionStage<V> get() {
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
                                         return valueLoader.apply((K) key)
-                                                .map(TO_CACHE_VALUE)
+                                                .map(toCacheValue)
                                                 .subscribeAsCompletionStage();
                                     }
                                 });
@@ -214,7 +245,7 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
             statsCounter.recordMisses(1);
             try {
                 Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                newCacheValue.complete(toCacheValue(value));
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
@@ -240,7 +271,7 @@ public Object apply(Object value) {
                         throw new CacheException(cause);
                     }
                 } else {
-                    return NullValueConverter.fromCacheValue(value);
+                    return fromCacheValue(value);
                 }
             }
         });
@@ -348,7 +379,7 @@ private <T> T cast(Object value) {
 
     @SuppressWarnings("unchecked")
     private <V> Function<V, V> fromCacheValue() {
-        return (Function<V, V>) FROM_CACHE_VALUE;
+        return (Function<V, V>) fromCacheValue;
     }
 
     private interface StatsRecorder {
@@ -396,19 +427,19 @@ public <K> void doRecord(K key) {
 
     }
 
-    private static final Function<Object, Object> FROM_CACHE_VALUE = new Function<Object, Object>() {
+    private final Function<Object, Object> fromCacheValue = new Function<Object, Object>() {
 
         @Override
         public Object apply(Object value) {
-            return NullValueConverter.fromCacheValue(value);
+            return fromCacheValue(value);
         }
     };
 
-    private static final Function<Object, Object> TO_CACHE_VALUE = new Function<Object, Object>() {
+    private final Function<Object, Object> toCacheValue = new Function<Object, Object>() {
 
         @Override
         public Object apply(Object value) {
-            return NullValueConverter.toCacheValue(value);
+            return toCacheValue(value);
         }
     };
 
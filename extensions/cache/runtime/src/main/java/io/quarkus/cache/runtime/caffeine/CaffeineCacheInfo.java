@@ -17,6 +17,10 @@ public class CaffeineCacheInfo {
 
     public boolean metricsEnabled;
 
+    public Long maximumOffHeapSize;
+
+    public String offHeapCodec;
+
     @Override
     public int hashCode() {
         return Objects.hash(name);
@@ -54,6 +54,18 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.metricsEnabled = defaultConfig.metricsEnabled().get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.offHeap().maximumSize().isPresent()) {
+                    cacheInfo.maximumOffHeapSize = namedCacheConfig.offHeap().maximumSize().get().asLongValue();
+                } else if (defaultConfig.offHeap().maximumSize().isPresent()) {
+                    cacheInfo.maximumOffHeapSize = defaultConfig.offHeap().maximumSize().get().asLongValue();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.offHeap().codec().isPresent()) {
+                    cacheInfo.offHeapCodec = namedCacheConfig.offHeap().codec().get();
+                } else if (defaultConfig.offHeap().codec().isPresent()) {
+                    cacheInfo.offHeapCodec = defaultConfig.offHeap().codec().get();
+                }
+
                 cacheInfos.add(cacheInfo);
             }
             return cacheInfos;
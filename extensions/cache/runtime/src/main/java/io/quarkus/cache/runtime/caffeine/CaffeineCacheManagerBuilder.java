@@ -21,15 +21,23 @@ public class CaffeineCacheManagerBuilder {
     private static final Logger LOGGER = Logger.getLogger(CaffeineCacheManagerBuilder.class);
 
     public static Supplier<CacheManager> buildWithMicrometerMetrics(Set<String> cacheNames, CacheConfig cacheConfig) {
-        return build(cacheNames, cacheConfig, new MicrometerMetricsInitializer());
+        return build(cacheNames, cacheConfig, new MicrometerMetricsInitializer(), false);
     }
 
     public static Supplier<CacheManager> buildWithoutMetrics(Set<String> cacheNames, CacheConfig cacheConfig) {
-        return build(cacheNames, cacheConfig, new NoOpMetricsInitializer());
+        return build(cacheNames, cacheConfig, new NoOpMetricsInitializer(), false);
+    }
+
+    public static Supplier<CacheManager> buildOffHeapWithMicrometerMetrics(Set<String> cacheNames, CacheConfig cacheConfig) {
+        return build(cacheNames, cacheConfig, new MicrometerMetricsInitializer(), true);
+    }
+
+    public static Supplier<CacheManager> buildOffHeapWithoutMetrics(Set<String> cacheNames, CacheConfig cacheConfig) {
+        return build(cacheNames, cacheConfig, new NoOpMetricsInitializer(), true);
     }
 
     private static Supplier<CacheManager> build(Set<String> cacheNames, CacheConfig cacheConfig,
-            MetricsInitializer metricsInitializer) {
+            MetricsInitializer metricsInitializer, boolean offHeap) {
         Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames, cacheConfig);
         return new Supplier<CacheManager>() {
             @Override
@@ -43,9 +51,9 @@ public CacheManager get() {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugf(
                                     "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], "
-                                            + "[expireAfterAccess=%s] and [metricsEnabled=%s]",
+                                            + "[expireAfterAccess=%s], [metricsEnabled=%s] and [offHeap=%s]",
                                     cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
-                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.metricsEnabled);
+                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.metricsEnabled, offHeap);
                         }
                         /*
                          * Metrics will be recorded for the current cache if:
@@ -53,7 +61,8 @@ public CacheManager get() {
                          * - the metrics are enabled for this cache from the Quarkus configuration
                          */
                         boolean recordMetrics = metricsInitializer.metricsEnabled() && cacheInfo.metricsEnabled;
-                        CaffeineCacheImpl cache = new CaffeineCacheImpl(cacheInfo, recordMetrics);
+                        CaffeineCacheImpl cache = offHeap ? new CaffeineOffHeapCacheImpl(cacheInfo, recordMetrics)
+                                : new CaffeineCacheImpl(cacheInfo, recordMetrics);
                         if (recordMetrics) {
                             metricsInitializer.recordMetrics(cache.cache, cacheInfo.name);
                         } else if (cacheInfo.metricsEnabled) {
@@ -0,0 +1,206 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheValueCodec;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * This class is an internal Quarkus cache implementation using Caffeine to store the cache entries while the values are
+ * encoded with a {@link CacheValueCodec} and stored outside of the Java heap. Do not use it explicitly from your Quarkus
+ * application.
+ * <p>
+ * The values are encoded directly into pooled direct buffers, which are returned to the pool when the entries are removed
+ * from the cache. The size-based eviction is driven by the number of off-heap bytes used by the values.
+ */
+public class CaffeineOffHeapCacheImpl extends CaffeineCacheImpl {
+
+    private static final Logger LOGGER = Logger.getLogger(CaffeineOffHeapCacheImpl.class);
+
+    private static final int INITIAL_BUFFER_CAPACITY = 256;
+
+    private final CacheValueCodec codec;
+    private final LongAdder offHeapSize = new LongAdder();
+
+    public CaffeineOffHeapCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
+        super(cacheInfo, recordStats);
+        this.codec = createCodec(cacheInfo);
+    }
+
+    @Override
+    protected void configureEviction(Caffeine<Object, Object> builder, CaffeineCacheInfo cacheInfo) {
+        if (cacheInfo.maximumOffHeapSize != null) {
+            builder.maximumWeight(cacheInfo.maximumOffHeapSize);
+            builder.weigher(OffHeapValue.WEIGHER);
+        } else if (cacheInfo.maximumSize != null) {
+            LOGGER.warnf("The maximum-size configuration value is ignored for the off-heap cache [%s], "
+                    + "use the off-heap.maximum-size configuration value to limit the size in bytes", cacheInfo.name);
+        }
+        // Release the buffers on the thread that removes the entries, so that they are returned to the pool right away
+        builder.executor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        });
+        builder.removalListener(new RemovalListener<Object, Object>() {
+            @Override
+            public void onRemoval(Object key, Object value, RemovalCause cause) {
+                if (value instanceof OffHeapValue) {
+                    release((OffHeapValue) value);
+                }
+            }
+        });
+    }
+
+    @Override
+    protected Object toCacheValue(Object value) {
+        if (value == null) {
+            return super.toCacheValue(null);
+        }
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer(INITIAL_BUFFER_CAPACITY);
+        try {
+            codec.encode(value, new ByteBufOutputStream(buffer));
+        } catch (IOException | RuntimeException e) {
+            buffer.release();
+            throw new CacheException("Unable to encode the value of the off-heap cache [" + getName() + "]", e);
+        }
+        OffHeapValue offHeapValue = new OffHeapValue(buffer);
+        offHeapSize.add(offHeapValue.size());
+        return offHeapValue;
+    }
+
+    @Override
+    protected Object fromCacheValue(Object value) {
+        if (value instanceof OffHeapValue) {
+            OffHeapValue offHeapValue = (OffHeapValue) value;
+            if (!offHeapValue.retain()) {
+                // The entry was removed after it was looked up, the lookup is retried
+                throw ReleasedValueException.INSTANCE;
+            }
+            try {
+                return codec.decode(offHeapValue.inputStream());
+            } catch (IOException e) {
+                throw new CacheException("Unable to decode the value of the off-heap cache [" + getName() + "]", e);
+            } finally {
+                release(offHeapValue);
+            }
+        }
+        return super.fromCacheValue(value);
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return super.get(key, valueLoader).onFailure(CaffeineOffHeapCacheImpl::isReleasedValue).retry().indefinitely();
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        return super.getAsync(key, valueLoader).onFailure(CaffeineOffHeapCacheImpl::isReleasedValue).retry()
+                .indefinitely();
+    }
+
+    @Override
+    public <V> CompletableFuture<V> getIfPresent(Object key) {
+        CompletableFuture<V> value = super.getIfPresent(key);
+        if (value == null) {
+            return null;
+        }
+        return value.exceptionallyCompose(new Function<Throwable, CompletionStage<V>>() {
+            @Override
+            public CompletionStage<V> apply(Throwable failure) {
+                if (isReleasedValue(failure)) {
+                    CompletableFuture<V> retry = getIfPresent(key);
+                    return retry != null ? retry : CompletableFuture.completedFuture(null);
+                }
+                return CompletableFuture.failedFuture(failure);
+            }
+        });
+    }
+
+    @Override
+    public <V> void put(Object key, CompletableFuture<V> valueFuture) {
+        super.put(key, valueFuture.thenApply(new Function<V, Object>() {
+            @Override
+            public Object apply(V value) {
+                // A null value removes the entry
+                return value == null ? null : toCacheValue(value);
+            }
+        }));
+    }
+
+    @Override
+    public void setMaximumSize(long maximumSize) {
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
+        if (eviction.isPresent()) {
+            eviction.get().setMaximum(maximumSize);
+            getCacheInfo().maximumOffHeapSize = maximumSize;
+        } else {
+            throw new IllegalStateException("The maximum size can only be changed if the cache was constructed with an " +
+                    "off-heap.maximum-size configuration value");
+        }
+    }
+
+    /**
+     * @return the number of off-heap bytes used by the values of this cache
+     */
+    public long getOffHeapSize() {
+        return offHeapSize.sum();
+    }
+
+    private void release(OffHeapValue value) {
+        if (value.release()) {
+            offHeapSize.add(-value.size());
+        }
+    }
+
+    private static boolean isReleasedValue(Throwable failure) {
+        return failure instanceof ReleasedValueException
+                || (failure instanceof CompletionException && failure.getCause() instanceof ReleasedValueException);
+    }
+
+    private static CacheValueCodec createCodec(CaffeineCacheInfo cacheInfo) {
+        if (cacheInfo.offHeapCodec == null) {
+            return new SerializableCacheValueCodec();
+        }
+        try {
+            Class<?> codecClass = Class.forName(cacheInfo.offHeapCodec, true, Thread.currentThread().getContextClassLoader());
+            return (CacheValueCodec) codecClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("Unable to create the codec " + cacheInfo.offHeapCodec + " for the off-heap cache ["
+                    + cacheInfo.name + "]", e);
+        }
+    }
+
+    // Thrown when a value is decoded after its entry was removed and its buffer released
+    private static final class ReleasedValueException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        static final ReleasedValueException INSTANCE = new ReleasedValueException();
+
+        private ReleasedValueException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+}
@@ -0,0 +1,90 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+
+/**
+ * A cache value encoded into a pooled direct {@link ByteBuf}, i.e. the bytes are stored outside of the Java heap. Only this
+ * small wrapper object is allocated on the heap.
+ * <p>
+ * The buffer is returned to the pool once the entry is removed from the cache and the values being decoded are done with it.
+ * This is tracked by a reference count: the cache holds one reference, and each decoding holds one.
+ */
+final class OffHeapValue {
+
+    /**
+     * Weighs the cache entries by the number of off-heap bytes used by the value. Keys and markers, such as the {@code null}
+     * value marker, are not counted.
+     */
+    static final Weigher<Object, Object> WEIGHER = new Weigher<Object, Object>() {
+        @Override
+        public int weigh(Object key, Object value) {
+            return value instanceof OffHeapValue ? ((OffHeapValue) value).size() : 0;
+        }
+    };
+
+    private static final AtomicIntegerFieldUpdater<OffHeapValue> REF_CNT = AtomicIntegerFieldUpdater
+            .newUpdater(OffHeapValue.class, "refCnt");
+
+    private final ByteBuf buffer;
+    private final int size;
+    private volatile int refCnt = 1;
+
+    OffHeapValue(ByteBuf buffer) {
+        this.buffer = buffer;
+        this.size = buffer.capacity();
+    }
+
+    /**
+     * @return the number of off-heap bytes used by the value
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Acquires a reference before the value is decoded.
+     *
+     * @return {@code false} if the buffer was already released, i.e. the entry was removed in the meantime
+     */
+    boolean retain() {
+        for (;;) {
+            int current = refCnt;
+            if (current == 0) {
+                return false;
+            }
+            if (REF_CNT.compareAndSet(this, current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a reference, the buffer is returned to the pool when the last reference is released.
+     *
+     * @return {@code true} if the buffer was returned to the pool
+     */
+    boolean release() {
+        if (REF_CNT.decrementAndGet(this) == 0) {
+            buffer.release();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * The caller must hold a reference until it is done with the stream.
+     *
+     * @return a new input stream that reads the encoded value; the stream does not need to be closed
+     */
+    InputStream inputStream() {
+        // The duplicate has its own reader index so the value can be read concurrently
+        return new ByteBufInputStream(buffer.duplicate());
+    }
+
+}
@@ -0,0 +1,48 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+
+import io.quarkus.cache.CacheValueCodec;
+
+/**
+ * The default {@link CacheValueCodec} that relies on the Java serialization. The cached values must implement
+ * {@link java.io.Serializable}.
+ */
+public class SerializableCacheValueCodec implements CacheValueCodec {
+
+    @Override
+    public void encode(Object value, OutputStream output) throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(output)) {
+            out.writeObject(value);
+        }
+    }
+
+    @Override
+    public Object decode(InputStream input) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(input) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                // The TCCL is the application class loader
+                ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+                if (tccl == null) {
+                    return super.resolveClass(desc);
+                }
+                try {
+                    return Class.forName(desc.getName(), false, tccl);
+                } catch (ClassNotFoundException e) {
+                    return super.resolveClass(desc);
+                }
+            }
+        }) {
+            return in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.ConcurrencyLimiter;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RouteGroupLoadSheddingTest {
+    private static final int LIMIT = 2;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(SlowResource.class, FastResource.class))
+            .overrideConfigKey("quarkus.load-shedding.groups.slow.paths", "/slow")
+            .overrideConfigKey("quarkus.load-shedding.groups.slow.algorithm", "gradient2")
+            .overrideConfigKey("quarkus.load-shedding.groups.slow.initial-limit", "" + LIMIT)
+            .overrideConfigKey("quarkus.load-shedding.groups.slow.max-limit", "5")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void test() throws Exception {
+        ConcurrencyLimiter slow = detector.limiter("slow");
+        assertThat(slow.name()).isEqualTo("slow");
+
+        // the limit is only updated when a request ends, so holding LIMIT requests overloads the group
+        List<CompletableFuture<Integer>> held = new ArrayList<>();
+        for (int i = 0; i < LIMIT; i++) {
+            held.add(CompletableFuture.supplyAsync(() -> when().get("/slow").then().extract().statusCode()));
+        }
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (slow.currentRequests() < LIMIT && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(slow.currentRequests()).isEqualTo(LIMIT);
+            assertThat(detector.isOverloaded("slow")).isTrue();
+            assertThat(detector.isOverloaded(null)).isFalse();
+            // the no-arg method reflects every group
+            assertThat(detector.isOverloaded()).isTrue();
+
+            when().get("/slow").then().statusCode(503);
+            // requests outside the group are limited separately
+            when().get("/fast").then().statusCode(200);
+        } finally {
+            SlowResource.release.countDown();
+        }
+        for (CompletableFuture<Integer> request : held) {
+            assertThat(request.get(10, TimeUnit.SECONDS)).isEqualTo(200);
+        }
+
+        assertThat(slow.rejectedRequests()).isEqualTo(1);
+        assertThat(slow.currentRequests()).isZero();
+        assertThat(slow.currentLimit()).isBetween(1L, 5L);
+        assertThat(detector.limiter(null).rejectedRequests()).isZero();
+        assertThat(detector.isOverloaded()).isFalse();
+    }
+
+    @Path("/slow")
+    public static class SlowResource {
+        static final CountDownLatch release = new CountDownLatch(1);
+
+        @GET
+        public String hello() throws InterruptedException {
+            release.await(10, TimeUnit.SECONDS);
+            return "Hello, world!";
+        }
+    }
+
+    @Path("/fast")
+    public static class FastResource {
+        @GET
+        public String hello() {
+            return "Hello, world!";
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the number of concurrent requests and continuously estimates the limit of concurrent requests
+ * from the measured request durations. There is one limiter for all requests that don't belong to any
+ * {@linkplain LoadSheddingRuntimeConfig#groups() group} and one limiter per group.
+ *
+ * @see OverloadDetector
+ */
+public abstract class ConcurrencyLimiter {
+    private final String name;
+    final int maxLimit;
+
+    private final AtomicInteger currentRequests = new AtomicInteger();
+    private final LongAdder rejectedRequests = new LongAdder();
+    volatile long currentLimit;
+
+    ConcurrencyLimiter(String name, int initialLimit, int maxLimit) {
+        this.name = name;
+        this.maxLimit = maxLimit;
+        this.currentLimit = initialLimit;
+    }
+
+    static ConcurrencyLimiter create(String name, LoadSheddingRuntimeConfig.Algorithm algorithm,
+            LoadSheddingRuntimeConfig config, int initialLimit, int maxLimit) {
+        return switch (algorithm) {
+            case VEGAS -> new VegasConcurrencyLimiter(name, initialLimit, maxLimit, config.alphaFactor(),
+                    config.betaFactor(), config.probeFactor());
+            case GRADIENT2 -> new Gradient2ConcurrencyLimiter(name, initialLimit, maxLimit, config.gradient2().tolerance(),
+                    config.gradient2().smoothing(), config.gradient2().longWindow(), config.gradient2().queueSize());
+        };
+    }
+
+    /**
+     * @return the name of the group this limiter belongs to, {@value OverloadDetector#DEFAULT_GROUP} for the requests
+     *         that don't belong to any group
+     */
+    public String name() {
+        return name;
+    }
+
+    public boolean isOverloaded() {
+        return currentRequests.get() >= currentLimit;
+    }
+
+    public void requestBegin() {
+        currentRequests.incrementAndGet();
+    }
+
+    public void requestEnd(long timeInMicros) {
+        int current = currentRequests.getAndDecrement();
+
+        update(timeInMicros, current);
+    }
+
+    public void requestRejected() {
+        rejectedRequests.increment();
+    }
+
+    /**
+     * @return the current limit of concurrent requests
+     */
+    public long currentLimit() {
+        return currentLimit;
+    }
+
+    /**
+     * @return the number of requests that are currently in flight
+     */
+    public int currentRequests() {
+        return currentRequests.get();
+    }
+
+    /**
+     * @return the total number of rejected requests
+     */
+    public long rejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
+    /**
+     * Updates the current limit based on the duration of a finished request.
+     *
+     * @param requestTime the duration of the request in microseconds
+     * @param currentRequests the number of concurrent requests when the request finished, including the request itself
+     */
+    abstract void update(long requestTime, int currentRequests);
+}
@@ -0,0 +1,65 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * A concurrency limiter based on the Gradient2 algorithm, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is adjusted by the gradient between a long-term exponential average of the request duration
+ * and the duration of the last request. If the requests take longer than usual, the limit is decreased
+ * proportionally; otherwise, the limit grows by the configured queue size. Unlike Vegas, the algorithm
+ * does not depend on the lowest request duration seen, so it tolerates latencies that drift over time.
+ */
+final class Gradient2ConcurrencyLimiter extends ConcurrencyLimiter {
+    private static final int WARMUP_WINDOW = 10;
+
+    private final double tolerance;
+    private final double smoothing;
+    private final double longWindowFactor;
+    private final int queueSize;
+
+    private double estimatedLimit;
+    private double longRequestTime;
+    private int samples;
+
+    Gradient2ConcurrencyLimiter(String name, int initialLimit, int maxLimit, double tolerance, double smoothing,
+            int longWindow, int queueSize) {
+        super(name, initialLimit, maxLimit);
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.longWindowFactor = 2.0 / (longWindow + 1);
+        this.queueSize = queueSize;
+        this.estimatedLimit = currentLimit;
+    }
+
+    @Override
+    synchronized void update(long requestTime, int currentRequests) {
+        double shortRequestTime = Math.max(1, requestTime);
+
+        if (samples < WARMUP_WINDOW) {
+            // plain average until there's enough samples for the exponential average to be meaningful
+            samples++;
+            longRequestTime += (shortRequestTime - longRequestTime) / samples;
+        } else {
+            longRequestTime = longRequestTime * (1.0 - longWindowFactor) + shortRequestTime * longWindowFactor;
+        }
+
+        // the requests are much faster than the long-term average, e.g. after a load spike;
+        // decay the average so that the limit can recover quickly
+        if (longRequestTime / shortRequestTime > 2.0) {
+            longRequestTime *= 0.95;
+        }
+
+        // the limit is not being used, there's no point in growing it
+        if (currentRequests < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRequestTime / shortRequestTime));
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1.0 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
+
+        estimatedLimit = newLimit;
+        this.currentLimit = (long) newLimit;
+    }
+}
@@ -14,14 +14,16 @@
 @Singleton
 public class HttpLoadShedding {
     public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDetector detector,
-            PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
+            PriorityLoadShedding priority, HttpRequestClassifier classifier, LoadSheddingRuntimeConfig config) {
 
         if (!config.enabled()) {
             return;
         }
 
         router.route().order(-1_000_000_000).handler(ctx -> {
-            if (detector.isOverloaded() && priority.shedLoad(ctx.request())) {
+            String group = classifier.group(ctx.request());
+            if (detector.isOverloaded(group) && priority.shedLoad(ctx.request())) {
+                detector.requestRejected(group);
                 HttpServerResponse response = ctx.response();
                 response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
                 response.headers().add(HttpHeaderNames.CONNECTION, "close");
@@ -33,13 +35,13 @@ public void handle(Void ignored) {
                 });
                 response.end();
             } else {
-                detector.requestBegin();
+                detector.requestBegin(group);
                 long start = System.nanoTime();
                 ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
                     @Override
                     public void handle(AsyncResult<Void> ignored) {
                         long end = System.nanoTime();
-                        detector.requestEnd((end - start) / 1_000);
+                        detector.requestEnd(group, (end - start) / 1_000);
                     }
                 });
                 ctx.next();
@@ -1,5 +1,11 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import io.quarkus.load.shedding.RequestClassifier;
@@ -7,6 +13,27 @@
 
 @Singleton
 public class HttpRequestClassifier implements RequestClassifier<HttpServerRequest> {
+    // sorted by the prefix length in descending order, so that the longest matching prefix wins
+    private final String[] groupPrefixes;
+    private final String[] groupNames;
+
+    @Inject
+    public HttpRequestClassifier(LoadSheddingRuntimeConfig config) {
+        List<Map.Entry<String, String>> prefixes = new ArrayList<>();
+        for (Map.Entry<String, LoadSheddingRuntimeConfig.GroupConfig> entry : config.groups().entrySet()) {
+            for (String path : entry.getValue().paths()) {
+                prefixes.add(Map.entry(path, entry.getKey()));
+            }
+        }
+        prefixes.sort(Comparator.comparingInt((Map.Entry<String, String> e) -> e.getKey().length()).reversed());
+        groupPrefixes = new String[prefixes.size()];
+        groupNames = new String[prefixes.size()];
+        for (int i = 0; i < prefixes.size(); i++) {
+            groupPrefixes[i] = prefixes.get(i).getKey();
+            groupNames[i] = prefixes.get(i).getValue();
+        }
+    }
+
     @Override
     public boolean appliesTo(Object request) {
         return request instanceof HttpServerRequest;
@@ -21,4 +48,29 @@ public int cohort(HttpServerRequest request) {
         }
         return hour + host.hashCode();
     }
+
+    /**
+     * Returns the name of the {@linkplain LoadSheddingRuntimeConfig#groups() group} to which the given {@code request}
+     * belongs, or {@code null} if it does not belong to any group.
+     *
+     * @param request the request, never {@code null}
+     * @return the name of the group or {@code null}
+     */
+    public String group(HttpServerRequest request) {
+        if (groupPrefixes.length == 0) {
+            return null;
+        }
+        String path = request.path();
+        if (path == null) {
+            return null;
+        }
+        for (int i = 0; i < groupPrefixes.length; i++) {
+            String prefix = groupPrefixes[i];
+            if (path.startsWith(prefix)
+                    && (path.length() == prefix.length() || prefix.endsWith("/") || path.charAt(prefix.length()) == '/')) {
+                return groupNames[i];
+            }
+        }
+        return null;
+    }
 }
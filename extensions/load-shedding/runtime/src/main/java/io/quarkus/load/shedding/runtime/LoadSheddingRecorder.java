@@ -0,0 +1,34 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class LoadSheddingRecorder {
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                OverloadDetector detector = Arc.container().instance(OverloadDetector.class).get();
+                for (ConcurrencyLimiter limiter : detector.limiters()) {
+                    metricsFactory.builder("load.shedding.limit")
+                            .description("Current limit of concurrent requests.")
+                            .tag("group", limiter.name())
+                            .buildGauge(limiter::currentLimit);
+                    metricsFactory.builder("load.shedding.requests.active")
+                            .description("Number of requests currently in flight.")
+                            .tag("group", limiter.name())
+                            .buildGauge(limiter::currentRequests);
+                    metricsFactory.builder("load.shedding.requests.rejected")
+                            .description("Number of requests rejected because of an overload.")
+                            .tag("group", limiter.name())
+                            .buildCounter(limiter::rejectedRequests);
+                }
+            }
+        };
+    }
+}
@@ -1,5 +1,10 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -16,6 +21,12 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * The algorithm used to estimate the limit of concurrent requests.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
     /**
      * The maximum number of concurrent requests allowed.
      */
@@ -46,6 +57,18 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the Gradient2 overload detection algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Groups of routes whose concurrent requests are limited separately from other requests.
+     * Requests that don't belong to any group share a single limit.
+     */
+    @ConfigDocMapKey("group-name")
+    Map<String, GroupConfig> groups();
+
     /**
      * Configuration of priority load shedding.
      */
@@ -59,4 +82,73 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    enum Algorithm {
+        /**
+         * An adaptation of TCP Vegas; the limit is estimated from the queue size derived
+         * from the lowest request duration seen.
+         */
+        VEGAS,
+        /**
+         * The limit is adjusted by the gradient between the long-term average request duration
+         * and the current request duration.
+         */
+        GRADIENT2,
+    }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * The tolerance of the Gradient2 overload detection algorithm. The limit is decreased
+         * once the current request duration exceeds the long-term average multiplied by the tolerance.
+         */
+        @WithDefault("1.5")
+        double tolerance();
+
+        /**
+         * The smoothing factor of the Gradient2 overload detection algorithm, between 0 and 1.
+         * Lower values make the limit change more slowly.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * The number of requests over which the long-term average request duration is computed.
+         */
+        @WithDefault("600")
+        int longWindow();
+
+        /**
+         * The number of requests by which the limit grows when the requests are not slowing down.
+         */
+        @WithDefault("4")
+        int queueSize();
+    }
+
+    @ConfigGroup
+    interface GroupConfig {
+        /**
+         * The path prefixes of the routes that belong to this group, for example {@code /api/search}.
+         * If a request matches multiple groups, the group with the longest matching prefix is used.
+         */
+        List<String> paths();
+
+        /**
+         * The algorithm used to estimate the limit of concurrent requests of this group.
+         * If not set, {@code quarkus.load-shedding.algorithm} is used.
+         */
+        Optional<LoadSheddingRuntimeConfig.Algorithm> algorithm();
+
+        /**
+         * The maximum number of concurrent requests of this group.
+         * If not set, {@code quarkus.load-shedding.max-limit} is used.
+         */
+        Optional<Integer> maxLimit();
+
+        /**
+         * The initial limit of concurrent requests of this group.
+         * If not set, {@code quarkus.load-shedding.initial-limit} is used.
+         */
+        Optional<Integer> initialLimit();
+    }
 }
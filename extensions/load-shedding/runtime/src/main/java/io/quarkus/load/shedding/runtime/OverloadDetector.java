@@ -1,109 +1,120 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 /**
- * An overload detector based on TCP Vegas, as implemented by
- * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * An overload detector based on adaptive concurrency limits. By default, the limit is estimated using TCP Vegas,
+ * as implemented by <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * Requests that belong to a {@linkplain LoadSheddingRuntimeConfig#groups() group} are tracked by a separate
+ * {@link ConcurrencyLimiter}, so that the overload of one group of routes does not affect other groups.
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
+    public static final String DEFAULT_GROUP = "<default>";
 
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
-
-    private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
-
-    private final AtomicInteger currentRequests = new AtomicInteger();
-    private volatile long currentLimit;
-
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
+    private final ConcurrencyLimiter defaultLimiter;
+    private final Map<String, ConcurrencyLimiter> groupLimiters;
+    private final ConcurrencyLimiter[] allLimiters;
 
     @Inject
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
-        maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
-        currentLimit = config.initialLimit();
-        resetProbeJitter();
+        defaultLimiter = ConcurrencyLimiter.create(DEFAULT_GROUP, config.algorithm(), config,
+                config.initialLimit(), config.maxLimit());
+        Map<String, ConcurrencyLimiter> groupLimiters = new HashMap<>();
+        for (Map.Entry<String, LoadSheddingRuntimeConfig.GroupConfig> entry : config.groups().entrySet()) {
+            LoadSheddingRuntimeConfig.GroupConfig group = entry.getValue();
+            groupLimiters.put(entry.getKey(), ConcurrencyLimiter.create(entry.getKey(),
+                    group.algorithm().orElse(config.algorithm()), config,
+                    group.initialLimit().orElse(config.initialLimit()), group.maxLimit().orElse(config.maxLimit())));
+        }
+        this.groupLimiters = groupLimiters;
+        List<ConcurrencyLimiter> allLimiters = new ArrayList<>(groupLimiters.size() + 1);
+        allLimiters.add(defaultLimiter);
+        allLimiters.addAll(groupLimiters.values());
+        this.allLimiters = allLimiters.toArray(new ConcurrencyLimiter[0]);
     }
 
+    /**
+     * @return whether the limiter of the requests that don't belong to any group, or the limiter of any group, is
+     *         overloaded
+     * @see #isOverloaded(String)
+     */
     public boolean isOverloaded() {
-        return currentRequests.get() >= currentLimit;
+        for (ConcurrencyLimiter limiter : allLimiters) {
+            if (limiter.isOverloaded()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public void requestBegin() {
-        currentRequests.incrementAndGet();
+        requestBegin(null);
     }
 
     public void requestEnd(long timeInMicros) {
-        int current = currentRequests.getAndDecrement();
-
-        update(timeInMicros, current);
+        requestEnd(null, timeInMicros);
     }
 
-    private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        long currentLimit = this.currentLimit;
+    /**
+     * @param group the name of a group, may be {@code null}
+     * @return whether the limiter of given group is overloaded
+     * @see #limiter(String)
+     */
+    public boolean isOverloaded(String group) {
+        return limiter(group).isOverloaded();
+    }
 
-        if (2L * currentRequests < currentLimit) {
-            return;
-        }
+    /**
+     * @param group the name of a group, may be {@code null}
+     * @see #limiter(String)
+     */
+    public void requestBegin(String group) {
+        limiter(group).requestBegin();
+    }
 
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
+    /**
+     * @param group the name of a group, may be {@code null}
+     * @param timeInMicros the duration of the request in microseconds
+     * @see #limiter(String)
+     */
+    public void requestEnd(String group, long timeInMicros) {
+        limiter(group).requestEnd(timeInMicros);
+    }
 
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
-        } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
-        }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
+    /**
+     * @param group the name of a group, may be {@code null}
+     * @see #limiter(String)
+     */
+    public void requestRejected(String group) {
+        limiter(group).requestRejected();
+    }
 
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
-            return;
+    /**
+     * @param group the name of a group, may be {@code null}
+     * @return the limiter of given group, or the default limiter if there's no such group
+     */
+    public ConcurrencyLimiter limiter(String group) {
+        if (group == null) {
+            return defaultLimiter;
         }
-
-        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
+        ConcurrencyLimiter limiter = groupLimiters.get(group);
+        return limiter != null ? limiter : defaultLimiter;
     }
 
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    /**
+     * @return all limiters, the default limiter comes first
+     */
+    public List<ConcurrencyLimiter> limiters() {
+        return Collections.unmodifiableList(Arrays.asList(allLimiters));
     }
 }
@@ -9,13 +9,18 @@
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
 import org.jboss.logmanager.formatters.StructuredFormatter;
+import org.jboss.logmanager.formatters.StructuredFormatter.Key;
 import org.jboss.logmanager.handlers.ConsoleHandler;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.quarkus.bootstrap.logging.InitialConfigurator;
 import io.quarkus.bootstrap.logging.QuarkusDelayedHandler;
 import io.quarkus.logging.json.runtime.JsonFormatter;
@@ -41,6 +46,27 @@ public void jsonFormatterDefaultConfigurationTest() {
         assertThat(jsonFormatter.getAdditionalFields().entrySet()).isEmpty();
     }
 
+    @Test
+    public void jsonFormatterOutputTest() throws Exception {
+        JsonFormatter jsonFormatter = getJsonFormatter();
+        LogRecord record = new LogRecord(Level.WARNING, "Hello \"World\"\n\t\\ \u0001 \u00e9");
+        record.setLoggerName("test.logger");
+        record.setThrown(new IllegalStateException("boom"));
+        String line = jsonFormatter.format(record);
+
+        assertThat(line).endsWith("}\n");
+        JsonNode node = new ObjectMapper().readTree(line);
+        assertThat(node.get(Key.MESSAGE.getKey()).asText()).isEqualTo("Hello \"World\"\n\t\\ \u0001 \u00e9");
+        assertThat(node.get(Key.LOGGER_NAME.getKey()).asText()).isEqualTo("test.logger");
+        assertThat(node.get(Key.LEVEL.getKey()).asText()).isEqualTo("WARNING");
+        assertThat(node.get(Key.SEQUENCE.getKey()).isNumber()).isTrue();
+        assertThat(node.get(Key.MDC.getKey()).isObject()).isTrue();
+        JsonNode exception = node.get(Key.EXCEPTION.getKey());
+        assertThat(exception.get(Key.EXCEPTION_TYPE.getKey()).asText()).isEqualTo(IllegalStateException.class.getName());
+        assertThat(exception.get(Key.EXCEPTION_MESSAGE.getKey()).asText()).isEqualTo("boom");
+        assertThat(exception.get(Key.EXCEPTION_FRAMES.getKey()).isArray()).isTrue();
+    }
+
     public static JsonFormatter getJsonFormatter() {
         LogManager logManager = LogManager.getLogManager();
         assertThat(logManager).isInstanceOf(org.jboss.logmanager.LogManager.class);
@@ -0,0 +1,339 @@
+package io.quarkus.logging.json.runtime;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.logmanager.formatters.StructuredFormatter.Generator;
+
+/**
+ * A {@link Generator} that writes compact JSON directly to the writer of the formatter.
+ * <p>
+ * Unlike the JSON-P based generator, it does not allocate per field: the field names are escaped once and cached by the
+ * {@link KeyCache}, and the values are escaped while they are written. The output is the same as the output of the JSON-P
+ * generator without pretty printing.
+ */
+final class FastJsonGenerator implements Generator {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer writer;
+    private final Set<String> excludedKeys;
+    private final KeyCache keyCache;
+    // whether the next value is the first one of the current object or array, indexed by the nesting depth
+    private boolean[] first = new boolean[8];
+    private int depth = -1;
+    private final char[] digits = new char[20];
+
+    FastJsonGenerator(Writer writer, Set<String> excludedKeys, KeyCache keyCache) {
+        this.writer = writer;
+        this.excludedKeys = excludedKeys;
+        this.keyCache = keyCache;
+    }
+
+    @Override
+    public Generator begin() throws Exception {
+        return startObject(null);
+    }
+
+    @Override
+    public Generator add(final String key, final int value) throws Exception {
+        if (!excludedKeys.contains(key)) {
+            writeKey(key);
+            writeInt(value);
+        }
+        return this;
+    }
+
+    @Override
+    public Generator add(final String key, final long value) throws Exception {
+        if (!excludedKeys.contains(key)) {
+            writeKey(key);
+            writeLong(value);
+        }
+        return this;
+    }
+
+    @Override
+    public Generator add(final String key, final Map<String, ?> value) throws Exception {
+        if (!excludedKeys.contains(key)) {
+            startObject(key);
+            if (value != null) {
+                for (Map.Entry<String, ?> entry : value.entrySet()) {
+                    writeKey(entry.getKey());
+                    writeObject(entry.getValue());
+                }
+            }
+            endObject();
+        }
+        return this;
+    }
+
+    @Override
+    public Generator add(final String key, final String value) throws Exception {
+        if (!excludedKeys.contains(key)) {
+            writeKey(key);
+            if (value == null) {
+                writer.write("null");
+            } else {
+                writeString(value);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds fields which are already encoded, e.g. {@code "foo":42,"bar":"baz"}.
+     */
+    Generator addEncoded(final String fields) throws Exception {
+        if (!fields.isEmpty()) {
+            separator();
+            writer.write(fields);
+        }
+        return this;
+    }
+
+    @Override
+    public Generator startObject(final String key) throws Exception {
+        if (key == null) {
+            separator();
+        } else {
+            writeKey(key);
+        }
+        writer.write('{');
+        push();
+        return this;
+    }
+
+    @Override
+    public Generator endObject() throws Exception {
+        writer.write('}');
+        depth--;
+        return this;
+    }
+
+    @Override
+    public Generator startArray(final String key) throws Exception {
+        if (key == null) {
+            separator();
+        } else {
+            writeKey(key);
+        }
+        writer.write('[');
+        push();
+        return this;
+    }
+
+    @Override
+    public Generator endArray() throws Exception {
+        writer.write(']');
+        depth--;
+        return this;
+    }
+
+    @Override
+    public Generator end() throws Exception {
+        endObject();
+        writer.flush();
+        return this;
+    }
+
+    private void push() {
+        depth++;
+        if (depth == first.length) {
+            first = Arrays.copyOf(first, depth * 2);
+        }
+        first[depth] = true;
+    }
+
+    private void separator() throws IOException {
+        if (depth < 0) {
+            return;
+        }
+        if (first[depth]) {
+            first[depth] = false;
+        } else {
+            writer.write(',');
+        }
+    }
+
+    private void writeKey(String key) throws IOException {
+        separator();
+        writer.write(keyCache.get(key));
+    }
+
+    private void writeInt(int value) throws IOException {
+        writeLong(value);
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value >= 0 && value < 10) {
+            writer.write('0' + (int) value);
+        } else if (value == Long.MIN_VALUE) {
+            writer.write(Long.toString(value));
+        } else {
+            // write the digits from the end of the scratch buffer
+            char[] digits = this.digits;
+            int pos = digits.length;
+            long remaining = Math.abs(value);
+            do {
+                digits[--pos] = (char) ('0' + (remaining % 10));
+                remaining /= 10;
+            } while (remaining != 0);
+            if (value < 0) {
+                digits[--pos] = '-';
+            }
+            writer.write(digits, pos, digits.length - pos);
+        }
+    }
+
+    private void writeObject(Object value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+        } else if (value instanceof String) {
+            writeString((String) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof BigInteger
+                || value instanceof BigDecimal || value instanceof Boolean) {
+            writer.write(value.toString());
+        } else {
+            writeString(String.valueOf(value));
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        writer.write('"');
+        writeEscaped(writer, value);
+        writer.write('"');
+    }
+
+    /**
+     * Writes the escaped value, without the surrounding quotes. The runs of characters which do not need to be escaped
+     * are written at once.
+     */
+    static void writeEscaped(Writer writer, String value) throws IOException {
+        int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            if (i > start) {
+                writer.write(value, start, i - start);
+            }
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\b':
+                    writer.write("\\b");
+                    break;
+                case '\f':
+                    writer.write("\\f");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    writer.write("\\u00");
+                    writer.write(HEX[c >> 4]);
+                    writer.write(HEX[c & 0xF]);
+            }
+        }
+        if (start < length) {
+            writer.write(value, start, length - start);
+        }
+    }
+
+    /**
+     * Caches the encoded field names, e.g. {@code "level":}.
+     * <p>
+     * The keys of the record are a small fixed set, but the MDC keys are not, so the number of cached keys is bounded.
+     */
+    static final class KeyCache {
+
+        private static final int MAX_SIZE = 512;
+
+        private final ConcurrentMap<String, String> keys = new ConcurrentHashMap<>();
+
+        String get(String key) {
+            String encoded = keys.get(key);
+            if (encoded == null) {
+                encoded = encode(key);
+                if (keys.size() < MAX_SIZE) {
+                    keys.putIfAbsent(key, encoded);
+                }
+            }
+            return encoded;
+        }
+
+        private static String encode(String key) {
+            StringBuilderWriter writer = new StringBuilderWriter(key.length() + 3);
+            try {
+                writer.write('"');
+                writeEscaped(writer, key);
+                writer.write("\":");
+            } catch (IOException e) {
+                // cannot happen
+                throw new IllegalStateException(e);
+            }
+            return writer.toString();
+        }
+    }
+
+    /**
+     * A {@link Writer} to a {@link StringBuilder}, used to encode fields ahead of time.
+     */
+    static final class StringBuilderWriter extends Writer {
+
+        private final StringBuilder builder;
+
+        StringBuilderWriter(int capacity) {
+            this.builder = new StringBuilder(capacity);
+        }
+
+        @Override
+        public void write(int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            builder.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            builder.append(str, off, off + len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.logging.json.runtime;
 
+import java.io.IOException;
 import java.io.Writer;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -13,6 +14,13 @@ public class JsonFormatter extends org.jboss.logmanager.formatters.JsonFormatter
     private Set<String> excludedKeys;
     private Map<String, AdditionalField> additionalFields;
 
+    private final FastJsonGenerator.KeyCache keyCache = new FastJsonGenerator.KeyCache();
+    private boolean fastGenerator = true;
+    /**
+     * The additional fields encoded for the {@link FastJsonGenerator}, computed lazily
+     */
+    private volatile String encodedAdditionalFields;
+
     /**
      * Creates a new JSON formatter.
      *
@@ -58,6 +66,7 @@ public Set<String> getExcludedKeys() {
 
     public void setExcludedKeys(Set<String> excludedKeys) {
         this.excludedKeys = excludedKeys;
+        this.encodedAdditionalFields = null;
     }
 
     public Map<String, AdditionalField> getAdditionalFields() {
@@ -66,16 +75,37 @@ public Map<String, AdditionalField> getAdditionalFields() {
 
     public void setAdditionalFields(Map<String, AdditionalField> additionalFields) {
         this.additionalFields = additionalFields;
+        this.encodedAdditionalFields = null;
+    }
+
+    /**
+     * Whether the records are written by the {@link FastJsonGenerator} when pretty printing is disabled. Used to compare
+     * it with the JSON-P based generator.
+     */
+    void setFastGenerator(boolean fastGenerator) {
+        this.fastGenerator = fastGenerator;
     }
 
     @Override
     protected Generator createGenerator(final Writer writer) {
+        if (fastGenerator && !isPrettyPrint()) {
+            return new FastJsonGenerator(writer, this.excludedKeys, this.keyCache);
+        }
         Generator superGenerator = super.createGenerator(writer);
         return new FormatterJsonGenerator(superGenerator, this.excludedKeys);
     }
 
     @Override
     protected void after(final Generator generator, final ExtLogRecord record) throws Exception {
+        if (generator instanceof FastJsonGenerator) {
+            String encoded = encodedAdditionalFields;
+            if (encoded == null) {
+                encoded = encodeAdditionalFields();
+                encodedAdditionalFields = encoded;
+            }
+            ((FastJsonGenerator) generator).addEncoded(encoded);
+            return;
+        }
         for (var entry : this.additionalFields.entrySet()) {
             switch (entry.getValue().type()) {
                 case STRING:
@@ -91,6 +121,38 @@ protected void after(final Generator generator, final ExtLogRecord record) throw
         }
     }
 
+    /**
+     * Encodes the additional fields which are not excluded, e.g. {@code "foo":42,"bar":"baz"}.
+     */
+    private String encodeAdditionalFields() throws IOException {
+        FastJsonGenerator.StringBuilderWriter writer = new FastJsonGenerator.StringBuilderWriter(64);
+        boolean first = true;
+        for (var entry : this.additionalFields.entrySet()) {
+            if (this.excludedKeys.contains(entry.getKey())) {
+                continue;
+            }
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writer.write(keyCache.get(entry.getKey()));
+            switch (entry.getValue().type()) {
+                case STRING:
+                    writer.write('"');
+                    FastJsonGenerator.writeEscaped(writer, entry.getValue().value());
+                    writer.write('"');
+                    break;
+                case INT:
+                    writer.write(Integer.toString(Integer.parseInt(entry.getValue().value())));
+                    break;
+                case LONG:
+                    writer.write(Long.toString(Long.parseLong(entry.getValue().value())));
+                    break;
+            }
+        }
+        return writer.toString();
+    }
+
     private static class FormatterJsonGenerator implements Generator {
         private final Generator generator;
         private final Set<String> excludedKeys;
@@ -50,6 +50,7 @@
 import io.quarkus.micrometer.runtime.MeterRegistryCustomizerConstraint;
 import io.quarkus.micrometer.runtime.MeterRegistryCustomizerConstraints;
 import io.quarkus.micrometer.runtime.MeterTagsSupport;
+import io.quarkus.micrometer.runtime.MethodMeterCache;
 import io.quarkus.micrometer.runtime.MicrometerCountedInterceptor;
 import io.quarkus.micrometer.runtime.MicrometerRecorder;
 import io.quarkus.micrometer.runtime.MicrometerTimedInterceptor;
@@ -72,6 +73,7 @@ public class MicrometerProcessor {
     private static final DotName TIMED_ANNOTATION = DotName.createSimple(Timed.class.getName());
     private static final DotName TIMED_INTERCEPTOR = DotName.createSimple(MicrometerTimedInterceptor.class.getName());
     private static final DotName METER_TAG_SUPPORT = DotName.createSimple(MeterTagsSupport.class.getName());
+    private static final DotName METHOD_METER_CACHE = DotName.createSimple(MethodMeterCache.class.getName());
 
     private static final List<String> OPERATING_SYSTEM_BEAN_CLASS_NAMES = List.of(
             "com.ibm.lang.management.OperatingSystemMXBean", // J9
@@ -137,6 +139,7 @@ UnremovableBeanBuildItem registerAdditionalBeans(CombinedIndexBuildItem indexBui
                 .addBeanClass(COUNTED_ANNOTATION.toString())
                 .addBeanClass(COUNTED_INTERCEPTOR.toString())
                 .addBeanClass(METER_TAG_SUPPORT.toString())
+                .addBeanClass(METHOD_METER_CACHE.toString())
                 .build());
 
         // @Timed and @Counted are registered as additional interceptor bindings
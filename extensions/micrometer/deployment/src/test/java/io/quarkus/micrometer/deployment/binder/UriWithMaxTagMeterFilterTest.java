@@ -1,6 +1,7 @@
 package io.quarkus.micrometer.deployment.binder;
 
 import static io.restassured.RestAssured.when;
+import static org.awaitility.Awaitility.await;
 
 import jakarta.inject.Inject;
 
@@ -49,7 +50,13 @@ public void test() throws Exception {
         when().get("/ping/two").then().statusCode(200);
         when().get("/ping/three").then().statusCode(200);
         when().get("/one").then().statusCode(200);
-        Assertions.assertEquals(1, registry.find("http.server.requests").timers().size());
+        // The first uri is admitted: the /pong requests sent by the client complete before the /ping ones,
+        // the requests to other uris are recorded in the overflow bucket
+        await().untilAsserted(() -> Assertions.assertEquals(4,
+                registry.get("http.server.requests").tag("uri", "OVERFLOW").timer().count()));
+        Assertions.assertEquals(3, registry.get("http.server.requests").tag("uri", "/pong/{message}").timer().count());
+        Assertions.assertEquals(2, registry.find("http.server.requests").timers().size());
+        Assertions.assertEquals(4, registry.get("http.server.requests.overflow").counter().count());
 
         // Client limit is constrained to 1
         Assertions.assertEquals(1, registry.find("http.client.requests").timers().size());
@@ -39,6 +39,9 @@ public class MicrometerTimedInterceptorTest {
     @Inject
     TimedResource timed;
 
+    @Inject
+    MethodMeterCache meterCache;
+
     @BeforeAll
     static void addSimpleRegistry() {
         Metrics.globalRegistry.add(new SimpleMeterRegistry());
@@ -237,4 +240,40 @@ void testTimeMethod_repeatable() {
         Assertions.assertEquals(1, bravoTimer.count());
     }
 
+    @Test
+    void testTimeMethod_RemovedTimer() {
+        timed.removedCall();
+        timed.removedCall();
+        Timer timer = registry.get("removed.call")
+                .tag("method", "removedCall")
+                .tag("class", "io.quarkus.micrometer.test.TimedResource")
+                .tag("exception", "none")
+                .tag("extra", "tag").timer();
+        Assertions.assertEquals(2, timer.count());
+
+        // The timer is registered again
+        registry.remove(timer);
+        timed.removedCall();
+        Timer registered = registry.get("removed.call")
+                .tag("method", "removedCall")
+                .tag("exception", "none").timer();
+        Assertions.assertNotSame(timer, registered);
+        Assertions.assertEquals(1, registered.count());
+    }
+
+    @Test
+    void testTimeMethod_UnrelatedTimerRemoved() throws NoSuchMethodException {
+        timed.removedCall();
+        MicrometerTimedInterceptor.TimedMeters meters = meterCache.timedMethods
+                .get(TimedResource.class.getMethod("removedCall")).meters[0];
+        Timer cached = meters.timers.get("none");
+        Assertions.assertNotNull(cached);
+
+        // Only the entries of the removed meter are evicted
+        registry.remove(Timer.builder("unrelated.call").register(registry));
+        Assertions.assertSame(cached, meters.timers.get("none"));
+        registry.remove(cached);
+        Assertions.assertNull(meters.timers.get("none"));
+    }
+
 }
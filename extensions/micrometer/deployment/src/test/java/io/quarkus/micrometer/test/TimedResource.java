@@ -21,6 +21,10 @@ public void call(boolean fail) {
 
     }
 
+    @Timed(value = "removed.call", extraTags = { "extra", "tag" })
+    public void removedCall() {
+    }
+
     @Timed(value = "longCall", extraTags = { "extra", "tag" }, longTask = true)
     public void longCall(boolean fail) {
         try {
@@ -55,8 +55,23 @@ private Tags getMeterTags(ArcInvocationContext context) {
         return Tags.of(tags);
     }
 
+    /**
+     * @return the tags of the invocations of the given method, or {@code null} if they depend on the parameters
+     */
+    static Tags getStaticTags(Method method) {
+        for (Parameter parameter : method.getParameters()) {
+            if (parameter.isAnnotationPresent(MeterTag.class)) {
+                return null;
+            }
+        }
+        return getCommonTags(method);
+    }
+
     private static Tags getCommonTags(ArcInvocationContext context) {
-        Method method = context.getMethod();
+        return getCommonTags(context.getMethod());
+    }
+
+    private static Tags getCommonTags(Method method) {
         String className = method.getDeclaringClass().getName();
         String methodName = method.getName();
         return Tags.of("class", className, "method", methodName);
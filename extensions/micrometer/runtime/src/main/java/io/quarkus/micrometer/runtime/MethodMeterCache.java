@@ -0,0 +1,54 @@
+package io.quarkus.micrometer.runtime;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Holds the meters resolved by the {@link MicrometerTimedInterceptor} and the {@link MicrometerCountedInterceptor} for
+ * each intercepted method.
+ * <p>
+ * Registering a meter for each invocation requires to allocate a builder, merge the tags and look the meter up in the
+ * registry. Unless a parameter of the method is annotated with {@link io.micrometer.core.aop.MeterTag @MeterTag}, the
+ * meters of an intercepted method only depend on the method, its bindings and the exception, so they are resolved once.
+ * <p>
+ * When a meter is removed from the registry, the cached entries of that meter are evicted, so that it is registered again
+ * on the next invocation.
+ */
+@Singleton
+public class MethodMeterCache {
+
+    final ConcurrentMap<Method, MicrometerTimedInterceptor.TimedMethod> timedMethods = new ConcurrentHashMap<>();
+    final ConcurrentMap<Method, MicrometerCountedInterceptor.CountedMethod> countedMethods = new ConcurrentHashMap<>();
+
+    public MethodMeterCache(MeterRegistry meterRegistry) {
+        meterRegistry.config().onMeterRemoved(new Consumer<Meter>() {
+            @Override
+            public void accept(Meter meter) {
+                Meter.Id id = meter.getId();
+                switch (id.getType()) {
+                    case TIMER:
+                    case LONG_TASK_TIMER:
+                        for (MicrometerTimedInterceptor.TimedMethod timedMethod : timedMethods.values()) {
+                            timedMethod.evict(id);
+                        }
+                        break;
+                    case COUNTER:
+                        for (MicrometerCountedInterceptor.CountedMethod countedMethod : countedMethods.values()) {
+                            countedMethod.evict(id);
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        });
+    }
+
+}
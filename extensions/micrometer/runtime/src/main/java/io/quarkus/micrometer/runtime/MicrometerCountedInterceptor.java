@@ -2,7 +2,10 @@
 
 import java.lang.reflect.Method;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 import jakarta.annotation.Priority;
 import jakarta.interceptor.AroundInvoke;
@@ -10,6 +13,7 @@
 
 import io.micrometer.core.annotation.Counted;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.quarkus.arc.ArcInvocationContext;
@@ -33,10 +37,13 @@ public class MicrometerCountedInterceptor {
 
     private final MeterRegistry meterRegistry;
     private final MeterTagsSupport meterTagsSupport;
+    private final MethodMeterCache meterCache;
 
-    public MicrometerCountedInterceptor(MeterRegistry meterRegistry, MeterTagsSupport meterTagsSupport) {
+    public MicrometerCountedInterceptor(MeterRegistry meterRegistry, MeterTagsSupport meterTagsSupport,
+            MethodMeterCache meterCache) {
         this.meterRegistry = meterRegistry;
         this.meterTagsSupport = meterTagsSupport;
+        this.meterCache = meterCache;
     }
 
     /**
@@ -63,7 +70,8 @@ Object countedMethod(ArcInvocationContext context) throws Exception {
             return context.proceed();
         }
         Method method = context.getMethod();
-        Tags tags = meterTagsSupport.getTags(context);
+        CountedMethod countedMethod = getCountedMethod(method, counted);
+        Tags tags = countedMethod != null ? countedMethod.tags : meterTagsSupport.getTags(context);
 
         Class<?> returnType = method.getReturnType();
         if (TypesUtil.isCompletionStage(returnType)) {
@@ -71,11 +79,11 @@ Object countedMethod(ArcInvocationContext context) throws Exception {
                 return ((CompletionStage<?>) context.proceed()).whenComplete(new BiConsumer<Object, Throwable>() {
                     @Override
                     public void accept(Object o, Throwable throwable) {
-                        recordCompletionResult(counted, tags, throwable);
+                        recordCompletionResult(counted, tags, countedMethod, throwable);
                     }
                 });
             } catch (Throwable e) {
-                record(counted, tags, e);
+                record(counted, tags, countedMethod, e);
             }
         } else if (TypesUtil.isUni(returnType)) {
             try {
@@ -83,45 +91,109 @@ public void accept(Object o, Throwable throwable) {
                         new Functions.TriConsumer<>() {
                             @Override
                             public void accept(Object o, Throwable throwable, Boolean cancelled) {
-                                recordCompletionResult(counted, tags, throwable);
+                                recordCompletionResult(counted, tags, countedMethod, throwable);
                             }
                         });
             } catch (Throwable e) {
-                record(counted, tags, e);
+                record(counted, tags, countedMethod, e);
             }
         }
 
         try {
             Object result = context.proceed();
             if (!counted.recordFailuresOnly()) {
-                record(counted, tags, null);
+                record(counted, tags, countedMethod, null);
             }
             return result;
         } catch (Throwable e) {
-            record(counted, tags, e);
+            record(counted, tags, countedMethod, e);
             throw e;
         }
     }
 
-    private void recordCompletionResult(Counted counted, Tags commonTags, Throwable throwable) {
+    /**
+     * @return the cached counters of the given method, or {@code null} if they cannot be cached
+     */
+    private CountedMethod getCountedMethod(Method method, Counted counted) {
+        CountedMethod countedMethod = meterCache.countedMethods.get(method);
+        if (countedMethod == null) {
+            countedMethod = new CountedMethod(counted, MeterTagsSupport.getStaticTags(method));
+            CountedMethod previous = meterCache.countedMethods.putIfAbsent(method, countedMethod);
+            if (previous != null) {
+                countedMethod = previous;
+            }
+        }
+        if (countedMethod.tags == null
+                || (countedMethod.counted != counted && !countedMethod.counted.equals(counted))) {
+            // The tags depend on the parameters, or the method is inherited by beans with different bindings
+            return null;
+        }
+        return countedMethod;
+    }
+
+    private void recordCompletionResult(Counted counted, Tags commonTags, CountedMethod countedMethod,
+            Throwable throwable) {
         if (throwable != null) {
-            record(counted, commonTags, throwable);
+            record(counted, commonTags, countedMethod, throwable);
         } else if (!counted.recordFailuresOnly()) {
-            record(counted, commonTags, null);
+            record(counted, commonTags, countedMethod, null);
+        }
+    }
+
+    private void record(Counted counted, Tags commonTags, CountedMethod countedMethod, Throwable throwable) {
+        String exceptionClass = MicrometerRecorder.getExceptionTag(throwable);
+        Counter counter = null;
+        if (countedMethod != null) {
+            counter = throwable == null ? countedMethod.success : countedMethod.failures.get(exceptionClass);
         }
+        if (counter == null) {
+            Counter.Builder builder = Counter.builder(counted.value())
+                    .tags(commonTags)
+                    .tags(counted.extraTags())
+                    .tag("exception", exceptionClass)
+                    .tag("result", throwable == null ? RESULT_TAG_SUCCESS_VALUE : RESULT_TAG_FAILURE_VALUE);
+            String description = counted.description();
+            if (!description.isEmpty()) {
+                builder.description(description);
+            }
+            counter = builder.register(meterRegistry);
+            if (countedMethod != null) {
+                if (throwable == null) {
+                    countedMethod.success = counter;
+                } else {
+                    countedMethod.failures.put(exceptionClass, counter);
+                }
+            }
+        }
+        counter.increment();
     }
 
-    private void record(Counted counted, Tags commonTags, Throwable throwable) {
-        Counter.Builder builder = Counter.builder(counted.value())
-                .tags(commonTags)
-                .tags(counted.extraTags())
-                .tag("exception", MicrometerRecorder.getExceptionTag(throwable))
-                .tag("result", throwable == null ? RESULT_TAG_SUCCESS_VALUE : RESULT_TAG_FAILURE_VALUE);
-        String description = counted.description();
-        if (!description.isEmpty()) {
-            builder.description(description);
+    static final class CountedMethod {
+
+        final Counted counted;
+        // null if the tags depend on the parameters
+        final Tags tags;
+        volatile Counter success;
+        // the failure counters by exception tag
+        final ConcurrentMap<String, Counter> failures = new ConcurrentHashMap<>();
+
+        CountedMethod(Counted counted, Tags tags) {
+            this.counted = counted;
+            this.tags = tags;
+        }
+
+        void evict(Meter.Id id) {
+            Counter counter = success;
+            if (counter != null && counter.getId().equals(id)) {
+                success = null;
+            }
+            failures.values().removeIf(new Predicate<Counter>() {
+                @Override
+                public boolean test(Counter failure) {
+                    return failure.getId().equals(id);
+                }
+            });
         }
-        builder.register(meterRegistry).increment();
     }
 
 }
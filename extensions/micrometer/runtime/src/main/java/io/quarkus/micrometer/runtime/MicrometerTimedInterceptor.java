@@ -1,9 +1,13 @@
 package io.quarkus.micrometer.runtime;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
 
 import jakarta.annotation.Priority;
 import jakarta.interceptor.AroundInvoke;
@@ -13,6 +17,7 @@
 
 import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -33,10 +38,13 @@ public class MicrometerTimedInterceptor {
 
     private final MeterRegistry meterRegistry;
     private final MeterTagsSupport meterTagsSupport;
+    private final MethodMeterCache meterCache;
 
-    public MicrometerTimedInterceptor(MeterRegistry meterRegistry, MeterTagsSupport meterTagsSupport) {
+    public MicrometerTimedInterceptor(MeterRegistry meterRegistry, MeterTagsSupport meterTagsSupport,
+            MethodMeterCache meterCache) {
         this.meterRegistry = meterRegistry;
         this.meterTagsSupport = meterTagsSupport;
+        this.meterCache = meterCache;
     }
 
     @AroundInvoke
@@ -90,35 +98,63 @@ private List<Sample> getSamples(ArcInvocationContext context) {
         if (timed.isEmpty()) {
             return Collections.emptyList();
         }
-        Tags tags = meterTagsSupport.getTags(context);
+        TimedMethod timedMethod = getTimedMethod(context.getMethod(), timed);
+        Tags tags = timedMethod != null ? timedMethod.tags : meterTagsSupport.getTags(context);
         List<Sample> samples = new ArrayList<>(timed.size());
-        for (Timed t : timed) {
+        for (int i = 0; i < timed.size(); i++) {
+            Timed t = timed.get(i);
+            TimedMeters meters = timedMethod != null ? timedMethod.meters[i] : null;
             if (t.longTask()) {
-                samples.add(new LongTimerSample(t, tags));
+                samples.add(new LongTimerSample(t, tags, meters));
             } else {
-                samples.add(new TimerSample(t, tags));
+                samples.add(new TimerSample(t, tags, meters));
             }
         }
         return samples;
     }
 
+    /**
+     * @return the cached meters of the given method, or {@code null} if they cannot be cached
+     */
+    private TimedMethod getTimedMethod(Method method, List<Timed> timed) {
+        TimedMethod timedMethod = meterCache.timedMethods.get(method);
+        if (timedMethod == null) {
+            timedMethod = new TimedMethod(timed, MeterTagsSupport.getStaticTags(method));
+            TimedMethod previous = meterCache.timedMethods.putIfAbsent(method, timedMethod);
+            if (previous != null) {
+                timedMethod = previous;
+            }
+        }
+        if (timedMethod.tags == null || !timedMethod.matches(timed)) {
+            // The tags depend on the parameters, or the method is inherited by beans with different bindings
+            return null;
+        }
+        return timedMethod;
+    }
+
     private void stop(List<Sample> samples, String throwableClassName) {
         for (Sample sample : samples) {
             sample.stop(throwableClassName);
         }
     }
 
-    private void record(Timed timed, Timer.Sample sample, String exceptionClass, Tags timerTags) {
+    private void record(Timed timed, Timer.Sample sample, String exceptionClass, Tags commonTags, TimedMeters meters) {
         final String metricName = timed.value().isEmpty() ? DEFAULT_METRIC_NAME : timed.value();
         try {
-            Timer.Builder builder = Timer.builder(metricName)
-                    .description(timed.description().isEmpty() ? null : timed.description())
-                    .tags(timerTags)
-                    .tag("exception", exceptionClass)
-                    .publishPercentileHistogram(timed.histogram())
-                    .publishPercentiles(timed.percentiles().length == 0 ? null : timed.percentiles());
-
-            sample.stop(builder.register(meterRegistry));
+            Timer timer = meters != null ? meters.timers.get(exceptionClass) : null;
+            if (timer == null) {
+                Timer.Builder builder = Timer.builder(metricName)
+                        .description(timed.description().isEmpty() ? null : timed.description())
+                        .tags(Tags.concat(commonTags, timed.extraTags()))
+                        .tag("exception", exceptionClass)
+                        .publishPercentileHistogram(timed.histogram())
+                        .publishPercentiles(timed.percentiles().length == 0 ? null : timed.percentiles());
+                timer = builder.register(meterRegistry);
+                if (meters != null) {
+                    meters.timers.put(exceptionClass, timer);
+                }
+            }
+            sample.stop(timer);
         } catch (Exception e) {
             // ignoring on purpose: possible meter registration error should not interrupt main code flow.
             log.warnf(e, "Unable to record observed timer value for %s with exceptionClass %s",
@@ -126,17 +162,23 @@ private void record(Timed timed, Timer.Sample sample, String exceptionClass, Tag
         }
     }
 
-    LongTaskTimer.Sample startLongTaskTimer(Timed timed, Tags commonTags, String metricName) {
+    LongTaskTimer.Sample startLongTaskTimer(Timed timed, Tags commonTags, String metricName, TimedMeters meters) {
         try {
-            // This will throw if the annotation is incorrect.
-            // Errors are checked for at build time, but ...
-            return LongTaskTimer.builder(metricName)
-                    .description(timed.description().isEmpty() ? null : timed.description())
-                    .tags(commonTags)
-                    .tags(timed.extraTags())
-                    .publishPercentileHistogram(timed.histogram())
-                    .register(meterRegistry)
-                    .start();
+            LongTaskTimer timer = meters != null ? meters.longTaskTimer : null;
+            if (timer == null) {
+                // This will throw if the annotation is incorrect.
+                // Errors are checked for at build time, but ...
+                timer = LongTaskTimer.builder(metricName)
+                        .description(timed.description().isEmpty() ? null : timed.description())
+                        .tags(commonTags)
+                        .tags(timed.extraTags())
+                        .publishPercentileHistogram(timed.histogram())
+                        .register(meterRegistry);
+                if (meters != null) {
+                    meters.longTaskTimer = timer;
+                }
+            }
+            return timer.start();
         } catch (Exception e) {
             // ignoring on purpose: possible meter registration error should not interrupt main code flow.
             log.warnf(e, "Unable to create long task timer named %s", metricName);
@@ -161,10 +203,12 @@ abstract static class Sample {
 
         protected final Timed timed;
         protected final Tags commonTags;
+        protected final TimedMeters meters;
 
-        public Sample(Timed timed, Tags commonTags) {
+        public Sample(Timed timed, Tags commonTags, TimedMeters meters) {
             this.timed = timed;
             this.commonTags = commonTags;
+            this.meters = meters;
         }
 
         String metricName() {
@@ -178,14 +222,14 @@ final class TimerSample extends Sample {
 
         private final Timer.Sample sample;
 
-        public TimerSample(Timed timed, Tags commonTags) {
-            super(timed, commonTags);
+        public TimerSample(Timed timed, Tags commonTags, TimedMeters meters) {
+            super(timed, commonTags, meters);
             this.sample = Timer.start(meterRegistry);
         }
 
         @Override
         void stop(String exceptionClass) {
-            record(timed, sample, exceptionClass, Tags.concat(commonTags, timed.extraTags()));
+            record(timed, sample, exceptionClass, commonTags, meters);
         }
 
     }
@@ -194,9 +238,9 @@ final class LongTimerSample extends Sample {
 
         private final LongTaskTimer.Sample sample;
 
-        public LongTimerSample(Timed timed, Tags commonTags) {
-            super(timed, commonTags);
-            this.sample = startLongTaskTimer(timed, commonTags, metricName());
+        public LongTimerSample(Timed timed, Tags commonTags, TimedMeters meters) {
+            super(timed, commonTags, meters);
+            this.sample = startLongTaskTimer(timed, commonTags, metricName(), meters);
         }
 
         @Override
@@ -205,4 +249,61 @@ void stop(String exceptionClass) {
         }
 
     }
+
+    static final class TimedMethod {
+
+        final List<Timed> timed;
+        // null if the tags depend on the parameters
+        final Tags tags;
+        // the meters of each binding
+        final TimedMeters[] meters;
+
+        TimedMethod(List<Timed> timed, Tags tags) {
+            this.timed = List.copyOf(timed);
+            this.tags = tags;
+            this.meters = new TimedMeters[timed.size()];
+            for (int i = 0; i < meters.length; i++) {
+                meters[i] = new TimedMeters();
+            }
+        }
+
+        boolean matches(List<Timed> timed) {
+            if (this.timed.size() != timed.size()) {
+                return false;
+            }
+            for (int i = 0; i < timed.size(); i++) {
+                // the bindings are usually the same instances
+                if (this.timed.get(i) != timed.get(i) && !this.timed.get(i).equals(timed.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void evict(Meter.Id id) {
+            for (TimedMeters timedMeters : meters) {
+                timedMeters.evict(id);
+            }
+        }
+    }
+
+    static final class TimedMeters {
+
+        // the timers by exception tag
+        final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+        volatile LongTaskTimer longTaskTimer;
+
+        void evict(Meter.Id id) {
+            timers.values().removeIf(new Predicate<Timer>() {
+                @Override
+                public boolean test(Timer timer) {
+                    return timer.getId().equals(id);
+                }
+            });
+            LongTaskTimer timer = longTaskTimer;
+            if (timer != null && timer.getId().equals(id)) {
+                longTaskTimer = null;
+            }
+        }
+    }
 }
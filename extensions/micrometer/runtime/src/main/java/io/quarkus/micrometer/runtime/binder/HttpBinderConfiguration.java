@@ -41,6 +41,8 @@ public class HttpBinderConfiguration {
     boolean serverSuppress4xxErrors = false;
     boolean clientSuppress4xxErrors = false;
 
+    int serverMaxUriTags = 100;
+
     private HttpBinderConfiguration() {
     }
 
@@ -52,6 +54,7 @@ public HttpBinderConfiguration(boolean httpServerMetrics, boolean httpClientMetr
         clientEnabled = httpClientMetrics;
         serverSuppress4xxErrors = serverConfig.suppress4xxErrors();
         clientSuppress4xxErrors = clientConfig.suppress4xxErrors();
+        serverMaxUriTags = serverConfig.maxUriTags();
 
         if (serverEnabled) {
             Pattern defaultIgnore = null;
@@ -117,6 +120,10 @@ public boolean isClientSuppress4xxErrors() {
         return clientSuppress4xxErrors;
     }
 
+    public int getServerMaxUriTags() {
+        return serverMaxUriTags;
+    }
+
     List<Pattern> getIgnorePatterns(Optional<List<String>> configInput, Pattern defaultIgnore) {
         if (configInput.isPresent()) {
             List<String> input = configInput.get();
@@ -201,6 +208,7 @@ public HttpBinderConfiguration unwrap() {
         result.serverEnabled = this.serverEnabled;
         result.serverSuppress4xxErrors = this.serverSuppress4xxErrors;
         result.clientSuppress4xxErrors = this.clientSuppress4xxErrors;
+        result.serverMaxUriTags = this.serverMaxUriTags;
         return result.update(this);
     }
 
@@ -9,6 +9,7 @@ public class HttpCommonTags {
     public static final Tag URI_NOT_FOUND = Tag.of("uri", "NOT_FOUND");
     public static final Tag URI_REDIRECTION = Tag.of("uri", "REDIRECTION");
     public static final Tag URI_ROOT = Tag.of("uri", "root");
+    public static final Tag URI_OVERFLOW = Tag.of("uri", "OVERFLOW");
     static final Tag URI_UNKNOWN = Tag.of("uri", "UNKNOWN");
 
     static final Tag STATUS_UNKNOWN = Tag.of("status", "UNKNOWN");
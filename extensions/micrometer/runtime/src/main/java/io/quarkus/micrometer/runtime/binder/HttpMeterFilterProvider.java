@@ -31,8 +31,9 @@ public MeterFilter metricsHttpClientUriTagFilter(HttpClientConfig httpClientConf
     @Produces
     public MeterFilter metricsHttpServerUriTagFilter(HttpServerConfig httpServerConfig) {
         if (binderConfiguration.isServerEnabled()) {
+            // one more value for the OVERFLOW uri tag, see VertxHttpServerMetrics
             return maximumAllowableUriTagsFilter(binderConfiguration.getHttpServerRequestsName(),
-                    httpServerConfig.maxUriTags());
+                    httpServerConfig.maxUriTags() + 1);
         }
         return null;
     }
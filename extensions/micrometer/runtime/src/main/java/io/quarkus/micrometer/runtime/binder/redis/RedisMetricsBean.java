@@ -8,6 +8,7 @@
 import jakarta.enterprise.inject.Typed;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tag;
@@ -23,12 +24,20 @@ public class RedisMetricsBean implements ObservableRedisMetrics {
 
     final Map<String, RedisMetrics> reportedMetrics = new ConcurrentHashMap<>();
 
+    final Map<String, PipelineMetrics> reportedPipelineMetrics = new ConcurrentHashMap<>();
+
     @Override
     public void report(String name, long durationInNs, boolean succeeded) {
         reportedMetrics.computeIfAbsent(name, n -> new RedisMetrics(registry, n))
                 .report(name, durationInNs, succeeded);
     }
 
+    @Override
+    public void reportPipeline(String name, int batchSize, long flushDurationInNs) {
+        reportedPipelineMetrics.computeIfAbsent(name, n -> new PipelineMetrics(registry, n))
+                .report(batchSize, flushDurationInNs);
+    }
+
     private class RedisMetrics implements ObservableRedisMetrics {
         private final Tags tags;
         private final Counter operationCounter;
@@ -70,4 +79,26 @@ public void report(String name, long durationInNs, boolean succeeded) {
             timer.record(durationInNs, TimeUnit.NANOSECONDS);
         }
     }
+
+    private static class PipelineMetrics {
+        private final DistributionSummary batchSize;
+        private final Timer timer;
+
+        private PipelineMetrics(MeterRegistry registry, String name) {
+            Tags tags = Tags.of(Tag.of("client-name", name));
+            this.batchSize = DistributionSummary.builder("redis.pipeline.size")
+                    .description("The number of commands written together by the automatic pipelining")
+                    .tags(tags)
+                    .register(registry);
+            this.timer = Timer.builder("redis.pipeline.duration")
+                    .description("The duration between the flush of the pipelined commands and their last reply")
+                    .tags(tags)
+                    .register(registry);
+        }
+
+        void report(int size, long durationInNs) {
+            batchSize.record(size);
+            timer.record(durationInNs, TimeUnit.NANOSECONDS);
+        }
+    }
 }
@@ -0,0 +1,198 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.logging.Logger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Resolves the request timers of the HTTP server.
+ * <p>
+ * The number of distinct {@code uri} tag values is bounded: once {@code maxUriTags} values have been seen, the
+ * requests to other URIs are recorded with the {@link HttpCommonTags#URI_OVERFLOW OVERFLOW} uri tag, and counted by the
+ * {@code http.server.requests.overflow} counter. The {@code uri} filter registered by
+ * {@link io.quarkus.micrometer.runtime.binder.HttpMeterFilterProvider} allows one more value for the overflow bucket,
+ * so it never denies a request timer.
+ * <p>
+ * When the tags of a request only depend on its method, uri and status, the timers are cached for each uri in a table
+ * indexed by the method and the status code, so that recording a request does not allocate tags nor looks the timer up
+ * in the registry.
+ */
+final class HttpServerRequestTimers {
+    private static final Logger log = Logger.getLogger(HttpServerRequestTimers.class);
+
+    /**
+     * The methods having a slot in the tables, the timers of other methods are not cached.
+     */
+    private static final HttpMethod[] METHODS = { HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE,
+            HttpMethod.PATCH, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.TRACE, HttpMethod.CONNECT };
+    private static final int MAX_STATUS = 999;
+
+    private final MeterProvider<Timer> requestsTimer;
+    private final int maxUriTags;
+    private final Counter overflowCounter;
+
+    private final ConcurrentMap<String, UriTimers> timers = new ConcurrentHashMap<>();
+    private final UriTimers overflowTimers = new UriTimers(HttpCommonTags.URI_OVERFLOW);
+    private boolean overflowLogged;
+    // set once the maximum number of uri tags is reached, the requests to unknown uris then overflow without locking
+    private volatile boolean full;
+
+    HttpServerRequestTimers(MeterRegistry registry, String requestsName, MeterProvider<Timer> requestsTimer,
+            int maxUriTags, Tags commonTags) {
+        this.requestsTimer = requestsTimer;
+        this.maxUriTags = maxUriTags;
+        this.overflowCounter = Counter.builder(requestsName + ".overflow")
+                .description("Number of HTTP server requests recorded with the OVERFLOW uri tag because the maximum "
+                        + "number of uri tags was reached")
+                .tags(commonTags)
+                .register(registry);
+        registry.config().onMeterRemoved(meter -> {
+            if (meter.getId().getType() == Meter.Type.TIMER && meter.getId().getName().equals(requestsName)) {
+                for (UriTimers uriTimers : timers.values()) {
+                    uriTimers.clear();
+                }
+                overflowTimers.clear();
+            }
+        });
+    }
+
+    /**
+     * Returns the timer of a request whose tags only depend on its method, uri and status.
+     *
+     * @param method the request method
+     * @param uri the uri tag
+     * @param status the status code of the response
+     * @return the timer
+     */
+    Timer timer(HttpMethod method, Tag uri, int status) {
+        UriTimers uriTimers = uriTimers(uri);
+        int methodIndex = methodIndex(method);
+        if (methodIndex < 0 || status <= 0 || status > MAX_STATUS) {
+            return requestsTimer.withTags(tags(method, uriTimers.uri, status));
+        }
+        int key = methodIndex * (MAX_STATUS + 1) + status;
+        Timer timer = uriTimers.get(key);
+        if (timer == null) {
+            timer = uriTimers.putIfAbsent(key, requestsTimer.withTags(tags(method, uriTimers.uri, status)));
+        }
+        return timer;
+    }
+
+    /**
+     * Returns the uri tag to record a request with, {@code OVERFLOW} if the maximum number of uri tags is reached.
+     *
+     * @param uri the uri tag of the request
+     * @return the uri tag to use
+     */
+    Tag uri(Tag uri) {
+        return uriTimers(uri).uri;
+    }
+
+    private UriTimers uriTimers(Tag uri) {
+        UriTimers uriTimers = timers.get(uri.getValue());
+        if (uriTimers == null) {
+            if (full) {
+                overflowCounter.increment();
+                return overflowTimers;
+            }
+            uriTimers = admit(uri);
+        }
+        return uriTimers;
+    }
+
+    private synchronized UriTimers admit(Tag uri) {
+        UriTimers uriTimers = timers.get(uri.getValue());
+        if (uriTimers != null) {
+            return uriTimers;
+        }
+        if (timers.size() < maxUriTags) {
+            uriTimers = new UriTimers(uri);
+            timers.put(uri.getValue(), uriTimers);
+            return uriTimers;
+        }
+        full = true;
+        if (!overflowLogged) {
+            overflowLogged = true;
+            log.warnf("Reached the maximum number (%s) of URI tags for HTTP server requests, the requests to other "
+                    + "URIs are recorded with the uri tag OVERFLOW. Are you using path parameters?", maxUriTags);
+        }
+        overflowCounter.increment();
+        return overflowTimers;
+    }
+
+    private static Tags tags(HttpMethod method, Tag uri, int status) {
+        return Tags.of(
+                VertxMetricsTags.method(method),
+                uri,
+                HttpCommonTags.outcome(status),
+                HttpCommonTags.status(status));
+    }
+
+    private static int methodIndex(HttpMethod method) {
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i] == method) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The timers of a uri, sorted by key. The arrays are copied on write, there are only a few timers per uri.
+     */
+    private static final class UriTimers {
+        private static final Snapshot EMPTY = new Snapshot(new int[0], new Timer[0]);
+
+        final Tag uri;
+        private volatile Snapshot snapshot = EMPTY;
+
+        UriTimers(Tag uri) {
+            this.uri = uri;
+        }
+
+        Timer get(int key) {
+            Snapshot current = snapshot;
+            int index = Arrays.binarySearch(current.keys, key);
+            return index >= 0 ? current.timers[index] : null;
+        }
+
+        synchronized Timer putIfAbsent(int key, Timer timer) {
+            Snapshot current = snapshot;
+            int index = Arrays.binarySearch(current.keys, key);
+            if (index >= 0) {
+                return current.timers[index];
+            }
+            int insertion = -index - 1;
+            int length = current.keys.length;
+            int[] keys = new int[length + 1];
+            Timer[] timers = new Timer[length + 1];
+            System.arraycopy(current.keys, 0, keys, 0, insertion);
+            System.arraycopy(current.timers, 0, timers, 0, insertion);
+            keys[insertion] = key;
+            timers[insertion] = timer;
+            System.arraycopy(current.keys, insertion, keys, insertion + 1, length - insertion);
+            System.arraycopy(current.timers, insertion, timers, insertion + 1, length - insertion);
+            snapshot = new Snapshot(keys, timers);
+            return timer;
+        }
+
+        synchronized void clear() {
+            snapshot = EMPTY;
+        }
+    }
+
+    private record Snapshot(int[] keys, Timer[] timers) {
+    }
+}
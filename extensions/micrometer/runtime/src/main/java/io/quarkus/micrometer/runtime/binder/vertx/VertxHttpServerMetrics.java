@@ -51,6 +51,7 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
     final MeterProvider<Timer> requestsTimer;
     final MeterProvider<LongTaskTimer> websocketConnectionTimer;
     final MeterProvider<Counter> pushCounter;
+    final HttpServerRequestTimers requestTimers;
 
     private final List<HttpServerMetricsTagsContributor> httpServerMetricsTagsContributors;
 
@@ -78,6 +79,8 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
         requestsTimer = Timer.builder(config.getHttpServerRequestsName())
                 .description("HTTP server request processing time")
                 .withRegistry(registry);
+        requestTimers = new HttpServerRequestTimers(registry, config.getHttpServerRequestsName(), requestsTimer,
+                config.getServerMaxUriTags(), commonTags);
 
         websocketConnectionTimer = LongTaskTimer.builder(config.getHttpServerWebSocketConnectionsName())
                 .description("Server web socket connection time")
@@ -194,7 +197,7 @@ public void requestReset(HttpRequestMetric requestMetric) {
                     sample::stop,
                     requestsTimer.withTags(Tags.of(
                             VertxMetricsTags.method(requestMetric.request().method()),
-                            HttpCommonTags.uri(path, requestMetric.getInitialPath(), 0, false),
+                            requestTimers.uri(HttpCommonTags.uri(path, requestMetric.getInitialPath(), 0, false)),
                             Outcome.CLIENT_ERROR.asTag(),
                             HttpCommonTags.STATUS_RESET)),
                     requestMetric.request().context());
@@ -218,13 +221,17 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
                 config.getServerIgnorePatterns());
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
-            Tags allTags = Tags.of(
-                    VertxMetricsTags.method(requestMetric.request().method()),
-                    HttpCommonTags.uri(path, requestMetric.getInitialPath(), response.statusCode(),
-                            config.isServerSuppress4xxErrors()),
-                    VertxMetricsTags.outcome(response),
-                    HttpCommonTags.status(response.statusCode()));
-            if (!httpServerMetricsTagsContributors.isEmpty()) {
+            Tag uri = HttpCommonTags.uri(path, requestMetric.getInitialPath(), response.statusCode(),
+                    config.isServerSuppress4xxErrors());
+            Timer timer;
+            if (httpServerMetricsTagsContributors.isEmpty()) {
+                timer = requestTimers.timer(requestMetric.request().method(), uri, response.statusCode());
+            } else {
+                Tags allTags = Tags.of(
+                        VertxMetricsTags.method(requestMetric.request().method()),
+                        requestTimers.uri(uri),
+                        VertxMetricsTags.outcome(response),
+                        HttpCommonTags.status(response.statusCode()));
                 HttpServerMetricsTagsContributor.Context context = new DefaultContext(requestMetric.request(), response);
                 for (int i = 0; i < httpServerMetricsTagsContributors.size(); i++) {
                     try {
@@ -234,11 +241,12 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
                         log.debug("Unable to obtain additional tags", e);
                     }
                 }
+                timer = requestsTimer.withTags(allTags);
             }
 
             openTelemetryContextUnwrapper.executeInContext(
                     sample::stop,
-                    requestsTimer.withTags(allTags),
+                    timer,
                     requestMetric.request().context());
         }
         requestMetric.requestEnded();
@@ -63,8 +63,9 @@ public interface HttpServerConfig {
 
     /**
      * Maximum number of unique URI tag values allowed. After the max number of
-     * tag values is reached, metrics with additional tag values are denied by
-     * filter.
+     * tag values is reached, HTTP server requests with additional tag values are
+     * recorded with the {@code OVERFLOW} uri tag, which does not count toward the limit, and other metrics with additional
+     * tag values are denied by filter.
      */
     @WithDefault("100")
     int maxUriTags();
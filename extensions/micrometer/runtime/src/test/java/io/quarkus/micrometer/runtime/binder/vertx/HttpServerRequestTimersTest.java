@@ -0,0 +1,70 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
+import io.vertx.core.http.HttpMethod;
+
+public class HttpServerRequestTimersTest {
+
+    SimpleMeterRegistry registry;
+    HttpServerRequestTimers timers;
+
+    @BeforeEach
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        timers = new HttpServerRequestTimers(registry, "http.server.requests",
+                Timer.builder("http.server.requests").withRegistry(registry), 3, Tags.empty());
+    }
+
+    @Test
+    public void testTimersAreCached() {
+        Timer timer = timers.timer(HttpMethod.GET, Tag.of("uri", "/one"), 200);
+        Assertions.assertSame(timer, timers.timer(HttpMethod.GET, Tag.of("uri", "/one"), 200));
+        Assertions.assertNotSame(timer, timers.timer(HttpMethod.POST, Tag.of("uri", "/one"), 200));
+        Assertions.assertNotSame(timer, timers.timer(HttpMethod.GET, Tag.of("uri", "/one"), 404));
+
+        Assertions.assertEquals(Tags.of("method", "GET", "outcome", "SUCCESS", "status", "200", "uri", "/one"),
+                Tags.of(timer.getId().getTags()));
+        Assertions.assertEquals(3, registry.find("http.server.requests").timers().size());
+    }
+
+    @Test
+    public void testUnknownMethodIsNotCached() {
+        Timer timer = timers.timer(HttpMethod.valueOf("PROPFIND"), Tag.of("uri", "/one"), 207);
+        Assertions.assertEquals("PROPFIND", timer.getId().getTag("method"));
+        Assertions.assertSame(timer, timers.timer(HttpMethod.valueOf("PROPFIND"), Tag.of("uri", "/one"), 207));
+    }
+
+    @Test
+    public void testUriOverflow() {
+        timers.timer(HttpMethod.GET, Tag.of("uri", "/one"), 200);
+        timers.timer(HttpMethod.GET, Tag.of("uri", "/two"), 200);
+        Assertions.assertEquals("/three",
+                timers.timer(HttpMethod.GET, Tag.of("uri", "/three"), 200).getId().getTag("uri"));
+        Timer overflow = timers.timer(HttpMethod.GET, Tag.of("uri", "/four"), 200);
+        Assertions.assertEquals("OVERFLOW", overflow.getId().getTag("uri"));
+        Assertions.assertSame(overflow, timers.timer(HttpMethod.GET, Tag.of("uri", "/five"), 200));
+        Assertions.assertEquals(HttpCommonTags.URI_OVERFLOW, timers.uri(Tag.of("uri", "/six")));
+        // known uris are still recorded
+        Assertions.assertEquals("/two", timers.timer(HttpMethod.GET, Tag.of("uri", "/two"), 500).getId().getTag("uri"));
+
+        Assertions.assertEquals(3, registry.get("http.server.requests.overflow").counter().count());
+    }
+
+    @Test
+    public void testRemovedTimerIsRegisteredAgain() {
+        Timer timer = timers.timer(HttpMethod.GET, Tag.of("uri", "/one"), 200);
+        registry.remove(timer);
+
+        Timer registered = timers.timer(HttpMethod.GET, Tag.of("uri", "/one"), 200);
+        Assertions.assertNotSame(timer, registered);
+        Assertions.assertSame(registered, registry.get("http.server.requests").timer());
+    }
+}
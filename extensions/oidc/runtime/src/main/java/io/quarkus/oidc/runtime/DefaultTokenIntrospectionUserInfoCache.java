@@ -34,17 +34,19 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
 
     public DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx) {
         cache = new MemoryCache<CacheEntry>(vertx, oidcConfig.tokenCache().cleanUpTimerInterval(),
-                oidcConfig.tokenCache().timeToLive(), oidcConfig.tokenCache().maxSize());
+                oidcConfig.tokenCache().timeToLive(), oidcConfig.tokenCache().maxSize(),
+                oidcConfig.tokenCache().maxSizePerTenant());
     }
 
     @Override
     public Uni<Void> addIntrospection(String token, TokenIntrospection introspection, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
-        CacheEntry entry = cache.get(token);
+        // not a lookup, the hit and miss counts are left unchanged
+        CacheEntry entry = cache.peek(token);
         if (entry != null) {
             entry.introspection = introspection;
         } else {
-            cache.add(token, new CacheEntry(introspection));
+            cache.add(token, new CacheEntry(introspection), tenantId(oidcTenantConfig));
         }
 
         return CodeAuthenticationMechanism.VOID_UNI;
@@ -66,6 +68,10 @@ public Uni<TokenIntrospection> getIntrospection(String token, OidcTenantConfig o
         return Uni.createFrom().item(entry.introspection);
     }
 
+    private static String tenantId(OidcTenantConfig oidcTenantConfig) {
+        return oidcTenantConfig != null ? oidcTenantConfig.tenantId().orElse(null) : null;
+    }
+
     private static boolean isTokenExpired(Long exp, OidcTenantConfig oidcConfig) {
         final long lifespanGrace = oidcConfig != null ? oidcConfig.token().lifespanGrace().orElse(0) : 0;
         return exp != null
@@ -75,11 +81,12 @@ private static boolean isTokenExpired(Long exp, OidcTenantConfig oidcConfig) {
     @Override
     public Uni<Void> addUserInfo(String token, UserInfo userInfo, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
-        CacheEntry entry = cache.get(token);
+        // not a lookup, the hit and miss counts are left unchanged
+        CacheEntry entry = cache.peek(token);
         if (entry != null) {
             entry.userInfo = userInfo;
         } else {
-            cache.add(token, new CacheEntry(userInfo));
+            cache.add(token, new CacheEntry(userInfo), tenantId(oidcTenantConfig));
         }
 
         return CodeAuthenticationMechanism.VOID_UNI;
@@ -113,6 +120,18 @@ public int getCacheSize() {
         return cache.getCacheSize();
     }
 
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
     void shutdown(@Observes ShutdownEvent event, Vertx vertx) {
         cache.stopTimer(vertx);
     }
@@ -1,27 +1,69 @@
 package io.quarkus.oidc.runtime;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+/**
+ * A bounded in-memory cache whose entries are valid for a fixed amount of time.
+ * <p>
+ * When the cache is full, entries are evicted using a segmented LRU policy. A new entry is placed in the probation
+ * segment and it is promoted to the protected segment when it is accessed again. The least recently used entry of the
+ * probation segment is evicted first, so that a burst of entries which are used only once does not flush the entries
+ * which are used frequently.
+ * <p>
+ * All entries have the same time to live, so they expire in the order they were added. The expired entries are found
+ * by walking the write order queue from its oldest entry, which only visits the expired entries and the first valid
+ * one, and they are also removed when a new entry is added.
+ * <p>
+ * The number of entries which belong to a single tenant can be limited, in which case the oldest entry of the tenant
+ * is evicted when the tenant reaches its quota.
+ * <p>
+ * Lookups do not block. The eviction policy is guarded by a lock; if the lock is contended when an entry is read,
+ * the access is not recorded.
+ */
 public class MemoryCache<T> {
+    private static final int PROTECTED_PERCENTAGE = 80;
+
     private volatile Long timerId = null;
 
     private final Map<String, CacheEntry<T>> cacheMap = new ConcurrentHashMap<>();
-    private final AtomicInteger size = new AtomicInteger();
-    private final Duration cacheTimeToLive;
+    private final ReentrantLock lock = new ReentrantLock();
+    // The following maps are only accessed when holding the lock
+    private final LinkedHashMap<String, CacheEntry<T>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, CacheEntry<T>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, CacheEntry<T>> writeOrder = new LinkedHashMap<>();
+    private final Map<String, LinkedHashMap<String, CacheEntry<T>>> tenants = new HashMap<>();
+
+    private final long timeToLiveMillis;
     private final int cacheSize;
+    private final int maxProtectedSize;
+    private final int maxSizePerTenant;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
 
     public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
             Duration cacheTimeToLive, int cacheSize) {
-        this.cacheTimeToLive = cacheTimeToLive;
+        this(vertx, cleanUpTimerInterval, cacheTimeToLive, cacheSize, 0);
+    }
+
+    public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
+            Duration cacheTimeToLive, int cacheSize, int maxSizePerTenant) {
+        this.timeToLiveMillis = cacheTimeToLive.toMillis();
         this.cacheSize = cacheSize;
+        this.maxProtectedSize = cacheSize * PROTECTED_PERCENTAGE / 100;
+        this.maxSizePerTenant = maxSizePerTenant;
         init(vertx, cleanUpTimerInterval);
     }
 
@@ -38,66 +80,191 @@ public void handle(Long event) {
     }
 
     public void add(String key, T result) {
-        if (cacheSize > 0) {
-            if (!prepareSpaceForNewCacheEntry()) {
-                clearCache();
+        add(key, result, null);
+    }
+
+    /**
+     * Adds a new entry which belongs to the given tenant.
+     *
+     * @param key the key
+     * @param result the value
+     * @param tenantId the tenant id, may be {@code null}
+     */
+    public void add(String key, T result, String tenantId) {
+        if (cacheSize <= 0) {
+            return;
+        }
+        long now = now();
+        CacheEntry<T> entry = new CacheEntry<T>(result, tenantId, now);
+        lock.lock();
+        try {
+            removeExpiredEntries(now);
+            CacheEntry<T> previous = cacheMap.put(key, entry);
+            if (previous != null) {
+                unlink(key, previous);
+            }
+            probation.put(key, entry);
+            writeOrder.put(key, entry);
+            if (tenantId != null && maxSizePerTenant > 0) {
+                LinkedHashMap<String, CacheEntry<T>> tenantEntries = tenants.computeIfAbsent(tenantId,
+                        t -> new LinkedHashMap<>());
+                tenantEntries.put(key, entry);
+                if (tenantEntries.size() > maxSizePerTenant) {
+                    evict(tenantEntries.keySet().iterator().next());
+                }
+            }
+            while (cacheMap.size() > cacheSize) {
+                Map<String, CacheEntry<T>> segment = probation.isEmpty() ? protectedSegment : probation;
+                evict(segment.keySet().iterator().next());
             }
-            cacheMap.put(key, new CacheEntry<T>(result));
+        } finally {
+            lock.unlock();
         }
     }
 
     public T remove(String key) {
-        CacheEntry<T> entry = removeCacheEntry(key);
-        return entry == null ? null : entry.result;
+        CacheEntry<T> entry;
+        lock.lock();
+        try {
+            entry = cacheMap.remove(key);
+            if (entry != null) {
+                unlink(key, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return entry == null || isEntryExpired(entry, now()) ? null : entry.result;
     }
 
     public T get(String key) {
         CacheEntry<T> entry = cacheMap.get(key);
-        return entry == null ? null : entry.result;
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        if (isEntryExpired(entry, now())) {
+            missCount.increment();
+            removeEntry(key, entry);
+            return null;
+        }
+        hitCount.increment();
+        recordAccess(key, entry);
+        return entry.result;
+    }
+
+    /**
+     * Returns the value of a valid entry without recording a hit, a miss or an access, e.g. to update a value in place
+     * before it is looked up.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if there is no valid entry
+     */
+    public T peek(String key) {
+        CacheEntry<T> entry = cacheMap.get(key);
+        return entry == null || isEntryExpired(entry, now()) ? null : entry.result;
     }
 
     public boolean containsKey(String key) {
-        return cacheMap.containsKey(key);
+        CacheEntry<T> entry = cacheMap.get(key);
+        return entry != null && !isEntryExpired(entry, now());
+    }
+
+    private void recordAccess(String key, CacheEntry<T> entry) {
+        if (!lock.tryLock()) {
+            // Another thread is updating the cache, losing the access is cheaper than waiting
+            return;
+        }
+        try {
+            if (cacheMap.get(key) != entry) {
+                // Removed or replaced in the meantime
+                return;
+            }
+            if (entry.protectedSegment) {
+                // Move to the most recently used position
+                protectedSegment.get(key);
+                return;
+            }
+            probation.remove(key);
+            protectedSegment.put(key, entry);
+            entry.protectedSegment = true;
+            if (protectedSegment.size() > maxProtectedSize) {
+                // Demote the least recently used protected entry, it becomes the most recently used probation entry
+                Iterator<Map.Entry<String, CacheEntry<T>>> it = protectedSegment.entrySet().iterator();
+                Map.Entry<String, CacheEntry<T>> demoted = it.next();
+                it.remove();
+                demoted.getValue().protectedSegment = false;
+                probation.put(demoted.getKey(), demoted.getValue());
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
     private void removeInvalidEntries() {
-        long now = now();
-        for (Iterator<Map.Entry<String, CacheEntry<T>>> it = cacheMap.entrySet().iterator(); it.hasNext();) {
+        lock.lock();
+        try {
+            removeExpiredEntries(now());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeExpiredEntries(long now) {
+        for (Iterator<Map.Entry<String, CacheEntry<T>>> it = writeOrder.entrySet().iterator(); it.hasNext();) {
             Map.Entry<String, CacheEntry<T>> next = it.next();
-            if (next != null) {
-                if (isEntryExpired(next.getValue(), now)) {
-                    try {
-                        it.remove();
-                        size.decrementAndGet();
-                    } catch (IllegalStateException ex) {
-                        // continue
-                    }
-                }
+            if (!isEntryExpired(next.getValue(), now)) {
+                // Entries are ordered by the creation time
+                return;
             }
+            it.remove();
+            cacheMap.remove(next.getKey(), next.getValue());
+            unlinkPolicy(next.getKey(), next.getValue());
         }
     }
 
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheSize) {
-                return false;
+    private void removeEntry(String key, CacheEntry<T> entry) {
+        lock.lock();
+        try {
+            if (cacheMap.remove(key, entry)) {
+                unlink(key, entry);
             }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
+        } finally {
+            lock.unlock();
+        }
     }
 
-    private CacheEntry<T> removeCacheEntry(String token) {
-        CacheEntry<T> entry = cacheMap.remove(token);
+    private void evict(String key) {
+        CacheEntry<T> entry = cacheMap.remove(key);
         if (entry != null) {
-            size.decrementAndGet();
+            unlink(key, entry);
+            evictionCount.increment();
+        }
+    }
+
+    private void unlink(String key, CacheEntry<T> entry) {
+        writeOrder.remove(key, entry);
+        unlinkPolicy(key, entry);
+    }
+
+    private void unlinkPolicy(String key, CacheEntry<T> entry) {
+        if (entry.protectedSegment) {
+            protectedSegment.remove(key, entry);
+        } else {
+            probation.remove(key, entry);
+        }
+        if (entry.tenantId != null && maxSizePerTenant > 0) {
+            LinkedHashMap<String, CacheEntry<T>> tenantEntries = tenants.get(entry.tenantId);
+            if (tenantEntries != null) {
+                tenantEntries.remove(key, entry);
+                if (tenantEntries.isEmpty()) {
+                    tenants.remove(entry.tenantId);
+                }
+            }
         }
-        return entry;
     }
 
     private boolean isEntryExpired(CacheEntry<T> entry, long now) {
-        return entry.createdTime + cacheTimeToLive.toMillis() < now;
+        return entry.createdTime + timeToLiveMillis < now;
     }
 
     private static long now() {
@@ -105,11 +272,16 @@ private static long now() {
     }
 
     private static class CacheEntry<T> {
-        volatile T result;
-        long createdTime = System.currentTimeMillis();
+        final T result;
+        final String tenantId;
+        final long createdTime;
+        // Guarded by the cache lock
+        boolean protectedSegment;
 
-        public CacheEntry(T result) {
+        CacheEntry(T result, String tenantId, long createdTime) {
             this.result = result;
+            this.tenantId = tenantId;
+            this.createdTime = createdTime;
         }
     }
 
@@ -117,9 +289,38 @@ public int getCacheSize() {
         return cacheMap.size();
     }
 
+    /**
+     * @return the number of lookups which returned a valid entry
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of lookups which did not return a valid entry
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the number of entries evicted because the cache or a tenant quota was full
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
     public void clearCache() {
-        cacheMap.clear();
-        size.set(0);
+        lock.lock();
+        try {
+            cacheMap.clear();
+            probation.clear();
+            protectedSegment.clear();
+            writeOrder.clear();
+            tenants.clear();
+        } finally {
+            lock.unlock();
+        }
     }
 
     public void stopTimer(Vertx vertx) {
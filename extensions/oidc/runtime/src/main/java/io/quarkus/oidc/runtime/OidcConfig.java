@@ -54,6 +54,14 @@ interface TokenCache {
         @WithDefault("0")
         int maxSize();
 
+        /**
+         * Maximum number of cache entries which may belong to a single tenant.
+         * If a tenant reaches this limit then its oldest entry is evicted.
+         * If it is not set to a positive value then a single tenant may occupy the whole cache.
+         */
+        @WithDefault("0")
+        int maxSizePerTenant();
+
         /**
          * Maximum amount of time a given cache entry is valid for.
          */
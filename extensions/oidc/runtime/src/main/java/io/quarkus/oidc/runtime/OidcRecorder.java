@@ -23,6 +23,7 @@
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.annotations.RuntimeInit;
 import io.quarkus.runtime.annotations.StaticInit;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.runtime.SecurityConfig;
 import io.quarkus.tls.TlsConfigurationRegistry;
@@ -53,6 +54,28 @@ public DefaultTokenIntrospectionUserInfoCache get() {
         };
     }
 
+    public Consumer<MetricsFactory> registerTokenCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                DefaultTokenIntrospectionUserInfoCache cache = Arc.container()
+                        .instance(DefaultTokenIntrospectionUserInfoCache.class).get();
+                metricsFactory.builder("oidc.token.cache.size")
+                        .description("Number of entries in the token introspection and UserInfo cache.")
+                        .buildGauge(cache::getCacheSize);
+                metricsFactory.builder("oidc.token.cache.hits")
+                        .description("Number of token introspection and UserInfo cache lookups which found an entry.")
+                        .buildCounter(cache::getHitCount);
+                metricsFactory.builder("oidc.token.cache.misses")
+                        .description("Number of token introspection and UserInfo cache lookups which found no entry.")
+                        .buildCounter(cache::getMissCount);
+                metricsFactory.builder("oidc.token.cache.evictions")
+                        .description("Number of entries evicted from the token introspection and UserInfo cache.")
+                        .buildCounter(cache::getEvictionCount);
+            }
+        };
+    }
+
     @StaticInit
     public void setUserInfoInjectionPointDetected(boolean userInfoInjectionPointDetected) {
         TenantContextFactory.userInfoInjectionPointDetected = userInfoInjectionPointDetected;
@@ -80,15 +80,77 @@ public void testAddWhenMaxCacheSizeIsReached() throws Exception {
         cache.add("2", new Bean("2"));
         assertEquals(2, cache.getCacheSize());
 
-        // Currently, if the cache is full and a new entry has to be added, then the whole cache is cleared
-        // It can be optimized to remove the oldest entry only in the future
-
+        // If the cache is full and a new entry has to be added, then the least recently used entry is evicted
         cache.add("3", new Bean("3"));
-        assertEquals(1, cache.getCacheSize());
+        assertEquals(2, cache.getCacheSize());
 
         assertNull(cache.get("1"));
-        assertNull(cache.get("2"));
+        assertEquals("2", cache.get("2").name);
         assertEquals("3", cache.get("3").name);
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testFrequentlyUsedEntriesAreRetained() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(1), 10);
+        for (int i = 0; i < 5; i++) {
+            cache.add("frequent" + i, new Bean("frequent" + i));
+            // the second access promotes the entry to the protected segment
+            assertEquals("frequent" + i, cache.get("frequent" + i).name);
+        }
+
+        // a burst of entries which are used only once
+        for (int i = 0; i < 100; i++) {
+            cache.add("once" + i, new Bean("once" + i));
+        }
+        assertEquals(10, cache.getCacheSize());
+        assertEquals(95, cache.getEvictionCount());
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("frequent" + i, cache.get("frequent" + i).name);
+        }
+        assertNull(cache.get("once0"));
+        assertEquals("once99", cache.get("once99").name);
+
+        assertEquals(11, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testMaxSizePerTenant() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(1), 10, 2);
+        cache.add("a1", new Bean("a1"), "a");
+        cache.add("b1", new Bean("b1"), "b");
+        cache.add("a2", new Bean("a2"), "a");
+        cache.add("a3", new Bean("a3"), "a");
+
+        // the oldest entry of the tenant 'a' is evicted
+        assertEquals(3, cache.getCacheSize());
+        assertNull(cache.get("a1"));
+        assertEquals("a2", cache.get("a2").name);
+        assertEquals("a3", cache.get("a3").name);
+        assertEquals("b1", cache.get("b1").name);
+    }
+
+    @Test
+    public void testExpiredEntriesAreNotReturned() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMillis(100), 10);
+        cache.add("1", new Bean("1"));
+        assertTrue(cache.containsKey("1"));
+
+        await().atMost(Duration.ofSeconds(5)).until(new Callable<Boolean>() {
+
+            @Override
+            public Boolean call() throws Exception {
+                return !cache.containsKey("1");
+            }
+
+        });
+        assertNull(cache.get("1"));
+        assertEquals(0, cache.getCacheSize());
     }
 
     static class Bean {
@@ -1,6 +1,7 @@
 package io.quarkus.oidc.runtime;
 
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -14,6 +15,7 @@
 
 import io.quarkus.oidc.TokenIntrospection;
 import io.quarkus.oidc.TokenIntrospectionCache;
+import io.quarkus.oidc.UserInfo;
 
 public class TokenIntrospectionCacheTest {
     TokenIntrospectionCache cache = new DefaultTokenIntrospectionUserInfoCache(createOidcConfig(), null);
@@ -47,14 +49,30 @@ public Boolean call() throws Exception {
         assertNull(cache.getIntrospection("tokenValidFor3secs", null, null).await().indefinitely());
     }
 
+    @Test
+    public void testAddingEntriesDoesNotRecordLookups() {
+        DefaultTokenIntrospectionUserInfoCache cache = new DefaultTokenIntrospectionUserInfoCache(createOidcConfig(), null);
+
+        cache.addIntrospection("token", new TokenIntrospection("{\"active\": true}"), null, null);
+        cache.addUserInfo("token", new UserInfo("{\"sub\": \"alice\"}"), null, null);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+
+        assertNotNull(cache.getIntrospection("token", null, null).await().indefinitely());
+        assertNotNull(cache.getUserInfo("token", null, null).await().indefinitely());
+        assertNull(cache.getUserInfo("other", null, null).await().indefinitely());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
     private static OidcConfig createOidcConfig() {
         record OidcConfigImpl(OidcTenantConfig defaultTenant, Map<String, OidcTenantConfig> namedTenants, TokenCache tokenCache,
                 boolean resolveTenantsWithIssuer) implements OidcConfig {
         }
-        record TokenCacheImpl(int maxSize, Duration timeToLive,
+        record TokenCacheImpl(int maxSize, int maxSizePerTenant, Duration timeToLive,
                 Optional<Duration> cleanUpTimerInterval) implements OidcConfig.TokenCache {
         }
-        var tokenCache = new TokenCacheImpl(2, Duration.ofMinutes(3), Optional.empty());
+        var tokenCache = new TokenCacheImpl(2, 0, Duration.ofMinutes(3), Optional.empty());
         return new OidcConfigImpl(null, Map.of(), tokenCache, false);
     }
 }
@@ -44,4 +44,28 @@ public interface BatchSpanProcessorConfig {
     @WithName("export.timeout")
     @WithDefault("30s")
     Duration exportTimeout();
+
+    /**
+     * Whether the spans are exported by a processor adapting the size of the batches to the latency of the exporter,
+     * instead of the SDK Batch Span Processor.
+     * <p>
+     * The ended spans are queued in a lock-free ring buffer of `max.queue.size` spans. The batch size starts at
+     * `max.export.batch.size`, is halved when an export fails or takes longer than `adaptive.target.export.latency`,
+     * and grows again while the exports are fast. The processor reports the `queueSize`, `exportBatchSize`,
+     * `processedSpans` and `exportedBytes` metrics through the OpenTelemetry metrics.
+     * <p>
+     * Only applies to the OTLP exporter provided by Quarkus.
+     */
+    @WithName("adaptive.enabled")
+    @WithDefault("false")
+    boolean adaptiveEnabled();
+
+    /**
+     * The export latency the adaptive span processor aims for, see `adaptive.enabled`.
+     * <p>
+     * Default is `1s`.
+     */
+    @WithName("adaptive.target.export.latency")
+    @WithDefault("1s")
+    Duration adaptiveTargetExportLatency();
 }
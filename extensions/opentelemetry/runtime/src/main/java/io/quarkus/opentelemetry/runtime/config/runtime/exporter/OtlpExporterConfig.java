@@ -50,6 +50,18 @@ public interface OtlpExporterConfig {
      */
     Optional<CompressionType> compression();
 
+    /**
+     * Sets the level of the `gzip` compression, from `0` (no compression) to `9` (best compression). If unset, the
+     * default level of the JDK is used.
+     * <p>
+     * Only applies to the `http/protobuf` protocol, the gRPC client always uses the default level.
+     * <p>
+     * There is a generic property, that will apply to all signals and a signal specific one, following the pattern:
+     * `quarkus.otel.exporter.otlp.<signal-type>.compression-level` where <signal-type> is one of the supported signal
+     * types, like `traces` or `metrics`.
+     */
+    OptionalInt compressionLevel();
+
     /**
      * Sets the maximum time to wait for the collector to process an exported batch of telemetry data. If
      * unset, defaults to {@value OtlpExporterRuntimeConfig#DEFAULT_TIMEOUT_SECS}s.
@@ -13,11 +13,14 @@
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
+import java.util.zip.Deflater;
 
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.util.TypeLiteral;
 
+import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterBuilderUtil;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
@@ -39,6 +42,9 @@
 import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
 import io.opentelemetry.sdk.trace.export.SimpleSpanProcessorBuilder;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.BatchSpanProcessorConfig;
@@ -52,6 +58,7 @@
 import io.quarkus.opentelemetry.runtime.exporter.otlp.metrics.VertxHttpMetricsExporter;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.sender.VertxGrpcSender;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.sender.VertxHttpSender;
+import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.AdaptiveBatchSpanProcessor;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.LateBoundSpanProcessor;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.RemoveableLateBoundSpanProcessor;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.VertxGrpcSpanExporter;
@@ -108,13 +115,22 @@ public LateBoundSpanProcessor apply(
                     var spanExporter = createSpanExporter(exporterRuntimeConfig.getValue(), vertx.get(), baseUri,
                             tlsConfigurationRegistry);
 
+                    BatchSpanProcessorConfig bspc = runtimeConfig.getValue().bsp();
                     if (buildConfig.simple()) {
                         SimpleSpanProcessorBuilder processorBuilder = SimpleSpanProcessor.builder(spanExporter);
                         return new LateBoundSpanProcessor(processorBuilder.build());
+                    } else if (bspc.adaptiveEnabled()) {
+                        return new LateBoundSpanProcessor(AdaptiveBatchSpanProcessor.create(spanExporter,
+                                bspc.scheduleDelay(),
+                                bspc.maxQueueSize(),
+                                bspc.maxExportBatchSize(),
+                                bspc.exportTimeout(),
+                                bspc.adaptiveTargetExportLatency(),
+                                new MeterProviderSupplier(),
+                                sentBytes(spanExporter)));
                     } else {
                         BatchSpanProcessorBuilder processorBuilder = BatchSpanProcessor.builder(spanExporter);
 
-                        BatchSpanProcessorConfig bspc = runtimeConfig.getValue().bsp();
                         processorBuilder.setScheduleDelay(bspc.scheduleDelay());
                         processorBuilder.setMaxQueueSize(bspc.maxQueueSize());
                         processorBuilder.setMaxExportBatchSize(bspc.maxExportBatchSize());
@@ -155,18 +171,20 @@ private SpanExporter createOtlpGrpcSpanExporter(OtlpExporterRuntimeConfig export
 
                 OtlpExporterTracesConfig tracesConfig = exporterRuntimeConfig.traces();
 
+                VertxGrpcSender sender = new VertxGrpcSender(
+                        baseUri,
+                        VertxGrpcSender.GRPC_TRACE_SERVICE_NAME,
+                        determineCompression(tracesConfig),
+                        tracesConfig.timeout(),
+                        populateTracingExportHttpHeaders(tracesConfig),
+                        new HttpClientOptionsConsumer(tracesConfig, baseUri, tlsConfigurationRegistry),
+                        vertx);
                 return new VertxGrpcSpanExporter(new GrpcExporter<TraceRequestMarshaler>(
                         OTLP_VALUE, // use the same as OTel does
                         "span", // use the same as OTel does
-                        new VertxGrpcSender(
-                                baseUri,
-                                VertxGrpcSender.GRPC_TRACE_SERVICE_NAME,
-                                determineCompression(tracesConfig),
-                                tracesConfig.timeout(),
-                                populateTracingExportHttpHeaders(tracesConfig),
-                                new HttpClientOptionsConsumer(tracesConfig, baseUri, tlsConfigurationRegistry),
-                                vertx),
-                        MeterProvider::noop));
+                        sender,
+                        MeterProvider::noop),
+                        sender::sentBytes);
             }
 
             private SpanExporter createHttpSpanExporter(OtlpExporterRuntimeConfig exporterRuntimeConfig, Vertx vertx,
@@ -177,20 +195,23 @@ private SpanExporter createHttpSpanExporter(OtlpExporterRuntimeConfig exporterRu
 
                 boolean exportAsJson = false; //TODO: this will be enhanced in the future
 
+                VertxHttpSender sender = new VertxHttpSender(
+                        baseUri,
+                        VertxHttpSender.TRACES_PATH,
+                        determineCompression(tracesConfig),
+                        determineCompressionLevel(tracesConfig),
+                        tracesConfig.timeout(),
+                        populateTracingExportHttpHeaders(tracesConfig),
+                        exportAsJson ? "application/json" : "application/x-protobuf",
+                        new HttpClientOptionsConsumer(tracesConfig, baseUri, tlsConfigurationRegistry),
+                        vertx);
                 return new VertxHttpSpanExporter(new HttpExporter<TraceRequestMarshaler>(
                         OTLP_VALUE, // use the same as OTel does
                         "span", // use the same as OTel does
-                        new VertxHttpSender(
-                                baseUri,
-                                VertxHttpSender.TRACES_PATH,
-                                determineCompression(tracesConfig),
-                                tracesConfig.timeout(),
-                                populateTracingExportHttpHeaders(tracesConfig),
-                                exportAsJson ? "application/json" : "application/x-protobuf",
-                                new HttpClientOptionsConsumer(tracesConfig, baseUri, tlsConfigurationRegistry),
-                                vertx),
+                        sender,
                         MeterProvider::noop,
-                        exportAsJson));
+                        exportAsJson),
+                        sender::sentBytes);
             }
         };
     }
@@ -245,6 +266,7 @@ public MetricExporter apply(SyntheticCreationalContext<MetricExporter> context)
                                                 baseUri,
                                                 VertxHttpSender.METRICS_PATH,
                                                 determineCompression(metricsConfig),
+                                                determineCompressionLevel(metricsConfig),
                                                 metricsConfig.timeout(),
                                                 populateTracingExportHttpHeaders(metricsConfig),
                                                 exportAsJson ? "application/json" : "application/x-protobuf",
@@ -315,6 +337,7 @@ public LogRecordExporter apply(SyntheticCreationalContext<LogRecordExporter> con
                                                 baseUri,
                                                 VertxHttpSender.LOGS_PATH,
                                                 determineCompression(logsConfig),
+                                                determineCompressionLevel(logsConfig),
                                                 logsConfig.timeout(),
                                                 populateTracingExportHttpHeaders(logsConfig),
                                                 exportAsJson ? "application/json" : "application/x-protobuf",
@@ -376,6 +399,27 @@ private static boolean determineCompression(OtlpExporterConfig config) {
         return false;
     }
 
+    private static int determineCompressionLevel(OtlpExporterConfig config) {
+        if (config.compressionLevel().isPresent()) {
+            int level = config.compressionLevel().getAsInt();
+            if (level < 0 || level > 9) {
+                throw new ConfigurationException("Invalid OTLP compression level " + level
+                        + ", it must be between 0 and 9");
+            }
+            return level;
+        }
+        return Deflater.DEFAULT_COMPRESSION;
+    }
+
+    private static LongSupplier sentBytes(SpanExporter spanExporter) {
+        if (spanExporter instanceof VertxHttpSpanExporter httpSpanExporter) {
+            return httpSpanExporter::sentBytes;
+        } else if (spanExporter instanceof VertxGrpcSpanExporter grpcSpanExporter) {
+            return grpcSpanExporter::sentBytes;
+        }
+        return () -> 0;
+    }
+
     private static Map<String, String> populateTracingExportHttpHeaders(OtlpExporterConfig config) {
         Map<String, String> headersMap = new HashMap<>();
         OtlpUserAgent.addUserAgentHeader(headersMap::put);
@@ -587,4 +631,20 @@ private void configureTrustOptions(HttpClientOptions options) {
             }
         }
     }
+
+    /**
+     * Resolves the meter provider of the application lazily, it is not available yet when the span processor is created.
+     */
+    private static final class MeterProviderSupplier implements Supplier<MeterProvider> {
+
+        @Override
+        public MeterProvider get() {
+            ArcContainer container = Arc.container();
+            if (container == null) {
+                return MeterProvider.noop();
+            }
+            InstanceHandle<OpenTelemetry> openTelemetry = container.instance(OpenTelemetry.class);
+            return openTelemetry.isAvailable() ? openTelemetry.get().getMeterProvider() : MeterProvider.noop();
+        }
+    }
 }
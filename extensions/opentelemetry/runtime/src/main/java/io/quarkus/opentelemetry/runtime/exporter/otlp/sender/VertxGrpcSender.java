@@ -10,6 +10,7 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -63,6 +64,7 @@ public final class VertxGrpcSender implements GrpcSender {
     private final Map<String, String> headers;
     private final String grpcEndpointPath;
     private final Duration exportTimeout;
+    private final LongAdder sentBytes = new LongAdder();
 
     private final GrpcClient client;
 
@@ -87,6 +89,13 @@ public VertxGrpcSender(
         this.client = GrpcClient.client(vertx, httpClientOptions);
     }
 
+    /**
+     * @return the number of bytes of the serialized messages sent by this sender, before gRPC compression
+     */
+    public long sentBytes() {
+        return sentBytes.sum();
+    }
+
     @Override
     public void send(Marshaler request, Consumer onSuccess, Consumer onError) {
         if (isShutdown.get()) {
@@ -97,7 +106,7 @@ public void send(Marshaler request, Consumer onSuccess, Consumer onError) {
         var onSuccessHandler = new ClientRequestOnSuccessHandler(client, server, headers, compressionEnabled,
                 request,
                 loggedUnimplemented, logger, marshalerType, onSuccess, onError, 1, grpcEndpointPath,
-                isShutdown::get, exportTimeout);
+                isShutdown::get, exportTimeout, sentBytes);
 
         initiateSend(client, server, MAX_ATTEMPTS, onSuccessHandler, exportTimeout, new Consumer<>() {
             @Override
@@ -206,6 +215,7 @@ private static final class ClientRequestOnSuccessHandler implements Handler<Grpc
         private final int attemptNumber;
         private final Supplier<Boolean> isShutdown;
         private final Duration exportTimeout;
+        private final LongAdder sentBytes;
 
         public ClientRequestOnSuccessHandler(GrpcClient client,
                 SocketAddress server,
@@ -220,7 +230,8 @@ public ClientRequestOnSuccessHandler(GrpcClient client,
                 int attemptNumber,
                 String grpcEndpointPath,
                 Supplier<Boolean> isShutdown,
-                Duration exportTimeout) {
+                Duration exportTimeout,
+                LongAdder sentBytes) {
             this.client = client;
             this.server = server;
             this.grpcEndpointPath = grpcEndpointPath;
@@ -235,6 +246,7 @@ public ClientRequestOnSuccessHandler(GrpcClient client,
             this.attemptNumber = attemptNumber;
             this.isShutdown = isShutdown;
             this.exportTimeout = exportTimeout;
+            this.sentBytes = sentBytes;
         }
 
         @Override
@@ -262,6 +274,7 @@ public void handle(GrpcClientRequest<Buffer, Buffer> request) {
                 request.send(buffer).onSuccess(new Handler<>() {
                     @Override
                     public void handle(GrpcClientResponse<Buffer, Buffer> response) {
+                        sentBytes.add(messageSize);
                         response.exceptionHandler(new Handler<>() {
                             @Override
                             public void handle(Throwable t) {
@@ -449,7 +462,7 @@ private void failOnClientRequest(Throwable t, Consumer<Throwable> onError, int a
         public ClientRequestOnSuccessHandler newAttempt() {
             return new ClientRequestOnSuccessHandler(client, server, headers, compressionEnabled, marshaler,
                     loggedUnimplemented, logger, type, onSuccess, onError, attemptNumber + 1,
-                    grpcEndpointPath, isShutdown, exportTimeout);
+                    grpcEndpointPath, isShutdown, exportTimeout, sentBytes);
         }
     }
 }
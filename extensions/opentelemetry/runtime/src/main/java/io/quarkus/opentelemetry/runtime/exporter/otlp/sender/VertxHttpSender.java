@@ -10,13 +10,18 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPOutputStream;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.opentelemetry.exporter.internal.http.HttpSender;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
@@ -48,25 +53,46 @@ public final class VertxHttpSender implements HttpSender {
 
     private final String basePath;
     private final boolean compressionEnabled;
+    private final int compressionLevel;
     private final Map<String, String> headers;
     private final String contentType;
     private final HttpClient client;
     private final String signalPath;
+    private final LongAdder sentBytes = new LongAdder();
+    private final ByteBufAllocator allocator;
 
     public VertxHttpSender(
             URI baseUri,
             String signalPath,
             boolean compressionEnabled,
+            int compressionLevel,
             Duration timeout,
             Map<String, String> headersMap,
             String contentType,
             Consumer<HttpClientOptions> clientOptionsCustomizer,
             Vertx vertx) {
+        this(baseUri, signalPath, compressionEnabled, compressionLevel, timeout, headersMap, contentType,
+                clientOptionsCustomizer, vertx, PooledByteBufAllocator.DEFAULT);
+    }
+
+    VertxHttpSender(
+            URI baseUri,
+            String signalPath,
+            boolean compressionEnabled,
+            int compressionLevel,
+            Duration timeout,
+            Map<String, String> headersMap,
+            String contentType,
+            Consumer<HttpClientOptions> clientOptionsCustomizer,
+            Vertx vertx,
+            ByteBufAllocator allocator) {
         this.basePath = determineBasePath(baseUri);
         this.signalPath = signalPath;
         this.compressionEnabled = compressionEnabled;
+        this.compressionLevel = compressionLevel;
         this.headers = headersMap;
         this.contentType = contentType;
+        this.allocator = allocator;
         var httpClientOptions = new HttpClientOptions()
                 .setReadIdleTimeout((int) timeout.getSeconds())
                 .setDefaultHost(baseUri.getHost())
@@ -79,6 +105,13 @@ public VertxHttpSender(
     private final AtomicBoolean isShutdown = new AtomicBoolean();
     private final CompletableResultCode shutdownResult = new CompletableResultCode();
 
+    /**
+     * @return the number of bytes of the request bodies sent by this sender, after compression
+     */
+    public long sentBytes() {
+        return sentBytes.sum();
+    }
+
     private static String determineBasePath(URI baseUri) {
         String path = baseUri.getPath();
         if (path.isEmpty() || path.equals("/")) {
@@ -105,9 +138,9 @@ public void send(Marshaler marshaler,
         String marshalerType = marshaler.getClass().getSimpleName();
         String requestURI = basePath + signalPath;
         var clientRequestSuccessHandler = new ClientRequestSuccessHandler(client, requestURI, headers, compressionEnabled,
-                contentType,
+                compressionLevel, contentType,
                 contentLength, onHttpResponseRead,
-                onError, marshaler, 1, isShutdown::get);
+                onError, marshaler, 1, isShutdown::get, sentBytes, allocator);
         initiateSend(client, requestURI, MAX_ATTEMPTS, clientRequestSuccessHandler, new Consumer<>() {
             @Override
             public void accept(Throwable throwable) {
@@ -200,6 +233,7 @@ private static class ClientRequestSuccessHandler implements Handler<HttpClientRe
         private final String requestURI;
         private final Map<String, String> headers;
         private final boolean compressionEnabled;
+        private final int compressionLevel;
         private final String contentType;
         private final int contentLength;
         private final Consumer<Response> onHttpResponseRead;
@@ -208,21 +242,27 @@ private static class ClientRequestSuccessHandler implements Handler<HttpClientRe
 
         private final int attemptNumber;
         private final Supplier<Boolean> isShutdown;
+        private final LongAdder sentBytes;
+        private final ByteBufAllocator allocator;
 
         public ClientRequestSuccessHandler(HttpClient client,
                 String requestURI, Map<String, String> headers,
                 boolean compressionEnabled,
+                int compressionLevel,
                 String contentType,
                 int contentLength,
                 Consumer<Response> onHttpResponseRead,
                 Consumer<Throwable> onError,
                 Marshaler marshaler,
                 int attemptNumber,
-                Supplier<Boolean> isShutdown) {
+                Supplier<Boolean> isShutdown,
+                LongAdder sentBytes,
+                ByteBufAllocator allocator) {
             this.client = client;
             this.requestURI = requestURI;
             this.headers = headers;
             this.compressionEnabled = compressionEnabled;
+            this.compressionLevel = compressionLevel;
             this.contentType = contentType;
             this.contentLength = contentLength;
             this.onHttpResponseRead = onHttpResponseRead;
@@ -230,6 +270,8 @@ public ClientRequestSuccessHandler(HttpClient client,
             this.marshaler = marshaler;
             this.attemptNumber = attemptNumber;
             this.isShutdown = isShutdown;
+            this.sentBytes = sentBytes;
+            this.allocator = allocator;
         }
 
         @Override
@@ -299,36 +341,62 @@ public byte[] responseBody() {
             })
                     .putHeader("Content-Type", contentType);
 
-            Buffer buffer = Buffer.buffer(contentLength);
-            OutputStream os = new BufferOutputStream(buffer);
-            if (compressionEnabled) {
-                clientRequest.putHeader("Content-Encoding", "gzip");
-                try (var gzos = new GZIPOutputStream(os)) {
-                    marshaler.writeBinaryTo(gzos);
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
-                }
-            } else {
-                try {
+            // serialize into a pooled direct buffer: it is written to the socket without being copied,
+            // and it is released once the request has been sent
+            ByteBuf byteBuf = allocator.directBuffer(contentLength);
+            Buffer buffer = Buffer.buffer(byteBuf);
+            try {
+                OutputStream os = new BufferOutputStream(buffer);
+                if (compressionEnabled) {
+                    clientRequest.putHeader("Content-Encoding", "gzip");
+                    try (var gzos = new LevelGZIPOutputStream(os, compressionLevel)) {
+                        marshaler.writeBinaryTo(gzos);
+                    }
+                } else {
                     marshaler.writeBinaryTo(os);
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
                 }
-            }
 
-            if (!headers.isEmpty()) {
-                for (var entry : headers.entrySet()) {
-                    clientRequest.putHeader(entry.getKey(), entry.getValue());
+                if (!headers.isEmpty()) {
+                    for (var entry : headers.entrySet()) {
+                        clientRequest.putHeader(entry.getKey(), entry.getValue());
+                    }
                 }
+            } catch (IOException e) {
+                byteBuf.release();
+                throw new IllegalStateException(e);
+            } catch (RuntimeException | Error e) {
+                // the buffer is only released by the request once it has been handed off
+                byteBuf.release();
+                throw e;
             }
 
-            clientRequest.send(buffer);
+            int length = buffer.length();
+            // the response handler is already set, end() completes once the body has been written
+            clientRequest.end(buffer).onComplete(new Handler<>() {
+                @Override
+                public void handle(AsyncResult<Void> result) {
+                    byteBuf.release();
+                    if (result.succeeded()) {
+                        sentBytes.add(length);
+                    }
+                }
+            });
         }
 
         public ClientRequestSuccessHandler newAttempt() {
             return new ClientRequestSuccessHandler(client, requestURI, headers, compressionEnabled,
-                    contentType, contentLength, onHttpResponseRead,
-                    onError, marshaler, attemptNumber + 1, isShutdown);
+                    compressionLevel, contentType, contentLength, onHttpResponseRead,
+                    onError, marshaler, attemptNumber + 1, isShutdown, sentBytes, allocator);
+        }
+    }
+
+    private static final class LevelGZIPOutputStream extends GZIPOutputStream {
+
+        LevelGZIPOutputStream(OutputStream out, int level) throws IOException {
+            super(out);
+            if (level != Deflater.DEFAULT_COMPRESSION) {
+                def.setLevel(level);
+            }
         }
     }
 }
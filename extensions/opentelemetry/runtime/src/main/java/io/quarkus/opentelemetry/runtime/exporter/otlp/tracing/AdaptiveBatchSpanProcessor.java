@@ -0,0 +1,305 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.tracing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.netty.util.internal.PlatformDependent;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * A {@link SpanProcessor} exporting the sampled spans in batches, like the SDK
+ * {@link io.opentelemetry.sdk.trace.export.BatchSpanProcessor}, with the following differences:
+ * <ul>
+ * <li>The ended spans are queued in a bounded lock-free MPSC ring buffer, so the application threads never block on a
+ * lock when a span ends, even when the queue is full and the span is dropped.</li>
+ * <li>The size of the batches adapts to the latency of the exporter: it is halved when an export fails or takes more
+ * than the target latency, and grows again, up to the maximum batch size, while the exports are fast and the queue
+ * fills the batches.</li>
+ * <li>The queue size, the current batch size, the number of processed and dropped spans, and the number of bytes sent
+ * by the exporter are reported through the {@link MeterProvider} of the application.</li>
+ * </ul>
+ */
+public final class AdaptiveBatchSpanProcessor implements SpanProcessor {
+    private static final Logger log = Logger.getLogger(AdaptiveBatchSpanProcessor.class);
+
+    private static final String WORKER_THREAD_NAME = "quarkus-otel-span-export";
+    private static final AttributeKey<String> PROCESSOR_TYPE = AttributeKey.stringKey("processorType");
+    private static final AttributeKey<Boolean> DROPPED = AttributeKey.booleanKey("dropped");
+    private static final String PROCESSOR_TYPE_VALUE = AdaptiveBatchSpanProcessor.class.getSimpleName();
+    private static final int MIN_BATCH_SIZE = 32;
+
+    private final SpanExporter exporter;
+    private final long scheduleDelayNanos;
+    private final int maxExportBatchSize;
+    private final int minExportBatchSize;
+    private final long exportTimeoutNanos;
+    private final long targetExportLatencyNanos;
+    private final Supplier<MeterProvider> meterProvider;
+    private final LongSupplier sentBytes;
+
+    private final Queue<ReadableSpan> queue;
+    private final LongAdder droppedSpans = new LongAdder();
+    private final LongAdder exportedSpans = new LongAdder();
+    private final AtomicBoolean workerParked = new AtomicBoolean();
+    private final AtomicReference<CompletableResultCode> flushRequested = new AtomicReference<>();
+    private final CompletableResultCode shutdownResult = new CompletableResultCode();
+    private final Thread worker;
+
+    private volatile int exportBatchSize;
+    private volatile boolean shutdown;
+    private boolean metricsRegistered;
+
+    private AdaptiveBatchSpanProcessor(SpanExporter exporter, Duration scheduleDelay, int maxQueueSize,
+            int maxExportBatchSize, Duration exportTimeout, Duration targetExportLatency,
+            Supplier<MeterProvider> meterProvider, LongSupplier sentBytes) {
+        this.exporter = exporter;
+        this.scheduleDelayNanos = scheduleDelay.toNanos();
+        this.maxExportBatchSize = maxExportBatchSize;
+        this.minExportBatchSize = Math.min(MIN_BATCH_SIZE, maxExportBatchSize);
+        this.exportTimeoutNanos = exportTimeout.toNanos();
+        this.targetExportLatencyNanos = targetExportLatency.toNanos();
+        this.meterProvider = meterProvider;
+        this.sentBytes = sentBytes;
+        this.queue = PlatformDependent.newFixedMpscQueue(maxQueueSize);
+        this.exportBatchSize = maxExportBatchSize;
+        this.worker = new Thread(this::work, WORKER_THREAD_NAME);
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * Creates a processor and starts its worker thread.
+     */
+    public static AdaptiveBatchSpanProcessor create(SpanExporter exporter, Duration scheduleDelay, int maxQueueSize,
+            int maxExportBatchSize, Duration exportTimeout, Duration targetExportLatency,
+            Supplier<MeterProvider> meterProvider, LongSupplier sentBytes) {
+        AdaptiveBatchSpanProcessor processor = new AdaptiveBatchSpanProcessor(exporter, scheduleDelay, maxQueueSize,
+                maxExportBatchSize, exportTimeout, targetExportLatency, meterProvider, sentBytes);
+        // started once the processor is fully constructed
+        processor.worker.start();
+        return processor;
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (span == null || !span.getSpanContext().isSampled()) {
+            return;
+        }
+        if (shutdown || !queue.offer(span)) {
+            droppedSpans.increment();
+            return;
+        }
+        if (queue.size() >= exportBatchSize) {
+            wakeUpWorker();
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        if (shutdown) {
+            return shutdownResult;
+        }
+        CompletableResultCode result = new CompletableResultCode();
+        // the worker takes the request before it looks at the queue, so a pending request that is not taken yet
+        // also covers the spans queued so far
+        CompletableResultCode pending = flushRequested.compareAndExchange(null, result);
+        LockSupport.unpark(worker);
+        if (shutdown) {
+            // the worker may have stopped before taking the request, the shutdown exports the queued spans
+            return shutdownResult;
+        }
+        return pending != null ? pending : result;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (!shutdown) {
+            shutdown = true;
+            LockSupport.unpark(worker);
+        }
+        return shutdownResult;
+    }
+
+    private void wakeUpWorker() {
+        // only the first producer noticing a full batch unparks the worker
+        if (workerParked.compareAndSet(true, false)) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void work() {
+        List<SpanData> batch = new ArrayList<>(maxExportBatchSize);
+        long nextExportTime = System.nanoTime() + scheduleDelayNanos;
+        while (!shutdown) {
+            CompletableResultCode flush = flushRequested.getAndSet(null);
+            if (flush != null) {
+                exportAll(batch);
+                flush.succeed();
+                nextExportTime = System.nanoTime() + scheduleDelayNanos;
+                continue;
+            }
+            long waitNanos = nextExportTime - System.nanoTime();
+            if (queue.size() >= exportBatchSize || waitNanos <= 0) {
+                drain(batch, exportBatchSize);
+                export(batch);
+                nextExportTime = System.nanoTime() + scheduleDelayNanos;
+                continue;
+            }
+            // wait for the next scheduled export, a full batch, a flush or the shutdown
+            workerParked.set(true);
+            // re-check after publishing the flag, a producer may have filled the batch in between
+            if (queue.size() < exportBatchSize && flushRequested.get() == null && !shutdown) {
+                LockSupport.parkNanos(this, waitNanos);
+            }
+            workerParked.set(false);
+        }
+        CompletableResultCode flush = flushRequested.getAndSet(null);
+        exportAll(batch);
+        if (flush != null) {
+            flush.succeed();
+        }
+        CompletableResultCode exporterShutdown = exporter.shutdown();
+        exporterShutdown.whenComplete(() -> {
+            if (exporterShutdown.isSuccess()) {
+                shutdownResult.succeed();
+            } else {
+                shutdownResult.fail();
+            }
+        });
+    }
+
+    private int drain(List<SpanData> batch, int max) {
+        int batchSize = Math.min(exportBatchSize, max);
+        int drained = 0;
+        ReadableSpan span;
+        while (batch.size() < batchSize && (span = queue.poll()) != null) {
+            batch.add(span.toSpanData());
+            drained++;
+        }
+        return drained;
+    }
+
+    private void exportAll(List<SpanData> batch) {
+        // only export the spans queued so far, the application may keep ending spans faster than they are exported
+        int remaining = queue.size();
+        do {
+            int drained = drain(batch, remaining);
+            export(batch);
+            if (drained == 0) {
+                break;
+            }
+            remaining -= drained;
+        } while (remaining > 0);
+    }
+
+    private void export(List<SpanData> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (!metricsRegistered) {
+            // registered lazily, the meter provider is not available when the processor is created
+            metricsRegistered = true;
+            registerMetrics();
+        }
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            CompletableResultCode result = exporter.export(batch);
+            result.join(exportTimeoutNanos, TimeUnit.NANOSECONDS);
+            success = result.isSuccess();
+            if (success) {
+                exportedSpans.add(batch.size());
+            } else {
+                log.debugf("Failed to export %d spans", batch.size());
+            }
+        } catch (RuntimeException e) {
+            log.debug("Failed to export spans", e);
+            success = false;
+        }
+        adapt(batch.size(), System.nanoTime() - start, success);
+        batch.clear();
+    }
+
+    private void adapt(int exported, long latencyNanos, boolean success) {
+        int current = exportBatchSize;
+        int next = current;
+        if (!success || latencyNanos > targetExportLatencyNanos) {
+            // multiplicative decrease, a smaller request completes sooner and is less likely to time out
+            next = Math.max(minExportBatchSize, current / 2);
+        } else if (exported >= current && latencyNanos < targetExportLatencyNanos / 2) {
+            // additive increase, while the queue fills the batches and the exporter keeps up
+            next = Math.min(maxExportBatchSize, current + Math.max(1, maxExportBatchSize / 8));
+        }
+        if (next != current) {
+            log.debugf("Export batch size changed from %d to %d, the last export of %d spans took %dms", current, next,
+                    exported, TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+            exportBatchSize = next;
+        }
+    }
+
+    private void registerMetrics() {
+        Meter meter;
+        try {
+            meter = meterProvider.get().meterBuilder("io.quarkus.opentelemetry").build();
+        } catch (RuntimeException e) {
+            log.debug("Unable to register the span processor metrics", e);
+            return;
+        }
+        Attributes attributes = Attributes.of(PROCESSOR_TYPE, PROCESSOR_TYPE_VALUE);
+        Attributes dropped = Attributes.of(PROCESSOR_TYPE, PROCESSOR_TYPE_VALUE, DROPPED, true);
+        Attributes exported = Attributes.of(PROCESSOR_TYPE, PROCESSOR_TYPE_VALUE, DROPPED, false);
+        meter.gaugeBuilder("queueSize").ofLongs()
+                .setDescription("The number of spans queued")
+                .setUnit("1")
+                .buildWithCallback(m -> m.record(queue.size(), attributes));
+        meter.gaugeBuilder("exportBatchSize").ofLongs()
+                .setDescription("The current maximum number of spans exported in a batch")
+                .setUnit("1")
+                .buildWithCallback(m -> m.record(exportBatchSize, attributes));
+        meter.counterBuilder("processedSpans")
+                .setDescription("The number of spans processed by the processor, dropped=true when the queue is full")
+                .setUnit("1")
+                .buildWithCallback(m -> {
+                    m.record(exportedSpans.sum(), exported);
+                    m.record(droppedSpans.sum(), dropped);
+                });
+        meter.counterBuilder("exportedBytes")
+                .setDescription("The number of bytes sent by the span exporter")
+                .setUnit("By")
+                .buildWithCallback(m -> m.record(sentBytes.getAsLong(), attributes));
+    }
+}
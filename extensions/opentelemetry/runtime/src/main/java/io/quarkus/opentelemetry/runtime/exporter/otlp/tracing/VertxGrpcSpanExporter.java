@@ -1,6 +1,7 @@
 package io.quarkus.opentelemetry.runtime.exporter.otlp.tracing;
 
 import java.util.Collection;
+import java.util.function.LongSupplier;
 
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
 import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
@@ -11,9 +12,18 @@
 public final class VertxGrpcSpanExporter implements SpanExporter {
 
     private final GrpcExporter<TraceRequestMarshaler> delegate;
+    private final LongSupplier sentBytes;
 
-    public VertxGrpcSpanExporter(GrpcExporter<TraceRequestMarshaler> delegate) {
+    public VertxGrpcSpanExporter(GrpcExporter<TraceRequestMarshaler> delegate, LongSupplier sentBytes) {
         this.delegate = delegate;
+        this.sentBytes = sentBytes;
+    }
+
+    /**
+     * @return the number of bytes sent by the underlying sender
+     */
+    public long sentBytes() {
+        return sentBytes.getAsLong();
     }
 
     @Override
@@ -66,6 +66,11 @@ public Optional<CompressionType> compression() {
                 return Optional.empty();
             }
 
+            @Override
+            public OptionalInt compressionLevel() {
+                return OptionalInt.empty();
+            }
+
             @Override
             public Duration timeout() {
                 return Duration.ofMillis(100);
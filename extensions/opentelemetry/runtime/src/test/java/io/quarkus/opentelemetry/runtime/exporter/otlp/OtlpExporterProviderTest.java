@@ -151,6 +151,11 @@ public Optional<CompressionType> compression() {
                 return Optional.empty();
             }
 
+            @Override
+            public OptionalInt compressionLevel() {
+                return OptionalInt.empty();
+            }
+
             @Override
             public Duration timeout() {
                 return null;
@@ -199,6 +204,11 @@ public Optional<CompressionType> compression() {
                         return Optional.empty();
                     }
 
+                    @Override
+                    public OptionalInt compressionLevel() {
+                        return OptionalInt.empty();
+                    }
+
                     @Override
                     public Duration timeout() {
                         return null;
@@ -299,6 +309,11 @@ public Optional<CompressionType> compression() {
                         return Optional.empty();
                     }
 
+                    @Override
+                    public OptionalInt compressionLevel() {
+                        return OptionalInt.empty();
+                    }
+
                     @Override
                     public Duration timeout() {
                         return null;
@@ -365,6 +380,11 @@ public Optional<CompressionType> compression() {
                         return Optional.empty();
                     }
 
+                    @Override
+                    public OptionalInt compressionLevel() {
+                        return OptionalInt.empty();
+                    }
+
                     @Override
                     public Duration timeout() {
                         return null;
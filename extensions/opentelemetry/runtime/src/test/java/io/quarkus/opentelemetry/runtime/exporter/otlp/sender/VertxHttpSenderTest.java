@@ -0,0 +1,213 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.AbstractByteBufAllocator;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.opentelemetry.exporter.internal.http.HttpSender;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
+import io.opentelemetry.exporter.internal.marshal.ProtoFieldInfo;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+
+class VertxHttpSenderTest {
+
+    private static final byte[] PAYLOAD = "a highly compressible span payload, ".repeat(200)
+            .getBytes(StandardCharsets.UTF_8);
+
+    Vertx vertx;
+    HttpServer server;
+    CompletableFuture<Buffer> receivedBody;
+    RecordingAllocator allocator;
+    VertxHttpSender sender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        vertx = Vertx.vertx();
+        receivedBody = new CompletableFuture<>();
+        allocator = new RecordingAllocator();
+        server = vertx.createHttpServer()
+                .requestHandler(request -> request.body().onSuccess(body -> {
+                    receivedBody.complete(body);
+                    request.response().end();
+                }))
+                .listen(0)
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testCompressionLevelIsApplied() throws Exception {
+        Buffer body = send(true, Deflater.BEST_COMPRESSION);
+
+        assertThat(body.getBytes()).isEqualTo(gzip(Deflater.BEST_COMPRESSION));
+        assertThat(gunzip(body.getBytes())).isEqualTo(serialized());
+        assertSentBytes(body.length());
+    }
+
+    @Test
+    void testNoCompressionLevel() throws Exception {
+        Buffer body = send(true, Deflater.NO_COMPRESSION);
+
+        // stored blocks, the body is larger than the payload
+        assertThat(body.length()).isGreaterThan(PAYLOAD.length);
+        assertThat(gunzip(body.getBytes())).isEqualTo(serialized());
+        assertSentBytes(body.length());
+    }
+
+    @Test
+    void testUncompressed() throws Exception {
+        Buffer body = send(false, Deflater.DEFAULT_COMPRESSION);
+
+        assertThat(body.getBytes()).isEqualTo(serialized());
+        assertSentBytes(body.length());
+    }
+
+    @Test
+    void testBufferIsReleasedWhenTheMarshalerFails() throws Exception {
+        sender = new VertxHttpSender(URI.create("http://localhost:" + server.actualPort()),
+                VertxHttpSender.TRACES_PATH, false, Deflater.DEFAULT_COMPRESSION, Duration.ofSeconds(10), Map.of(),
+                "application/x-protobuf", options -> {
+                }, vertx, allocator);
+        PayloadMarshaler marshaler = new PayloadMarshaler() {
+            @Override
+            protected void writeTo(Serializer output) {
+                throw new IllegalArgumentException("Unable to serialize the payload");
+            }
+        };
+        sender.send(marshaler, marshaler.getBinarySerializedSize(), response -> {
+        }, failure -> {
+        });
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((allocator.allocated.isEmpty() || !allocator.allReleased()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(allocator.allocated).hasSize(1);
+        assertThat(allocator.allReleased()).isTrue();
+        assertThat(sender.sentBytes()).isZero();
+    }
+
+    private Buffer send(boolean compressionEnabled, int compressionLevel) throws Exception {
+        sender = new VertxHttpSender(URI.create("http://localhost:" + server.actualPort()),
+                VertxHttpSender.TRACES_PATH, compressionEnabled, compressionLevel, Duration.ofSeconds(10), Map.of(),
+                "application/x-protobuf", options -> {
+                }, vertx, allocator);
+        CompletableFuture<HttpSender.Response> response = new CompletableFuture<>();
+        PayloadMarshaler marshaler = new PayloadMarshaler();
+        sender.send(marshaler, marshaler.getBinarySerializedSize(), response::complete,
+                response::completeExceptionally);
+
+        assertThat(response.get(10, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        return receivedBody.get(10, TimeUnit.SECONDS);
+    }
+
+    private void assertSentBytes(int bodyLength) throws InterruptedException {
+        // the counter and the buffer are updated once the request has been written
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((sender.sentBytes() != bodyLength || !allocator.allReleased()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(sender.sentBytes()).isEqualTo(bodyLength);
+        assertThat(allocator.allocated).hasSize(1);
+        assertThat(allocator.allReleased()).isTrue();
+    }
+
+    private static byte[] serialized() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new PayloadMarshaler().writeBinaryTo(out);
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(int level) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzos = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            new PayloadMarshaler().writeBinaryTo(gzos);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+
+    static class PayloadMarshaler extends MarshalerWithSize {
+        private static final ProtoFieldInfo PAYLOAD_FIELD = ProtoFieldInfo.create(1, 10, "payload");
+
+        PayloadMarshaler() {
+            super(MarshalerUtil.sizeBytes(PAYLOAD_FIELD, PAYLOAD));
+        }
+
+        @Override
+        protected void writeTo(Serializer output) throws IOException {
+            output.serializeBytes(PAYLOAD_FIELD, PAYLOAD);
+        }
+    }
+
+    /**
+     * Records the direct buffers the request bodies are serialized into.
+     */
+    static final class RecordingAllocator extends AbstractByteBufAllocator {
+
+        final List<ByteBuf> allocated = new CopyOnWriteArrayList<>();
+
+        RecordingAllocator() {
+            super(true);
+        }
+
+        @Override
+        protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+            return Unpooled.buffer(initialCapacity, maxCapacity);
+        }
+
+        @Override
+        protected ByteBuf newDirectBuffer(int initialCapacity, int maxCapacity) {
+            ByteBuf buffer = Unpooled.directBuffer(initialCapacity, maxCapacity);
+            allocated.add(buffer);
+            return buffer;
+        }
+
+        @Override
+        public boolean isDirectBufferPooled() {
+            return false;
+        }
+
+        boolean allReleased() {
+            return allocated.stream().allMatch(buffer -> buffer.refCnt() == 0);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+class AdaptiveBatchSpanProcessorTest {
+
+    final RecordingSpanExporter exporter = new RecordingSpanExporter();
+    SdkTracerProvider tracerProvider;
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testForceFlushExportsQueuedSpans() {
+        Tracer tracer = tracer(512);
+        endSpans(tracer, 10);
+
+        assertTrue(tracerProvider.forceFlush().join(10, TimeUnit.SECONDS).isSuccess());
+        assertEquals(List.of(10), exporter.batchSizes);
+    }
+
+    @Test
+    void testForceFlushCoversTheSpansEndedDuringAFlush() throws InterruptedException {
+        Tracer tracer = tracer(512);
+        CountDownLatch exporting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        exporter.exporting = exporting;
+        exporter.release = release;
+        endSpans(tracer, 2);
+        CompletableResultCode first = tracerProvider.forceFlush();
+        assertTrue(exporting.await(10, TimeUnit.SECONDS));
+
+        // the spans ended while the first flush is exporting are covered by the second flush
+        endSpans(tracer, 3);
+        CompletableResultCode second = tracerProvider.forceFlush();
+        release.countDown();
+        assertTrue(second.join(10, TimeUnit.SECONDS).isSuccess());
+        assertTrue(first.isSuccess());
+        assertEquals(List.of(2, 3), exporter.batchSizes);
+    }
+
+    @Test
+    void testFullBatchIsExportedBeforeTheScheduleDelay() throws InterruptedException {
+        Tracer tracer = tracer(64);
+        endSpans(tracer, 64);
+
+        awaitExports(1);
+        assertEquals(List.of(64), exporter.batchSizes);
+    }
+
+    @Test
+    void testBatchSizeIsHalvedWhenTheExportFails() throws InterruptedException {
+        exporter.fail = true;
+        Tracer tracer = tracer(128);
+        endSpans(tracer, 128);
+        awaitExports(1);
+
+        endSpans(tracer, 64);
+        awaitExports(2);
+        assertEquals(List.of(128, 64), exporter.batchSizes);
+    }
+
+    @Test
+    void testShutdownExportsQueuedSpans() {
+        Tracer tracer = tracer(512);
+        endSpans(tracer, 3);
+
+        assertTrue(tracerProvider.shutdown().join(10, TimeUnit.SECONDS).isSuccess());
+        assertEquals(List.of(3), exporter.batchSizes);
+        assertTrue(exporter.shutdown);
+    }
+
+    private Tracer tracer(int maxExportBatchSize) {
+        AdaptiveBatchSpanProcessor processor = AdaptiveBatchSpanProcessor.create(exporter, Duration.ofMinutes(1), 2048,
+                maxExportBatchSize, Duration.ofSeconds(10), Duration.ofSeconds(10), MeterProvider::noop, () -> 0);
+        tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        return tracerProvider.get("test");
+    }
+
+    private static void endSpans(Tracer tracer, int count) {
+        for (int i = 0; i < count; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+    }
+
+    private void awaitExports(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (exporter.batchSizes.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, exporter.batchSizes.size());
+    }
+
+    static final class RecordingSpanExporter implements SpanExporter {
+
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        volatile boolean fail;
+        volatile boolean shutdown;
+        volatile CountDownLatch exporting;
+        volatile CountDownLatch release;
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            batchSizes.add(spans.size());
+            CountDownLatch started = exporting;
+            if (started != null) {
+                // blocks the first export until released
+                exporting = null;
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return fail ? CompletableResultCode.ofFailure() : CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            shutdown = true;
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -19,16 +19,25 @@
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmEnabled;
 import io.quarkus.hibernate.orm.deployment.JpaModelBuildItem;
+import io.quarkus.hibernate.orm.panache.common.NestedProjectedClass;
+import io.quarkus.hibernate.orm.panache.common.ProjectedConstructor;
+import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
 import io.quarkus.hibernate.orm.panache.common.runtime.PanacheHibernateRecorder;
+import io.quarkus.panache.common.deployment.ProjectionSelectClauseGenerator;
+import io.quarkus.panache.hibernate.common.deployment.ApplicationPanacheCallsBuildItem;
 
 @BuildSteps(onlyIf = HibernateOrmEnabled.class)
 public final class PanacheJpaCommonResourceProcessor {
 
     private static final DotName DOTNAME_NAMED_QUERY = DotName.createSimple(NamedQuery.class.getName());
     private static final DotName DOTNAME_NAMED_QUERIES = DotName.createSimple(NamedQueries.class.getName());
+    private static final DotName DOTNAME_PROJECTED_CONSTRUCTOR = DotName.createSimple(ProjectedConstructor.class.getName());
+    private static final DotName DOTNAME_PROJECTED_FIELD_NAME = DotName.createSimple(ProjectedFieldName.class.getName());
+    private static final DotName DOTNAME_NESTED_PROJECTED_CLASS = DotName.createSimple(NestedProjectedClass.class.getName());
 
     @BuildStep
     void lookupNamedQueries(CombinedIndexBuildItem index,
@@ -54,6 +63,26 @@ void buildNamedQueryMap(List<PanacheNamedQueryEntityClassBuildStep> namedQueryEn
         panacheHibernateRecorder.setNamedQueryMap(namedQueryMap);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void buildProjectionSelectClauses(ApplicationPanacheCallsBuildItem panacheCalls, CombinedIndexBuildItem index,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses, PanacheHibernateRecorder panacheHibernateRecorder) {
+        ProjectionSelectClauseGenerator generator = new ProjectionSelectClauseGenerator(index.getIndex(),
+                DOTNAME_PROJECTED_CONSTRUCTOR, DOTNAME_PROJECTED_FIELD_NAME, DOTNAME_NESTED_PROJECTED_CLASS)
+                .addAnnotatedClasses()
+                .addProjectedClasses(panacheCalls.getProjectedClasses());
+        Map<String, String> selectClauses = generator.generate();
+        if (selectClauses.isEmpty()) {
+            return;
+        }
+        // the projection classes are instantiated by Hibernate ORM
+        reflectiveClasses.produce(ReflectiveClassBuildItem.builder(generator.getProjectionClasses().toArray(new String[0]))
+                .reason(getClass().getName())
+                .constructors(true)
+                .build());
+        panacheHibernateRecorder.setProjectionSelectClauses(selectClauses);
+    }
+
     private void lookupNamedQueries(CombinedIndexBuildItem index, DotName name, Map<String, String> namedQueries) {
         ClassInfo classInfo = index.getComputingIndex().getClassByName(name);
         if (classInfo == null) {
@@ -10,8 +10,12 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.persistence.LockModeType;
 
@@ -25,7 +29,9 @@
 import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.runtime.KeysetPage;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public class CommonPanacheQueryImpl<Entity> {
@@ -41,6 +47,22 @@ public void close() {
         }
     };
 
+    /**
+     * The select clauses of the projection classes generated at build time, keyed by class name.
+     */
+    private static volatile Map<String, String> projectionSelectClauses = Map.of();
+
+    /**
+     * The select clause of a projection class, the one generated at build time or the one built by reflection on first use.
+     */
+    private static final ClassValue<String> SELECT_CLAUSES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            String selectClause = projectionSelectClauses.get(type.getName());
+            return selectClause != null ? selectClause : getParametersFromClass(type, null).toString();
+        }
+    };
+
     private Object paramsArrayOrMap;
     /**
      * this is the HQL query expanded from the Panache-Query
@@ -64,6 +86,12 @@ public void close() {
 
     private Range range;
 
+    private KeysetPage keysetPage;
+    // the key of the last row of the current keyset page, null if it was empty
+    private Object[] keysetLastKey;
+    private boolean keysetPageRead;
+    private boolean keysetPageFull;
+
     private LockModeType lockModeType;
     private Map<String, Object> hints;
 
@@ -90,12 +118,20 @@ private CommonPanacheQueryImpl(CommonPanacheQueryImpl<?> previousQuery, String n
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.keysetPage = previousQuery.keysetPage;
         this.lockModeType = previousQuery.lockModeType;
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
         this.projectionType = projectionType;
     }
 
+    /**
+     * Registers the select clauses of the projection classes generated at build time.
+     */
+    public static void setProjectionSelectClauses(Map<String, String> selectClauses) {
+        projectionSelectClauses = Map.copyOf(selectClauses);
+    }
+
     // Builder
 
     public <T> CommonPanacheQueryImpl<T> project(Class<T> type) {
@@ -120,12 +156,12 @@ public <T> CommonPanacheQueryImpl<T> project(Class<T> type) {
         // FIXME: this assumes the query starts with "FROM " probably?
 
         // build select clause with a constructor expression
-        String selectClause = "SELECT " + getParametersFromClass(type, null);
+        String selectClause = "SELECT " + SELECT_CLAUSES.get(type);
         // I think projections do not change the result count, so we can keep the custom count query
         return new CommonPanacheQueryImpl<>(this, selectClause + selectQuery, customCountQueryForSpring, null);
     }
 
-    private StringBuilder getParametersFromClass(Class<?> type, String parentParameter) {
+    private static StringBuilder getParametersFromClass(Class<?> type, String parentParameter) {
         StringBuilder selectClause = new StringBuilder();
         Constructor<?> constructor = getConstructor(type);
 
@@ -138,7 +174,7 @@ private StringBuilder getParametersFromClass(Class<?> type, String parentParamet
         return selectClause;
     }
 
-    private Constructor<?> getConstructor(Class<?> type) {
+    private static Constructor<?> getConstructor(Class<?> type) {
         Constructor<?>[] typeConstructors = type.getDeclaredConstructors();
 
         //We start to look for constructors with @ProjectedConstructor
@@ -172,7 +208,7 @@ private Constructor<?> getConstructor(Class<?> type) {
         return typeConstructors[0];
     }
 
-    private String getParameterName(Class<?> parentType, String parentParameter, Parameter parameter) {
+    private static String getParameterName(Class<?> parentType, String parentParameter, Parameter parameter) {
         String parameterName;
         // Check if constructor param is annotated with ProjectedFieldName
         if (hasProjectedFieldName(parameter)) {
@@ -201,11 +237,11 @@ private String getParameterName(Class<?> parentType, String parentParameter, Par
         }
     }
 
-    private boolean hasProjectedFieldName(AnnotatedElement annotatedElement) {
+    private static boolean hasProjectedFieldName(AnnotatedElement annotatedElement) {
         return annotatedElement.isAnnotationPresent(ProjectedFieldName.class);
     }
 
-    private String getNameFromProjectedFieldName(AnnotatedElement annotatedElement) {
+    private static String getNameFromProjectedFieldName(AnnotatedElement annotatedElement) {
         final String name = annotatedElement.getAnnotation(ProjectedFieldName.class).value();
         if (name.isEmpty()) {
             throw new PanacheQueryException("The annotation ProjectedFieldName must have a non-empty value.");
@@ -222,6 +258,7 @@ public void filter(String filterName, Map<String, Object> parameters) {
     public void page(Page page) {
         this.page = page;
         this.range = null; // reset the range to be able to switch from range to page
+        this.keysetPage = null;
     }
 
     public void page(int pageIndex, int pageSize) {
@@ -286,6 +323,38 @@ public void range(int startIndex, int lastIndex) {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
         this.page = null;
+        this.keysetPage = null;
+    }
+
+    public void keysetPage(Sort keys, int pageSize) {
+        this.keysetPage = KeysetPage.first(keys, pageSize);
+        this.keysetPageRead = false;
+        this.page = null;
+        this.range = null;
+    }
+
+    public void nextKeysetPage() {
+        checkKeysetPageRead();
+        if (keysetLastKey != null) {
+            keysetPage = keysetPage.next(keysetLastKey);
+        }
+        keysetPageRead = false;
+    }
+
+    public boolean hasNextKeysetPage() {
+        checkKeysetPageRead();
+        return keysetPageFull;
+    }
+
+    private void checkKeysetPageRead() {
+        if (keysetPage == null) {
+            throw new UnsupportedOperationException("Cannot call a keyset page related method, " +
+                    "call keysetPage(Sort, int) to initiate keyset pagination first");
+        }
+        if (!keysetPageRead) {
+            throw new UnsupportedOperationException("Cannot move to the next keyset page before reading the current one, " +
+                    "call list() first");
+        }
     }
 
     public void withLock(LockModeType lockModeType) {
@@ -324,12 +393,28 @@ public long count() {
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> List<T> list() {
+        if (keysetPage != null) {
+            List<T> list = list(keysetPage);
+            keysetLastKey = list.isEmpty() ? null : keysetPage.keyOf(session.getMetamodel(), list.get(list.size() - 1));
+            keysetPageFull = list.size() == keysetPage.getSize();
+            keysetPageRead = true;
+            return list;
+        }
         SelectionQuery hibernateQuery = createQuery();
         try (NonThrowingCloseable c = applyFilters()) {
             return hibernateQuery.getResultList();
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private <T extends Entity> List<T> list(KeysetPage keysetPage) {
+        SelectionQuery hibernateQuery = createKeysetQuery(keysetPage);
+        hibernateQuery.setMaxResults(keysetPage.getSize());
+        try (NonThrowingCloseable c = applyFilters()) {
+            return hibernateQuery.getResultList();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends Entity> Stream<T> stream() {
         SelectionQuery hibernateQuery = createQuery();
@@ -338,6 +423,43 @@ public <T extends Entity> Stream<T> stream() {
         }
     }
 
+    public <T extends Entity> Stream<T> keysetStream(Sort keys, int chunkSize) {
+        KeysetPage firstPage = KeysetPage.first(keys, chunkSize);
+        // fail fast if the query does not support keyset pagination
+        firstPage.query(query, paramsArrayOrMap);
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+
+            private KeysetPage nextPage = firstPage;
+            private List<T> chunk = List.of();
+            private int index;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (index == chunk.size()) {
+                    if (nextPage == null) {
+                        return false;
+                    }
+                    List<T> previousChunk = chunk;
+                    chunk = list(nextPage);
+                    index = 0;
+                    // the next chunk is fetched first so that the changes made to the previous one are flushed,
+                    // then the previous chunk is evicted so that the session does not grow with the stream
+                    for (T entity : previousChunk) {
+                        session.detach(entity);
+                    }
+                    nextPage = chunk.size() < nextPage.getSize() ? null
+                            : nextPage.next(nextPage.keyOf(session.getMetamodel(), chunk.get(chunk.size() - 1)));
+                    if (chunk.isEmpty()) {
+                        return false;
+                    }
+                }
+                action.accept(chunk.get(index++));
+                return true;
+            }
+        }, false);
+    }
+
     public <T extends Entity> T firstResult() {
         SelectionQuery hibernateQuery = createQuery(1);
         try (NonThrowingCloseable c = applyFilters()) {
@@ -371,6 +493,11 @@ public <T extends Entity> Optional<T> singleResultOptional() {
     }
 
     private SelectionQuery createQuery() {
+        if (keysetPage != null) {
+            SelectionQuery hibernateQuery = createKeysetQuery(keysetPage);
+            hibernateQuery.setMaxResults(keysetPage.getSize());
+            return hibernateQuery;
+        }
         SelectionQuery hibernateQuery = createBaseQuery();
 
         if (range != null) {
@@ -388,7 +515,7 @@ private SelectionQuery createQuery() {
     }
 
     private SelectionQuery createQuery(int maxResults) {
-        SelectionQuery hibernateQuery = createBaseQuery();
+        SelectionQuery hibernateQuery = keysetPage != null ? createKeysetQuery(keysetPage) : createBaseQuery();
 
         if (range != null) {
             hibernateQuery.setFirstResult(range.getStartIndex());
@@ -402,24 +529,36 @@ private SelectionQuery createQuery(int maxResults) {
         return hibernateQuery;
     }
 
-    @SuppressWarnings("unchecked")
     private SelectionQuery createBaseQuery() {
         SelectionQuery hibernateQuery;
         if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             hibernateQuery = session.createNamedSelectionQuery(namedQuery, projectionType);
         } else {
-            try {
-                hibernateQuery = session.createSelectionQuery(orderBy != null ? query + orderBy : query, projectionType);
-            } catch (RuntimeException x) {
-                throw NamedQueryUtil.checkForNamedQueryMistake(x, originalQuery);
-            }
+            hibernateQuery = createSelectionQuery(orderBy != null ? query + orderBy : query);
         }
+        return configureQuery(hibernateQuery, paramsArrayOrMap);
+    }
 
-        if (paramsArrayOrMap instanceof Map) {
-            AbstractJpaOperations.bindParameters(hibernateQuery, (Map<String, Object>) paramsArrayOrMap);
+    private SelectionQuery createKeysetQuery(KeysetPage keysetPage) {
+        return configureQuery(createSelectionQuery(keysetPage.query(query, paramsArrayOrMap)),
+                keysetPage.parameters(paramsArrayOrMap));
+    }
+
+    private SelectionQuery createSelectionQuery(String hqlQuery) {
+        try {
+            return session.createSelectionQuery(hqlQuery, projectionType);
+        } catch (RuntimeException x) {
+            throw NamedQueryUtil.checkForNamedQueryMistake(x, originalQuery);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private SelectionQuery configureQuery(SelectionQuery hibernateQuery, Object parameters) {
+        if (parameters instanceof Map) {
+            AbstractJpaOperations.bindParameters(hibernateQuery, (Map<String, Object>) parameters);
         } else {
-            AbstractJpaOperations.bindParameters(hibernateQuery, (Object[]) paramsArrayOrMap);
+            AbstractJpaOperations.bindParameters(hibernateQuery, (Object[]) parameters);
         }
 
         if (this.lockModeType != null) {
@@ -0,0 +1,61 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.deployment.ApplicationPanacheCallsBuildItem.ConstantQuery;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
+import io.quarkus.panache.hibernate.common.runtime.PanacheQueryCache;
+
+/**
+ * Translates to HQL the constant query strings passed to the Panache query methods of a known entity or repository, e.g.
+ * {@code Person.find("name = ?1", name)}.
+ */
+final class ConstantQueryCollector {
+
+    private static final Map<String, PanacheQueryCache.Type> QUERY_METHODS = Map.of(
+            "find", PanacheQueryCache.Type.FIND,
+            "list", PanacheQueryCache.Type.FIND,
+            "stream", PanacheQueryCache.Type.FIND,
+            "count", PanacheQueryCache.Type.COUNT,
+            "update", PanacheQueryCache.Type.UPDATE,
+            "delete", PanacheQueryCache.Type.DELETE);
+
+    // internal name of the entity or repository class -> entity class name
+    private final Map<String, String> owners;
+    private final Map<PanacheQueryCache.Key, String> queries = new HashMap<>();
+
+    ConstantQueryCollector(Map<String, String> owners) {
+        this.owners = owners;
+    }
+
+    void collect(ConstantQuery constantQuery) {
+        String entityClassName = owners.get(constantQuery.owner());
+        PanacheQueryCache.Type type = QUERY_METHODS.get(constantQuery.method());
+        if (entityClassName != null && type != null) {
+            translate(type, entityClassName, constantQuery.query());
+        }
+    }
+
+    Map<PanacheQueryCache.Key, String> getQueries() {
+        return queries;
+    }
+
+    private void translate(PanacheQueryCache.Type type, String entityClassName, String query) {
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            return;
+        }
+        // the shorthand form of a query depends on whether there is a single parameter
+        for (int paramCount = 0; paramCount <= 1; paramCount++) {
+            try {
+                queries.put(new PanacheQueryCache.Key(type, entityClassName, query, paramCount == 1),
+                        PanacheJpaUtil.translateQuery(type, entityClassName, query, paramCount));
+            } catch (PanacheQueryException e) {
+                // the query is invalid, the error is reported at runtime
+                return;
+            }
+        }
+    }
+
+}
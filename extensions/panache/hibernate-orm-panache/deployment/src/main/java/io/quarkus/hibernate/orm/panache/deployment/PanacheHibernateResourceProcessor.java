@@ -17,6 +17,7 @@
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
@@ -41,11 +42,16 @@
 import io.quarkus.hibernate.orm.panache.runtime.PanacheHibernateOrmRecorder;
 import io.quarkus.panache.common.deployment.PanacheMethodCustomizer;
 import io.quarkus.panache.common.deployment.PanacheMethodCustomizerBuildItem;
+import io.quarkus.panache.hibernate.common.deployment.ApplicationPanacheCallsBuildItem;
+import io.quarkus.panache.hibernate.common.deployment.ApplicationPanacheCallsBuildItem.ConstantQuery;
 import io.quarkus.panache.hibernate.common.deployment.HibernateEnhancersRegisteredBuildItem;
 import io.quarkus.panache.hibernate.common.deployment.PanacheJpaEntityOperationsEnhancer;
+import io.quarkus.panache.hibernate.common.runtime.PanacheQueryCache;
 
 public final class PanacheHibernateResourceProcessor {
 
+    private static final Logger LOG = Logger.getLogger(PanacheHibernateResourceProcessor.class);
+
     static final DotName DOTNAME_PANACHE_REPOSITORY_BASE = DotName.createSimple(PanacheRepositoryBase.class.getName());
     private static final DotName DOTNAME_PANACHE_REPOSITORY = DotName.createSimple(PanacheRepository.class.getName());
 
@@ -147,6 +153,40 @@ void recordEntityToPersistenceUnit(Optional<JpaModelPersistenceUnitMappingBuildI
                         .orElse(false));
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void preTranslateQueries(ApplicationPanacheCallsBuildItem panacheCalls, CombinedIndexBuildItem index,
+            List<PanacheEntityClassBuildItem> entityClasses, PanacheHibernateOrmRecorder recorder) {
+        // internal name of the entity or repository class -> entity class name
+        Map<String, String> owners = new HashMap<>();
+        for (PanacheEntityClassBuildItem entityClass : entityClasses) {
+            String entityClassName = entityClass.get().name().toString();
+            owners.put(entityClassName.replace('.', '/'), entityClassName);
+        }
+        for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY_BASE)) {
+            if (classInfo.name().equals(DOTNAME_PANACHE_REPOSITORY)) {
+                continue;
+            }
+            List<org.jboss.jandex.Type> typeParameters = JandexUtil
+                    .resolveTypeParameters(classInfo.name(), DOTNAME_PANACHE_REPOSITORY_BASE, index.getIndex());
+            if (typeParameters.get(0).kind() == org.jboss.jandex.Type.Kind.CLASS) {
+                owners.put(classInfo.name().toString().replace('.', '/'), typeParameters.get(0).name().toString());
+            }
+        }
+        if (owners.isEmpty()) {
+            return;
+        }
+        ConstantQueryCollector collector = new ConstantQueryCollector(owners);
+        for (ConstantQuery constantQuery : panacheCalls.getConstantQueries()) {
+            collector.collect(constantQuery);
+        }
+        Map<PanacheQueryCache.Key, String> queries = collector.getQueries();
+        LOG.debugf("Translated %s constant Panache queries at build time", queries.size());
+        if (!queries.isEmpty()) {
+            recorder.setPreTranslatedQueries(queries);
+        }
+    }
+
     @BuildStep
     ValidationPhaseBuildItem.ValidationErrorBuildItem validate(ValidationPhaseBuildItem validationPhase,
             CombinedIndexBuildItem index) throws BuildException {
@@ -0,0 +1,17 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.query;
+
+import java.util.List;
+
+import jakarta.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class Fruit extends PanacheEntity {
+    public String name;
+    public String color;
+
+    public static List<Fruit> findByNameAndColor(String name, String color) {
+        return list("name = ?1 and color = ?2", name, color);
+    }
+}
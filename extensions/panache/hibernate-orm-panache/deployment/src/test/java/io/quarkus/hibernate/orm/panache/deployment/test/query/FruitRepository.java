@@ -0,0 +1,14 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.query;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+
+@ApplicationScoped
+public class FruitRepository implements PanacheRepository<Fruit> {
+
+    public long countByColor(String color) {
+        return count("color", color);
+    }
+
+}
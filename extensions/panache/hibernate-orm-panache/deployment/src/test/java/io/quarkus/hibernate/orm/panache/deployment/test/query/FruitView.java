@@ -0,0 +1,13 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.query;
+
+import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
+
+public class FruitView {
+    public final String fruitName;
+    public final String color;
+
+    public FruitView(@ProjectedFieldName("name") String fruitName, String color) {
+        this.fruitName = fruitName;
+        this.color = color;
+    }
+}
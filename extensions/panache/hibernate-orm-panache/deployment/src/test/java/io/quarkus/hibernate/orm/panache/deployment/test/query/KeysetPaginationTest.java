@@ -0,0 +1,81 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class KeysetPaginationTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(Fruit.class, FruitRepository.class));
+
+    @Test
+    @Transactional
+    public void testKeysetPagination() {
+        persist("cherry", "red");
+        persist("apple", "red");
+        persist("strawberry", "red");
+        persist("banana", "yellow");
+        persist("raspberry", "red");
+        // same name as an existing fruit, the id breaks the tie
+        persist("apple", "red");
+
+        PanacheQuery<Fruit> query = Fruit.find("color", "red").keysetPage(Sort.by("name").and("id"), 2);
+        assertThrows(UnsupportedOperationException.class, query::nextKeysetPage);
+
+        assertEquals(List.of("apple", "apple"), names(query.list()));
+        assertTrue(query.hasNextKeysetPage());
+        assertEquals(List.of("cherry", "raspberry"), names(query.nextKeysetPage().list()));
+        assertTrue(query.hasNextKeysetPage());
+        assertEquals(List.of("strawberry"), names(query.nextKeysetPage().list()));
+        assertFalse(query.hasNextKeysetPage());
+
+        // switching back to offset pagination
+        assertEquals(2, query.page(1, 2).list().size());
+        assertThrows(UnsupportedOperationException.class, query::hasNextKeysetPage);
+    }
+
+    @Test
+    @Transactional
+    public void testKeysetStream() {
+        for (int i = 0; i < 7; i++) {
+            persist("fruit" + i, i % 2 == 0 ? "green" : "yellow");
+        }
+        try (Stream<Fruit> stream = Fruit.find("color = ?1", "green").keysetStream(Sort.descending("id"), 2)) {
+            assertEquals(List.of("fruit6", "fruit4", "fruit2", "fruit0"),
+                    stream.map(fruit -> fruit.name).collect(Collectors.toList()));
+        }
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> Fruit.find("order by name").keysetStream(Sort.by("id"), 2));
+    }
+
+    private static void persist(String name, String color) {
+        Fruit fruit = new Fruit();
+        fruit.name = name;
+        fruit.color = color;
+        fruit.persist();
+    }
+
+    private static List<String> names(List<Fruit> fruits) {
+        return fruits.stream().map(fruit -> fruit.name).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,52 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.panache.hibernate.common.runtime.PanacheQueryCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PreTranslatedQueryTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(Fruit.class, FruitRepository.class));
+
+    @Inject
+    FruitRepository repository;
+
+    @Test
+    @Transactional
+    public void testQueries() {
+        // the constant queries of the entity and of the repository are translated at build time
+        assertTrue(PanacheQueryCache.getPreTranslatedSize() > 0);
+
+        Fruit apple = new Fruit();
+        apple.name = "apple";
+        apple.color = "red";
+        apple.persist();
+
+        long misses = PanacheQueryCache.getMissCount();
+        assertEquals(1, Fruit.findByNameAndColor("apple", "red").size());
+        assertEquals(1, repository.countByColor("red"));
+        assertEquals(misses, PanacheQueryCache.getMissCount());
+
+        // a dynamic query is translated once and then cached
+        String dynamicQuery = String.join(" ", "name", "=", "?1");
+        assertEquals(1, Fruit.count(dynamicQuery, "apple"));
+        assertEquals(misses + 1, PanacheQueryCache.getMissCount());
+        long hits = PanacheQueryCache.getHitCount();
+        assertEquals(1, Fruit.count(dynamicQuery, "apple"));
+        assertEquals(misses + 1, PanacheQueryCache.getMissCount());
+        assertEquals(hits + 1, PanacheQueryCache.getHitCount());
+    }
+
+}
@@ -0,0 +1,37 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ProjectionTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(Fruit.class, FruitRepository.class, FruitView.class));
+
+    @Test
+    @Transactional
+    public void testProjection() {
+        Fruit apple = new Fruit();
+        apple.name = "apple";
+        apple.color = "red";
+        apple.persist();
+
+        // the select clause of FruitView is generated at build time
+        List<FruitView> views = Fruit.find("color", "red").project(FruitView.class).list();
+        assertEquals(1, views.size());
+        assertEquals("apple", views.get(0).fruitName);
+        assertEquals("red", views.get(0).color);
+    }
+
+}
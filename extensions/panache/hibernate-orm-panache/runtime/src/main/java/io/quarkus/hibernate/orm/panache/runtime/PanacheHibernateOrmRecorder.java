@@ -3,6 +3,7 @@
 import java.util.Map;
 
 import io.quarkus.hibernate.orm.panache.common.runtime.AbstractJpaOperations;
+import io.quarkus.panache.hibernate.common.runtime.PanacheQueryCache;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -10,4 +11,8 @@ public class PanacheHibernateOrmRecorder {
     public void setEntityToPersistenceUnit(Map<String, String> entityToPersistenceUnit, boolean incomplete) {
         AbstractJpaOperations.setEntityToPersistenceUnit(entityToPersistenceUnit, incomplete);
     }
+
+    public void setPreTranslatedQueries(Map<PanacheQueryCache.Key, String> queries) {
+        PanacheQueryCache.setPreTranslatedQueries(queries);
+    }
 }
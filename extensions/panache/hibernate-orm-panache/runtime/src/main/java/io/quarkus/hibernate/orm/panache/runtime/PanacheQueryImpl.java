@@ -14,6 +14,7 @@
 import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
@@ -103,6 +104,25 @@ public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex) {
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> keysetPage(Sort keys, int pageSize) {
+        delegate.keysetPage(keys, pageSize);
+        return (PanacheQuery<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> nextKeysetPage() {
+        delegate.nextKeysetPage();
+        return (PanacheQuery<T>) this;
+    }
+
+    @Override
+    public boolean hasNextKeysetPage() {
+        return delegate.hasNextKeysetPage();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> withLock(LockModeType lockModeType) {
@@ -155,6 +175,11 @@ public <T extends Entity> Stream<T> stream() {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> Stream<T> keysetStream(Sort keys, int chunkSize) {
+        return delegate.keysetStream(keys, chunkSize);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
         return delegate.firstResult();
@@ -5,6 +5,9 @@
 
 import org.jboss.jandex.DotName;
 
+import io.quarkus.hibernate.reactive.panache.common.NestedProjectedClass;
+import io.quarkus.hibernate.reactive.panache.common.ProjectedConstructor;
+import io.quarkus.hibernate.reactive.panache.common.ProjectedFieldName;
 import io.quarkus.hibernate.reactive.panache.common.WithSession;
 import io.quarkus.hibernate.reactive.panache.common.WithSessionOnDemand;
 import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
@@ -15,6 +18,9 @@ final class DotNames {
 
     static final DotName DOTNAME_NAMED_QUERY = DotName.createSimple(NamedQuery.class.getName());
     static final DotName DOTNAME_NAMED_QUERIES = DotName.createSimple(NamedQueries.class.getName());
+    static final DotName DOTNAME_PROJECTED_CONSTRUCTOR = DotName.createSimple(ProjectedConstructor.class.getName());
+    static final DotName DOTNAME_PROJECTED_FIELD_NAME = DotName.createSimple(ProjectedFieldName.class.getName());
+    static final DotName DOTNAME_NESTED_PROJECTED_CLASS = DotName.createSimple(NestedProjectedClass.class.getName());
     static final DotName REACTIVE_TRANSACTIONAL = DotName.createSimple(ReactiveTransactional.class.getName());
     static final DotName WITH_SESSION_ON_DEMAND = DotName.createSimple(WithSessionOnDemand.class.getName());
     static final DotName WITH_SESSION = DotName.createSimple(WithSession.class.getName());
@@ -40,6 +40,7 @@
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmEnabled;
@@ -50,6 +51,8 @@
 import io.quarkus.hibernate.reactive.panache.common.runtime.WithSessionInterceptor;
 import io.quarkus.hibernate.reactive.panache.common.runtime.WithSessionOnDemandInterceptor;
 import io.quarkus.hibernate.reactive.panache.common.runtime.WithTransactionInterceptor;
+import io.quarkus.panache.common.deployment.ProjectionSelectClauseGenerator;
+import io.quarkus.panache.hibernate.common.deployment.ApplicationPanacheCallsBuildItem;
 
 @BuildSteps(onlyIf = HibernateOrmEnabled.class)
 public final class PanacheJpaCommonResourceProcessor {
@@ -221,6 +224,27 @@ void buildNamedQueryMap(List<PanacheNamedQueryEntityClassBuildStep> namedQueryEn
         panacheHibernateRecorder.setNamedQueryMap(namedQueryMap);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void buildProjectionSelectClauses(ApplicationPanacheCallsBuildItem panacheCalls, CombinedIndexBuildItem index,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses, PanacheHibernateRecorder panacheHibernateRecorder) {
+        ProjectionSelectClauseGenerator generator = new ProjectionSelectClauseGenerator(index.getIndex(),
+                DotNames.DOTNAME_PROJECTED_CONSTRUCTOR, DotNames.DOTNAME_PROJECTED_FIELD_NAME,
+                DotNames.DOTNAME_NESTED_PROJECTED_CLASS)
+                .addAnnotatedClasses()
+                .addProjectedClasses(panacheCalls.getProjectedClasses());
+        Map<String, String> selectClauses = generator.generate();
+        if (selectClauses.isEmpty()) {
+            return;
+        }
+        // the projection classes are instantiated by Hibernate ORM
+        reflectiveClasses.produce(ReflectiveClassBuildItem.builder(generator.getProjectionClasses().toArray(new String[0]))
+                .reason(getClass().getName())
+                .constructors(true)
+                .build());
+        panacheHibernateRecorder.setProjectionSelectClauses(selectClauses);
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     public void shutdown(ShutdownContextBuildItem shutdownContextBuildItem, PanacheHibernateRecorder panacheHibernateRecorder) {
@@ -23,13 +23,31 @@
 import io.quarkus.hibernate.reactive.panache.common.ProjectedFieldName;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.runtime.KeysetPage;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 public class CommonPanacheQueryImpl<Entity> {
 
+    /**
+     * The select clauses of the projection classes generated at build time, keyed by class name.
+     */
+    private static volatile Map<String, String> projectionSelectClauses = Map.of();
+
+    /**
+     * The select clause of a projection class, the one generated at build time or the one built by reflection on first use.
+     */
+    private static final ClassValue<String> SELECT_CLAUSES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            String selectClause = projectionSelectClauses.get(type.getName());
+            return selectClause != null ? selectClause : getParametersFromClass(type, null).toString();
+        }
+    };
+
     private Object paramsArrayOrMap;
     /**
      * this is the HQL query expanded from the Panache-Query
@@ -53,6 +71,12 @@
 
     private Range range;
 
+    private KeysetPage keysetPage;
+    // the key of the last row of the current keyset page, null if it was empty
+    private Object[] keysetLastKey;
+    private boolean keysetPageRead;
+    private boolean keysetPageFull;
+
     private LockModeType lockModeType;
     private Map<String, Object> hints;
 
@@ -79,12 +103,20 @@ private CommonPanacheQueryImpl(CommonPanacheQueryImpl<?> previousQuery, String n
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.keysetPage = previousQuery.keysetPage;
         this.lockModeType = previousQuery.lockModeType;
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
         this.projectionType = projectionType;
     }
 
+    /**
+     * Registers the select clauses of the projection classes generated at build time.
+     */
+    public static void setProjectionSelectClauses(Map<String, String> selectClauses) {
+        projectionSelectClauses = Map.copyOf(selectClauses);
+    }
+
     // Builder
 
     public <T> CommonPanacheQueryImpl<T> project(Class<T> type) {
@@ -108,12 +140,12 @@ public <T> CommonPanacheQueryImpl<T> project(Class<T> type) {
         // FIXME: this assumes the query starts with "FROM " probably?
 
         // build select clause with a constructor expression
-        String selectClause = "SELECT " + getParametersFromClass(type, null);
+        String selectClause = "SELECT " + SELECT_CLAUSES.get(type);
         // I think projections do not change the result count, so we can keep the custom count query
         return new CommonPanacheQueryImpl<>(this, selectClause + selectQuery, customCountQueryForSpring, null);
     }
 
-    private StringBuilder getParametersFromClass(Class<?> type, String parentParameter) {
+    private static StringBuilder getParametersFromClass(Class<?> type, String parentParameter) {
         StringBuilder selectClause = new StringBuilder();
         Constructor<?> constructor = getConstructor(type);
 
@@ -126,7 +158,7 @@ private StringBuilder getParametersFromClass(Class<?> type, String parentParamet
         return selectClause;
     }
 
-    private Constructor<?> getConstructor(Class<?> type) {
+    private static Constructor<?> getConstructor(Class<?> type) {
         Constructor<?>[] typeConstructors = type.getDeclaredConstructors();
 
         //We start to look for constructors with @ProjectedConstructor
@@ -160,7 +192,7 @@ private Constructor<?> getConstructor(Class<?> type) {
         return typeConstructors[0];
     }
 
-    private String getParameterName(Class<?> parentType, String parentParameter, Parameter parameter) {
+    private static String getParameterName(Class<?> parentType, String parentParameter, Parameter parameter) {
         String parameterName;
         // Check if constructor param is annotated with ProjectedFieldName
         if (hasProjectedFieldName(parameter)) {
@@ -189,11 +221,11 @@ private String getParameterName(Class<?> parentType, String parentParameter, Par
         }
     }
 
-    private boolean hasProjectedFieldName(AnnotatedElement annotatedElement) {
+    private static boolean hasProjectedFieldName(AnnotatedElement annotatedElement) {
         return annotatedElement.isAnnotationPresent(ProjectedFieldName.class);
     }
 
-    private String getNameFromProjectedFieldName(AnnotatedElement annotatedElement) {
+    private static String getNameFromProjectedFieldName(AnnotatedElement annotatedElement) {
         final String name = annotatedElement.getAnnotation(ProjectedFieldName.class).value();
         if (name.isEmpty()) {
             throw new PanacheQueryException("The annotation ProjectedFieldName must have a non-empty value.");
@@ -210,6 +242,7 @@ public void filter(String filterName, Map<String, Object> parameters) {
     public void page(Page page) {
         this.page = page;
         this.range = null; // reset the range to be able to switch from range to page
+        this.keysetPage = null;
     }
 
     public void page(int pageIndex, int pageSize) {
@@ -279,6 +312,38 @@ public void range(int startIndex, int lastIndex) {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
         this.page = null;
+        this.keysetPage = null;
+    }
+
+    public void keysetPage(Sort keys, int pageSize) {
+        this.keysetPage = KeysetPage.first(keys, pageSize);
+        this.keysetPageRead = false;
+        this.page = null;
+        this.range = null;
+    }
+
+    public void nextKeysetPage() {
+        checkKeysetPageRead();
+        if (keysetLastKey != null) {
+            keysetPage = keysetPage.next(keysetLastKey);
+        }
+        keysetPageRead = false;
+    }
+
+    public boolean hasNextKeysetPage() {
+        checkKeysetPageRead();
+        return keysetPageFull;
+    }
+
+    private void checkKeysetPageRead() {
+        if (keysetPage == null) {
+            throw new UnsupportedOperationException("Cannot call a keyset page related method, " +
+                    "call keysetPage(Sort, int) to initiate keyset pagination first");
+        }
+        if (!keysetPageRead) {
+            throw new UnsupportedOperationException("Cannot move to the next keyset page before reading the current one, " +
+                    "call list() first");
+        }
     }
 
     public void withLock(LockModeType lockModeType) {
@@ -319,12 +384,62 @@ public Uni<Long> count() {
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <T extends Entity> Uni<List<T>> list() {
+        if (keysetPage != null) {
+            KeysetPage currentPage = keysetPage;
+            return em.flatMap(session -> this.<T> list(session, currentPage).invoke(list -> {
+                keysetLastKey = list.isEmpty() ? null
+                        : currentPage.keyOf(session.getFactory().getMetamodel(), list.get(list.size() - 1));
+                keysetPageFull = list.size() == currentPage.getSize();
+                keysetPageRead = true;
+            }));
+        }
         return em.flatMap(session -> {
             Mutiny.SelectionQuery<?> hibernateQuery = createQuery(session);
             return (Uni) applyFilters(session, () -> hibernateQuery.getResultList());
         });
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private <T extends Entity> Uni<List<T>> list(Mutiny.Session session, KeysetPage keysetPage) {
+        Mutiny.SelectionQuery<?> hibernateQuery = createKeysetQuery(session, keysetPage);
+        hibernateQuery.setMaxResults(keysetPage.getSize());
+        return (Uni) applyFilters(session, () -> hibernateQuery.getResultList());
+    }
+
+    public <T extends Entity> Multi<T> keysetStream(Sort keys, int chunkSize) {
+        KeysetPage firstPage = KeysetPage.first(keys, chunkSize);
+        // fail fast if the query does not support keyset pagination
+        firstPage.query(query, paramsArrayOrMap);
+        return Multi.createBy().repeating()
+                .uni(() -> new KeysetStreamState(firstPage), state -> this.<T> nextChunk(state))
+                // the last chunk, which is not full, is emitted too
+                .whilst(chunk -> chunk.size() == chunkSize)
+                .onItem().disjoint();
+    }
+
+    private <T extends Entity> Uni<List<T>> nextChunk(KeysetStreamState state) {
+        return em.flatMap(session -> this.<T> list(session, state.nextPage).invoke(chunk -> {
+            // the previous chunk is evicted so that the session does not grow with the stream
+            for (Object entity : state.previousChunk) {
+                session.detach(entity);
+            }
+            state.previousChunk = chunk;
+            if (!chunk.isEmpty()) {
+                state.nextPage = state.nextPage.next(
+                        state.nextPage.keyOf(session.getFactory().getMetamodel(), chunk.get(chunk.size() - 1)));
+            }
+        }));
+    }
+
+    private static class KeysetStreamState {
+        KeysetPage nextPage;
+        List<?> previousChunk = List.of();
+
+        KeysetStreamState(KeysetPage firstPage) {
+            this.nextPage = firstPage;
+        }
+    }
+
     public <T extends Entity> Multi<T> stream() {
         // FIXME: requires Hibernate support
         //        Mutiny.Query<?> jpaQuery = createQuery();
@@ -354,6 +469,11 @@ public <T extends Entity> Uni<T> singleResult() {
     }
 
     private Mutiny.SelectionQuery<?> createQuery(Mutiny.Session em) {
+        if (keysetPage != null) {
+            Mutiny.SelectionQuery<?> jpaQuery = createKeysetQuery(em, keysetPage);
+            jpaQuery.setMaxResults(keysetPage.getSize());
+            return jpaQuery;
+        }
         Mutiny.SelectionQuery<?> jpaQuery = createBaseQuery(em);
 
         if (range != null) {
@@ -380,7 +500,7 @@ private Mutiny.SelectionQuery<?> createQuery(Mutiny.Session em) {
     }
 
     private Mutiny.SelectionQuery<?> createQuery(Mutiny.Session em, int maxResults) {
-        Mutiny.SelectionQuery<?> jpaQuery = createBaseQuery(em);
+        Mutiny.SelectionQuery<?> jpaQuery = keysetPage != null ? createKeysetQuery(em, keysetPage) : createBaseQuery(em);
 
         if (range != null) {
             jpaQuery.setFirstResult(range.getStartIndex());
@@ -399,7 +519,6 @@ private Mutiny.SelectionQuery<?> createQuery(Mutiny.Session em, int maxResults)
         return jpaQuery;
     }
 
-    @SuppressWarnings("unchecked")
     private Mutiny.SelectionQuery<?> createBaseQuery(Mutiny.Session em) {
         Mutiny.SelectionQuery<?> hibernateQuery;
         if (PanacheJpaUtil.isNamedQuery(query)) {
@@ -407,17 +526,30 @@ private Mutiny.SelectionQuery<?> createBaseQuery(Mutiny.Session em) {
             hibernateQuery = projectionType == null ? em.createNamedQuery(namedQuery)
                     : em.createNamedQuery(namedQuery, projectionType);
         } else {
-            try {
-                hibernateQuery = em.createSelectionQuery(orderBy != null ? query + orderBy : query, projectionType);
-            } catch (RuntimeException x) {
-                throw NamedQueryUtil.checkForNamedQueryMistake(x, originalQuery);
-            }
+            hibernateQuery = createSelectionQuery(em, orderBy != null ? query + orderBy : query);
         }
+        return configureQuery(hibernateQuery, paramsArrayOrMap);
+    }
 
-        if (paramsArrayOrMap instanceof Map) {
-            AbstractJpaOperations.bindParameters(hibernateQuery, (Map<String, Object>) paramsArrayOrMap);
+    private Mutiny.SelectionQuery<?> createKeysetQuery(Mutiny.Session em, KeysetPage keysetPage) {
+        return configureQuery(createSelectionQuery(em, keysetPage.query(query, paramsArrayOrMap)),
+                keysetPage.parameters(paramsArrayOrMap));
+    }
+
+    private Mutiny.SelectionQuery<?> createSelectionQuery(Mutiny.Session em, String hqlQuery) {
+        try {
+            return em.createSelectionQuery(hqlQuery, projectionType);
+        } catch (RuntimeException x) {
+            throw NamedQueryUtil.checkForNamedQueryMistake(x, originalQuery);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mutiny.SelectionQuery<?> configureQuery(Mutiny.SelectionQuery<?> hibernateQuery, Object parameters) {
+        if (parameters instanceof Map) {
+            AbstractJpaOperations.bindParameters(hibernateQuery, (Map<String, Object>) parameters);
         } else {
-            AbstractJpaOperations.bindParameters(hibernateQuery, (Object[]) paramsArrayOrMap);
+            AbstractJpaOperations.bindParameters(hibernateQuery, (Object[]) parameters);
         }
 
         if (this.lockModeType != null) {
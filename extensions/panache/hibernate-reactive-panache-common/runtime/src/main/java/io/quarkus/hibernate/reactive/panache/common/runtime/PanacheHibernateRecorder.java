@@ -11,6 +11,10 @@ public void setNamedQueryMap(Map<String, Map<String, String>> namedQueryMap) {
         NamedQueryUtil.setNamedQueryMap(namedQueryMap);
     }
 
+    public void setProjectionSelectClauses(Map<String, String> selectClauses) {
+        CommonPanacheQueryImpl.setProjectionSelectClauses(selectClauses);
+    }
+
     public void clear(ShutdownContext shutdownContext) {
         shutdownContext.addShutdownTask(new Runnable() {
             @Override
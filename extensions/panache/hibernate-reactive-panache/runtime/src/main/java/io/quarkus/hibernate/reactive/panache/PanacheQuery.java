@@ -13,8 +13,10 @@
 import io.quarkus.hibernate.reactive.panache.common.ProjectedFieldName;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -170,6 +172,46 @@
      */
     public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex);
 
+    /**
+     * Switches the query to keyset pagination, also known as seek pagination, and sets the current page to the first page.
+     * <p>
+     * The rows are sorted by the given keys, and instead of skipping the rows of the previous pages, the query of the next
+     * pages only selects the rows following the key of the last row of the current page. Unlike {@link #page(Page)}, the cost
+     * of a page does not depend on its position and no count query is needed, which makes it suitable to read large tables.
+     * <p>
+     * The key columns must not be null and the last key column must be unique, e.g. <code>Sort.by("lastName").and("id")</code>.
+     * Keyset pagination is only supported for queries selecting the entity, without a <code>select</code> or
+     * <code>order by</code> clause.
+     *
+     * @param keys the key columns, which also define the sort order of the query
+     * @param pageSize the page size
+     * @return this query, modified
+     * @see #nextKeysetPage()
+     * @see #keysetStream(Sort, int)
+     */
+    public <T extends Entity> PanacheQuery<T> keysetPage(Sort keys, int pageSize);
+
+    /**
+     * Sets the current keyset page to the page following the last row of the current page, which must have been read with
+     * {@link #list()} first.
+     *
+     * @return this query, modified
+     * @throws UnsupportedOperationException if keyset pagination hasn't been set or if the current page hasn't been read
+     * @see #keysetPage(Sort, int)
+     * @see #hasNextKeysetPage()
+     */
+    public <T extends Entity> PanacheQuery<T> nextKeysetPage();
+
+    /**
+     * Returns true if the current keyset page, read with {@link #list()}, was full. There may be more pages to read,
+     * although the next page may be empty if the number of rows is a multiple of the page size.
+     *
+     * @return true if there may be another page to read
+     * @throws UnsupportedOperationException if keyset pagination hasn't been set or if the current page hasn't been read
+     * @see #nextKeysetPage()
+     */
+    public boolean hasNextKeysetPage();
+
     /**
      * Define the locking strategy used for this query.
      *
@@ -256,6 +298,21 @@
     @CheckReturnValue
     public <T extends Entity> Uni<List<T>> list();
 
+    /**
+     * Returns all the results of this query as a {@link Multi}, sorted by the given keys and fetched in chunks using keyset
+     * pagination, see {@link #keysetPage(Sort, int)}. This ignores the current page or range.
+     * <p>
+     * The next chunk is only fetched when the previous one has been requested, and the entities of the previous chunk are
+     * then detached from the session, so that reading a large table does not grow the persistence context.
+     *
+     * @param keys the key columns, which also define the sort order of the query
+     * @param chunkSize the number of results fetched at once
+     * @return all the results of this query as a {@link Multi}
+     * @see #keysetPage(Sort, int)
+     */
+    @CheckReturnValue
+    public <T extends Entity> Multi<T> keysetStream(Sort keys, int chunkSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -12,6 +12,8 @@
 import io.quarkus.hibernate.reactive.panache.common.runtime.CommonPanacheQueryImpl;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
@@ -101,6 +103,25 @@ public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex) {
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> keysetPage(Sort keys, int pageSize) {
+        delegate.keysetPage(keys, pageSize);
+        return (PanacheQuery<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> nextKeysetPage() {
+        delegate.nextKeysetPage();
+        return (PanacheQuery<T>) this;
+    }
+
+    @Override
+    public boolean hasNextKeysetPage() {
+        return delegate.hasNextKeysetPage();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> withLock(LockModeType lockModeType) {
@@ -148,6 +169,11 @@ public <T extends Entity> Uni<List<T>> list() {
         return delegate.list();
     }
 
+    @Override
+    public <T extends Entity> Multi<T> keysetStream(Sort keys, int chunkSize) {
+        return delegate.keysetStream(keys, chunkSize);
+    }
+
     @Override
     public <T extends Entity> Uni<T> firstResult() {
         return delegate.firstResult();
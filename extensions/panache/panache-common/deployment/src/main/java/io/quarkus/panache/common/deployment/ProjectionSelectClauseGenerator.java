@@ -0,0 +1,206 @@
+package io.quarkus.panache.common.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.ClassInfo.NestingType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.MethodParameterInfo;
+
+/**
+ * Generates the select clause of the Hibernate Panache projections, i.e. the constructor expression
+ * {@code new org.acme.PersonName (name,address.city) } used by {@code PanacheQuery.project(Class)}, at build time.
+ * <p>
+ * The projection classes are the classes using the projection annotations and the class literals passed to a
+ * {@code project(Class)} method in the application bytecode. The constructor and the parameter names are resolved the same
+ * way {@code CommonPanacheQueryImpl} does it at runtime. If the select clause of a class cannot be resolved unambiguously
+ * at build time, the class is skipped and the select clause is built at runtime, which also reports the errors.
+ */
+public final class ProjectionSelectClauseGenerator {
+
+    private final IndexView index;
+    private final DotName projectedConstructor;
+    private final DotName projectedFieldName;
+    private final DotName nestedProjectedClass;
+
+    private final Set<DotName> candidates = new HashSet<>();
+    private final Map<String, String> selectClauses = new HashMap<>();
+    private final Set<String> projectionClasses = new HashSet<>();
+
+    public ProjectionSelectClauseGenerator(IndexView index, DotName projectedConstructor, DotName projectedFieldName,
+            DotName nestedProjectedClass) {
+        this.index = index;
+        this.projectedConstructor = projectedConstructor;
+        this.projectedFieldName = projectedFieldName;
+        this.nestedProjectedClass = nestedProjectedClass;
+    }
+
+    /**
+     * Adds the classes declaring a projected constructor or a projected field name.
+     */
+    public ProjectionSelectClauseGenerator addAnnotatedClasses() {
+        for (DotName annotation : List.of(projectedConstructor, projectedFieldName)) {
+            for (AnnotationInstance instance : index.getAnnotations(annotation)) {
+                AnnotationTarget target = instance.target();
+                switch (target.kind()) {
+                    case METHOD:
+                        candidates.add(target.asMethod().declaringClass().name());
+                        break;
+                    case METHOD_PARAMETER:
+                        candidates.add(target.asMethodParameter().method().declaringClass().name());
+                        break;
+                    case FIELD:
+                        candidates.add(target.asField().declaringClass().name());
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds the classes whose class literal is passed to a {@code project(Class)} method, e.g.
+     * {@code Person.find("name", name).project(PersonName.class)}.
+     */
+    public ProjectionSelectClauseGenerator addProjectedClasses(Collection<String> classNames) {
+        for (String className : classNames) {
+            candidates.add(DotName.createSimple(className));
+        }
+        return this;
+    }
+
+    /**
+     * Generates the select clauses of the added projection classes.
+     *
+     * @return the select clauses keyed by the projection class name
+     */
+    public Map<String, String> generate() {
+        for (DotName candidate : candidates) {
+            ClassInfo classInfo = index.getClassByName(candidate);
+            if (classInfo != null) {
+                String selectClause = selectClause(classInfo, null, new HashSet<>());
+                if (selectClause != null) {
+                    selectClauses.put(classInfo.name().toString(), selectClause);
+                }
+            }
+        }
+        return selectClauses;
+    }
+
+    /**
+     * @return the projection classes, including the nested ones, whose constructor is invoked by Hibernate ORM
+     */
+    public Set<String> getProjectionClasses() {
+        return projectionClasses;
+    }
+
+    private String selectClause(ClassInfo type, String parentParameter, Set<DotName> visited) {
+        if (isInnerClass(type) || !visited.add(type.name())) {
+            // a cycle of nested projections cannot be resolved
+            return null;
+        }
+        MethodInfo constructor = getConstructor(type);
+        if (constructor == null) {
+            return null;
+        }
+        List<String> parameters = new ArrayList<>();
+        for (MethodParameterInfo parameter : constructor.parameters()) {
+            String parameterName = getParameterName(type, parentParameter, parameter, visited);
+            if (parameterName == null) {
+                return null;
+            }
+            parameters.add(parameterName);
+        }
+        visited.remove(type.name());
+        projectionClasses.add(type.name().toString());
+        return "new " + type.name().toString() + " (" + String.join(",", parameters) + ") ";
+    }
+
+    private MethodInfo getConstructor(ClassInfo type) {
+        List<MethodInfo> constructors = type.constructors();
+        if (constructors.isEmpty()) {
+            return null;
+        }
+        for (MethodInfo constructor : constructors) {
+            if (constructor.declaredAnnotation(projectedConstructor) != null) {
+                return constructor;
+            }
+        }
+        for (MethodInfo constructor : constructors) {
+            for (MethodParameterInfo parameter : constructor.parameters()) {
+                if (parameter.declaredAnnotation(projectedFieldName) != null) {
+                    return constructor;
+                }
+            }
+        }
+        // the runtime falls back to the first declared constructor (with parameters),
+        // the declaration order is only reliable if there is a single candidate
+        MethodInfo candidate = null;
+        for (MethodInfo constructor : constructors) {
+            if (constructor.parametersCount() > 0) {
+                if (candidate != null) {
+                    return null;
+                }
+                candidate = constructor;
+            }
+        }
+        if (candidate != null) {
+            return candidate;
+        }
+        return constructors.size() == 1 ? constructors.get(0) : null;
+    }
+
+    private String getParameterName(ClassInfo parentType, String parentParameter, MethodParameterInfo parameter,
+            Set<DotName> visited) {
+        String parameterName;
+        AnnotationInstance fieldName = parameter.declaredAnnotation(projectedFieldName);
+        if (fieldName != null) {
+            parameterName = getNameFromProjectedFieldName(fieldName);
+        } else if (parameter.name() == null) {
+            // compiled without parameter names
+            return null;
+        } else {
+            FieldInfo field = parentType.field(parameter.name());
+            AnnotationInstance fieldAnnotation = field != null ? field.declaredAnnotation(projectedFieldName) : null;
+            parameterName = fieldAnnotation != null ? getNameFromProjectedFieldName(fieldAnnotation) : parameter.name();
+        }
+        if (parameterName == null) {
+            return null;
+        }
+        parameterName = (parentParameter == null) ? parameterName : parentParameter + "." + parameterName;
+        if (parameter.type().kind() == org.jboss.jandex.Type.Kind.CLASS) {
+            ClassInfo nestedType = index.getClassByName(parameter.type().name());
+            if (nestedType != null && nestedType.declaredAnnotation(nestedProjectedClass) != null) {
+                return selectClause(nestedType, parameterName, visited);
+            }
+        }
+        return parameterName;
+    }
+
+    private static String getNameFromProjectedFieldName(AnnotationInstance annotation) {
+        String name = annotation.value() != null ? annotation.value().asString() : "";
+        // an empty name is reported at runtime
+        return name.isEmpty() ? null : name;
+    }
+
+    private static boolean isInnerClass(ClassInfo type) {
+        // the constructors of non-static member classes have a synthetic parameter for the enclosing instance
+        return type.nestingType() == NestingType.LOCAL || type.nestingType() == NestingType.ANONYMOUS
+                || (type.nestingType() == NestingType.INNER && !Modifier.isStatic(type.flags()));
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.quarkus.panache.hibernate.common.deployment;
+
+import java.util.List;
+import java.util.Set;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The calls to the Panache methods found in the bytecode of the application classes, which are read once for all the build
+ * steps that prepare these calls at build time.
+ */
+public final class ApplicationPanacheCallsBuildItem extends SimpleBuildItem {
+    private final List<ConstantQuery> constantQueries;
+    private final Set<String> projectedClasses;
+
+    public ApplicationPanacheCallsBuildItem(List<ConstantQuery> constantQueries, Set<String> projectedClasses) {
+        this.constantQueries = constantQueries;
+        this.projectedClasses = projectedClasses;
+    }
+
+    /**
+     * @return the constant query strings passed to a query method, e.g. {@code Person.find("name = ?1", name)}
+     */
+    public List<ConstantQuery> getConstantQueries() {
+        return constantQueries;
+    }
+
+    /**
+     * @return the names of the classes whose class literal is passed to a {@code project(Class)} method
+     */
+    public Set<String> getProjectedClasses() {
+        return projectedClasses;
+    }
+
+    /**
+     * @param owner the internal name of the class declaring the invoked query method
+     * @param method the name of the invoked query method
+     * @param query the constant query string
+     */
+    public record ConstantQuery(String owner, String method, String query) {
+    }
+}
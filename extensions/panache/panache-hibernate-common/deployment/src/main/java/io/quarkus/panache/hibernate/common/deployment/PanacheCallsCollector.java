@@ -0,0 +1,132 @@
+package io.quarkus.panache.hibernate.common.deployment;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+import io.quarkus.panache.hibernate.common.deployment.ApplicationPanacheCallsBuildItem.ConstantQuery;
+
+/**
+ * Collects the calls to the Panache methods from the bytecode of the application classes:
+ * <ul>
+ * <li>the constant query strings passed to a query method, e.g. {@code Person.find("name = ?1", name)}. The query is
+ * constant if the value of the argument on the operand stack is only produced by a single {@code LDC} instruction. Only the
+ * methods which invoke a query method are analyzed.</li>
+ * <li>the class literals immediately followed by the invocation of a {@code project(Class)} method, e.g.
+ * {@code Person.find("name", name).project(PersonName.class)}.</li>
+ * </ul>
+ * The owner of the query methods is not checked, the calls which do not target an entity or a repository are ignored by
+ * the consumers.
+ */
+final class PanacheCallsCollector {
+
+    private static final Logger LOG = Logger.getLogger(PanacheCallsCollector.class);
+
+    private static final Set<String> QUERY_METHODS = Set.of("find", "list", "stream", "count", "update", "delete");
+    private static final String QUERY_DESCRIPTOR_PREFIX = "(Ljava/lang/String;";
+    private static final String PROJECT_METHOD = "project";
+    private static final String PROJECT_DESCRIPTOR_PREFIX = "(Ljava/lang/Class;)";
+
+    private final List<ConstantQuery> constantQueries = new ArrayList<>();
+    private final Set<String> projectedClasses = new HashSet<>();
+
+    void collect(ClassNode classNode) {
+        for (MethodNode method : classNode.methods) {
+            boolean invokesQueryMethod = false;
+            for (AbstractInsnNode insn : method.instructions) {
+                if (!(insn instanceof MethodInsnNode)) {
+                    continue;
+                }
+                MethodInsnNode invoke = (MethodInsnNode) insn;
+                if (isQueryMethod(invoke)) {
+                    invokesQueryMethod = true;
+                } else if (isProjectMethod(invoke)) {
+                    Type classLiteral = previousClassLiteral(invoke);
+                    if (classLiteral != null) {
+                        projectedClasses.add(classLiteral.getClassName());
+                    }
+                }
+            }
+            if (invokesQueryMethod) {
+                collectConstantQueries(classNode.name, method);
+            }
+        }
+    }
+
+    List<ConstantQuery> getConstantQueries() {
+        return constantQueries;
+    }
+
+    Set<String> getProjectedClasses() {
+        return projectedClasses;
+    }
+
+    private void collectConstantQueries(String owner, MethodNode method) {
+        Frame<SourceValue>[] frames;
+        try {
+            frames = new Analyzer<>(new SourceInterpreter()).analyze(owner, method);
+        } catch (AnalyzerException e) {
+            LOG.debugf(e, "Unable to analyze method %s#%s", owner, method.name);
+            return;
+        }
+        AbstractInsnNode[] insns = method.instructions.toArray();
+        for (int i = 0; i < insns.length; i++) {
+            if (!(insns[i] instanceof MethodInsnNode) || !isQueryMethod((MethodInsnNode) insns[i])) {
+                continue;
+            }
+            MethodInsnNode invoke = (MethodInsnNode) insns[i];
+            Frame<SourceValue> frame = frames[i];
+            if (frame == null) {
+                // unreachable code
+                continue;
+            }
+            // the query is the first argument
+            int arguments = Type.getArgumentTypes(invoke.desc).length;
+            SourceValue value = frame.getStack(frame.getStackSize() - arguments);
+            if (value.insns.size() != 1) {
+                continue;
+            }
+            AbstractInsnNode source = value.insns.iterator().next();
+            if (source.getOpcode() == Opcodes.LDC && ((LdcInsnNode) source).cst instanceof String) {
+                constantQueries.add(new ConstantQuery(invoke.owner, invoke.name, (String) ((LdcInsnNode) source).cst));
+            }
+        }
+    }
+
+    private static boolean isQueryMethod(MethodInsnNode invoke) {
+        return QUERY_METHODS.contains(invoke.name) && invoke.desc.startsWith(QUERY_DESCRIPTOR_PREFIX);
+    }
+
+    private static boolean isProjectMethod(MethodInsnNode invoke) {
+        return invoke.getOpcode() != Opcodes.INVOKESTATIC && invoke.name.equals(PROJECT_METHOD)
+                && invoke.desc.startsWith(PROJECT_DESCRIPTOR_PREFIX);
+    }
+
+    private static Type previousClassLiteral(AbstractInsnNode insn) {
+        AbstractInsnNode previous = insn.getPrevious();
+        // skip the labels, the line numbers and the frames
+        while (previous != null && previous.getOpcode() < 0) {
+            previous = previous.getPrevious();
+        }
+        if (previous instanceof LdcInsnNode && ((LdcInsnNode) previous).cst instanceof Type) {
+            Type type = (Type) ((LdcInsnNode) previous).cst;
+            return type.getSort() == Type.OBJECT ? type : null;
+        }
+        return null;
+    }
+}
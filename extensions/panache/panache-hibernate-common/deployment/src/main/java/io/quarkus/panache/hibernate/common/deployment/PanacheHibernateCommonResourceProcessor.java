@@ -1,5 +1,9 @@
 package io.quarkus.panache.hibernate.common.deployment;
 
+import static io.quarkus.commons.classloading.ClassLoaderHelper.fromClassNameToResourceName;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Modifier;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -17,12 +21,16 @@
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
 
 import io.quarkus.arc.deployment.staticmethods.InterceptedStaticMethodsTransformersRegisteredBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.gizmo.DescriptorUtils;
@@ -34,6 +42,8 @@
 
 public final class PanacheHibernateCommonResourceProcessor {
 
+    private static final Logger LOG = Logger.getLogger(PanacheHibernateCommonResourceProcessor.class);
+
     private static final DotName DOTNAME_ENTITY = DotName.createSimple(Entity.class.getName());
     private static final DotName DOTNAME_MAPPED_SUPERCLASS = DotName.createSimple(MappedSuperclass.class.getName());
     private static final DotName DOTNAME_EMBEDDABLE = DotName.createSimple(Embeddable.class.getName());
@@ -151,6 +161,29 @@ void replaceFieldAccesses(CombinedIndexBuildItem index,
         }
     }
 
+    // Reads the application classes once and only keeps the Panache calls needed by the Panache extensions,
+    // e.g. the constant queries and the projection classes
+    @BuildStep
+    ApplicationPanacheCallsBuildItem collectPanacheCalls(ApplicationIndexBuildItem applicationIndex) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        PanacheCallsCollector collector = new PanacheCallsCollector();
+        for (ClassInfo classInfo : applicationIndex.getIndex().getKnownClasses()) {
+            String className = classInfo.name().toString();
+            try (InputStream is = classLoader.getResourceAsStream(fromClassNameToResourceName(className))) {
+                if (is == null) {
+                    continue;
+                }
+                // the class node is only kept while its methods are scanned
+                ClassNode classNode = new ClassNode();
+                new ClassReader(is).accept(classNode, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+                collector.collect(classNode);
+            } catch (IOException e) {
+                LOG.debugf(e, "Unable to read class %s", className);
+            }
+        }
+        return new ApplicationPanacheCallsBuildItem(collector.getConstantQueries(), collector.getProjectedClasses());
+    }
+
     private EntityModel createEntityModel(ClassInfo classInfo) {
         EntityModel entityModel = new EntityModel(classInfo);
         // Unfortunately, at the moment Hibernate ORM's enhancement ignores XML mapping,
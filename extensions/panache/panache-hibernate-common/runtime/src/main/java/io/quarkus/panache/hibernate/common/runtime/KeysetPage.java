@@ -0,0 +1,252 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+/**
+ * A page of a query using keyset pagination, also known as seek pagination.
+ * <p>
+ * Instead of skipping the rows of the previous pages with an offset, which the database has to read anyway, the query of a
+ * page only selects the rows which follow the key of the last row of the previous page, e.g.
+ * {@code FROM Person WHERE (lastName > :k0) OR (lastName = :k0 AND id > :k1) ORDER BY lastName, id}. The cost of a page
+ * does not depend on its position if the key columns are indexed, and no count query is needed to paginate.
+ * <p>
+ * The key columns must not be {@code null} and the last key column must be unique, e.g. the identifier, for the order of
+ * the rows to be total. Keyset pagination is only supported for the queries selecting an entity, i.e. starting with
+ * {@code FROM}, and without their own {@code ORDER BY} clause.
+ */
+public final class KeysetPage {
+
+    static final String PARAMETER_PREFIX = "panacheKey";
+
+    private final Sort keys;
+    private final int size;
+    // the key of the last row of the previous page, or null for the first page
+    private final Object[] after;
+
+    private KeysetPage(Sort keys, int size, Object[] after) {
+        this.keys = keys;
+        this.size = size;
+        this.after = after;
+    }
+
+    /**
+     * @param keys the key columns, in sort order
+     * @param size the page size
+     * @return the first page
+     */
+    public static KeysetPage first(Sort keys, int size) {
+        if (keys == null || keys.getColumns().isEmpty()) {
+            throw new IllegalArgumentException("Keyset pagination requires at least one key column");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        return new KeysetPage(keys, size, null);
+    }
+
+    /**
+     * @param key the key of the last row of this page
+     * @return the next page
+     */
+    public KeysetPage next(Object[] key) {
+        return new KeysetPage(keys, size, key);
+    }
+
+    public Sort getKeys() {
+        return keys;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return a copy of the key of the last row of the previous page, or {@code null} for the first page
+     */
+    public Object[] getAfter() {
+        return after != null ? after.clone() : null;
+    }
+
+    /**
+     * @param query the HQL query
+     * @param paramsArrayOrMap the parameters of the query
+     * @return the HQL query of this page, including its {@code ORDER BY} clause
+     */
+    public String query(String query, Object paramsArrayOrMap) {
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            throw new UnsupportedOperationException("Keyset pagination is not supported for named queries: " + query);
+        }
+        if (!PanacheJpaUtil.trimForAnalysis(query).startsWith("from ")) {
+            throw new UnsupportedOperationException(
+                    "Keyset pagination is only supported for queries selecting an entity, i.e. starting with 'from': " + query);
+        }
+        int where = -1;
+        int depth = 0;
+        char quote = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && isKeyword(query, i, "where")) {
+                where = i;
+            } else if (depth == 0 && (isKeyword(query, i, "order") || isKeyword(query, i, "group"))
+                    && query.substring(i + 5).stripLeading().regionMatches(true, 0, "by", 0, 2)) {
+                throw new UnsupportedOperationException(
+                        "Keyset pagination is not supported for queries with an ORDER BY or GROUP BY clause,"
+                                + " the rows are sorted by the key columns: " + query);
+            }
+        }
+
+        StringBuilder hql = new StringBuilder(query.length() + 64);
+        if (after == null) {
+            hql.append(query);
+        } else {
+            boolean namedParameters = paramsArrayOrMap instanceof Map;
+            int paramCount = !namedParameters && paramsArrayOrMap != null ? ((Object[]) paramsArrayOrMap).length : 0;
+            String predicate = seekPredicate(namedParameters, paramCount);
+            if (where == -1) {
+                hql.append(query).append(" WHERE ").append(predicate);
+            } else {
+                hql.append(query, 0, where).append("WHERE (").append(predicate).append(") AND (")
+                        .append(query, where + 5, query.length()).append(")");
+            }
+        }
+        return hql.append(PanacheJpaUtil.toOrderBy(keys)).toString();
+    }
+
+    /**
+     * @param paramsArrayOrMap the parameters of the query
+     * @return the parameters of the query of this page
+     */
+    @SuppressWarnings("unchecked")
+    public Object parameters(Object paramsArrayOrMap) {
+        if (after == null) {
+            return paramsArrayOrMap;
+        }
+        if (paramsArrayOrMap instanceof Map) {
+            Map<String, Object> parameters = new HashMap<>((Map<String, Object>) paramsArrayOrMap);
+            for (int i = 0; i < after.length; i++) {
+                parameters.put(PARAMETER_PREFIX + i, after[i]);
+            }
+            return parameters;
+        }
+        Object[] params = paramsArrayOrMap != null ? (Object[]) paramsArrayOrMap : new Object[0];
+        Object[] parameters = Arrays.copyOf(params, params.length + after.length);
+        System.arraycopy(after, 0, parameters, params.length, after.length);
+        return parameters;
+    }
+
+    /**
+     * @param metamodel the metamodel of the persistence unit
+     * @param entity an entity returned by the query of this page
+     * @return the key of the entity
+     */
+    public Object[] keyOf(Metamodel metamodel, Object entity) {
+        List<Sort.Column> columns = keys.getColumns();
+        Object[] key = new Object[columns.size()];
+        for (int i = 0; i < key.length; i++) {
+            String column = columns.get(i).getName();
+            Object value = entity;
+            for (String attribute : column.split("\\.")) {
+                value = getAttributeValue(metamodel, value, PanacheJpaUtil.unquoteColumnName(attribute));
+                if (value == null) {
+                    throw new PanacheQueryException("The key column '" + column + "' of " + entity
+                            + " is null, keyset pagination requires non-null key columns");
+                }
+            }
+            key[i] = value;
+        }
+        return key;
+    }
+
+    private String seekPredicate(boolean namedParameters, int paramCount) {
+        // (k0 > ?) OR (k0 = ? AND k1 > ?) OR ...
+        List<Sort.Column> columns = keys.getColumns();
+        StringBuilder predicate = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                predicate.append(" OR ");
+            }
+            predicate.append('(');
+            for (int j = 0; j <= i; j++) {
+                Sort.Column column = columns.get(j);
+                if (j > 0) {
+                    predicate.append(" AND ");
+                }
+                predicate.append(PanacheJpaUtil.toColumnName(keys, column));
+                if (j < i) {
+                    predicate.append(" = ");
+                } else {
+                    predicate.append(column.getDirection() == Sort.Direction.Ascending ? " > " : " < ");
+                }
+                if (namedParameters) {
+                    predicate.append(':').append(PARAMETER_PREFIX).append(j);
+                } else {
+                    predicate.append('?').append(paramCount + j + 1);
+                }
+            }
+            predicate.append(')');
+        }
+        return predicate.toString();
+    }
+
+    private static boolean isKeyword(String query, int index, String keyword) {
+        int end = index + keyword.length();
+        return query.regionMatches(true, index, keyword, 0, keyword.length())
+                && index > 0 && Character.isWhitespace(query.charAt(index - 1))
+                && (end == query.length() || Character.isWhitespace(query.charAt(end)) || query.charAt(end) == '(');
+    }
+
+    private static Object getAttributeValue(Metamodel metamodel, Object object, String attribute) {
+        Member member = managedType(metamodel, object.getClass()).getAttribute(attribute).getJavaMember();
+        try {
+            if (member instanceof Field) {
+                Field field = (Field) member;
+                if (!field.canAccess(object)) {
+                    field.setAccessible(true);
+                }
+                return field.get(object);
+            }
+            Method getter = (Method) member;
+            if (!getter.canAccess(object)) {
+                getter.setAccessible(true);
+            }
+            return getter.invoke(object);
+        } catch (ReflectiveOperationException e) {
+            throw new PanacheQueryException("Unable to read the key column '" + attribute + "' of " + object, e);
+        }
+    }
+
+    private static ManagedType<?> managedType(Metamodel metamodel, Class<?> type) {
+        // proxies and enhanced classes are subclasses of the managed type
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                return metamodel.managedType(c);
+            } catch (IllegalArgumentException e) {
+                // not a managed type
+            }
+        }
+        throw new PanacheQueryException("Keyset pagination requires the query to select an entity, got: " + type.getName());
+    }
+
+}
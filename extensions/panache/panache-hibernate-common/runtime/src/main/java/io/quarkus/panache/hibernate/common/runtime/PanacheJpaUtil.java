@@ -21,7 +21,11 @@ public static String getEntityName(Class<?> entityClass) {
         // FIXME: not true?
         // Escape the entity name just in case some keywords are used
         // in package names that will prevent ORM from executing a query
-        return "`%s`".formatted(entityClass.getName());
+        return getEntityName(entityClass.getName());
+    }
+
+    static String getEntityName(String entityClassName) {
+        return "`%s`".formatted(entityClassName);
     }
 
     /**
@@ -46,10 +50,39 @@ public static String createFindQuery(Class<?> entityClass, String query, int par
         if (query == null) {
             return "FROM " + getEntityName(entityClass);
         }
+        return PanacheQueryCache.translate(PanacheQueryCache.Type.FIND, entityClass.getName(), query, paramCount);
+    }
+
+    /**
+     * Translates the simplified query to HQL, without caching.
+     *
+     * @param type the type of the query
+     * @param entityClassName the name of the entity class
+     * @param query the simplified query, must not be {@code null}
+     * @param paramCount the number of parameters
+     * @return the HQL query
+     * @see PanacheQueryCache
+     */
+    public static String translateQuery(PanacheQueryCache.Type type, String entityClassName, String query, int paramCount) {
+        String entityName = getEntityName(entityClassName);
+        switch (type) {
+            case FIND:
+                return translateFindQuery(entityName, query, paramCount);
+            case COUNT:
+                return translateQueryForCount(entityName, query, paramCount);
+            case UPDATE:
+                return translateUpdateQuery(entityName, query, paramCount);
+            case DELETE:
+                return translateDeleteQuery(entityName, query, paramCount);
+            default:
+                throw new IllegalArgumentException("Unsupported query type: " + type);
+        }
+    }
 
+    private static String translateFindQuery(String entityName, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty()) {
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + entityName;
         }
 
         if (trimmedForAnalysis.startsWith("from ")
@@ -59,12 +92,12 @@ public static String createFindQuery(Class<?> entityClass, String query, int par
         }
         if (trimmedForAnalysis.startsWith("order by ")
                 || trimmedForAnalysis.startsWith("where ")) {
-            return "FROM " + getEntityName(entityClass) + " " + query;
+            return "FROM " + entityName + " " + query;
         }
         if (trimmedForAnalysis.indexOf(' ') == -1 && trimmedForAnalysis.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "FROM " + entityName + " WHERE " + query;
     }
 
     public static boolean isNamedQuery(String query) {
@@ -77,10 +110,13 @@ public static boolean isNamedQuery(String query) {
     public static String createQueryForCount(Class<?> entityClass, String query, int paramCount) {
         if (query == null || query.isEmpty())
             return "FROM " + getEntityName(entityClass);
+        return PanacheQueryCache.translate(PanacheQueryCache.Type.COUNT, entityClass.getName(), query, paramCount);
+    }
 
+    private static String translateQueryForCount(String entityName, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty())
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + entityName;
 
         // assume these have valid select clauses and let them through
         if (trimmedForAnalysis.startsWith("select ")
@@ -89,23 +125,26 @@ public static String createQueryForCount(Class<?> entityClass, String query, int
             return query;
         }
         if (trimmedForAnalysis.startsWith("where ")) {
-            return "FROM " + getEntityName(entityClass) + " " + query;
+            return "FROM " + entityName + " " + query;
         }
         if (trimmedForAnalysis.startsWith("order by ")) {
             // ignore it
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + entityName;
         }
         if (trimmedForAnalysis.indexOf(' ') == -1 && trimmedForAnalysis.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "FROM " + entityName + " WHERE " + query;
     }
 
     public static String createUpdateQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null) {
             throw new PanacheQueryException("Query string cannot be null");
         }
+        return PanacheQueryCache.translate(PanacheQueryCache.Type.UPDATE, entityClass.getName(), query, paramCount);
+    }
 
+    private static String translateUpdateQuery(String entityName, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty()) {
             throw new PanacheQueryException("Query string cannot be empty");
@@ -129,18 +168,21 @@ public static String createUpdateQuery(Class<?> entityClass, String query, int p
             query += " = ?1";
         }
         if (trimmedForAnalysis.startsWith("set ")) {
-            return "UPDATE " + getEntityName(entityClass) + " " + query;
+            return "UPDATE " + entityName + " " + query;
         }
-        return "UPDATE " + getEntityName(entityClass) + " SET " + query;
+        return "UPDATE " + entityName + " SET " + query;
     }
 
     public static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null)
             return "DELETE FROM " + getEntityName(entityClass);
+        return PanacheQueryCache.translate(PanacheQueryCache.Type.DELETE, entityClass.getName(), query, paramCount);
+    }
 
+    private static String translateDeleteQuery(String entityName, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty())
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
 
         if (trimmedForAnalysis.startsWith("delete ")) {
             return query;
@@ -150,12 +192,12 @@ public static String createDeleteQuery(Class<?> entityClass, String query, int p
         }
         if (trimmedForAnalysis.startsWith("order by ")) {
             // ignore it
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
         }
         if (trimmedForAnalysis.indexOf(' ') == -1 && trimmedForAnalysis.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "DELETE FROM " + entityName + " WHERE " + query;
     }
 
     public static String toOrderBy(Sort sort) {
@@ -170,11 +212,7 @@ public static String toOrderBy(Sort sort) {
             Sort.Column column = sort.getColumns().get(i);
             if (i > 0)
                 sb.append(" , ");
-            if (sort.isEscapingEnabled()) {
-                sb.append(escapeColumnName(column.getName()));
-            } else {
-                sb.append(column.getName());
-            }
+            sb.append(toColumnName(sort, column));
             if (column.getDirection() != Sort.Direction.Ascending) {
                 sb.append(" DESC");
             }
@@ -191,6 +229,10 @@ public static String toOrderBy(Sort sort) {
         return sb.toString();
     }
 
+    static CharSequence toColumnName(Sort sort, Sort.Column column) {
+        return sort.isEscapingEnabled() ? escapeColumnName(column.getName()) : column.getName();
+    }
+
     private static StringBuilder escapeColumnName(String columnName) {
         StringBuilder sb = new StringBuilder();
         String[] path = columnName.split("\\.");
@@ -202,7 +244,7 @@ private static StringBuilder escapeColumnName(String columnName) {
         return sb;
     }
 
-    private static String unquoteColumnName(String columnName) {
+    static String unquoteColumnName(String columnName) {
         String unquotedColumnName;
         //Note HQL uses backticks to escape/quote special words that are used as identifiers
         if (columnName.charAt(0) == '`' && columnName.charAt(columnName.length() - 1) == '`') {
@@ -0,0 +1,168 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.runtime.annotations.RecordableConstructor;
+
+/**
+ * Caches the HQL translation of the simplified Panache queries.
+ * <p>
+ * The constant queries found in the application bytecode are translated at build time and registered at static init. The
+ * other queries are translated when they are first used and kept in a bounded cache: once the cache is full, the new
+ * queries are translated on every use. Returning the same {@link String} instance for a given query also means that
+ * Hibernate ORM does not need to compute its hash code again when looking up its query plan cache.
+ */
+public final class PanacheQueryCache {
+
+    static final int MAX_SIZE = 4096;
+
+    private static volatile Map<Key, String> preTranslated = Map.of();
+    private static final ConcurrentMap<Key, String> cache = new ConcurrentHashMap<>();
+
+    private static final LongAdder hitCount = new LongAdder();
+    private static final LongAdder missCount = new LongAdder();
+
+    private PanacheQueryCache() {
+    }
+
+    /**
+     * @param type the type of the query
+     * @param entityClassName the name of the entity class
+     * @param query the simplified query, must not be {@code null}
+     * @param paramCount the number of parameters
+     * @return the HQL query
+     */
+    public static String translate(Type type, String entityClassName, String query, int paramCount) {
+        Key key = new Key(type, entityClassName, query, paramCount == 1);
+        String hql = preTranslated.get(key);
+        if (hql == null) {
+            hql = cache.get(key);
+        }
+        if (hql != null) {
+            hitCount.increment();
+            return hql;
+        }
+        missCount.increment();
+        hql = PanacheJpaUtil.translateQuery(type, entityClassName, query, paramCount);
+        if (cache.size() < MAX_SIZE) {
+            String previous = cache.putIfAbsent(key, hql);
+            if (previous != null) {
+                hql = previous;
+            }
+        }
+        return hql;
+    }
+
+    /**
+     * Registers the queries translated at build time.
+     */
+    public static void setPreTranslatedQueries(Map<Key, String> queries) {
+        preTranslated = Map.copyOf(queries);
+    }
+
+    /**
+     * @return the number of lookups which returned a translated query
+     */
+    public static long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of lookups which needed to translate the query
+     */
+    public static long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the number of queries translated at build time
+     */
+    public static int getPreTranslatedSize() {
+        return preTranslated.size();
+    }
+
+    /**
+     * @return the number of queries translated at runtime and cached
+     */
+    public static int getSize() {
+        return cache.size();
+    }
+
+    static void clear() {
+        preTranslated = Map.of();
+        cache.clear();
+        hitCount.reset();
+        missCount.reset();
+    }
+
+    public enum Type {
+        FIND,
+        COUNT,
+        UPDATE,
+        DELETE
+    }
+
+    public static final class Key {
+
+        private final Type type;
+        private final String entityClassName;
+        private final String query;
+        // the shorthand form, e.g. "name", only applies if there is a single parameter
+        private final boolean singleParameter;
+        private final int hashCode;
+
+        @RecordableConstructor
+        public Key(Type type, String entityClassName, String query, boolean singleParameter) {
+            this.type = type;
+            this.entityClassName = entityClassName;
+            this.query = query;
+            this.singleParameter = singleParameter;
+            this.hashCode = Objects.hash(type, entityClassName, query, singleParameter);
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public String getEntityClassName() {
+            return entityClassName;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public boolean isSingleParameter() {
+            return singleParameter;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return type == other.type && singleParameter == other.singleParameter
+                    && entityClassName.equals(other.entityClassName) && query.equals(other.query);
+        }
+
+        @Override
+        public String toString() {
+            return type + " " + entityClassName + " [" + query + "]";
+        }
+
+    }
+
+}
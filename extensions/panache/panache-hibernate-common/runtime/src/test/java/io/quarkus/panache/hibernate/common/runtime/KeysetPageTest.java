@@ -0,0 +1,62 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.Sort;
+
+public class KeysetPageTest {
+
+    @Test
+    public void testFirstPage() {
+        KeysetPage page = KeysetPage.first(Sort.by("name").and("id"), 10);
+        Object[] params = new Object[] { "ALIVE" };
+        assertEquals("FROM Person WHERE status = ?1 ORDER BY `name` , `id`",
+                page.query("FROM Person WHERE status = ?1", params));
+        assertSame(params, page.parameters(params));
+    }
+
+    @Test
+    public void testPositionalParameters() {
+        KeysetPage page = KeysetPage.first(Sort.by("name").and("id", Sort.Direction.Descending), 10)
+                .next(new Object[] { "Stef", 42L });
+        assertEquals("FROM Person WHERE ((`name` > ?2) OR (`name` = ?2 AND `id` < ?3)) AND ( status = ?1 or status = 'a)')"
+                + " ORDER BY `name` , `id` DESC",
+                page.query("FROM Person WHERE status = ?1 or status = 'a)'", new Object[] { "ALIVE" }));
+        assertArrayEquals(new Object[] { "ALIVE", "Stef", 42L }, (Object[]) page.parameters(new Object[] { "ALIVE" }));
+    }
+
+    @Test
+    public void testNamedParameters() {
+        KeysetPage page = KeysetPage.first(Sort.by("id"), 10).next(new Object[] { 42L });
+        assertEquals("from Person WHERE ((`id` > :panacheKey0)) AND ( status in (select s from Status s where s.active))"
+                + " ORDER BY `id`",
+                page.query("from Person where status in (select s from Status s where s.active)",
+                        Map.of("status", "ALIVE")));
+        assertEquals(Map.of("status", "ALIVE", "panacheKey0", 42L), page.parameters(Map.of("status", "ALIVE")));
+    }
+
+    @Test
+    public void testNoWhereClause() {
+        KeysetPage page = KeysetPage.first(Sort.by("id"), 10).next(new Object[] { 42L });
+        assertEquals("FROM Person WHERE (`id` > ?1) ORDER BY `id`", page.query("FROM Person", null));
+        assertArrayEquals(new Object[] { 42L }, (Object[]) page.parameters(null));
+    }
+
+    @Test
+    public void testUnsupportedQueries() {
+        KeysetPage page = KeysetPage.first(Sort.by("id"), 10);
+        assertThrows(UnsupportedOperationException.class, () -> page.query("#Person.findAll", null));
+        assertThrows(UnsupportedOperationException.class, () -> page.query("SELECT name FROM Person", null));
+        assertThrows(UnsupportedOperationException.class, () -> page.query("FROM Person ORDER BY name", null));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.first(Sort.empty(), 10));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.first(Sort.by("id"), 0));
+    }
+
+}
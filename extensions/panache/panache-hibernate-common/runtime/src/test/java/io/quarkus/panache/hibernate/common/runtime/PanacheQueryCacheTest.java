@@ -0,0 +1,80 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.runtime.PanacheQueryCache.Key;
+import io.quarkus.panache.hibernate.common.runtime.PanacheQueryCache.Type;
+
+public class PanacheQueryCacheTest {
+
+    @AfterEach
+    public void clear() {
+        PanacheQueryCache.clear();
+    }
+
+    @Test
+    public void testCachedTranslation() {
+        String hql = PanacheJpaUtil.createFindQuery(Person.class, "name = ?1 and status = ?2", 2);
+        assertEquals("FROM `" + Person.class.getName() + "` WHERE name = ?1 and status = ?2", hql);
+        assertEquals(0, PanacheQueryCache.getHitCount());
+        assertEquals(1, PanacheQueryCache.getMissCount());
+
+        assertSame(hql, PanacheJpaUtil.createFindQuery(Person.class, "name = ?1 and status = ?2", 2));
+        assertEquals(1, PanacheQueryCache.getHitCount());
+        assertEquals(1, PanacheQueryCache.getSize());
+
+        // the same query string is translated differently for another entity or query type
+        assertEquals("FROM `" + Dog.class.getName() + "` WHERE name = ?1 and status = ?2",
+                PanacheJpaUtil.createFindQuery(Dog.class, "name = ?1 and status = ?2", 2));
+        assertEquals("DELETE FROM `" + Person.class.getName() + "` WHERE name = ?1 and status = ?2",
+                PanacheJpaUtil.createDeleteQuery(Person.class, "name = ?1 and status = ?2", 2));
+        assertEquals(3, PanacheQueryCache.getSize());
+    }
+
+    @Test
+    public void testShorthandQuery() {
+        assertEquals("FROM `" + Person.class.getName() + "` WHERE name = ?1",
+                PanacheJpaUtil.createFindQuery(Person.class, "name", 1));
+        assertEquals("FROM `" + Person.class.getName() + "` WHERE name",
+                PanacheJpaUtil.createFindQuery(Person.class, "name", 2));
+        assertEquals("UPDATE `" + Person.class.getName() + "` SET name = ?1",
+                PanacheJpaUtil.createUpdateQuery(Person.class, "name", 1));
+        assertEquals("FROM `" + Person.class.getName() + "` WHERE name = ?1",
+                PanacheJpaUtil.createQueryForCount(Person.class, "name", 1));
+        assertEquals(0, PanacheQueryCache.getHitCount());
+    }
+
+    @Test
+    public void testPreTranslatedQueries() {
+        String query = "status = ?1";
+        String hql = PanacheJpaUtil.translateQuery(Type.FIND, Person.class.getName(), query, 1);
+        PanacheQueryCache.setPreTranslatedQueries(Map.of(new Key(Type.FIND, Person.class.getName(), query, true), hql));
+        assertEquals(1, PanacheQueryCache.getPreTranslatedSize());
+
+        assertSame(hql, PanacheJpaUtil.createFindQuery(Person.class, query, 1));
+        assertEquals(1, PanacheQueryCache.getHitCount());
+        assertEquals(0, PanacheQueryCache.getMissCount());
+        assertEquals(0, PanacheQueryCache.getSize());
+    }
+
+    @Test
+    public void testInvalidQueryNotCached() {
+        assertThrows(PanacheQueryException.class, () -> PanacheJpaUtil.createUpdateQuery(Person.class, " ", 0));
+        assertEquals(0, PanacheQueryCache.getSize());
+    }
+
+    static class Person {
+    }
+
+    static class Dog {
+    }
+
+}
@@ -0,0 +1,30 @@
+package io.quarkus.qute.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Holds a name of a generated {@link io.quarkus.qute.CompiledTemplate} class.
+ */
+public final class CompiledTemplateBuildItem extends MultiBuildItem {
+
+    private final String templateId;
+    private final String className;
+
+    public CompiledTemplateBuildItem(String templateId, String className) {
+        this.templateId = templateId;
+        this.className = className;
+    }
+
+    /**
+     *
+     * @return the id of the template, e.g. {@code ItemResource/items.html}
+     */
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+}
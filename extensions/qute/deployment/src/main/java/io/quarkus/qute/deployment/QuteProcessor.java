@@ -34,6 +34,7 @@
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -111,6 +112,7 @@
 import io.quarkus.qute.ErrorCode;
 import io.quarkus.qute.Expression;
 import io.quarkus.qute.Expression.VirtualMethodPart;
+import io.quarkus.qute.Expressions;
 import io.quarkus.qute.Identifiers;
 import io.quarkus.qute.LoopSectionHelper;
 import io.quarkus.qute.NamespaceResolver;
@@ -138,6 +140,7 @@
 import io.quarkus.qute.deployment.TypeInfos.Info;
 import io.quarkus.qute.deployment.TypeInfos.TypeInfo;
 import io.quarkus.qute.deployment.Types.AssignabilityCheck;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.ExtensionMethodInfo;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.Param;
@@ -2657,16 +2660,87 @@ void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecord
                 .done());
     }
 
+    @BuildStep
+    void compileTemplates(QuteConfig config,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<CheckedTemplateBuildItem> checkedTemplates,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates) {
+
+        if (!config.compileTemplates() || !incorrectExpressions.isEmpty()) {
+            // Skip generation if a validation error occurs
+            return;
+        }
+
+        IndexView index = beanArchiveIndex.getIndex();
+        JavaMemberLookupConfig lookupConfig = new FixedJavaMemberLookupConfig(index, initDefaultMembersFilter(), false);
+        AssignabilityCheck assignabilityCheck = new AssignabilityCheck(index);
+        List<TemplateExtensionMethodBuildItem> regularExtensionMethods = templateExtensionMethods.stream()
+                .filter(Predicate.not(TemplateExtensionMethodBuildItem::hasNamespace)).collect(Collectors.toList());
+
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(index,
+                new GeneratedClassGizmo2Adaptor(generatedClasses, generatedResources, true),
+                new BiFunction<ClassInfo, String, AnnotationTarget>() {
+                    @Override
+                    public AnnotationTarget apply(ClassInfo clazz, String name) {
+                        Type type = Type.create(clazz.name(), org.jboss.jandex.Type.Kind.CLASS);
+                        for (TemplateExtensionMethodBuildItem extensionMethod : regularExtensionMethods) {
+                            if (extensionMethod.matchesName(name)
+                                    && assignabilityCheck.isAssignableFrom(extensionMethod.getMatchType(), type)) {
+                                // The property may be resolved by an extension method
+                                return null;
+                            }
+                        }
+                        return findProperty(name, clazz, lookupConfig);
+                    }
+                });
+
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            if (analysis.id != null) {
+                // Message bundle templates are not compiled
+                continue;
+            }
+            CheckedTemplateBuildItem checkedTemplate = findCheckedTemplate(config, analysis, checkedTemplates);
+            if (checkedTemplate == null) {
+                continue;
+            }
+            Map<String, Type> bindings = new HashMap<>();
+            for (Entry<String, String> e : checkedTemplate.bindings.entrySet()) {
+                Type type = TypeInfos.resolveTypeFromTypeInfo(Expressions.typeInfoFrom(e.getValue()));
+                if (type != null) {
+                    bindings.put(e.getKey(), type);
+                }
+            }
+            ClassInfo declaringClass = checkedTemplate.isRecord() ? checkedTemplate.recordClass
+                    : checkedTemplate.method.declaringClass();
+            String className = generator.generate(declaringClass.name().packagePrefix(),
+                    analysis.path.replaceAll("[^a-zA-Z0-9_]", "_"), analysis.getNodes(), bindings);
+            if (className != null) {
+                LOGGER.debugf("Template %s compiled to %s", analysis.path, className);
+                // A type-safe template is loaded by the id without the suffix
+                compiledTemplates.produce(new CompiledTemplateBuildItem(analysis.path, className));
+                compiledTemplates.produce(new CompiledTemplateBuildItem(checkedTemplate.templateId, className));
+            }
+        }
+    }
+
     @BuildStep
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<CompiledTemplateBuildItem> compiledTemplates) {
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                compiledTemplates.stream().collect(Collectors.toMap(CompiledTemplateBuildItem::getTemplateId,
+                        CompiledTemplateBuildItem::getClassName, (c1, c2) -> c1)));
     }
 
     @BuildStep
@@ -0,0 +1,42 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Item.class, OtherItem.class)
+                    .addAsResource(new StringAsset(
+                            "<p>{item.name}:{item.primitiveId}</p>{#for other in item.otherItems}{other.id}{/for}"
+                                    + "{#if item.name}!{/if}"),
+                            "templates/CompiledTemplateTest/item.html")
+                    .addAsResource(new StringAsset("quarkus.qute.compile-templates=true"), "application.properties"));
+
+    @Test
+    public void testCompiledTemplate() throws ClassNotFoundException {
+        assertTrue(CompiledTemplate.class.isAssignableFrom(Thread.currentThread().getContextClassLoader()
+                .loadClass("io.quarkus.qute.deployment.typesafe.CompiledTemplateTest_item_html_CompiledTemplate")));
+        assertEquals("<p>&lt;Foo&gt;:9</p>11!", Templates.item(new Item("<Foo>", new OtherItem(), new OtherItem())).render());
+        assertEquals("<p>:9</p>", Templates.item(new Item(null)).render());
+    }
+
+    @CheckedTemplate
+    public static class Templates {
+
+        static native TemplateInstance item(Item item);
+
+    }
+
+}
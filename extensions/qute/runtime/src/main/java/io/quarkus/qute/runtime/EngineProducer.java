@@ -35,6 +35,7 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EvalContext;
@@ -276,6 +277,14 @@ public void run() {
             }
         });
 
+        // Add compiled templates
+        Map<String, CompiledTemplate> compiledTemplates = new HashMap<>();
+        for (Entry<String, String> e : context.getCompiledTemplateClasses().entrySet()) {
+            builder.addCompiledTemplate(e.getKey(), compiledTemplates.computeIfAbsent(e.getValue(),
+                    this::createCompiledTemplate));
+            LOGGER.debugf("Added compiled template %s for: %s", e.getValue(), e.getKey());
+        }
+
         builder.timeout(runtimeConfig.timeout());
         builder.useAsyncTimeout(runtimeConfig.useAsyncTimeout());
 
@@ -361,6 +370,20 @@ private TemplateGlobalProvider createGlobalProvider(String initializerClassName)
         }
     }
 
+    private CompiledTemplate createCompiledTemplate(String compiledTemplateClassName) {
+        try {
+            Class<?> compiledTemplateClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledTemplateClassName);
+            if (CompiledTemplate.class.isAssignableFrom(compiledTemplateClazz)) {
+                return (CompiledTemplate) compiledTemplateClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a compiled template: " + compiledTemplateClazz);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName, e);
+        }
+    }
+
     private boolean isExcluded(String path) {
         for (Pattern p : templatePathExcludes) {
             if (p.matcher(path).matches()) {
@@ -96,6 +96,17 @@ public interface QuteConfig {
     @WithDefault("PRIORITIZE")
     DuplicitTemplatesStrategy duplicitTemplatesStrategy();
 
+    /**
+     * If set to {@code true} then the type-safe templates are compiled to bytecode during the build.
+     * <p>
+     * The text and the type-safe expressions of the top-level nodes of a compiled template are rendered without the value
+     * resolvers, i.e. the property accessors are invoked directly. All other nodes, e.g. sections, are rendered as usual.
+     * Note that a custom {@link io.quarkus.qute.ValueResolver} is not used to resolve the properties of a compiled
+     * expression.
+     */
+    @WithDefault("false")
+    boolean compileTemplates();
+
     /**
      * Development mode configuration.
      */
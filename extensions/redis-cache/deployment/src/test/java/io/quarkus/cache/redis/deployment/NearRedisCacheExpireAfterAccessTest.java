@@ -0,0 +1,60 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.redis.runtime.NearRedisCacheImpl;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class NearRedisCacheExpireAfterAccessTest {
+
+    private static final String KEY = "near-access";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(SimpleCachedService.class, TestUtil.class))
+            .overrideConfigKey("quarkus.cache.redis." + SimpleCachedService.CACHE_NAME + ".near-cache.enabled", "true")
+            .overrideConfigKey("quarkus.cache.redis." + SimpleCachedService.CACHE_NAME + ".expire-after-access", "3S");
+
+    @Inject
+    SimpleCachedService simpleCachedService;
+
+    @CacheName(SimpleCachedService.CACHE_NAME)
+    Cache cache;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @Test
+    public void testLocalHitsRefreshTheExpiration() {
+        NearRedisCacheImpl nearCache = (NearRedisCacheImpl) cache;
+        await().atMost(Duration.ofSeconds(10)).until(nearCache::isTracking);
+
+        String value = simpleCachedService.cachedMethod(KEY);
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            assertEquals(value, simpleCachedService.cachedMethod(KEY));
+            return nearCache.getLocalSize() == 1;
+        });
+
+        // Keep reading the value from the local tier for longer than the expiration, the key must not expire in Redis
+        String redisKey = "cache:" + SimpleCachedService.CACHE_NAME + ":" + KEY;
+        long end = System.nanoTime() + Duration.ofSeconds(6).toNanos();
+        while (System.nanoTime() < end) {
+            assertEquals(value, simpleCachedService.cachedMethod(KEY));
+            assertTrue(redisDataSource.key().exists(redisKey));
+            await().pollDelay(Duration.ofMillis(200)).until(() -> true);
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.redis.runtime.NearRedisCacheImpl;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class NearRedisCacheTest {
+
+    private static final String KEY = "near";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(SimpleCachedService.class, TestUtil.class))
+            .overrideConfigKey("quarkus.cache.redis." + SimpleCachedService.CACHE_NAME + ".near-cache.enabled", "true");
+
+    @Inject
+    SimpleCachedService simpleCachedService;
+
+    @CacheName(SimpleCachedService.CACHE_NAME)
+    Cache cache;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @Test
+    public void testNearCache() {
+        assertTrue(cache instanceof NearRedisCacheImpl);
+        NearRedisCacheImpl nearCache = (NearRedisCacheImpl) cache;
+        await().atMost(Duration.ofSeconds(10)).until(nearCache::isTracking);
+
+        String value = simpleCachedService.cachedMethod(KEY);
+        // The first remote read may be discarded because of the invalidation message triggered by the initial write
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            assertEquals(value, simpleCachedService.cachedMethod(KEY));
+            return nearCache.getLocalSize() == 1;
+        });
+        assertEquals(value, simpleCachedService.cachedMethod(KEY));
+        // Each local hit decodes its own instance
+        assertNotSame(simpleCachedService.cachedMethod(KEY), simpleCachedService.cachedMethod(KEY));
+
+        // A modification made by another client removes the local entry
+        String redisKey = "cache:" + SimpleCachedService.CACHE_NAME + ":" + KEY;
+        redisDataSource.value(String.class).set(redisKey, "external");
+        await().atMost(Duration.ofSeconds(10)).until(() -> "external".equals(simpleCachedService.cachedMethod(KEY)));
+
+        simpleCachedService.invalidate(KEY);
+        assertNotEquals(value, simpleCachedService.cachedMethod(KEY));
+
+        simpleCachedService.invalidateAll();
+        assertEquals(0, nearCache.getLocalSize());
+    }
+
+}
@@ -13,6 +13,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import jakarta.inject.Inject;
@@ -621,6 +622,75 @@ void testInvalidation() {
         assertThat(getAllKeys()).hasSize(1);
     }
 
+    @Test
+    public void testSingleFlight() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.singleFlight = true;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger loads = new AtomicInteger();
+        List<Uni<String>> unis = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            unis.add(cache.getAsync(k, x -> Uni.createFrom().item(() -> "hello-" + loads.incrementAndGet())
+                    .onItem().delayIt().by(Duration.ofMillis(200))));
+        }
+        List<String> values = Uni.join().all(unis).andFailFast().await().atMost(Duration.ofSeconds(10));
+        assertThat(values).containsOnly("hello-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void testSingleFlightWithLease() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.singleFlight = true;
+        info.singleFlightLeaseTimeout = Optional.of(Duration.ofSeconds(5));
+        // Two caches simulate two application instances
+        RedisCacheImpl cache1 = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl cache2 = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger loads = new AtomicInteger();
+        Uni<String> uni1 = cache1.getAsync(k, x -> Uni.createFrom().item(() -> "hello-" + loads.incrementAndGet())
+                .onItem().delayIt().by(Duration.ofMillis(500)));
+        Uni<String> uni2 = cache2.getAsync(k, x -> Uni.createFrom().item(() -> "hello-" + loads.incrementAndGet())
+                .onItem().delayIt().by(Duration.ofMillis(500)));
+        List<String> values = Uni.join().all(uni1, uni2).andFailFast().await().atMost(Duration.ofSeconds(10));
+        assertThat(values).containsOnly("hello-1");
+        assertThat(loads).hasValue(1);
+        // The lease is released
+        assertThatTheKeyDoesNotExist(cache1.computeLeaseKey("cache:foo:" + k));
+    }
+
+    @Test
+    public void testRefreshAhead() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofMinutes(10));
+        info.refreshAhead = Optional.of(Duration.ofMinutes(1));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(cache.get(k, x -> "hello-" + loads.incrementAndGet()).await().indefinitely()).isEqualTo("hello-1");
+        // Not within the refresh-ahead window yet
+        assertThat(cache.get(k, x -> "hello-" + loads.incrementAndGet()).await().indefinitely()).isEqualTo("hello-1");
+        assertThat(loads).hasValue(1);
+
+        // Move the entry into the refresh-ahead window
+        redis.send(Request.cmd(Command.PEXPIRE).arg("cache:foo:" + k).arg(30_000)).await().indefinitely();
+        // The current value is returned and the entry is reloaded in the background
+        assertThat(cache.get(k, x -> "hello-" + loads.incrementAndGet()).await().indefinitely()).isEqualTo("hello-1");
+        await().atMost(Duration.ofSeconds(30))
+                .untilAsserted(() -> assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello-2"));
+        assertThat(loads).hasValue(2);
+    }
+
     private Set<String> getAllKeys() {
         return redis.send(Request.cmd(Command.KEYS).arg("*"))
                 .map(r -> {
@@ -0,0 +1,559 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.cache.runtime.AbstractCache;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * A Redis cache with a bounded local in-memory tier.
+ * <p>
+ * The values read from Redis are stored encoded in a local Caffeine cache and decoded on each local hit, so that the callers
+ * never share a mutable instance, like with the plain Redis cache. The local tier is kept coherent using the Redis
+ * client-side caching in the broadcasting mode: a dedicated connection is subscribed to the {@value #INVALIDATION_CHANNEL}
+ * channel and another connection enables the tracking of all the keys of the cache and redirects the invalidation messages
+ * to the subscribed connection. Whenever a key is modified or expires in Redis, the corresponding local entry is removed.
+ * <p>
+ * The local tier is only used when the tracking is active. If any of the connections fails, the local tier is cleared and
+ * bypassed until the tracking is established again.
+ * <p>
+ * When {@code expire-after-access} is configured, the local hits do not reach Redis. The keys read locally are collected
+ * and their expiration is refreshed in Redis in a single batch every {@value #TOUCH_DELAY} milliseconds, on the tracking
+ * connection so that the local entries of this instance are not invalidated.
+ * <p>
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application.
+ */
+public class NearRedisCacheImpl extends AbstractCache implements RedisCache {
+
+    private static final Logger log = Logger.getLogger(NearRedisCacheImpl.class);
+
+    static final String INVALIDATION_CHANNEL = "__redis__:invalidate";
+    static final long RECONNECT_DELAY = 5000;
+    static final long TOUCH_DELAY = 1000;
+
+    private final RedisCacheImpl delegate;
+    private final RedisCacheInfo cacheInfo;
+    private final Cache<String, LocalValue> local;
+
+    // Incremented whenever a local entry may become stale; a value read from Redis is not stored locally
+    // if an invalidation happened during the remote read
+    private final AtomicLong invalidations = new AtomicLong();
+    // Incremented whenever the tracking fails so that the failures of the connections of a previous attempt are ignored
+    private final AtomicInteger generation = new AtomicInteger();
+    private volatile boolean tracking;
+    private volatile boolean trackingFailureLogged;
+    private volatile RedisConnection subscriber;
+    private volatile RedisConnection tracker;
+    private volatile boolean closed;
+    private volatile long reconnectTimerId = -1;
+
+    // The keys read from the local tier whose expiration has to be refreshed in Redis
+    private final Set<String> touched = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean touchScheduled = new AtomicBoolean();
+    private volatile long touchTimerId = -1;
+
+    public NearRedisCacheImpl(RedisCacheImpl delegate, RedisCacheInfo cacheInfo) {
+        this.delegate = delegate;
+        this.cacheInfo = cacheInfo;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(cacheInfo.nearCacheMaximumSize);
+        if (cacheInfo.nearCacheExpireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(cacheInfo.nearCacheExpireAfterWrite.get());
+        }
+        this.local = builder.build();
+        startTracking();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getDefaultKey() {
+        return delegate.getDefaultKey();
+    }
+
+    @Override
+    public Class<?> getDefaultValueType() {
+        return delegate.getDefaultValueType();
+    }
+
+    /**
+     * @return {@code true} if the local tier is active, i.e. the invalidation messages are received
+     */
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    /**
+     * @return the approximate number of entries of the local tier
+     */
+    public long getLocalSize() {
+        return local.estimatedSize();
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return cached(key, cacheInfo.valueType, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.get(key, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
+        return cached(key, clazz, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.get(key, clazz, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader) {
+        return cached(key, type.getType(), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.get(key, type, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        return cached(key, cacheInfo.valueType, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getAsync(key, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
+        return cached(key, clazz, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getAsync(key, clazz, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader) {
+        return cached(key, type.getType(), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getAsync(key, type, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key) {
+        return cached(key, cacheInfo.valueType, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getOrNull(key);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
+        return cached(key, clazz, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getOrNull(key, clazz);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
+        return cached(key, type.getType(), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getOrNull(key, type);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
+        return this.<K, V> getOrNull(key).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, Class<V> clazz, V defaultValue) {
+        return getOrNull(key, clazz).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
+        return getOrNull(key, type).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, V value) {
+        return delegate.put(key, value).invoke(new Runnable() {
+            @Override
+            public void run() {
+                invalidateLocal(key);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
+        return delegate.put(key, supplier).invoke(new Runnable() {
+            @Override
+            public void run() {
+                invalidateLocal(key);
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        return delegate.invalidate(key).invoke(new Runnable() {
+            @Override
+            public void run() {
+                invalidateLocal(key);
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return delegate.invalidateAll().invoke(new Runnable() {
+            @Override
+            public void run() {
+                invalidations.incrementAndGet();
+                local.invalidateAll();
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        return delegate.invalidateIf(predicate).invoke(new Runnable() {
+            @Override
+            public void run() {
+                invalidations.incrementAndGet();
+                local.asMap().keySet().removeIf(new Predicate<String>() {
+                    @Override
+                    public boolean test(String redisKey) {
+                        return predicate.test(delegate.computeUserKey(redisKey));
+                    }
+                });
+            }
+        });
+    }
+
+    private <V> Uni<V> cached(Object key, Type type, Supplier<Uni<V>> remote) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                if (!tracking) {
+                    return remote.get();
+                }
+                String redisKey = delegate.computeRedisKey(key);
+                LocalValue localValue = local.getIfPresent(redisKey);
+                if (localValue != null && Objects.equals(localValue.type, type)) {
+                    touch(redisKey);
+                    return Uni.createFrom().item(delegate.<V> decodeValue(type, localValue.encodedValue));
+                }
+                long sequence = invalidations.get();
+                return remote.get().invoke(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        if (value != null && tracking && invalidations.get() == sequence) {
+                            local.put(redisKey, new LocalValue(type, delegate.encodeValue(value)));
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    private void invalidateLocal(Object key) {
+        invalidations.incrementAndGet();
+        local.invalidate(delegate.computeRedisKey(key));
+    }
+
+    /**
+     * Stops the tracking of the keys, closes the dedicated connections and clears the local tier.
+     * <p>
+     * This method is called when the application is stopped.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        tracking = false;
+        // The failures of the connections closed below are ignored
+        generation.incrementAndGet();
+        cancelTimer(reconnectTimerId);
+        cancelTimer(touchTimerId);
+        closeQuietly(subscriber);
+        closeQuietly(tracker);
+        subscriber = null;
+        tracker = null;
+        touched.clear();
+        invalidations.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    private void touch(String redisKey) {
+        if (cacheInfo.expireAfterAccess.isEmpty()) {
+            return;
+        }
+        touched.add(redisKey);
+        if (touchScheduled.compareAndSet(false, true)) {
+            touchTimerId = delegate.getVertx().setTimer(TOUCH_DELAY, new Consumer<Long>() {
+                @Override
+                public void accept(Long timerId) {
+                    flushTouched();
+                }
+            });
+        }
+    }
+
+    private void flushTouched() {
+        touchScheduled.set(false);
+        if (closed) {
+            return;
+        }
+        long seconds = cacheInfo.expireAfterAccess.get().toSeconds();
+        List<Request> requests = new ArrayList<>();
+        Iterator<String> it = touched.iterator();
+        while (it.hasNext()) {
+            requests.add(Request.cmd(Command.EXPIRE).arg(it.next()).arg(seconds));
+            it.remove();
+        }
+        RedisConnection connection = tracker;
+        if (requests.isEmpty() || connection == null) {
+            return;
+        }
+        // Sent on the tracking connection, the tracking is enabled with NOLOOP so that refreshing the expiration does not
+        // invalidate the local entries of this instance
+        connection.batch(requests).subscribe().with(new Consumer<List<Response>>() {
+            @Override
+            public void accept(List<Response> responses) {
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                log.debugf(failure, "Unable to refresh the expiration of the keys of Redis cache [%s]", getName());
+            }
+        });
+    }
+
+    private void cancelTimer(long timerId) {
+        if (timerId != -1) {
+            delegate.getVertx().cancelTimer(timerId);
+        }
+    }
+
+    private void startTracking() {
+        if (closed) {
+            return;
+        }
+        Redis redis = delegate.getRedis();
+        String prefix = delegate.getKeyPrefix() + ":";
+        int gen = generation.get();
+        redis.connect()
+                .chain(new Function<RedisConnection, Uni<? extends Long>>() {
+                    @Override
+                    public Uni<Long> apply(RedisConnection connection) {
+                        subscriber = connection;
+                        connection.handler(new Consumer<Response>() {
+                            @Override
+                            public void accept(Response message) {
+                                onMessage(message);
+                            }
+                        });
+                        connection.exceptionHandler(new Consumer<Throwable>() {
+                            @Override
+                            public void accept(Throwable failure) {
+                                onTrackingFailure(gen, failure);
+                            }
+                        });
+                        connection.endHandler(new Runnable() {
+                            @Override
+                            public void run() {
+                                onTrackingFailure(gen, null);
+                            }
+                        });
+                        return connection.send(Request.cmd(Command.CLIENT).arg("ID"))
+                                .chain(new Function<Response, Uni<? extends Long>>() {
+                                    @Override
+                                    public Uni<Long> apply(Response id) {
+                                        return connection.send(Request.cmd(Command.SUBSCRIBE).arg(INVALIDATION_CHANNEL))
+                                                .replaceWith(id.toLong());
+                                    }
+                                });
+                    }
+                })
+                .chain(new Function<Long, Uni<? extends Response>>() {
+                    @Override
+                    public Uni<Response> apply(Long subscriberId) {
+                        return redis.connect().chain(new Function<RedisConnection, Uni<? extends Response>>() {
+                            @Override
+                            public Uni<Response> apply(RedisConnection connection) {
+                                tracker = connection;
+                                connection.exceptionHandler(new Consumer<Throwable>() {
+                                    @Override
+                                    public void accept(Throwable failure) {
+                                        onTrackingFailure(gen, failure);
+                                    }
+                                });
+                                connection.endHandler(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        onTrackingFailure(gen, null);
+                                    }
+                                });
+                                return connection.send(Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON")
+                                        .arg("REDIRECT").arg(subscriberId).arg("BCAST").arg("PREFIX").arg(prefix)
+                                        .arg("NOLOOP"));
+                            }
+                        });
+                    }
+                })
+                .subscribe().with(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response response) {
+                        if (closed) {
+                            // Closed while connecting
+                            closeQuietly(subscriber);
+                            closeQuietly(tracker);
+                            return;
+                        }
+                        log.debugf("Near cache enabled for Redis cache [%s]", getName());
+                        trackingFailureLogged = false;
+                        tracking = true;
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        onTrackingFailure(gen, failure);
+                    }
+                });
+    }
+
+    private void onMessage(Response message) {
+        if (message == null || message.type() != ResponseType.MULTI && message.type() != ResponseType.PUSH
+                || message.size() < 2) {
+            return;
+        }
+        String type = message.get(0).toString();
+        if ("message".equalsIgnoreCase(type) && message.size() > 2
+                && INVALIDATION_CHANNEL.equals(message.get(1).toString())) {
+            onInvalidation(message.get(2));
+        } else if ("invalidate".equalsIgnoreCase(type)) {
+            onInvalidation(message.get(1));
+        }
+    }
+
+    private void onInvalidation(Response keys) {
+        invalidations.incrementAndGet();
+        if (keys == null) {
+            // The server flushed the database or the tracking table
+            local.invalidateAll();
+        } else if (keys.type() == ResponseType.MULTI) {
+            for (int i = 0; i < keys.size(); i++) {
+                local.invalidate(keys.get(i).toString());
+            }
+        } else {
+            local.invalidate(keys.toString());
+        }
+    }
+
+    private void onTrackingFailure(int gen, Throwable failure) {
+        if (!generation.compareAndSet(gen, gen + 1)) {
+            // Already handled or closed
+            return;
+        }
+        tracking = false;
+        invalidations.incrementAndGet();
+        local.invalidateAll();
+        closeQuietly(subscriber);
+        closeQuietly(tracker);
+        subscriber = null;
+        tracker = null;
+        if (!trackingFailureLogged) {
+            trackingFailureLogged = true;
+            log.warnf(failure, "Near cache of Redis cache [%s] is disabled until the invalidation messages can be received",
+                    getName());
+        } else {
+            log.debugf(failure, "Unable to enable the near cache of Redis cache [%s]", getName());
+        }
+        if (closed) {
+            return;
+        }
+        reconnectTimerId = delegate.getVertx().setTimer(RECONNECT_DELAY, new Consumer<Long>() {
+            @Override
+            public void accept(Long timerId) {
+                reconnectTimerId = -1;
+                startTracking();
+            }
+        });
+    }
+
+    private static void closeQuietly(RedisConnection connection) {
+        if (connection != null) {
+            connection.close().subscribe().with(new Consumer<Void>() {
+                @Override
+                public void accept(Void ignored) {
+                }
+            }, new Consumer<Throwable>() {
+                @Override
+                public void accept(Throwable ignored) {
+                }
+            });
+        }
+    }
+
+    private static final class LocalValue {
+
+        final Type type;
+        final byte[] encodedValue;
+
+        LocalValue(Type type, byte[] encodedValue) {
+            this.type = type;
+            this.encodedValue = encodedValue;
+        }
+    }
+}
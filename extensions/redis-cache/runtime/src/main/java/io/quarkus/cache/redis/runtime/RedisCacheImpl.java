@@ -5,9 +5,15 @@
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -19,6 +25,8 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.runtime.AbstractCache;
@@ -30,6 +38,7 @@
 import io.smallrye.mutiny.unchecked.Unchecked;
 import io.smallrye.mutiny.unchecked.UncheckedFunction;
 import io.smallrye.mutiny.vertx.MutinyHelper;
+import io.vertx.core.Context;
 import io.vertx.core.http.ConnectionPoolTooBusyException;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.redis.client.Command;
@@ -46,6 +55,10 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private static final Logger log = Logger.getLogger(RedisCacheImpl.class);
 
+    static final Duration LEASE_POLL_INTERVAL = Duration.ofMillis(50);
+    private static final String RELEASE_LEASE_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('del', KEYS[1]) else return 0 end";
+
     private final Vertx vertx;
     private final Redis redis;
 
@@ -57,13 +70,18 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    // The loads in progress if single-flight is enabled
+    private final ConcurrentMap<String, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+    // The keys that are being refreshed in the background
+    private final Set<String> refreshes = ConcurrentHashMap.newKeySet();
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
                 BlockingOperationControl::isBlockingAllowed);
     }
 
-    private static Redis determineRedisClient(Optional<String> redisClientName) {
+    static Redis determineRedisClient(Optional<String> redisClientName) {
         ArcContainer container = Arc.container();
         if (redisClientName.isPresent()) {
             return container.select(Redis.class, RedisClientName.Literal.of(redisClientName.get())).get();
@@ -114,6 +132,29 @@ private <K> String encodeKey(K key) {
         return new String(marshaller.encode(key), StandardCharsets.UTF_8);
     }
 
+    /**
+     * @return the Redis key used to store the value of the given cache key
+     */
+    String computeRedisKey(Object key) {
+        return computeActualKey(encodeKey(key));
+    }
+
+    byte[] encodeValue(Object value) {
+        return marshaller.encode(value);
+    }
+
+    <V> V decodeValue(Type type, byte[] encodedValue) {
+        return marshaller.decode(type, encodedValue);
+    }
+
+    Vertx getVertx() {
+        return vertx;
+    }
+
+    Redis getRedis() {
+        return redis;
+    }
+
     private <K, V> Uni<V> computeValue(K key, Function<K, V> valueLoader, boolean isWorkerThread) {
         if (isWorkerThread) {
             return Uni.createFrom().item(new Supplier<V>() {
@@ -123,7 +164,12 @@ public V get() {
                 }
             }).runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
         } else {
-            return Uni.createFrom().item(valueLoader.apply(key));
+            return Uni.createFrom().item(new Supplier<V>() {
+                @Override
+                public V get() {
+                    return valueLoader.apply(key);
+                }
+            });
         }
     }
 
@@ -158,17 +204,20 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String redisKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(redisKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        ContextState requestState = isRefreshAheadEnabled() ? currentRequestState() : null;
+        Uni<V> result = withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
+                GetFromConnectionSupplier<V> getter = new GetFromConnectionSupplier<>(connection, type, encodedKey,
+                        marshaller);
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
-                    startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                    startingPoint = watch(connection, encodedKey).chain(getter);
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = getter.get();
                 }
 
                 return startingPoint
@@ -176,6 +225,22 @@ public Uni<V> apply(RedisConnection connection) {
                             @Override
                             public Uni<V> apply(V cached) throws Exception {
                                 if (cached != null) {
+                                    refreshAhead(redisKey, getter.ttl, new Supplier<Uni<?>>() {
+                                        @Override
+                                        public Uni<?> get() {
+                                            return store(encodedKey, computeValue(key, new Function<K, V>() {
+                                                @Override
+                                                public V apply(K k) {
+                                                    return inRequestContext(requestState, new Supplier<V>() {
+                                                        @Override
+                                                        public V get() {
+                                                            return valueLoader.apply(k);
+                                                        }
+                                                    });
+                                                }
+                                            }, isWorkerThread));
+                                        }
+                                    });
                                     // Unwatch if optimistic locking
                                     if (cacheInfo.useOptimisticLocking) {
                                         return connection.send(Request.cmd(Command.UNWATCH))
@@ -185,7 +250,7 @@ public Uni<V> apply(V cached) throws Exception {
                                 } else {
                                     Uni<V> uni = computeValue(key, valueLoader, isWorkerThread);
 
-                                    return uni.onItem().call(new Function<V, Uni<?>>() {
+                                    return withLease(connection, redisKey, uni.onItem().call(new Function<V, Uni<?>>() {
                                         @Override
                                         public Uni<?> apply(V value) {
                                             if (value == null) {
@@ -205,13 +270,19 @@ public Uni<?> apply(V value) {
                                             }
                                             return result;
                                         }
-                                    });
+                                    }));
                                 }
                             }
                         }));
             }
         })
-
+                .onFailure(LeaseNotAcquiredException.class).recoverWithUni(new Supplier<Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> get() {
+                        // The connection is released while the value stored by the owner of the lease is awaited
+                        return awaitValue(encodedKey, type, computeValue(key, valueLoader, isWorkerThread));
+                    }
+                })
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
                     @Override
                     public Uni<? extends V> apply(Throwable e) {
@@ -219,6 +290,7 @@ public Uni<? extends V> apply(Throwable e) {
                         return computeValue(key, valueLoader, isWorkerThread);
                     }
                 });
+        return cacheInfo.singleFlight ? singleFlight(redisKey, result) : result;
     }
 
     @Override
@@ -238,21 +310,26 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String redisKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(redisKey);
+        ContextState requestState = isRefreshAheadEnabled() ? currentRequestState() : null;
+        Uni<V> result = withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
+                GetFromConnectionSupplier<V> getter = new GetFromConnectionSupplier<>(connection, type, encodedKey,
+                        marshaller);
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
-                    startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                    startingPoint = watch(connection, encodedKey).chain(getter);
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = getter.get();
                 }
 
                 return startingPoint
                         .chain(cached -> {
                             if (cached != null) {
+                                refreshAhead(redisKey, getter.ttl, () -> store(encodedKey,
+                                        inRequestContext(requestState, () -> valueLoader.apply(key))));
                                 // Unwatch if optimistic locking
                                 if (cacheInfo.useOptimisticLocking) {
                                     return connection.send(Request.cmd(Command.UNWATCH))
@@ -260,8 +337,8 @@ public Uni<V> apply(RedisConnection connection) {
                                 }
                                 return Uni.createFrom().item(new StaticSupplier<>(cached));
                             } else {
-                                Uni<V> getter = valueLoader.apply(key);
-                                return getter
+                                Uni<V> loader = Uni.createFrom().deferred(() -> valueLoader.apply(key));
+                                return withLease(connection, redisKey, loader
                                         .chain(value -> {
                                             byte[] encodedValue = marshaller.encode(value);
                                             if (cacheInfo.useOptimisticLocking) {
@@ -271,15 +348,247 @@ public Uni<V> apply(RedisConnection connection) {
                                                 return set(connection, encodedKey, encodedValue)
                                                         .replaceWith(value);
                                             }
-                                        });
+                                        }));
                             }
                         });
             }
         })
+                // The connection is released while the value stored by the owner of the lease is awaited
+                .onFailure(LeaseNotAcquiredException.class).recoverWithUni(
+                        () -> awaitValue(encodedKey, type, Uni.createFrom().deferred(() -> valueLoader.apply(key))))
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
                     log.warn("Unable to connect to Redis, recomputing cached value", e);
                     return valueLoader.apply(key);
                 });
+        return cacheInfo.singleFlight ? singleFlight(redisKey, result) : result;
+    }
+
+    /**
+     * The first caller subscribes to the given load, the concurrent callers of the same key receive the same result.
+     */
+    @SuppressWarnings("unchecked")
+    private <V> Uni<V> singleFlight(String redisKey, Uni<V> load) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<V> get() {
+                CompletableFuture<Object> loading = new CompletableFuture<>();
+                CompletableFuture<Object> existing = loads.putIfAbsent(redisKey, loading);
+                if (existing == null) {
+                    load.subscribe().with(new Consumer<V>() {
+                        @Override
+                        public void accept(V value) {
+                            loads.remove(redisKey, loading);
+                            loading.complete(value);
+                        }
+                    }, new Consumer<Throwable>() {
+                        @Override
+                        public void accept(Throwable failure) {
+                            loads.remove(redisKey, loading);
+                            loading.completeExceptionally(failure);
+                        }
+                    });
+                }
+                Uni<V> result = Uni.createFrom()
+                        .completionStage((CompletableFuture<V>) (CompletableFuture<?>) (existing != null ? existing : loading));
+                if (Context.isOnEventLoopThread()) {
+                    // The result may be completed on another event loop
+                    Context context = vertx.getDelegate().getOrCreateContext();
+                    result = result.emitOn(new Executor() {
+                        @Override
+                        public void execute(Runnable command) {
+                            context.runOnContext(ignored -> command.run());
+                        }
+                    });
+                }
+                return result;
+            }
+        });
+    }
+
+    /**
+     * If the lease timeout is set then the given load is only subscribed if the lease for the given key is acquired.
+     * Otherwise, the returned {@code Uni} fails with a {@link LeaseNotAcquiredException} so that the connection is
+     * released before the value stored by the owner of the lease is awaited.
+     */
+    private <V> Uni<V> withLease(RedisConnection connection, String redisKey, Uni<V> load) {
+        if (cacheInfo.singleFlightLeaseTimeout.isEmpty()) {
+            return load;
+        }
+        byte[] leaseKey = marshaller.encode(computeLeaseKey(redisKey));
+        return acquireLease(leaseKey).chain(new Function<String, Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> apply(String token) {
+                if (token != null) {
+                    return load.onTermination().call(() -> releaseLease(leaseKey, token));
+                }
+                Uni<Void> unwatch = cacheInfo.useOptimisticLocking
+                        ? connection.send(Request.cmd(Command.UNWATCH)).replaceWithVoid()
+                        : Uni.createFrom().voidItem();
+                return unwatch.onItem().failWith(LeaseNotAcquiredException::new);
+            }
+        });
+    }
+
+    /**
+     * @return the token of the acquired lease or {@code null} if the lease is owned by someone else
+     */
+    private Uni<String> acquireLease(byte[] leaseKey) {
+        String token = UUID.randomUUID().toString();
+        return redis.send(Request.cmd(Command.SET).arg(leaseKey).arg(token).arg("NX").arg("PX")
+                .arg(cacheInfo.singleFlightLeaseTimeout.get().toMillis()))
+                .map(new Function<Response, String>() {
+                    @Override
+                    public String apply(Response response) {
+                        return response != null ? token : null;
+                    }
+                });
+    }
+
+    private Uni<Void> releaseLease(byte[] leaseKey, String token) {
+        // Only delete the lease if it was not acquired by someone else after it expired
+        return redis.send(Request.cmd(Command.EVAL).arg(RELEASE_LEASE_SCRIPT).arg(1).arg(leaseKey).arg(token))
+                .replaceWithVoid()
+                .onFailure().recoverWithNull();
+    }
+
+    /**
+     * Polls the value stored by the owner of the lease, each poll borrows a connection from the pool. If the value is not
+     * stored before the lease timeout, the given load is subscribed and its result is stored.
+     */
+    private <V> Uni<V> awaitValue(byte[] encodedKey, Type type, Uni<V> load) {
+        long attempts = Math.max(1, cacheInfo.singleFlightLeaseTimeout.get().toMillis() / LEASE_POLL_INTERVAL.toMillis());
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                return redis.send(Request.cmd(Command.GET).arg(encodedKey))
+                        .map(new Function<Response, V>() {
+                            @Override
+                            public V apply(Response response) {
+                                return marshaller.decode(type, response);
+                            }
+                        });
+            }
+        })
+                .onItem().ifNull().failWith(ValueNotStoredException::new)
+                .onFailure(ValueNotStoredException.class).retry().withBackOff(LEASE_POLL_INTERVAL, LEASE_POLL_INTERVAL)
+                .atMost(attempts)
+                // Retries exhausted or Redis not available
+                .onFailure().recoverWithNull()
+                .chain(new Function<V, Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> apply(V value) {
+                        if (value != null) {
+                            return Uni.createFrom().item(value);
+                        }
+                        // The owner of the lease did not store the value in time
+                        return load.call(new Function<V, Uni<?>>() {
+                            @Override
+                            public Uni<?> apply(V loaded) {
+                                return storeValue(encodedKey, loaded);
+                            }
+                        });
+                    }
+                });
+    }
+
+    /**
+     * Reloads the value of the given key asynchronously if it expires within the configured refresh-ahead duration.
+     *
+     * @param ttl the remaining time to live of the key in milliseconds, read along with the value
+     */
+    private void refreshAhead(String redisKey, long ttl, Supplier<Uni<?>> reload) {
+        // A negative value means that the key does not exist, has no expiration or that refresh-ahead is disabled
+        if (ttl < 0 || ttl >= cacheInfo.refreshAhead.get().toMillis() || !refreshes.add(redisKey)) {
+            return;
+        }
+        Uni<?> refresh;
+        if (cacheInfo.singleFlightLeaseTimeout.isPresent()) {
+            byte[] leaseKey = marshaller.encode(computeLeaseKey(redisKey));
+            refresh = acquireLease(leaseKey).chain(new Function<String, Uni<?>>() {
+                @Override
+                public Uni<?> apply(String token) {
+                    if (token == null) {
+                        // Refreshed by another instance
+                        return Uni.createFrom().voidItem();
+                    }
+                    return reload.get().onTermination().call(() -> releaseLease(leaseKey, token));
+                }
+            });
+        } else {
+            refresh = Uni.createFrom().deferred(reload);
+        }
+        refresh.onTermination().invoke(() -> refreshes.remove(redisKey))
+                .subscribe().with(new Consumer<Object>() {
+                    @Override
+                    public void accept(Object ignored) {
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        if (failure instanceof RequestEndedException) {
+                            log.debugf("The entry %s of cache %s was not refreshed, the request that triggered the "
+                                    + "refresh has ended", redisKey, getName());
+                        } else {
+                            log.warnf(failure, "Unable to refresh the entry %s of cache %s", redisKey, getName());
+                        }
+                    }
+                });
+    }
+
+    private static ContextState currentRequestState() {
+        ArcContainer container = Arc.container();
+        return container != null ? container.requestContext().getStateIfActive() : null;
+    }
+
+    /**
+     * Runs the given action in the request context of the caller which triggered a refresh-ahead, if any, so that the
+     * reload sees the same request scoped beans and security identity as the caller.
+     * <p>
+     * The reload runs after the caller has received the cached value. If the request of the caller has ended in the
+     * meantime, its request scoped beans have been destroyed and the action fails with a {@link RequestEndedException}.
+     */
+    private static <T> T inRequestContext(ContextState state, Supplier<T> action) {
+        if (state == null) {
+            return action.get();
+        }
+        if (!state.isValid()) {
+            throw new RequestEndedException();
+        }
+        ManagedContext requestContext = Arc.container().requestContext();
+        ContextState previous = requestContext.getStateIfActive();
+        if (previous == state) {
+            return action.get();
+        }
+        requestContext.activate(state);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                requestContext.activate(previous);
+            } else {
+                requestContext.deactivate();
+            }
+        }
+    }
+
+    private boolean isRefreshAheadEnabled() {
+        return cacheInfo.refreshAhead.isPresent() && cacheInfo.expireAfterWrite.isPresent();
+    }
+
+    private <V> Uni<Void> store(byte[] encodedKey, Uni<V> load) {
+        return load.chain(new Function<V, Uni<? extends Void>>() {
+            @Override
+            public Uni<Void> apply(V value) {
+                return storeValue(encodedKey, value);
+            }
+        });
+    }
+
+    private <V> Uni<Void> storeValue(byte[] encodedKey, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cannot cache `null` value");
+        }
+        return redis.send(setRequest(encodedKey, marshaller.encode(value))).replaceWithVoid();
     }
 
     @Override
@@ -445,11 +754,19 @@ Object computeUserKey(String key) {
         return marshaller.decode(classOfKey, stripped.getBytes(StandardCharsets.UTF_8));
     }
 
+    /**
+     * The leases are stored outside of the key space of the cache so that they are not matched by the invalidation.
+     */
+    String computeLeaseKey(String redisKey) {
+        String prefix = getKeyPrefix();
+        return prefix + "-lease" + redisKey.substring(prefix.length());
+    }
+
     private String getKeyPattern() {
         return getKeyPrefix() + ":*";
     }
 
-    private String getKeyPrefix() {
+    String getKeyPrefix() {
         if (cacheInfo.prefix != null) {
             return cacheInfo.prefix.replace("{cache-name}", getName());
         } else {
@@ -481,32 +798,34 @@ private Uni<Void> watch(RedisConnection connection, byte[] keyToWatch) {
 
     private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
             Marshaller marshaller) {
+        return connection.send(getRequest(encoded))
+                .map(new Function<Response, X>() {
+                    @Override
+                    public X apply(Response r) {
+                        return marshaller.decode(clazz, r);
+                    }
+                });
+    }
+
+    private Request getRequest(byte[] encoded) {
         if (cacheInfo.expireAfterAccess.isPresent()) {
             Duration duration = cacheInfo.expireAfterAccess.get();
-            return connection.send(Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds()))
-                    .map(new Function<Response, X>() {
-                        @Override
-                        public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
-                        }
-                    });
+            return Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds());
         } else {
-            return connection.send(Request.cmd(Command.GET).arg(encoded))
-                    .map(new Function<Response, X>() {
-                        @Override
-                        public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
-                        }
-                    });
+            return Request.cmd(Command.GET).arg(encoded);
         }
     }
 
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+        return connection.send(setRequest(key, value)).replaceWithVoid();
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
             request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
@@ -544,6 +863,8 @@ public V get() {
         private final Type clazz;
         private final byte[] encodedKey;
         private final Marshaller marshaller;
+        // The remaining time to live of the key read along with the value if refresh-ahead is enabled, -1 otherwise
+        private volatile long ttl = -1;
 
         public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[] encodedKey, Marshaller marshaller) {
             this.connection = connection;
@@ -554,7 +875,45 @@ public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[]
 
         @Override
         public Uni<V> get() {
-            return doGet(connection, encodedKey, clazz, marshaller);
+            if (!isRefreshAheadEnabled()) {
+                return doGet(connection, encodedKey, clazz, marshaller);
+            }
+            // Pipelined, a single round trip
+            return connection.batch(List.of(getRequest(encodedKey), Request.cmd(Command.PTTL).arg(encodedKey)))
+                    .map(new Function<List<Response>, V>() {
+                        @Override
+                        public V apply(List<Response> responses) {
+                            ttl = responses.get(1).toLong();
+                            return marshaller.decode(clazz, responses.get(0));
+                        }
+                    });
+        }
+    }
+
+    private static final class ValueNotStoredException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        ValueNotStoredException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class LeaseNotAcquiredException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        LeaseNotAcquiredException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class RequestEndedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        RequestEndedException() {
+            super(null, null, false, false);
         }
     }
 
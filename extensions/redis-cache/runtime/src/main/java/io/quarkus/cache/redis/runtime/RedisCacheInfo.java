@@ -51,4 +51,34 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * Whether the values are also stored in a local in-memory tier kept coherent using the Redis client-side caching.
+     */
+    public boolean nearCacheEnabled = false;
+
+    /**
+     * The maximum number of entries of the local tier.
+     */
+    public long nearCacheMaximumSize = 10_000;
+
+    /**
+     * The time after which an entry is removed from the local tier.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
+
+    /**
+     * Whether the concurrent loads of the same key within an application instance are coalesced.
+     */
+    public boolean singleFlight = false;
+
+    /**
+     * If set, the loads of the same key are coalesced across application instances using a Redis lease.
+     */
+    public Optional<Duration> singleFlightLeaseTimeout = Optional.empty();
+
+    /**
+     * If set, the entries read less than the given duration before they expire are reloaded asynchronously.
+     */
+    public Optional<Duration> refreshAhead = Optional.empty();
 }
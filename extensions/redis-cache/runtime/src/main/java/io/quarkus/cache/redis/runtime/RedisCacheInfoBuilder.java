@@ -67,6 +67,42 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = namedRuntimeConfig.nearCache().enabled().get();
+                } else if (defaultRuntimeConfig.nearCache().enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = defaultRuntimeConfig.nearCache().enabled().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCache().maximumSize().getAsLong();
+                } else if (defaultRuntimeConfig.nearCache().maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCache().maximumSize().getAsLong();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCache().expireAfterWrite();
+                } else if (defaultRuntimeConfig.nearCache().expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCache().expireAfterWrite();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.singleFlight().enabled().isPresent()) {
+                    cacheInfo.singleFlight = namedRuntimeConfig.singleFlight().enabled().get();
+                } else if (defaultRuntimeConfig.singleFlight().enabled().isPresent()) {
+                    cacheInfo.singleFlight = defaultRuntimeConfig.singleFlight().enabled().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.singleFlight().leaseTimeout().isPresent()) {
+                    cacheInfo.singleFlightLeaseTimeout = namedRuntimeConfig.singleFlight().leaseTimeout();
+                } else if (defaultRuntimeConfig.singleFlight().leaseTimeout().isPresent()) {
+                    cacheInfo.singleFlightLeaseTimeout = defaultRuntimeConfig.singleFlight().leaseTimeout();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.refreshAhead().isPresent()) {
+                    cacheInfo.refreshAhead = namedRuntimeConfig.refreshAhead();
+                } else if (defaultRuntimeConfig.refreshAhead().isPresent()) {
+                    cacheInfo.refreshAhead = defaultRuntimeConfig.refreshAhead();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -49,4 +50,66 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * The near cache configuration.
+     */
+    NearCacheConfig nearCache();
+
+    /**
+     * The single-flight configuration.
+     */
+    SingleFlightConfig singleFlight();
+
+    /**
+     * If set, a value that is read from the cache less than the given duration before it expires is reloaded asynchronously
+     * in the background, while the current value is still returned. This way, the frequently read entries do not expire
+     * and callers never block on a miss. Only applies if {@code expire-after-write} is set.
+     */
+    Optional<Duration> refreshAhead();
+
+    @ConfigGroup
+    interface SingleFlightConfig {
+
+        /**
+         * Whether the concurrent loads of the same key within an application instance are coalesced: only the first caller
+         * reads the value from Redis and computes it on a miss, the other callers receive the same result.
+         * Default is {@code false}.
+         */
+        Optional<Boolean> enabled();
+
+        /**
+         * If set, a lease is acquired in Redis (using {@code SET NX}) before the value of a missing entry is computed, so
+         * that the loads of the same key are also coalesced across application instances. The instances that do not
+         * acquire the lease wait until the value is stored in Redis, at most for the given duration, and then compute the
+         * value themselves. The lease expires after the given duration.
+         */
+        Optional<Duration> leaseTimeout();
+    }
+
+    @ConfigGroup
+    interface NearCacheConfig {
+
+        /**
+         * Whether the values are also stored in a bounded local in-memory tier in front of Redis. The local tier is kept
+         * coherent across application instances using the Redis client-side caching (requires Redis 6+): the local entries
+         * are removed when the corresponding keys are modified in Redis. If the invalidation messages cannot be received,
+         * the local tier is bypassed. When {@code expire-after-access} is set, the expiration of the keys read from the
+         * local tier is refreshed in Redis in batches, about once per second.
+         * Default is {@code false}.
+         */
+        Optional<Boolean> enabled();
+
+        /**
+         * The maximum number of entries of the local tier. If not set, the local tier may contain at most 10000 entries.
+         */
+        OptionalLong maximumSize();
+
+        /**
+         * Specifies that each entry should be automatically removed from the local tier once a fixed duration has elapsed
+         * after the entry's creation. Note that the entries are removed from the local tier when the corresponding Redis key
+         * expires or is modified.
+         */
+        Optional<Duration> expireAfterWrite();
+    }
 }
@@ -0,0 +1,63 @@
+package io.quarkus.redis.datasource.codecs;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A {@link Codec} serializing to and deserializing from Vert.x {@link Buffer buffers}.
+ * <p>
+ * The replies received from Redis are already stored in buffers. The Redis data source passes these buffers to
+ * {@link #decode(Buffer)} as-is, while a {@link Codec} receives a copy of their content. For large values, e.g. JSON
+ * documents, or commands returning many values, such as {@code MGET}, it avoids an allocation and a copy per value.
+ * <p>
+ * Implementations only have to implement {@link #canHandle(java.lang.reflect.Type)}, {@link #encode(Object, Buffer)}
+ * and {@link #decode(Buffer)}. By default, {@link #encode(Object)} encodes the item into a pooled buffer, and
+ * {@link #decode(byte[])} wraps the bytes into a buffer without copying them.
+ */
+public interface BufferCodec extends Codec {
+
+    /**
+     * Encodes the given object at the end of the given buffer.
+     * The type of the given object matches the type used to call the {@link #canHandle(java.lang.reflect.Type)} method.
+     *
+     * @param item the item
+     * @param buffer the buffer to append the encoded content to
+     */
+    void encode(Object item, Buffer buffer);
+
+    /**
+     * Decodes the content of the given buffer to an object.
+     * The codec must return an instance of the type used to call the {@link #canHandle(java.lang.reflect.Type)} method.
+     * The buffer must not be retained, its content may be released once this method returns.
+     *
+     * @param item the buffer
+     * @return the object
+     */
+    Object decode(Buffer item);
+
+    @Override
+    default byte[] encode(Object item) {
+        if (item == null) {
+            return null;
+        }
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.heapBuffer();
+        try {
+            Buffer buffer = Buffer.buffer(buf);
+            encode(item, buffer);
+            return buffer.getBytes();
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Override
+    default Object decode(byte[] item) {
+        if (item == null) {
+            return null;
+        }
+        return decode(Buffer.buffer(Unpooled.wrappedBuffer(item)));
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.quarkus.redis.datasource.codecs;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -8,11 +9,14 @@
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.quarkus.vertx.runtime.jackson.QuarkusJacksonJsonCodec;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.EncodeException;
 import io.vertx.core.json.Json;
 
 public class Codecs {
@@ -43,7 +47,7 @@ public static Codec getDefaultCodecFor(Type type) {
         return new JsonCodec(type);
     }
 
-    public static class JsonCodec implements Codec {
+    public static class JsonCodec implements BufferCodec {
         private final TypeReference<?> type;
         private final Class<?> clazz;
         private final ObjectMapper mapper;
@@ -71,7 +75,20 @@ public boolean canHandle(Type clazz) {
 
         @Override
         public byte[] encode(Object item) {
-            return Json.encodeToBuffer(item).getBytes();
+            try {
+                return mapper.writeValueAsBytes(item);
+            } catch (JsonProcessingException e) {
+                throw new EncodeException("Failed to encode as JSON: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void encode(Object item, Buffer buffer) {
+            try {
+                mapper.writeValue(new BufferOutputStream(buffer), item);
+            } catch (IOException e) {
+                throw new EncodeException("Failed to encode as JSON: " + e.getMessage(), e);
+            }
         }
 
         @Override
@@ -86,9 +103,24 @@ public Object decode(byte[] payload) {
                 throw new RuntimeException(e);
             }
         }
+
+        @Override
+        public Object decode(Buffer payload) {
+            try {
+                if (clazz != null) {
+                    return Json.decodeValue(payload, clazz);
+                } else {
+                    try (JsonParser parser = QuarkusJacksonJsonCodec.createParser(payload)) {
+                        return mapper.readValue(parser, type);
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
     }
 
-    public static class StringCodec implements Codec {
+    public static class StringCodec implements BufferCodec {
 
         public static StringCodec INSTANCE = new StringCodec();
 
@@ -110,6 +142,16 @@ public byte[] encode(Object item) {
         public String decode(byte[] item) {
             return new String(item, StandardCharsets.UTF_8);
         }
+
+        @Override
+        public void encode(Object item, Buffer buffer) {
+            buffer.appendString((String) item);
+        }
+
+        @Override
+        public String decode(Buffer item) {
+            return item.toString(StandardCharsets.UTF_8);
+        }
     }
 
     public static class DoubleCodec implements Codec {
@@ -172,7 +214,7 @@ public Integer decode(byte[] item) {
         }
     }
 
-    public static class ByteArrayCodec implements Codec {
+    public static class ByteArrayCodec implements BufferCodec {
 
         public static ByteArrayCodec INSTANCE = new ByteArrayCodec();
 
@@ -194,6 +236,35 @@ public byte[] encode(Object item) {
         public byte[] decode(byte[] item) {
             return item;
         }
+
+        @Override
+        public void encode(Object item, Buffer buffer) {
+            buffer.appendBytes((byte[]) item);
+        }
+
+        @Override
+        public byte[] decode(Buffer item) {
+            return item.getBytes();
+        }
+    }
+
+    private static final class BufferOutputStream extends OutputStream {
+
+        private final Buffer buffer;
+
+        private BufferOutputStream(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.appendByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.appendBytes(b, off, len);
+        }
     }
 
 }
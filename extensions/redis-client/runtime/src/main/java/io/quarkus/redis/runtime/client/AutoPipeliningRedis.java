@@ -0,0 +1,208 @@
+package io.quarkus.redis.runtime.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.netty.channel.EventLoop;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * An implementation of the {@link Redis} interface that coalesces the commands sent from an event loop during the same
+ * event loop turn, and pipelines them on a single connection.
+ * <p>
+ * Without it, each command acquires a connection from the pool and waits for its reply before the connection can be
+ * reused, so many concurrent small commands are bound by the round-trips. The commands queued on an event loop are
+ * written once the current task of the event loop completes, or as soon as {@code maxBatchSize} commands are queued.
+ * <p>
+ * The commands sent from a worker thread, the blocking commands and the commands that change the state of the
+ * connection are sent as-is. Each command still gets its own reply: an error reply only fails the corresponding command.
+ */
+public class AutoPipeliningRedis implements Redis {
+
+    private static final Set<Command> NOT_PIPELINED = Set.of(
+            // blocking commands would delay the replies of the following commands
+            Command.BLPOP, Command.BRPOP, Command.BRPOPLPUSH, Command.BLMOVE, Command.BLMPOP, Command.BZPOPMIN,
+            Command.BZPOPMAX, Command.BZMPOP, Command.XREAD, Command.XREADGROUP, Command.WAIT,
+            // commands that change the state of the connection
+            Command.SUBSCRIBE, Command.PSUBSCRIBE, Command.SSUBSCRIBE, Command.UNSUBSCRIBE, Command.PUNSUBSCRIBE,
+            Command.SUNSUBSCRIBE, Command.MONITOR, Command.MULTI, Command.EXEC, Command.DISCARD,
+            Command.WATCH, Command.UNWATCH, Command.SELECT, Command.CLIENT);
+
+    private final Redis redis;
+    private final String name;
+    private final int maxBatchSize;
+    private final ObservableRedisMetrics reporter;
+    // one pipeline per event loop, only accessed from its event loop
+    private final Map<EventLoop, Pipeline> pipelines = new ConcurrentHashMap<>();
+
+    public AutoPipeliningRedis(Redis redis, String name, int maxBatchSize, ObservableRedisMetrics reporter) {
+        this.redis = redis;
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.reporter = reporter == null ? ObservableRedisMetrics.NOOP : reporter;
+    }
+
+    @Override
+    public Redis connect(Handler<AsyncResult<RedisConnection>> handler) {
+        redis.connect(handler);
+        return this;
+    }
+
+    @Override
+    public Redis send(Request command, Handler<AsyncResult<@Nullable Response>> onSend) {
+        send(command).onComplete(onSend);
+        return this;
+    }
+
+    @Override
+    public Redis batch(List<Request> commands, Handler<AsyncResult<List<@Nullable Response>>> onSend) {
+        redis.batch(commands, onSend);
+        return this;
+    }
+
+    @Override
+    public Future<RedisConnection> connect() {
+        return redis.connect();
+    }
+
+    @Override
+    public void close() {
+        redis.close();
+    }
+
+    @Override
+    public Future<Response> send(Request command) {
+        Context context = Vertx.currentContext();
+        if (context == null || !Context.isOnEventLoopThread() || NOT_PIPELINED.contains(command.command())) {
+            return redis.send(command);
+        }
+        // the duplicated contexts are created per request, they must not be retained
+        EventLoop eventLoop = ((ContextInternal) context).nettyEventLoop();
+        Pipeline pipeline = pipelines.get(eventLoop);
+        if (pipeline == null) {
+            Context root = VertxContext.getRootContext(context);
+            pipeline = pipelines.computeIfAbsent(eventLoop, new Function<EventLoop, Pipeline>() {
+                @Override
+                public Pipeline apply(EventLoop ignored) {
+                    return new Pipeline(root);
+                }
+            });
+        }
+        Promise<Response> promise = Promise.promise();
+        pipeline.add(command, context, promise);
+        return promise.future();
+    }
+
+    @Override
+    public Future<List<Response>> batch(List<Request> commands) {
+        return redis.batch(commands);
+    }
+
+    private final class Pipeline {
+
+        // a root context of the event loop, used to schedule the flushes
+        private final Context context;
+        private List<Request> requests = new ArrayList<>();
+        private List<Waiter> waiters = new ArrayList<>();
+        private boolean scheduled;
+
+        Pipeline(Context context) {
+            this.context = context;
+        }
+
+        void add(Request request, Context caller, Promise<Response> promise) {
+            requests.add(request);
+            waiters.add(new Waiter(caller, promise));
+            if (requests.size() >= maxBatchSize) {
+                flush();
+            } else if (!scheduled) {
+                scheduled = true;
+                context.runOnContext(new Handler<Void>() {
+                    @Override
+                    public void handle(Void ignored) {
+                        scheduled = false;
+                        flush();
+                    }
+                });
+            }
+        }
+
+        void flush() {
+            if (requests.isEmpty()) {
+                return;
+            }
+            List<Request> batch = requests;
+            List<Waiter> batchWaiters = waiters;
+            requests = new ArrayList<>();
+            waiters = new ArrayList<>();
+
+            long begin = System.nanoTime();
+            redis.connect().onComplete(new Handler<AsyncResult<RedisConnection>>() {
+                @Override
+                public void handle(AsyncResult<RedisConnection> ar) {
+                    if (ar.failed()) {
+                        for (Waiter waiter : batchWaiters) {
+                            waiter.complete(Future.failedFuture(ar.cause()));
+                        }
+                        reporter.reportPipeline(name, batch.size(), System.nanoTime() - begin);
+                        return;
+                    }
+                    RedisConnection connection = ar.result();
+                    AtomicInteger remaining = new AtomicInteger(batch.size());
+                    for (int i = 0; i < batch.size(); i++) {
+                        Waiter waiter = batchWaiters.get(i);
+                        connection.send(batch.get(i)).onComplete(new Handler<AsyncResult<Response>>() {
+                            @Override
+                            public void handle(AsyncResult<Response> reply) {
+                                waiter.complete(reply);
+                                if (remaining.decrementAndGet() == 0) {
+                                    connection.close();
+                                    reporter.reportPipeline(name, batch.size(), System.nanoTime() - begin);
+                                }
+                            }
+                        });
+                    }
+                }
+            });
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Context context;
+        private final Promise<Response> promise;
+
+        Waiter(Context context, Promise<Response> promise) {
+            this.context = context;
+            this.promise = promise;
+        }
+
+        void complete(AsyncResult<Response> reply) {
+            // the reply is emitted on the context of the caller, not on the context of the connection
+            context.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void ignored) {
+                    promise.handle(reply);
+                }
+            });
+        }
+    }
+}
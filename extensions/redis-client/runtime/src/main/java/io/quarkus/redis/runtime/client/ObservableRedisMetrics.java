@@ -12,6 +12,18 @@ public interface ObservableRedisMetrics {
      */
     void report(String name, long durationInNs, boolean succeeded);
 
+    /**
+     * Method called by the {@link AutoPipeliningRedis} after every pipeline, i.e. once the replies of all the pipelined
+     * commands have been received.
+     *
+     * @param name the client name
+     * @param batchSize the number of pipelined commands
+     * @param flushDurationInNs the duration between the flush of the commands and the last reply in ns
+     */
+    default void reportPipeline(String name, int batchSize, long flushDurationInNs) {
+
+    }
+
     ObservableRedisMetrics NOOP = new ObservableRedisMetrics() {
         @Override
         public void report(String name, long durationInNs, boolean succeeded) {
@@ -93,11 +93,12 @@ public ConfigurationException get() {
                         });
                 clients.computeIfAbsent(name,
                         x -> new RedisClientAndApi(name, VertxRedisClientFactory.create(name, vertx, actualConfig, tlsRegistry),
-                                metrics));
+                                actualConfig, metrics));
             } else if (DEFAULT_CLIENT_NAME.equalsIgnoreCase(name) && maybe.isPresent()) {
                 clients.computeIfAbsent(name,
                         x -> new RedisClientAndApi(name,
-                                VertxRedisClientFactory.create(DEFAULT_CLIENT_NAME, vertx, maybe.get(), tlsRegistry), metrics));
+                                VertxRedisClientFactory.create(DEFAULT_CLIENT_NAME, vertx, maybe.get(), tlsRegistry),
+                                maybe.get(), metrics));
             }
             // Do not throw an error. We would need to check if the default redis client is used.
         }
@@ -251,10 +252,16 @@ public void preload(String name, List<String> loadScriptPaths, boolean redisFlus
     private static class RedisClientAndApi {
         private final Redis redis;
         private final RedisAPI api;
-        private final ObservableRedis observable;
-
-        private RedisClientAndApi(String name, io.vertx.redis.client.Redis redis, ObservableRedisMetrics metrics) {
-            this.observable = new ObservableRedis(redis, name, metrics);
+        private final io.vertx.redis.client.Redis observable;
+
+        private RedisClientAndApi(String name, io.vertx.redis.client.Redis redis, RedisClientConfig config,
+                ObservableRedisMetrics metrics) {
+            ObservableRedis observable = new ObservableRedis(redis, name, metrics);
+            if (config.autoPipelining().enabled()) {
+                this.observable = new AutoPipeliningRedis(observable, name, config.autoPipelining().maxBatchSize(), metrics);
+            } else {
+                this.observable = observable;
+            }
             this.redis = Redis.newInstance(this.observable);
             this.api = RedisAPI.api(this.redis);
         }
@@ -0,0 +1,26 @@
+package io.quarkus.redis.runtime.client.config;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface AutoPipeliningConfig {
+
+    /**
+     * Whether the commands sent from an event loop during the same event loop turn are coalesced and pipelined on a
+     * single connection.
+     * <p>
+     * It reduces the number of round-trips when many small commands are sent concurrently, at the cost of a short delay
+     * before the commands are written. Commands sent from a worker thread, blocking commands (such as {@code BLPOP}) and
+     * the commands executed on a dedicated connection (transactions, pub/sub, {@code withConnection}) are not pipelined.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The maximum number of commands pipelined together. When reached, the pending commands are written immediately.
+     */
+    @WithDefault("128")
+    int maxBatchSize();
+
+}
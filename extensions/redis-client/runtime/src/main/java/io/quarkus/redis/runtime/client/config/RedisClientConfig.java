@@ -218,6 +218,11 @@ public interface RedisClientConfig {
     @ConfigDocSection
     TlsConfig tls();
 
+    /**
+     * Automatic pipelining config.
+     */
+    AutoPipeliningConfig autoPipelining();
+
     /**
      * The client name used to identify the connection.
      * <p>
@@ -276,6 +281,7 @@ default String toDebugString() {
                 ", hashSlotCacheTtl=" + hashSlotCacheTtl() +
                 ", tcp=" + tcp() +
                 ", tls=" + tls() +
+                ", autoPipelining=" + autoPipelining().enabled() +
                 ", clientName=" + clientName() +
                 ", configureClientName=" + configureClientName() +
                 '}';
@@ -111,7 +111,7 @@ List<KeyValue<K, V>> decodeListOfKeyValue(Response r) {
             return Collections.emptyList();
         }
         List<KeyValue<K, V>> res = new ArrayList<>();
-        K key = marshaller.decode(typeOfKey, r.get(0).toBytes());
+        K key = marshaller.decode(typeOfKey, r.get(0));
         for (Response item : r.get(1)) {
             if (item == null) {
                 res.add(KeyValue.of(key, null));
@@ -18,6 +18,7 @@
 
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import io.quarkus.redis.datasource.codecs.BufferCodec;
 import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.codecs.Codecs;
 import io.vertx.mutiny.redis.client.Response;
@@ -78,6 +79,7 @@ Codec codec(Type clazz) {
         return codec;
     }
 
+    @SuppressWarnings("unchecked")
     public final <T> T decode(Type clazz, Response r) {
         if (r == null) {
             return null;
@@ -85,7 +87,13 @@ public final <T> T decode(Type clazz, Response r) {
         if (r.type() == ResponseType.SIMPLE) {
             return decode(clazz, r.toString().getBytes());
         }
-        return decode(clazz, r.toBytes());
+        Codec codec = codec(clazz);
+        if (codec instanceof BufferCodec) {
+            // Avoid copying the reply
+            io.vertx.core.buffer.Buffer buffer = r.getDelegate().toBuffer();
+            return buffer == null ? null : (T) ((BufferCodec) codec).decode(buffer);
+        }
+        return (T) codec.decode(r.toBytes());
     }
 
     @SuppressWarnings("unchecked")
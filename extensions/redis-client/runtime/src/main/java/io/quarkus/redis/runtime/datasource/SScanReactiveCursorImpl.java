@@ -44,7 +44,7 @@ public Uni<List<V>> next() {
                     Response array = response.get(1);
                     List<V> list = new ArrayList<>();
                     for (Response nested : array) {
-                        list.add(marshaller.decode(typeOfValue, nested.toBytes()));
+                        list.add(marshaller.decode(typeOfValue, nested));
                     }
                     return list;
                 });
@@ -45,7 +45,7 @@ public Uni<List<ScoredValue<V>>> next() {
                     List<ScoredValue<V>> list = new ArrayList<>();
                     for (Response nested : array) {
                         if (value == null) {
-                            value = marshaller.decode(typeOfValue, nested.toBytes());
+                            value = marshaller.decode(typeOfValue, nested);
                         } else {
                             list.add(new ScoredValue<>(value, nested.toDouble()));
                             value = null;
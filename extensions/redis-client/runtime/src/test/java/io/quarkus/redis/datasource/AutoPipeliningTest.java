@@ -0,0 +1,102 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.runtime.client.AutoPipeliningRedis;
+import io.quarkus.redis.runtime.client.ObservableRedisMetrics;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+public class AutoPipeliningTest extends DatasourceTestBase {
+
+    final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    final AutoPipeliningRedis client = new AutoPipeliningRedis(redis.getDelegate(), "test", 64,
+            new ObservableRedisMetrics() {
+                @Override
+                public void report(String name, long durationInNs, boolean succeeded) {
+
+                }
+
+                @Override
+                public void reportPipeline(String name, int batchSize, long flushDurationInNs) {
+                    batchSizes.add(batchSize);
+                }
+            });
+
+    @AfterEach
+    public void tearDown() {
+        api.flushallAndAwait(List.of());
+    }
+
+    @Test
+    void commandsSentDuringTheSameTurnArePipelined() {
+        List<Request> requests = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            requests.add(Request.cmd(Command.INCR).arg(key));
+        }
+        List<Future<Response>> responses = sendFromEventLoop(requests);
+
+        assertThat(responses).extracting(f -> f.result().toInteger())
+                .containsExactlyInAnyOrderElementsOf(range(1, 100));
+        assertThat(batchSizes).containsExactlyInAnyOrder(64, 36);
+    }
+
+    @Test
+    void failedCommandOnlyFailsItself() {
+        api.setAndAwait(List.of(key, "not a number"));
+        List<Future<Response>> responses = sendFromEventLoop(List.of(Request.cmd(Command.GET).arg(key),
+                Request.cmd(Command.INCR).arg(key), Request.cmd(Command.STRLEN).arg(key)));
+
+        assertThat(responses.get(0).result().toString()).isEqualTo("not a number");
+        assertThat(responses.get(1).failed()).isTrue();
+        assertThat(responses.get(2).result().toInteger()).isEqualTo(12);
+        assertThat(batchSizes).containsExactly(3);
+    }
+
+    @Test
+    void commandsSentOutsideOfAnEventLoopAreNotPipelined() {
+        Response response = client.send(Request.cmd(Command.INCR).arg(key)).toCompletionStage().toCompletableFuture()
+                .join();
+
+        assertThat(response.toInteger()).isEqualTo(1);
+        assertThat(batchSizes).isEmpty();
+    }
+
+    private List<Future<Response>> sendFromEventLoop(List<Request> requests) {
+        Promise<List<Future<Response>>> sent = Promise.promise();
+        vertx.getDelegate().runOnContext(x -> {
+            List<Future<Response>> responses = new ArrayList<>();
+            for (Request request : requests) {
+                responses.add(client.send(request));
+            }
+            sent.complete(responses);
+        });
+        List<Future<Response>> responses = sent.future().toCompletionStage().toCompletableFuture().join();
+        List<Future<Response>> completions = new ArrayList<>();
+        for (Future<Response> response : responses) {
+            // wait for the failures too
+            completions.add(response.otherwiseEmpty());
+        }
+        Future.join(completions).toCompletionStage().toCompletableFuture().join();
+        return responses;
+    }
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
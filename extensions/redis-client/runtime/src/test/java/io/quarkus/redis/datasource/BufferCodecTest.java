@@ -0,0 +1,84 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.quarkus.redis.datasource.codecs.BufferCodec;
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.vertx.core.buffer.Buffer;
+
+public class BufferCodecTest {
+
+    @Test
+    void builtInCodecsAreBufferCodecs() {
+        assertThat(Codecs.getDefaultCodecFor(String.class)).isInstanceOf(BufferCodec.class);
+        assertThat(Codecs.getDefaultCodecFor(byte[].class)).isInstanceOf(BufferCodec.class);
+        assertThat(Codecs.getDefaultCodecFor(Person.class)).isInstanceOf(BufferCodec.class);
+    }
+
+    @Test
+    void stringAndBytes() {
+        BufferCodec codec = (BufferCodec) Codecs.getDefaultCodecFor(String.class);
+        Buffer buffer = Buffer.buffer("prefix:");
+        codec.encode("hello ☀", buffer);
+        assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("prefix:hello ☀");
+        assertThat(codec.decode(buffer.slice(7, buffer.length()))).isEqualTo("hello ☀");
+
+        codec = (BufferCodec) Codecs.getDefaultCodecFor(byte[].class);
+        buffer = Buffer.buffer();
+        codec.encode(new byte[] { 1, 2, 3 }, buffer);
+        assertThat((byte[]) codec.decode(buffer)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void json() {
+        BufferCodec codec = (BufferCodec) Codecs.getDefaultCodecFor(Person.class);
+        Buffer buffer = Buffer.buffer();
+        codec.encode(Person.person1, buffer);
+        assertThat(buffer.getBytes()).isEqualTo(codec.encode(Person.person1));
+        assertThat(codec.decode(buffer)).isEqualTo(Person.person1);
+        assertThat(codec.decode(buffer.getBytes())).isEqualTo(Person.person1);
+
+        Type type = new TypeReference<List<Person>>() {
+        }.getType();
+        codec = (BufferCodec) Codecs.getDefaultCodecFor(type);
+        buffer = Buffer.buffer();
+        codec.encode(List.of(Person.person1, Person.person2), buffer);
+        assertThat(codec.decode(buffer)).isEqualTo(List.of(Person.person1, Person.person2));
+    }
+
+    @Test
+    void byteArrayMethodsDelegateToTheBufferMethods() {
+        Codec codec = new BufferCodec() {
+            @Override
+            public boolean canHandle(Type clazz) {
+                return clazz.equals(Person.class);
+            }
+
+            @Override
+            public void encode(Object item, Buffer buffer) {
+                Person person = (Person) item;
+                buffer.appendString(person.firstname).appendString(";").appendString(person.lastname);
+            }
+
+            @Override
+            public Object decode(Buffer item) {
+                String[] segments = item.toString(StandardCharsets.UTF_8).split(";");
+                return new Person(segments[0], segments[1]);
+            }
+        };
+
+        byte[] encoded = codec.encode(Person.person1);
+        assertThat(new String(encoded, StandardCharsets.UTF_8)).isEqualTo("luke;skywalker");
+        assertThat(codec.decode(encoded)).isEqualTo(Person.person1);
+        assertThat(codec.encode(null)).isNull();
+    }
+}
@@ -0,0 +1,103 @@
+package io.quarkus.rest.client.reactive.jackson.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests that the types of the REST Client interfaces are (de)serialized by the generated reflection-free serializers.
+ */
+public class ReflectionFreeSerializersTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Dto.class, DtoClient.class, EchoEndpoint.class))
+            .overrideConfigKey("quarkus.rest.jackson.optimization.enable-reflection-free-serializers", "true");
+
+    @RestClient
+    DtoClient client;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        // The endpoint only handles strings, the serializers are generated for the REST Client
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        assertThat(Class.forName(Dto.class.getName() + "$quarkusjacksonserializer", false, cl)).isNotNull();
+        assertThat(Class.forName(Dto.class.getName() + "$quarkusjacksondeserializer", false, cl)).isNotNull();
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(Dto.class).getClass().getName())
+                .endsWith("$quarkusjacksonserializer");
+
+        for (int i = 0; i < 3; i++) {
+            // The readers and writers are cached after the first call
+            Dto dto = new Dto();
+            dto.name = "foo-" + i;
+            dto.count = i;
+            Dto result = client.echo("id", "header", dto);
+            assertThat(result.name).isEqualTo("foo-" + i);
+            assertThat(result.count).isEqualTo(i);
+
+            List<Dto> results = client.echoList(List.of(dto, dto));
+            assertThat(results).hasSize(2);
+            assertThat(results.get(1).name).isEqualTo("foo-" + i);
+        }
+    }
+
+    @Path("/echo")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public interface DtoClient {
+
+        @POST
+        @Path("{id}")
+        Dto echo(@PathParam("id") String id, @HeaderParam("x-test") String header, Dto dto);
+
+        @POST
+        @Path("list")
+        List<Dto> echoList(List<Dto> dtos);
+    }
+
+    public static class Dto {
+        public String name;
+        public int count;
+    }
+
+    @Path("/echo")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class EchoEndpoint {
+
+        @POST
+        @Path("{id}")
+        public String echo(String body) {
+            return body;
+        }
+
+        @POST
+        @Path("list")
+        public String echoList(String body) {
+            return body;
+        }
+    }
+}
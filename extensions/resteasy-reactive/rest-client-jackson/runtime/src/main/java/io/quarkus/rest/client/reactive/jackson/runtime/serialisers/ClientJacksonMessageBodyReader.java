@@ -31,12 +31,14 @@ public class ClientJacksonMessageBodyReader extends AbstractJsonMessageBodyReade
 
     private static final Logger log = Logger.getLogger(ClientJacksonMessageBodyReader.class);
 
-    private final ConcurrentMap<ObjectMapper, ObjectReader> objectReaderMap = new ConcurrentHashMap<>();
-    private final ObjectReader defaultReader;
+    // the readers are cached per type so that the root deserializer is only looked up once
+    private final ConcurrentMap<ObjectMapper, ConcurrentMap<Type, ObjectReader>> objectReaderMap = new ConcurrentHashMap<>();
+    private final ObjectMapper defaultMapper;
+    private final ConcurrentMap<Type, ObjectReader> defaultReaders = new ConcurrentHashMap<>();
 
     @Inject
     public ClientJacksonMessageBodyReader(ObjectMapper mapper) {
-        this.defaultReader = mapper.reader();
+        this.defaultMapper = mapper;
     }
 
     @Override
@@ -52,9 +54,7 @@ private Object doRead(Class<Object> type, Type genericType, MediaType mediaType,
             if (entityStream instanceof EmptyInputStream) {
                 return null;
             }
-            ObjectReader reader = getEffectiveReader(mediaType, context);
-            return reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type))
-                    .readValue(entityStream);
+            return getEffectiveReader(genericType != null ? genericType : type, mediaType, context).readValue(entityStream);
 
         } catch (JsonParseException e) {
             log.debug("Server returned invalid json data", e);
@@ -71,17 +71,31 @@ public Object readFrom(Class<Object> type, Type genericType,
         return doRead(type, genericType, mediaType, entityStream, context);
     }
 
-    private ObjectReader getEffectiveReader(MediaType responseMediaType, RestClientRequestContext context) {
+    private ObjectReader getEffectiveReader(Type type, MediaType responseMediaType, RestClientRequestContext context) {
         ObjectMapper effectiveMapper = getObjectMapperFromContext(responseMediaType, context);
         if (effectiveMapper == null) {
-            return defaultReader;
+            return getReader(defaultReaders, defaultMapper, type);
         }
 
-        return objectReaderMap.computeIfAbsent(effectiveMapper, new Function<>() {
+        ConcurrentMap<Type, ObjectReader> readers = objectReaderMap.computeIfAbsent(effectiveMapper, new Function<>() {
             @Override
-            public ObjectReader apply(ObjectMapper objectMapper) {
-                return objectMapper.reader();
+            public ConcurrentMap<Type, ObjectReader> apply(ObjectMapper objectMapper) {
+                return new ConcurrentHashMap<>();
             }
         });
+        return getReader(readers, effectiveMapper, type);
+    }
+
+    private static ObjectReader getReader(ConcurrentMap<Type, ObjectReader> readers, ObjectMapper mapper, Type type) {
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            reader = readers.computeIfAbsent(type, new Function<>() {
+                @Override
+                public ObjectReader apply(Type t) {
+                    return mapper.readerFor(mapper.getTypeFactory().constructType(t));
+                }
+            });
+        }
+        return reader;
     }
 }
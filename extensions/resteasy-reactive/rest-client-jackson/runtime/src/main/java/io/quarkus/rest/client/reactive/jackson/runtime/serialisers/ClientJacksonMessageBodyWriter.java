@@ -27,6 +27,8 @@ public class ClientJacksonMessageBodyWriter implements ClientMessageBodyWriter<O
 
     private final ObjectWriter defaultWriter;
     private final ConcurrentMap<ObjectMapper, ObjectWriter> objectWriterMap = new ConcurrentHashMap<>();
+    // the writers are cached per runtime class of the entity so that the root serializer is only looked up once
+    private final ConcurrentMap<ObjectWriter, ConcurrentMap<Class<?>, ObjectWriter>> typedWriterMap = new ConcurrentHashMap<>();
 
     @Inject
     public ClientJacksonMessageBodyWriter(ObjectMapper mapper) {
@@ -41,14 +43,40 @@ public boolean isWriteable(Class type, Type genericType, Annotation[] annotation
     @Override
     public void writeTo(Object o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
             MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
-        doLegacyWrite(o, annotations, httpHeaders, entityStream, getEffectiveWriter(mediaType, null));
+        doLegacyWrite(o, annotations, httpHeaders, entityStream, getTypedWriter(o, getEffectiveWriter(mediaType, null)));
     }
 
     @Override
     public void writeTo(Object o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
             MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream,
             RestClientRequestContext context) throws IOException, WebApplicationException {
-        doLegacyWrite(o, annotations, httpHeaders, entityStream, getEffectiveWriter(mediaType, context));
+        doLegacyWrite(o, annotations, httpHeaders, entityStream, getTypedWriter(o, getEffectiveWriter(mediaType, context)));
+    }
+
+    private ObjectWriter getTypedWriter(Object o, ObjectWriter writer) {
+        if (o == null) {
+            return writer;
+        }
+        ConcurrentMap<Class<?>, ObjectWriter> writers = typedWriterMap.get(writer);
+        if (writers == null) {
+            writers = typedWriterMap.computeIfAbsent(writer, new Function<>() {
+                @Override
+                public ConcurrentMap<Class<?>, ObjectWriter> apply(ObjectWriter objectWriter) {
+                    return new ConcurrentHashMap<>();
+                }
+            });
+        }
+        ObjectWriter typedWriter = writers.get(o.getClass());
+        if (typedWriter == null) {
+            typedWriter = writers.computeIfAbsent(o.getClass(), new Function<>() {
+                @Override
+                public ObjectWriter apply(Class<?> type) {
+                    // the runtime class is used, i.e. the same serializer as for the untyped writer is selected
+                    return writer.forType(type);
+                }
+            });
+        }
+        return typedWriter;
     }
 
     protected ObjectWriter getEffectiveWriter(MediaType responseMediaType, RestClientRequestContext context) {
@@ -201,13 +201,26 @@ protected FieldKind registerTypeToBeGenerated(Type fieldType, String typeName) {
                 registerTypeToBeGenerated(pType.arguments().get(1));
                 return FieldKind.MAP;
             }
+            registerTypeToBeGenerated(pType);
+            return FieldKind.OBJECT;
         }
         registerTypeToBeGenerated(typeName);
         return FieldKind.OBJECT;
     }
 
     private void registerTypeToBeGenerated(Type type) {
-        registerTypeToBeGenerated(type.name().toString());
+        switch (type.kind()) {
+            case ARRAY -> registerTypeToBeGenerated(type.asArrayType().constituent());
+            case WILDCARD_TYPE -> registerTypeToBeGenerated(type.asWildcardType().extendsBound());
+            case PARAMETERIZED_TYPE -> {
+                // e.g. List<List<Item>> or DataItem<Item>
+                type.asParameterizedType().arguments().forEach(this::registerTypeToBeGenerated);
+                registerTypeToBeGenerated(type.name().toString());
+            }
+            case CLASS -> registerTypeToBeGenerated(type.name().toString());
+            default -> {
+            }
+        }
     }
 
     private void registerTypeToBeGenerated(String typeName) {
@@ -20,11 +20,11 @@
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.MethodParameterInfo;
-import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.Type;
 import org.jboss.jandex.TypeVariable;
 import org.jboss.jandex.VoidType;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.ObjectCodec;
@@ -126,10 +126,15 @@
  * the generation of a second StdDeserializer also for it. More in general if during the generation of a deserializer for a
  * given class it discovers a non-primitive field of another type for which a deserializer hasn't been generated yet, this
  * factory enqueues a code generation also for that type. The same is valid for both arrays of that type, like
- * {@code Address[]}, and collections, like {@code List&lt;Address&gt}.
+ * {@code Address[]}, collections, like {@code List&lt;Address&gt}, and other generic types, like
+ * {@code Map&lt;String, List&lt;Address&gt;&gt;} or {@code Optional&lt;Address&gt;}. The value of a field with a generic type
+ * is read with the full {@code JavaType} so that the nested values are deserialized with the proper type.
  *
- * Also note that this works only if the Java class to be deserialized has an empty constructor, while the generation of
- * this deserializer is skipped in all other cases. In particular this cannot work with records.
+ * Also note that the Java class to be deserialized must have either an empty constructor, a public constructor annotated
+ * with {@code @JsonCreator} or it must be a record. The values of the constructor parameters are read before the object is
+ * created. The generation of this deserializer is skipped in all other cases, and also if a field or a constructor
+ * parameter is annotated with a Jackson annotation other than {@code @JsonProperty}, {@code @JsonIgnore} and
+ * {@code @JsonCreator}.
  *
  * If the class to be deserialized has one or more generics parameter, the generated deserializer also implements the
  * {@code ContextualDeserializer} interface. For instance for a class like the following
@@ -255,13 +260,19 @@ private ResultHandle createDeserializedObject(DeserializationData deserData) {
         int i = 0;
         for (MethodParameterInfo paramInfo : deserData.constructor.parameters()) {
             FieldSpecs fieldSpecs = fieldSpecsFromFieldParam(paramInfo);
+            if (fieldSpecs.hasUnknownAnnotation()) {
+                return null;
+            }
             deserData.constructorFields.add(fieldSpecs.jsonName);
             ResultHandle fieldValue = deserData.methodCreator.invokeVirtualMethod(
                     ofMethod(JsonNode.class, "get", JsonNode.class, String.class), deserData.jsonNode,
                     deserData.methodCreator.load(fieldSpecs.jsonName));
 
-            params[i++] = readValueFromJson(deserData.classCreator, deserData.methodCreator,
+            params[i] = readValueFromJson(deserData.classCreator, deserData.methodCreator,
                     deserData.methodCreator.getMethodParam(1), fieldSpecs, deserData.typeParametersIndex, fieldValue);
+            if (params[i++] == null) {
+                return null;
+            }
         }
         return deserData.methodCreator.newInstance(deserData.constructor, params);
     }
@@ -304,7 +315,7 @@ private Map<String, Integer> parseTypeParameters(ClassInfo classInfo, ClassCreat
         Map<String, Integer> typeParametersIndex = new HashMap<>();
         int index = 0;
         for (TypeVariable typeParameter : typeParameters) {
-            typeParametersIndex.put(typeParameter.name().toString(), index++);
+            typeParametersIndex.put(typeParameter.identifier(), index++);
         }
         return typeParametersIndex;
     }
@@ -400,49 +411,88 @@ private ResultHandle readValueFromJson(ClassCreator classCreator, BytecodeCreato
         }
 
         FieldKind fieldKind = registerTypeToBeGenerated(fieldType, fieldTypeName);
-        ResultHandle typeHandle = switch (fieldKind) {
-            case TYPE_VARIABLE -> {
-                Integer parameterIndex = typeParametersIndex.get(fieldTypeName);
+        boolean generic = fieldKind.isGeneric() || fieldType.kind() == Type.Kind.PARAMETERIZED_TYPE;
+        ResultHandle typeHandle;
+        if (generic) {
+            // the full generic type is needed, e.g. Map<String, List<Item>> or Optional<Item>
+            ResultHandle typeFactory = bytecode.invokeVirtualMethod(
+                    ofMethod(DeserializationContext.class, "getTypeFactory", TypeFactory.class), deserializationContext);
+            typeHandle = javaType(classCreator, bytecode, typeFactory, typeParametersIndex, fieldType);
+        } else {
+            typeHandle = bytecode.loadClass(fieldTypeName);
+        }
+
+        if (typeHandle == null) {
+            return null;
+        }
+
+        MethodDescriptor readTreeAsValue = ofMethod(DeserializationContext.class, "readTreeAsValue",
+                Object.class, JsonNode.class, generic ? JavaType.class : Class.class);
+        return bytecode.invokeVirtualMethod(readTreeAsValue, deserializationContext, valueNode, typeHandle);
+    }
+
+    /**
+     * Creates the {@code JavaType} of the given type. Type variables are resolved through the {@code valueTypes} set by
+     * {@code createContextual()}.
+     *
+     * @return the handle of the {@code JavaType}, or {@code null} if the type cannot be resolved
+     */
+    private ResultHandle javaType(ClassCreator classCreator, BytecodeCreator bytecode, ResultHandle typeFactory,
+            Map<String, Integer> typeParametersIndex, Type type) {
+        switch (type.kind()) {
+            case TYPE_VARIABLE: {
+                Integer parameterIndex = typeParametersIndex == null ? null
+                        : typeParametersIndex.get(type.asTypeVariable().identifier());
                 if (parameterIndex == null) {
-                    yield null;
+                    return null;
                 }
                 FieldDescriptor valueTypesField = FieldDescriptor.of(classCreator.getClassName(), "valueTypes",
                         JavaType[].class);
                 ResultHandle valueTypes = bytecode.readInstanceField(valueTypesField, bytecode.getThis());
-                yield bytecode.readArrayValue(valueTypes, parameterIndex);
-            }
-            case LIST, SET -> {
-                Type listType = ((ParameterizedType) fieldType).arguments().get(0);
-                MethodDescriptor getTypeFactory = ofMethod(DeserializationContext.class, "getTypeFactory",
-                        TypeFactory.class);
-                ResultHandle typeFactory = bytecode.invokeVirtualMethod(getTypeFactory, deserializationContext);
-                MethodDescriptor constructCollectionType = ofMethod(TypeFactory.class,
-                        "constructCollectionType", CollectionType.class, Class.class, Class.class);
-                yield bytecode.invokeVirtualMethod(constructCollectionType, typeFactory,
-                        bytecode.loadClass(fieldKind == FieldKind.SET ? HashSet.class : ArrayList.class),
-                        bytecode.loadClass(listType.name().toString()));
+                return bytecode.readArrayValue(valueTypes, parameterIndex);
             }
-            case MAP -> {
-                Type keyType = ((ParameterizedType) fieldType).arguments().get(0);
-                Type valueType = ((ParameterizedType) fieldType).arguments().get(1);
-                MethodDescriptor getTypeFactory = ofMethod(DeserializationContext.class, "getTypeFactory",
-                        TypeFactory.class);
-                ResultHandle typeFactory = bytecode.invokeVirtualMethod(getTypeFactory, deserializationContext);
-                MethodDescriptor constructMapType = ofMethod(TypeFactory.class, "constructMapType",
-                        MapType.class, Class.class, Class.class, Class.class);
-                yield bytecode.invokeVirtualMethod(constructMapType, typeFactory, bytecode.loadClass(HashMap.class),
-                        bytecode.loadClass(keyType.name().toString()), bytecode.loadClass(valueType.name().toString()));
+            case WILDCARD_TYPE:
+                return javaType(classCreator, bytecode, typeFactory, typeParametersIndex,
+                        type.asWildcardType().extendsBound());
+            case PARAMETERIZED_TYPE: {
+                List<Type> arguments = type.asParameterizedType().arguments();
+                ResultHandle[] argumentTypes = new ResultHandle[arguments.size()];
+                for (int i = 0; i < argumentTypes.length; i++) {
+                    argumentTypes[i] = javaType(classCreator, bytecode, typeFactory, typeParametersIndex, arguments.get(i));
+                    if (argumentTypes[i] == null) {
+                        return null;
+                    }
+                }
+                String rawTypeName = type.name().toString();
+                if (argumentTypes.length == 1 && (rawTypeName.equals("java.util.List")
+                        || rawTypeName.equals("java.util.Collection") || rawTypeName.equals("java.lang.Iterable"))) {
+                    return bytecode.invokeVirtualMethod(ofMethod(TypeFactory.class, "constructCollectionType",
+                            CollectionType.class, Class.class, JavaType.class), typeFactory,
+                            bytecode.loadClass(ArrayList.class), argumentTypes[0]);
+                }
+                if (argumentTypes.length == 1 && rawTypeName.equals("java.util.Set")) {
+                    return bytecode.invokeVirtualMethod(ofMethod(TypeFactory.class, "constructCollectionType",
+                            CollectionType.class, Class.class, JavaType.class), typeFactory,
+                            bytecode.loadClass(HashSet.class), argumentTypes[0]);
+                }
+                if (argumentTypes.length == 2 && rawTypeName.equals("java.util.Map")) {
+                    return bytecode.invokeVirtualMethod(ofMethod(TypeFactory.class, "constructMapType",
+                            MapType.class, Class.class, JavaType.class, JavaType.class), typeFactory,
+                            bytecode.loadClass(HashMap.class), argumentTypes[0], argumentTypes[1]);
+                }
+                ResultHandle argumentTypesArray = bytecode.newArray(JavaType.class, argumentTypes.length);
+                for (int i = 0; i < argumentTypes.length; i++) {
+                    bytecode.writeArrayValue(argumentTypesArray, i, argumentTypes[i]);
+                }
+                return bytecode.invokeVirtualMethod(ofMethod(TypeFactory.class, "constructParametricType",
+                        JavaType.class, Class.class, JavaType[].class), typeFactory, bytecode.loadClass(rawTypeName),
+                        argumentTypesArray);
             }
-            default -> bytecode.loadClass(fieldTypeName);
-        };
-
-        if (typeHandle == null) {
-            return null;
+            default:
+                return bytecode.invokeVirtualMethod(ofMethod(TypeFactory.class, "constructType",
+                        JavaType.class, java.lang.reflect.Type.class), typeFactory,
+                        bytecode.loadClass(type.name().toString()));
         }
-
-        MethodDescriptor readTreeAsValue = ofMethod(DeserializationContext.class, "readTreeAsValue",
-                Object.class, JsonNode.class, fieldKind.isGeneric() ? JavaType.class : Class.class);
-        return bytecode.invokeVirtualMethod(readTreeAsValue, deserializationContext, valueNode, typeHandle);
     }
 
     private void writeValueToObject(ClassInfo classInfo, ResultHandle objHandle, FieldSpecs fieldSpecs,
@@ -487,6 +537,10 @@ private static ResultHandle readValueForPrimitiveFields(BytecodeCreator bytecode
                     ofMethod(String.class, "charAt", char.class, int.class),
                     isValueNullFalse.invokeVirtualMethod(ofMethod(JsonNode.class, "asText", String.class), valueNode),
                     isValueNullFalse.load(0));
+            case "byte", "java.lang.Byte" -> isValueNullFalse
+                    .convertPrimitive(
+                            isValueNullFalse.invokeVirtualMethod(ofMethod(JsonNode.class, "asInt", int.class), valueNode),
+                            byte.class);
             case "short", "java.lang.Short" -> isValueNullFalse
                     .convertPrimitive(
                             isValueNullFalse.invokeVirtualMethod(ofMethod(JsonNode.class, "asInt", int.class), valueNode),
@@ -519,7 +573,9 @@ private static ResultHandle readValueForPrimitiveFields(BytecodeCreator bytecode
 
     @Override
     protected boolean shouldGenerateCodeFor(ClassInfo classInfo) {
-        return super.shouldGenerateCodeFor(classInfo) && classInfo.hasNoArgsConstructor();
+        return super.shouldGenerateCodeFor(classInfo) && (classInfo.hasNoArgsConstructor() || classInfo.isRecord()
+                || classInfo.constructors().stream()
+                        .anyMatch(ctor -> Modifier.isPublic(ctor.flags()) && ctor.hasAnnotation(JsonCreator.class)));
     }
 
     private record DeserializationData(ClassInfo classInfo, MethodInfo constructor, ClassCreator classCreator,
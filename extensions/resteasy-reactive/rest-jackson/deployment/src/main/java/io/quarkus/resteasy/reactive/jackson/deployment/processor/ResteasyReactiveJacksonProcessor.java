@@ -5,6 +5,7 @@
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_NDJSON;
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_STREAM_JSON;
 
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -20,7 +21,9 @@
 import java.util.function.Supplier;
 
 import jakarta.inject.Singleton;
+import jakarta.ws.rs.PATCH;
 import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.RuntimeType;
 import jakarta.ws.rs.core.Cookie;
@@ -34,6 +37,7 @@
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.MethodParameterInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
@@ -102,6 +106,8 @@ public class ResteasyReactiveJacksonProcessor {
     private static final Logger log = Logger.getLogger(ResteasyReactiveJacksonProcessor.class);
 
     private static final DotName JSON_VIEW = DotName.createSimple(JsonView.class.getName());
+    private static final DotName REGISTER_REST_CLIENT = DotName
+            .createSimple("org.eclipse.microprofile.rest.client.inject.RegisterRestClient");
     private static final DotName CUSTOM_SERIALIZATION = DotName.createSimple(CustomSerialization.class.getName());
     private static final DotName CUSTOM_DESERIALIZATION = DotName.createSimple(CustomDeserialization.class.getName());
     private static final DotName SECURE_FIELD = DotName.createSimple(SecureField.class.getName());
@@ -411,7 +417,8 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
                 serializedClasses.put(effectiveReturnClassInfo.name().toString(), effectiveReturnClassInfo);
             }
 
-            if (methodInfo.hasAnnotation(POST.class)) {
+            if (methodInfo.hasAnnotation(POST.class) || methodInfo.hasAnnotation(PUT.class)
+                    || methodInfo.hasAnnotation(PATCH.class)) {
                 for (Type paramType : methodInfo.parameterTypes()) {
                     ClassInfo effectiveParamClassInfo = getEffectiveClassInfo(paramType, indexView);
                     if (effectiveParamClassInfo != null) {
@@ -421,6 +428,32 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
             }
         }
 
+        // the generated serializers are registered in the default ObjectMapper which is also used by the REST Client
+        // so the types of REST Client interfaces are handled as well; the request bodies are serialized and the
+        // responses are deserialized
+        for (AnnotationInstance registerRestClient : index.getIndex().getAnnotations(REGISTER_REST_CLIENT)) {
+            if (registerRestClient.target().kind() != AnnotationTarget.Kind.CLASS) {
+                continue;
+            }
+            for (MethodInfo methodInfo : registerRestClient.target().asClass().methods()) {
+                if (!Modifier.isAbstract(methodInfo.flags())) {
+                    // static and default methods are not invoked remotely
+                    continue;
+                }
+                ClassInfo effectiveReturnClassInfo = getEffectiveClassInfo(methodInfo.returnType(), index.getIndex());
+                if (effectiveReturnClassInfo != null) {
+                    deserializedClasses.put(effectiveReturnClassInfo.name().toString(), effectiveReturnClassInfo);
+                }
+                MethodParameterInfo bodyParameter = getRestClientBodyParameter(methodInfo);
+                if (bodyParameter != null) {
+                    ClassInfo effectiveParamClassInfo = getEffectiveClassInfo(bodyParameter.type(), index.getIndex());
+                    if (effectiveParamClassInfo != null) {
+                        serializedClasses.put(effectiveParamClassInfo.name().toString(), effectiveParamClassInfo);
+                    }
+                }
+            }
+        }
+
         if (!serializedClasses.isEmpty()) {
             JacksonSerializerFactory factory = new JacksonSerializerFactory(generatedClassBuildItemBuildProducer,
                     index.getComputingIndex());
@@ -528,6 +561,48 @@ public void handleFieldSecurity(ResteasyReactiveResourceMethodEntriesBuildItem r
         }
     }
 
+    /**
+     * @return the body parameter of the given REST Client method, or {@code null} if there is none or if it's ambiguous,
+     *         e.g. in a multipart request
+     */
+    private static MethodParameterInfo getRestClientBodyParameter(MethodInfo method) {
+        MethodParameterInfo body = null;
+        for (MethodParameterInfo parameter : method.parameters()) {
+            if (isRestClientBodyParameter(parameter)) {
+                if (body != null) {
+                    return null;
+                }
+                body = parameter;
+            }
+        }
+        return body;
+    }
+
+    private static boolean isRestClientBodyParameter(MethodParameterInfo parameter) {
+        for (AnnotationInstance annotation : parameter.declaredAnnotations()) {
+            String name = annotation.name().toString();
+            if (name.startsWith("jakarta.ws.rs.") || name.startsWith("org.jboss.resteasy.reactive.")
+                    || name.startsWith("org.eclipse.microprofile.rest.client.")
+                    || name.startsWith("io.quarkus.rest.client.reactive.")) {
+                // @PathParam, @RestQuery, @NotBody...
+                return false;
+            }
+        }
+        Type type = parameter.type();
+        if (type.kind() == Type.Kind.PRIMITIVE || type.kind() == Type.Kind.ARRAY) {
+            return false;
+        }
+        DotName typeName = type.name();
+        if (typeName.equals(ResteasyReactiveDotNames.LIST) || typeName.equals(ResteasyReactiveDotNames.SET)
+                || typeName.equals(ResteasyReactiveDotNames.COLLECTION)) {
+            return true;
+        }
+        String name = typeName.toString();
+        // context types, files, streams, multipart parts...
+        return !name.startsWith("java.") && !name.startsWith("jakarta.") && !name.startsWith("io.vertx.")
+                && !name.startsWith("org.jboss.resteasy.reactive.");
+    }
+
     private static ClassInfo getEffectiveClassInfo(Type type, IndexView indexView) {
         if (type.kind() == Type.Kind.VOID) {
             return null;
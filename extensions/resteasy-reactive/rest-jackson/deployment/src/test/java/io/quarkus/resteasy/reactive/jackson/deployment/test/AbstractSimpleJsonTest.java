@@ -742,6 +742,30 @@ public void testRecordWithEmptyConstructorEcho() {
                 .body("age", Matchers.is(5));
     }
 
+    @Test
+    public void testBasketEcho() {
+        RestAssured
+                .with()
+                .body("{\"owner\":\"Lu\",\"note\":\"secret\",\"categories\":[\"FRUIT\"],"
+                        + "\"itemsByShelf\":{\"top\":[{\"name\":\"apple\",\"qty\":3,\"category\":\"FRUIT\","
+                        + "\"bestBefore\":\"2024-10-01\"}]},"
+                        + "\"featured\":{\"content\":{\"name\":\"pear\",\"qty\":1,\"category\":\"FRUIT\"}}}")
+                .contentType("application/json; charset=utf-8")
+                .put("/simple/basket-echo")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("owner", Matchers.is("Lu"))
+                .body("note", Matchers.nullValue())
+                .body("categories", Matchers.contains("FRUIT"))
+                .body("itemsByShelf.top[0].name", Matchers.is("apple"))
+                .body("itemsByShelf.top[0].qty", Matchers.is(3))
+                .body("itemsByShelf.top[0].category", Matchers.is("FRUIT"))
+                .body("itemsByShelf.top[0].bestBefore", Matchers.is("2024-10-01"))
+                .body("featured.content.name", Matchers.is("pear"))
+                .body("featured.content.bestBefore", Matchers.nullValue());
+    }
+
     @Test
     public void testKotlinDataEcho() {
         RestAssured
@@ -0,0 +1,66 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public class Basket {
+
+    private String owner;
+
+    @JsonIgnore
+    private String note;
+
+    private Map<String, List<BasketItem>> itemsByShelf;
+
+    private DataItem<BasketItem> featured;
+
+    private Set<Category> categories;
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    public Map<String, List<BasketItem>> getItemsByShelf() {
+        return itemsByShelf;
+    }
+
+    public void setItemsByShelf(Map<String, List<BasketItem>> itemsByShelf) {
+        this.itemsByShelf = itemsByShelf;
+    }
+
+    public DataItem<BasketItem> getFeatured() {
+        return featured;
+    }
+
+    public void setFeatured(DataItem<BasketItem> featured) {
+        this.featured = featured;
+    }
+
+    public Set<Category> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(Set<Category> categories) {
+        this.categories = categories;
+    }
+
+    public enum Category {
+        FRUIT,
+        VEGETABLE
+    }
+}
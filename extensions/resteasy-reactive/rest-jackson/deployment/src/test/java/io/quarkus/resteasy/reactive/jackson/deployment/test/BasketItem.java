@@ -0,0 +1,8 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record BasketItem(String name, @JsonProperty("qty") int quantity, Basket.Category category, LocalDate bestBefore) {
+}
@@ -12,6 +12,7 @@
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.WebApplicationException;
@@ -145,6 +146,17 @@ public TokenResponse echoKotlinData(TokenResponse tokenResponse) {
         return tokenResponse;
     }
 
+    @PUT
+    @Path("/basket-echo")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Basket echoBasket(Basket basket) {
+        if (!(basket.getItemsByShelf().get("top").get(0) instanceof BasketItem)
+                || !(basket.getFeatured().getContent() instanceof BasketItem)) {
+            throw new IllegalStateException("Generic types not deserialized properly");
+        }
+        return basket;
+    }
+
     @POST
     @Path("/null-map-echo")
     @Consumes(MediaType.APPLICATION_JSON)
@@ -27,8 +27,8 @@ public JavaArchive get() {
                                     Pond.class, FrogBodyParts.class, FrogBodyParts.BodyPart.class, ContainerDTO.class,
                                     NestedInterface.class, StateRecord.class, MapWrapper.class, GenericWrapper.class,
                                     Fruit.class, Price.class, DogRecord.class, ItemExtended.class, Book.class, LombokBook.class,
-                                    PrimitiveTypesBean.class, PrimitiveTypesRecord.class, TokenResponse.class,
-                                    ItemJsonValuePublicMethod.class, ItemJsonValuePublicField.class,
+                                    Basket.class, BasketItem.class, PrimitiveTypesBean.class, PrimitiveTypesRecord.class,
+                                    TokenResponse.class, ItemJsonValuePublicMethod.class, ItemJsonValuePublicField.class,
                                     ItemJsonValuePrivateMethod.class, ItemJsonValuePrivateField.class)
                             .addAsResource(new StringAsset("admin-expression=admin\n" +
                                     "user-expression=user\n" +
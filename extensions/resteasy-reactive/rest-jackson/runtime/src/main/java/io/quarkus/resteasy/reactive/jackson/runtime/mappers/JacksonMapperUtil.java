@@ -109,10 +109,14 @@ private static RolesAllowedConfigExpStorage createRolesAllowedConfigExpStorage()
     }
 
     public static JavaType[] getGenericsJavaTypes(DeserializationContext context, BeanProperty property) {
-        JavaType wrapperType = property != null ? property.getType() : context.getContextualType();
+        // the contextual type is the type being deserialized, e.g. DataItem<String> for a property of type List<DataItem<String>>
+        JavaType wrapperType = context.getContextualType();
+        if (wrapperType == null) {
+            wrapperType = property.getType();
+        }
         JavaType[] valueTypes = new JavaType[wrapperType.containedTypeCount()];
         for (int i = 0; i < valueTypes.length; i++) {
-            valueTypes[i] = wrapperType.containedType(0);
+            valueTypes[i] = wrapperType.containedType(i);
         }
         return valueTypes;
     }
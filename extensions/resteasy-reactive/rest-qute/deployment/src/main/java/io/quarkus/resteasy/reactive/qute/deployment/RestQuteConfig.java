@@ -19,4 +19,17 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a resource method is rendered
+     * incrementally and the rendered output is written directly to the HTTP response as soon as it's available. Otherwise,
+     * the whole template is rendered first and the result is written afterwards.
+     * <p>
+     * A {@link io.quarkus.qute.TemplateInstance} wrapped in a {@link jakarta.ws.rs.core.Response} is never streamed.
+     * <p>
+     * If the rendering fails once part of the output was written, the status code cannot be changed anymore: the failure
+     * is logged and the connection is reset.
+     */
+    @WithDefault("false")
+    boolean streaming();
+
 }
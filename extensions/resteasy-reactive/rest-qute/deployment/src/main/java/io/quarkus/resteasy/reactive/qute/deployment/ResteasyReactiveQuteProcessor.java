@@ -7,6 +7,10 @@
 import java.util.List;
 import java.util.Map;
 
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.MediaType;
+
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
@@ -23,11 +27,16 @@
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.StreamingTemplate;
+import io.quarkus.resteasy.reactive.qute.runtime.StreamingTemplateHandler;
+import io.quarkus.resteasy.reactive.qute.runtime.StreamingTemplateMessageBodyWriter;
+import io.quarkus.resteasy.reactive.qute.runtime.StreamingTemplateWriterHandler;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseUniHandler;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.NonBlockingReturnTypeBuildItem;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -57,12 +66,30 @@ void nonBlockingTemplateInstance(RestQuteConfig config, BuildProducer<NonBlockin
     }
 
     @BuildStep
-    public MethodScannerBuildItem configureHandler() {
+    void streamingWriter(RestQuteConfig config, BuildProducer<MessageBodyWriterBuildItem> writers) {
+        if (config.streaming()) {
+            writers.produce(new MessageBodyWriterBuildItem(StreamingTemplateMessageBodyWriter.class.getName(),
+                    StreamingTemplate.class.getName(), List.of(MediaType.WILDCARD), RuntimeType.SERVER, true,
+                    Priorities.USER));
+        }
+    }
+
+    @BuildStep
+    public MethodScannerBuildItem configureHandler(RestQuteConfig config) {
         return new MethodScannerBuildItem(new MethodScanner() {
             @Override
             public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
                     Map<String, Object> methodContext) {
                 if (method.returnType().name().equals(TEMPLATE_INSTANCE) || isAsyncTemplateInstance(method.returnType())) {
+                    if (config.streaming()) {
+                        // StreamingTemplateHandler wraps the TemplateInstance before the response writer is selected
+                        // StreamingTemplateWriterHandler makes sure the wrapper is written by the streaming writer
+                        return List.of(
+                                new FixedHandlersChainCustomizer(List.of(new StreamingTemplateHandler()),
+                                        HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE_SECOND_ROUND),
+                                new FixedHandlersChainCustomizer(List.of(new StreamingTemplateWriterHandler()),
+                                        HandlerChainCustomizer.Phase.AFTER_RESPONSE_CREATED));
+                    }
                     // TemplateResponseUniHandler creates a Uni, so we also need to introduce another Uni handler
                     // so RR actually gets the result
                     // the reason why we use AFTER_METHOD_INVOKE_SECOND_ROUND is to be able to properly support Uni<TemplateInstance>
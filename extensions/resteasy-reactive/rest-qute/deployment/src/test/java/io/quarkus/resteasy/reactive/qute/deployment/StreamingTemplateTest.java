@@ -0,0 +1,114 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class StreamingTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class)
+                    .addAsResource(new StringAsset("Hello {name}!"), "templates/hello.txt")
+                    .addAsResource(new StringAsset("<ul>{#for i in items}<li>{i}: {name}</li>{/for}</ul>{late}"),
+                            "templates/list.html"))
+            .overrideConfigKey("quarkus.rest.qute.streaming", "true");
+
+    @Test
+    public void testSmallTemplate() {
+        when().get("/streaming/hello").then().statusCode(200)
+                .header("Content-Length", "9")
+                .body(Matchers.is("Hello Lu!"));
+        when().get("/streaming/hello-uni").then().statusCode(200)
+                .header("Content-Length", "10")
+                .body(Matchers.is("Hello Uni!"));
+    }
+
+    @Test
+    public void testLargeTemplate() {
+        String expected = "<ul>" + "<li>x: &lt;Lu&gt;</li>".repeat(1000) + "</ul>Done";
+        when().get("/streaming/list").then().statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .contentType(Matchers.startsWith(MediaType.TEXT_HTML))
+                .body(Matchers.is(expected));
+    }
+
+    @Test
+    public void testFailureBeforeTheFirstBuffer() {
+        when().get("/streaming/hello-failure").then().statusCode(500);
+    }
+
+    @Test
+    public void testFailureAfterTheFirstBuffer() {
+        // The status and part of the output were sent, the connection is reset
+        assertThrows(Exception.class, () -> when().get("/streaming/list-failure").then().extract().asString());
+    }
+
+    @Path("streaming")
+    public static class TestResource {
+
+        @Inject
+        Template hello;
+
+        @Inject
+        Template list;
+
+        @GET
+        @Path("hello")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance hello() {
+            return hello.data("name", "Lu");
+        }
+
+        @GET
+        @Path("hello-uni")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<TemplateInstance> helloUni() {
+            return Uni.createFrom().item(() -> hello.data("name", "Uni"));
+        }
+
+        @GET
+        @Path("list")
+        public TemplateInstance list() {
+            return list.data("items", Collections.nCopies(1000, "x"))
+                    .data("name", "<Lu>")
+                    .data("late", CompletableFuture.supplyAsync(() -> "Done",
+                            CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)));
+        }
+
+        @GET
+        @Path("hello-failure")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance helloFailure() {
+            return hello.data("name", Uni.createFrom().failure(new IllegalStateException("Boom")));
+        }
+
+        @GET
+        @Path("list-failure")
+        public TemplateInstance listFailure() {
+            return list.data("items", Collections.nCopies(1000, "x"))
+                    .data("name", "<Lu>")
+                    .data("late", Uni.createFrom().failure(new IllegalStateException("Boom")));
+        }
+    }
+}
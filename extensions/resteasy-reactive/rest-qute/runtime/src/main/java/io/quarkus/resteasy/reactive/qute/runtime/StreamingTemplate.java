@@ -0,0 +1,44 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.TemplateException;
+import io.quarkus.qute.TemplateInstance;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * A {@link TemplateInstance} that is rendered incrementally, directly to the HTTP response.
+ *
+ * @see StreamingTemplateMessageBodyWriter
+ */
+public final class StreamingTemplate {
+
+    private final TemplateInstance instance;
+    private final Engine engine;
+
+    StreamingTemplate(TemplateInstance instance, Engine engine) {
+        this.instance = instance;
+        this.engine = engine;
+    }
+
+    public TemplateInstance getInstance() {
+        return instance;
+    }
+
+    Multi<String> toMulti() {
+        return instance.createMulti();
+    }
+
+    /**
+     * @return the time limit of the whole rendering in milliseconds, or {@code -1} if the {@link Multi} returned by
+     *         {@link #toMulti()} already applies it
+     */
+    long getTimeout() {
+        // Make sure the timeout is always used
+        return engine.useAsyncTimeout() ? -1 : instance.getTimeout();
+    }
+
+    TemplateException newTimeoutException(long timeout) {
+        return new TemplateException(instance + " rendering timeout [" + timeout + "ms] occurred");
+    }
+
+}
@@ -0,0 +1,256 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Flow;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ContentType;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.vertx.utils.NoBoundChecksBuffer;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Renders a {@link StreamingTemplate} incrementally.
+ * <p>
+ * The rendered chunks are encoded into a pooled buffer. If the whole result fits into a single buffer then the response
+ * is ended with a {@code Content-Length} header. Otherwise, a chunked response is used and a full buffer is written
+ * immediately. The next chunk is not requested until the write queue of the response is drained.
+ * <p>
+ * If the rendering fails before the first buffer is written, the failure is handled as usual. Otherwise, the status and
+ * part of the output were already sent: the failure is logged and the connection is reset so that the client does not
+ * mistake the truncated output for a complete response.
+ */
+public class StreamingTemplateMessageBodyWriter implements ServerMessageBodyWriter<StreamingTemplate> {
+
+    private static final Logger LOG = Logger.getLogger(StreamingTemplateMessageBodyWriter.class);
+
+    static final int BUFFER_SIZE = 8192;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public void writeResponse(StreamingTemplate template, Type genericType, ServerRequestContext context)
+            throws WebApplicationException {
+        ResteasyReactiveRequestContext ctx = (ResteasyReactiveRequestContext) context;
+        ctx.suspend();
+        ContentType contentType = context.getResponseContentType();
+        Charset charset = contentType != null && contentType.getCharset() != null ? Charset.forName(contentType.getCharset())
+                : StandardCharsets.UTF_8;
+        template.toMulti().subscribe().withSubscriber(new ResponseSubscriber(ctx, charset, template));
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public void writeTo(StreamingTemplate template, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        // Writer interceptors are used - render the whole template
+        String charset = mediaType != null ? mediaType.getParameters().get(MediaType.CHARSET_PARAMETER) : null;
+        entityStream.write(template.getInstance().render()
+                .getBytes(charset != null ? Charset.forName(charset) : StandardCharsets.UTF_8));
+    }
+
+    static final class ResponseSubscriber implements Flow.Subscriber<String> {
+
+        private final ResteasyReactiveRequestContext ctx;
+        private final HttpServerResponse response;
+        private final Charset charset;
+        private final StreamingTemplate template;
+        private final Vertx vertx;
+
+        private Flow.Subscription subscription;
+        private ByteBuf buffer;
+        private boolean chunked;
+        private boolean closed;
+        private boolean awaitingDrain;
+        private long timerId = -1;
+
+        ResponseSubscriber(ResteasyReactiveRequestContext ctx, Charset charset, StreamingTemplate template) {
+            this.ctx = ctx;
+            this.response = ctx.serverRequest().unwrap(HttpServerResponse.class);
+            this.charset = charset;
+            this.template = template;
+            this.vertx = ctx.serverRequest().unwrap(RoutingContext.class).vertx();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            long timeout = template.getTimeout();
+            synchronized (this) {
+                this.subscription = subscription;
+                if (timeout > 0) {
+                    // The timeout applies to the whole rendering
+                    timerId = vertx.setTimer(timeout, id -> onTimeout(timeout));
+                }
+            }
+            ctx.serverResponse().addCloseHandler(this::onClose);
+            response.drainHandler(v -> onDrain());
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(String chunk) {
+            Flow.Subscription next;
+            Exception failure = null;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer == null) {
+                    buffer = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(BUFFER_SIZE);
+                }
+                buffer.writeCharSequence(chunk, charset);
+                if (buffer.readableBytes() >= BUFFER_SIZE) {
+                    if (!chunked) {
+                        chunked = true;
+                        response.setChunked(true);
+                    }
+                    ByteBuf data = buffer;
+                    buffer = null;
+                    try {
+                        response.write(new NoBoundChecksBuffer(data));
+                    } catch (Exception e) {
+                        failure = e;
+                    }
+                    if (failure == null && response.writeQueueFull()) {
+                        // Request the next chunk once the write queue is drained
+                        awaitingDrain = true;
+                        return;
+                    }
+                }
+                next = subscription;
+            }
+            if (failure != null) {
+                next.cancel();
+                onError(failure);
+            } else {
+                next.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            boolean committed;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                cancelTimer();
+                releaseBuffer();
+                committed = chunked;
+            }
+            if (committed) {
+                LOG.errorf(failure, "Unable to render the template %s, the connection is reset",
+                        template.getInstance());
+                response.reset();
+                ctx.resume();
+            } else {
+                ctx.resume(failure);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                cancelTimer();
+                if (buffer != null) {
+                    ByteBuf data = buffer;
+                    buffer = null;
+                    // Content-Length is set automatically if the response is not chunked
+                    response.end(new NoBoundChecksBuffer(data));
+                } else {
+                    response.end();
+                }
+            }
+            ctx.resume();
+        }
+
+        private void onDrain() {
+            Flow.Subscription s;
+            synchronized (this) {
+                if (closed || !awaitingDrain) {
+                    return;
+                }
+                awaitingDrain = false;
+                s = subscription;
+            }
+            s.request(1);
+        }
+
+        private void onTimeout(long timeout) {
+            Flow.Subscription s;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                timerId = -1;
+                s = subscription;
+            }
+            s.cancel();
+            onError(template.newTimeoutException(timeout));
+        }
+
+        private void onClose() {
+            Flow.Subscription s;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                cancelTimer();
+                releaseBuffer();
+                s = subscription;
+                subscription = Subscriptions.CANCELLED;
+            }
+            if (s != null) {
+                s.cancel();
+            }
+        }
+
+        private void cancelTimer() {
+            if (timerId != -1) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+        }
+
+        private void releaseBuffer() {
+            if (buffer != null) {
+                buffer.release();
+                buffer = null;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.core.serialization.DynamicEntityWriter;
+import org.jboss.resteasy.reactive.server.core.serialization.EntityWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Makes sure a {@link StreamingTemplate} is always written by the {@link StreamingTemplateMessageBodyWriter}, even if a
+ * writer for the declared return type of the resource method was selected at build time.
+ */
+public class StreamingTemplateWriterHandler implements ServerRestHandler {
+
+    private static final EntityWriter ENTITY_WRITER = new EntityWriter() {
+
+        private final StreamingTemplateMessageBodyWriter writer = new StreamingTemplateMessageBodyWriter();
+
+        @Override
+        public void write(ResteasyReactiveRequestContext context, Object entity) throws IOException {
+            ServerSerialisers serialisers = context.getDeployment().getSerialisers();
+            if (entity instanceof StreamingTemplate && ServerSerialisers.invokeWriter(context, entity, writer, serialisers)) {
+                return;
+            }
+            // The entity was replaced, e.g. by a response filter
+            new DynamicEntityWriter(serialisers).write(context, entity);
+        }
+    };
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) {
+        if (requestContext.getResult() instanceof StreamingTemplate) {
+            requestContext.setEntityWriter(ENTITY_WRITER);
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TimingWheelTriggerEngineTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.trigger-engine", "timing-wheel");
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testScheduledMethods() throws InterruptedException {
+        assertTrue(Jobs.EVERY_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.CRON_LATCH.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testProgrammaticJobs() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        AtomicInteger unscheduledExecutions = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            scheduler.newJob("unscheduled" + i)
+                    .setInterval("1s")
+                    .setDelayed("2s")
+                    .setTask(ex -> unscheduledExecutions.incrementAndGet())
+                    .schedule();
+        }
+        scheduler.newJob("wheel")
+                .setInterval("1s")
+                .setTask(ex -> latch.countDown())
+                .schedule();
+        for (int i = 0; i < 1000; i++) {
+            assertNotNull(scheduler.unscheduleJob("unscheduled" + i));
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNotNull(scheduler.unscheduleJob("wheel"));
+        assertEquals(0, unscheduledExecutions.get());
+    }
+
+    @Test
+    public void testPausedJob() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.newJob("paused")
+                .setInterval("1s")
+                .setTask(ex -> latch.countDown())
+                .schedule();
+        scheduler.pause("paused");
+        assertTrue(scheduler.isPaused("paused"));
+        assertFalse(latch.await(3, TimeUnit.SECONDS));
+        scheduler.resume("paused");
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        assertNotNull(scheduler.unscheduleJob("paused"));
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch EVERY_LATCH = new CountDownLatch(2);
+        static final CountDownLatch CRON_LATCH = new CountDownLatch(2);
+
+        @Scheduled(every = "1s")
+        void everySecond() {
+            EVERY_LATCH.countDown();
+        }
+
+        @Scheduled(cron = "0/1 * * * * ?")
+        void cron() {
+            CRON_LATCH.countDown();
+        }
+
+    }
+
+}
@@ -31,6 +31,15 @@ public interface SchedulerRuntimeConfig {
     @WithDefault("normal")
     StartMode startMode();
 
+    /**
+     * The engine used by the simple scheduler to find out which triggers should fire.
+     * <p>
+     * The default engine checks all triggers every second. The {@code timing-wheel} engine only evaluates the triggers that
+     * are due and should be used if the application schedules a large number of jobs.
+     */
+    @WithDefault("scan")
+    TriggerEngine triggerEngine();
+
     enum StartMode {
 
         /**
@@ -53,4 +62,18 @@ enum StartMode {
          */
         HALTED;
     }
+
+    enum TriggerEngine {
+
+        /**
+         * All triggers are evaluated every second. The cost of a check grows linearly with the number of scheduled jobs.
+         */
+        SCAN,
+
+        /**
+         * Triggers are stored in a hierarchical timing wheel, keyed by the time of the next evaluation. Only the triggers that
+         * are due are evaluated in each check.
+         */
+        TIMING_WHEEL;
+    }
 }
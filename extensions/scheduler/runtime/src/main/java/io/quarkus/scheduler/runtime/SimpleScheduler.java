@@ -59,6 +59,7 @@
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.TriggerEngine;
 import io.quarkus.scheduler.spi.JobInstrumenter;
 import io.vertx.core.Vertx;
 
@@ -75,6 +76,8 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
+    // null if the scan engine is used
+    private final TimingWheel timingWheel;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -93,6 +96,7 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
+            this.timingWheel = null;
             LOG.info("Simple scheduler is disabled by config property and will not be started");
             return;
         }
@@ -101,10 +105,17 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         if (startMode == StartMode.NORMAL && context.getScheduledMethods(Scheduled.SIMPLE).isEmpty()
                 && !context.forceSchedulerStart()) {
             this.scheduledExecutor = null;
+            this.timingWheel = null;
             LOG.info("No scheduled business methods found - Simple scheduler will not be started");
             return;
         }
 
+        if (schedulerRuntimeConfig.triggerEngine() == TriggerEngine.TIMING_WHEEL) {
+            this.timingWheel = new TimingWheel(CHECK_PERIOD, scheduledTasks);
+        } else {
+            this.timingWheel = null;
+        }
+
         ThreadFactory tf = new ThreadFactory() {
 
             private final AtomicInteger threadNumber = new AtomicInteger(1);
@@ -157,7 +168,11 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, task);
+                    if (timingWheel != null) {
+                        timingWheel.register(task);
+                    }
                 }
             }
         }
@@ -234,6 +249,10 @@ void checkTriggers() {
         }
         ZonedDateTime now = ZonedDateTime.now();
         LOG.tracef("Check triggers at %s", now);
+        if (timingWheel != null) {
+            timingWheel.advance(now, vertx);
+            return;
+        }
         for (ScheduledTask task : scheduledTasks.values()) {
             task.execute(now, vertx);
         }
@@ -422,6 +441,15 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * This method is used by the {@link TimingWheel} to find out when the trigger should be evaluated next time.
+         *
+         * @return the time of the next evaluation, or {@code null} if the trigger will never fire again
+         */
+        Instant getNextEvaluationTime() {
+            return getNextFireTime();
+        }
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -492,6 +520,13 @@ public Instant getNextFireTime() {
             return last.plus(Duration.ofMillis(interval)).toInstant();
         }
 
+        @Override
+        Instant getNextEvaluationTime() {
+            ZonedDateTime last = lastFireTime;
+            // The first execution happens as soon as the start time is reached
+            return last == null ? start.toInstant() : last.plus(Duration.ofMillis(interval)).toInstant();
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -672,6 +707,9 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                if (timingWheel != null) {
+                    timingWheel.register(scheduledTask);
+                }
                 return simpleTrigger;
             }
             return null;
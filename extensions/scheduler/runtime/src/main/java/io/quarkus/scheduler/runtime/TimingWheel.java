@@ -0,0 +1,240 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.runtime.SimpleScheduler.ScheduledTask;
+import io.vertx.core.Vertx;
+
+/**
+ * A hierarchical timing wheel used by the {@link SimpleScheduler} to evaluate only the triggers that are due in the
+ * current tick.
+ * <p>
+ * The wheel consists of {@value #LEVELS} levels of {@value #SLOTS} slots. A slot of the first level covers exactly one tick,
+ * i.e. {@link SimpleScheduler#CHECK_PERIOD}. A slot of the level {@code n} covers {@code SLOTS^n} ticks. When a task is
+ * registered, its next evaluation time is computed once and the task is placed in the matching slot. Tasks of higher levels
+ * are cascaded down to lower levels when the wheel of the lower level wraps around. As a result, inserting a task and
+ * expiring a slot is {@code O(1)} and the cost of a tick is proportional to the number of tasks that are actually due.
+ * <p>
+ * This class is not thread-safe. All methods except for {@link #register(ScheduledTask)} must be called from the trigger
+ * check thread. Registrations are queued and drained at the beginning of each tick.
+ */
+final class TimingWheel {
+
+    private static final Logger LOG = Logger.getLogger(TimingWheel.class);
+
+    static final int SLOTS = 64;
+    static final int LEVELS = 4;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOT_MASK = SLOTS - 1;
+    // The max number of ticks that can be represented by the wheel
+    private static final long SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
+    private final Queue<ScheduledTask> registrations;
+    private final Entry[][] slots;
+    // Entries that are due in the tick that is currently being processed
+    private Entry due;
+    private long currentTick;
+
+    TimingWheel(long tickMillis, ConcurrentMap<String, ScheduledTask> scheduledTasks) {
+        this.tickMillis = tickMillis;
+        this.scheduledTasks = scheduledTasks;
+        this.registrations = new ConcurrentLinkedQueue<>();
+        this.slots = new Entry[LEVELS][SLOTS];
+        this.currentTick = -1;
+    }
+
+    /**
+     * Registers a new task. This method can be called from any thread.
+     *
+     * @param task
+     */
+    void register(ScheduledTask task) {
+        registrations.offer(task);
+    }
+
+    /**
+     * Advances the wheel up to the given time and executes all the tasks that are due.
+     *
+     * @param now
+     * @param vertx
+     */
+    void advance(ZonedDateTime now, Vertx vertx) {
+        long nowTick = Math.floorDiv(now.toInstant().toEpochMilli(), tickMillis);
+        if (currentTick < 0) {
+            currentTick = nowTick - 1;
+        }
+        // Note that the wheel is not advanced if the scheduler is paused, so we need to catch up after resume
+        if (nowTick - currentTick > SLOTS) {
+            // Iterating over every missed tick would be wasteful after a long pause, so the work is capped at one scan
+            // of all the slots
+            catchUp(nowTick);
+            fire(now, vertx);
+            return;
+        }
+        while (currentTick < nowTick) {
+            currentTick++;
+            drainRegistrations();
+            cascade();
+            int idx = (int) (currentTick & SLOT_MASK);
+            Entry entry = slots[0][idx];
+            slots[0][idx] = null;
+            while (entry != null) {
+                Entry next = entry.next;
+                if (entry.deadline > currentTick) {
+                    // The deadline was capped by the span of the wheel
+                    insert(entry);
+                } else {
+                    entry.next = due;
+                    due = entry;
+                }
+                entry = next;
+            }
+            fire(now, vertx);
+        }
+    }
+
+    /**
+     * Moves the wheel straight to the given tick. The entries that are due are collected and all other entries are
+     * reinserted relative to the new current tick.
+     */
+    private void catchUp(long nowTick) {
+        currentTick = nowTick;
+        Entry pending = null;
+        for (Entry[] level : slots) {
+            for (int idx = 0; idx < SLOTS; idx++) {
+                Entry entry = level[idx];
+                level[idx] = null;
+                while (entry != null) {
+                    Entry next = entry.next;
+                    entry.next = pending;
+                    pending = entry;
+                    entry = next;
+                }
+            }
+        }
+        drainRegistrations();
+        while (pending != null) {
+            Entry next = pending.next;
+            if (pending.deadline <= currentTick) {
+                pending.next = due;
+                due = pending;
+            } else {
+                insert(pending);
+            }
+            pending = next;
+        }
+    }
+
+    /**
+     * @return the first tick that starts at or after the given time
+     */
+    private long toTick(long epochMillis) {
+        return Math.floorDiv(epochMillis + tickMillis - 1, tickMillis);
+    }
+
+    private void drainRegistrations() {
+        ScheduledTask task;
+        while ((task = registrations.poll()) != null) {
+            schedule(task, currentTick);
+        }
+    }
+
+    private void fire(ZonedDateTime now, Vertx vertx) {
+        while (due != null) {
+            Entry entry = due;
+            due = entry.next;
+            entry.next = null;
+            ScheduledTask task = entry.task;
+            if (scheduledTasks.get(task.trigger.id) != task) {
+                // The task was unscheduled in the meantime
+                LOG.tracef("Discard unscheduled task %s", task.trigger);
+                continue;
+            }
+            if (!task.trigger.isRunning()) {
+                // Paused triggers are checked every tick so that a resumed trigger behaves the same as with the scan engine
+                entry.deadline = currentTick + 1;
+                insert(entry);
+                continue;
+            }
+            task.execute(now, vertx);
+            schedule(entry, currentTick + 1);
+        }
+    }
+
+    private void schedule(ScheduledTask task, long minTick) {
+        Entry entry = new Entry(task);
+        schedule(entry, minTick);
+    }
+
+    private void schedule(Entry entry, long minTick) {
+        Instant next = entry.task.trigger.getNextEvaluationTime();
+        if (next == null) {
+            // The trigger will never fire again
+            LOG.tracef("Remove task %s from the timing wheel - no next evaluation time", entry.task.trigger);
+            return;
+        }
+        entry.deadline = Math.max(minTick, toTick(next.toEpochMilli()));
+        if (entry.deadline <= currentTick) {
+            entry.next = due;
+            due = entry;
+        } else {
+            insert(entry);
+        }
+    }
+
+    private void insert(Entry entry) {
+        long deadline = entry.deadline;
+        long delta = deadline - currentTick;
+        if (delta >= SPAN) {
+            // Place the entry in the last slot of the top level; it's reinserted when cascaded
+            deadline = currentTick + SPAN - 1;
+            delta = SPAN - 1;
+        }
+        int level = 0;
+        while (delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int idx = (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        entry.next = slots[level][idx];
+        slots[level][idx] = entry;
+    }
+
+    private void cascade() {
+        // Cascade from the top level so that the entries moved down are cascaded again if needed
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                continue;
+            }
+            int idx = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Entry entry = slots[level][idx];
+            slots[level][idx] = null;
+            while (entry != null) {
+                Entry next = entry.next;
+                insert(entry);
+                entry = next;
+            }
+        }
+    }
+
+    static final class Entry {
+
+        final ScheduledTask task;
+        long deadline;
+        Entry next;
+
+        Entry(ScheduledTask task) {
+            this.task = task;
+        }
+
+    }
+
+}
@@ -2,6 +2,7 @@
 
 import java.util.Optional;
 
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.WithDefault;
 
 public interface AccessLogConfig {
@@ -75,4 +76,47 @@ public interface AccessLogConfig {
      */
     @WithDefault("false")
     boolean consolidateReroutedRequests();
+
+    /**
+     * The asynchronous writer used when logging to a file.
+     */
+    AsyncWriterConfig asyncWriter();
+
+    interface AsyncWriterConfig {
+
+        /**
+         * If the access log should be written to the file through a bounded ring buffer.
+         * <p>
+         * The request threads encode the messages into the ring buffer, and a dedicated thread writes them to the file in
+         * batches.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The size of the ring buffer.
+         */
+        @WithDefault("1M")
+        MemorySize bufferSize();
+
+        /**
+         * What to do when the ring buffer is full.
+         */
+        @WithDefault("drop")
+        OverflowPolicy overflowPolicy();
+    }
+
+    enum OverflowPolicy {
+        /**
+         * The request thread waits until the writer thread makes room in the ring buffer.
+         * <p>
+         * The event loop threads never wait, the messages logged on an event loop are dropped when the ring buffer is
+         * full.
+         */
+        BLOCK,
+        /**
+         * The message is dropped. The number of dropped messages is logged periodically.
+         */
+        DROP
+    }
 }
@@ -67,6 +67,7 @@
 import io.quarkus.runtime.configuration.ConfigUtils;
 import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.logging.LogBuildTimeConfig;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.shutdown.ShutdownConfig;
 import io.quarkus.tls.TlsConfigurationRegistry;
 import io.quarkus.tls.runtime.config.TlsConfig;
@@ -88,6 +89,7 @@
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.management.ManagementConfig;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.options.HttpServerCommonHandlers;
@@ -157,6 +159,8 @@ public class VertxHttpRecorder {
 
     private static volatile int actualManagementPort = -1;
 
+    private static volatile RingBufferAccessLogReceiver ringBufferAccessLogReceiver;
+
     public static final String GET = "GET";
     private static final Handler<HttpServerRequest> ACTUAL_ROOT = new Handler<HttpServerRequest>() {
 
@@ -334,6 +338,27 @@ public RuntimeValue<io.vertx.mutiny.ext.web.Router> createMutinyRouter(final Run
         return new RuntimeValue<>(new io.vertx.mutiny.ext.web.Router(router.getValue()));
     }
 
+    public Consumer<MetricsFactory> registerAccessLogMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                AccessLogConfig accessLog = httpConfig.getValue().accessLog();
+                if (accessLog.enabled() && accessLog.logToFile() && accessLog.asyncWriter().enabled()) {
+                    // the receiver is created when the router is finalized, and re-created in dev mode
+                    metricsFactory.builder("http.server.access.log.dropped")
+                            .description("Number of access log messages dropped because the buffer was full.")
+                            .buildCounter(new Supplier<Number>() {
+                                @Override
+                                public Number get() {
+                                    RingBufferAccessLogReceiver receiver = ringBufferAccessLogReceiver;
+                                    return receiver != null ? receiver.getDroppedMessages() : 0L;
+                                }
+                            });
+                }
+            }
+        };
+    }
+
     public RuntimeValue<SubmissionPublisher<String>> createAccessLogPublisher() {
         return new RuntimeValue<>(new SubmissionPublisher<>());
     }
@@ -408,7 +433,8 @@ public void finalizeRouter(
             String srcMainJava,
             List<String> knowClasses,
             List<ErrorPageAction> actions,
-            Optional<RuntimeValue<SubmissionPublisher<String>>> publisher) {
+            Optional<RuntimeValue<SubmissionPublisher<String>>> publisher,
+            ShutdownContext shutdown) {
         VertxHttpConfig httpConfig = this.httpConfig.getValue();
         // install the default route at the end
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
@@ -498,8 +524,27 @@ public void handle(RoutingContext routingContext) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile()) {
                 File outputDir = accessLog.logDirectory().isPresent() ? new File(accessLog.logDirectory().get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(), accessLog.logSuffix(),
-                        accessLog.rotate());
+                if (accessLog.asyncWriter().enabled()) {
+                    RingBufferAccessLogReceiver ringBufferReceiver = new RingBufferAccessLogReceiver(outputDir.toPath(),
+                            accessLog.baseFileName(), accessLog.logSuffix(), accessLog.rotate(),
+                            accessLog.asyncWriter().bufferSize().asIntValue(),
+                            accessLog.asyncWriter().overflowPolicy() == AccessLogConfig.OverflowPolicy.DROP);
+                    shutdown.addLastShutdownTask(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                ringBufferReceiver.close();
+                            } catch (IOException e) {
+                                LOGGER.debug("Unable to close the access log", e);
+                            }
+                        }
+                    });
+                    ringBufferAccessLogReceiver = ringBufferReceiver;
+                    receiver = ringBufferReceiver;
+                } else {
+                    receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(),
+                            accessLog.logSuffix(), accessLog.rotate());
+                }
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category());
             }
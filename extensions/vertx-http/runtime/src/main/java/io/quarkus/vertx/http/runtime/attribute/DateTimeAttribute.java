@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -22,6 +23,11 @@ public class DateTimeAttribute implements ExchangeAttribute {
     public static final ExchangeAttribute INSTANCE = new DateTimeAttribute();
 
     private final DateTimeFormatter formatter;
+    /**
+     * Whether the formatted value only changes every second, in which case it is cached.
+     */
+    private final boolean cacheable;
+    private volatile CachedValue cachedValue;
 
     private DateTimeAttribute() {
         this(COMMON_LOG_PATTERN, null);
@@ -37,11 +43,39 @@ public DateTimeAttribute(final String dateFormat, final String timezone) {
             fmt = fmt.withZone(ZoneId.of(timezone));
         }
         this.formatter = fmt;
+        this.cacheable = !hasSubSecondField(dateFormat);
     }
 
     @Override
     public String readAttribute(final RoutingContext exchange) {
-        return formatter.format(ZonedDateTime.now());
+        if (!cacheable) {
+            return formatter.format(ZonedDateTime.now());
+        }
+        long second = System.currentTimeMillis() / 1000;
+        CachedValue cached = cachedValue;
+        if (cached == null || cached.second != second) {
+            cached = new CachedValue(second,
+                    formatter.format(ZonedDateTime.ofInstant(Instant.ofEpochSecond(second), ZoneId.systemDefault())));
+            cachedValue = cached;
+        }
+        return cached.value;
+    }
+
+    /**
+     * Returns {@code true} if the pattern contains a fraction of second, nano or milli of day field outside of quoted
+     * text.
+     */
+    private static boolean hasSubSecondField(String dateFormat) {
+        boolean quoted = false;
+        for (int i = 0; i < dateFormat.length(); i++) {
+            char c = dateFormat.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && (c == 'S' || c == 'n' || c == 'N' || c == 'A')) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -49,6 +83,17 @@ public void writeAttribute(final RoutingContext exchange, final String newValue)
         throw new ReadOnlyAttributeException("Date time", newValue);
     }
 
+    private static final class CachedValue {
+
+        final long second;
+        final String value;
+
+        CachedValue(long second, String value) {
+            this.second = second;
+            this.value = value;
+        }
+    }
+
     public static final class Builder implements ExchangeAttributeBuilder {
 
         @Override
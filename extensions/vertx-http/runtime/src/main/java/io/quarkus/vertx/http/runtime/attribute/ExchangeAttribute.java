@@ -16,6 +16,23 @@ public interface ExchangeAttribute {
      */
     String readAttribute(final RoutingContext exchange);
 
+    /**
+     * Appends the attribute from the HTTP server exchange to the given builder. Nothing is appended if the attribute is
+     * not present.
+     * <p>
+     * The access log appends the attributes of every request, so attributes that can be appended without creating an
+     * intermediate string should override this method.
+     *
+     * @param exchange The exchange
+     * @param builder The builder
+     */
+    default void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        String value = readAttribute(exchange);
+        if (value != null) {
+            builder.append(value);
+        }
+    }
+
     /**
      * Sets a new value for the attribute. Not all attributes are writable.
      *
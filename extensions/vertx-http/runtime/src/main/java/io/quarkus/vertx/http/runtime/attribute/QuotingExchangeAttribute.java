@@ -26,24 +26,38 @@ public String readAttribute(RoutingContext exchange) {
             return "-";
         }
 
-        /* Wrap all quotes in double quotes. */
         StringBuilder buffer = new StringBuilder(svalue.length() + 2);
+        appendQuoted(svalue, buffer);
+        return buffer.toString();
+    }
+
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
+        String svalue = exchangeAttribute.readAttribute(exchange);
+        if (svalue == null || "-".equals(svalue) || svalue.isEmpty()) {
+            builder.append('-');
+        } else {
+            appendQuoted(svalue, builder);
+        }
+    }
+
+    private static void appendQuoted(String svalue, StringBuilder buffer) {
+        /* Wrap all quotes in double quotes. */
         buffer.append('\'');
         int i = 0;
         while (i < svalue.length()) {
             int j = svalue.indexOf('\'', i);
             if (j == -1) {
-                buffer.append(svalue.substring(i));
+                buffer.append(svalue, i, svalue.length());
                 i = svalue.length();
             } else {
-                buffer.append(svalue.substring(i, j + 1));
+                buffer.append(svalue, i, j + 1);
                 buffer.append('"');
                 i = j + 2;
             }
         }
 
         buffer.append('\'');
-        return buffer.toString();
     }
 
     @Override
@@ -42,6 +42,24 @@ public String readAttribute(final RoutingContext exchange) {
         return httpMethod + " " + uri + " " + RequestProtocolAttribute.getHttpVersionStr(exchange.request().version());
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        HttpMethod httpMethod;
+        String uri;
+        if (useOriginalRequest) {
+            if (!OriginalRequestContext.isPresent(exchange)) {
+                return;
+            }
+            httpMethod = OriginalRequestContext.getMethod(exchange);
+            uri = OriginalRequestContext.getUri(exchange);
+        } else {
+            httpMethod = exchange.request().method();
+            uri = exchange.request().uri();
+        }
+        builder.append(httpMethod.name()).append(' ').append(uri).append(' ')
+                .append(RequestProtocolAttribute.getHttpVersionStr(exchange.request().version()));
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Request line", newValue);
@@ -29,21 +29,10 @@ public ResponseTimeAttribute(TimeUnit timeUnit) {
 
     @Override
     public String readAttribute(RoutingContext exchange) {
-        Long requestStartTime = exchange.get(VertxHttpRecorder.REQUEST_START_TIME);
-        if (requestStartTime == null) {
+        final long nanos = responseTimeNanos(exchange);
+        if (nanos < 0) {
             return null;
         }
-        final long nanos;
-        Long first = exchange.get(FIRST_RESPONSE_TIME_NANOS);
-        if (first != null) {
-            nanos = first;
-        } else {
-            nanos = System.nanoTime() - requestStartTime;
-            if (exchange.response().ended()) {
-                //save the response time so it is consistent
-                exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
-            }
-        }
         if (timeUnit == TimeUnit.SECONDS) {
             StringBuilder buf = new StringBuilder();
             long millis = TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS);
@@ -60,6 +49,38 @@ public String readAttribute(RoutingContext exchange) {
         }
     }
 
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
+        if (timeUnit == TimeUnit.SECONDS) {
+            ExchangeAttribute.super.appendAttribute(exchange, builder);
+            return;
+        }
+        final long nanos = responseTimeNanos(exchange);
+        if (nanos >= 0) {
+            builder.append(timeUnit.convert(nanos, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * @return the response time in nanoseconds, or -1 if the start time of the request is not known
+     */
+    private static long responseTimeNanos(RoutingContext exchange) {
+        Long requestStartTime = exchange.get(VertxHttpRecorder.REQUEST_START_TIME);
+        if (requestStartTime == null) {
+            return -1;
+        }
+        Long first = exchange.get(FIRST_RESPONSE_TIME_NANOS);
+        if (first != null) {
+            return first;
+        }
+        long nanos = System.nanoTime() - requestStartTime;
+        if (exchange.response().ended()) {
+            //save the response time so it is consistent
+            exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
+        }
+        return nanos;
+    }
+
     @Override
     public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Response Time", newValue);
@@ -93,6 +93,18 @@
  */
 public class AccessLogHandler implements Handler<RoutingContext> {
 
+    /**
+     * Messages longer than this are not kept in the per-thread buffer once written.
+     */
+    private static final int MAX_RETAINED_MESSAGE_LENGTH = 8192;
+
+    private static final ThreadLocal<StringBuilder> MESSAGE_BUILDER = new ThreadLocal<>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(256);
+        }
+    };
+
     private final AccessLogReceiver accessLogReceiver;
     private final String formatString;
     private final boolean consolidateReroutedRequests;
@@ -155,7 +167,13 @@ public void handle(RoutingContext rc) {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                StringBuilder message = MESSAGE_BUILDER.get();
+                message.setLength(0);
+                tokens.appendAttribute(rc, message);
+                accessLogReceiver.logMessage(message);
+                if (message.capacity() > MAX_RETAINED_MESSAGE_LENGTH) {
+                    MESSAGE_BUILDER.remove();
+                }
             }
         });
         if (consolidateReroutedRequests) {
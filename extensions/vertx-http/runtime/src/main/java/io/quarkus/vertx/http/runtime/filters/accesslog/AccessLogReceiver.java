@@ -29,4 +29,16 @@ public interface AccessLogReceiver {
 
     void logMessage(final String message);
 
+    /**
+     * Logs a message which is held by a mutable buffer. The buffer is reused once this method returns, so
+     * implementations that process the message asynchronously must copy it first.
+     * <p>
+     * The default implementation converts the message to a string.
+     *
+     * @param message the message
+     */
+    default void logMessage(final CharSequence message) {
+        logMessage(message.toString());
+    }
+
 }
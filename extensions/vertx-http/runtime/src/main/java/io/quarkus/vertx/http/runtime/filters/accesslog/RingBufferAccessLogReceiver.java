@@ -0,0 +1,408 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.Context;
+
+/**
+ * Log receiver that writes the messages to a file through a bounded ring buffer.
+ * <p>
+ * Request threads encode each message as UTF-8 into a reusable per-thread buffer, which is then copied into the ring
+ * buffer. A dedicated writer thread writes everything that is available in the ring buffer to the file with a single
+ * write, so that the messages are written in batches without any intermediate copy.
+ * <p>
+ * If the ring buffer is full, the request thread either waits for the writer thread or drops the message, depending on
+ * the overflow policy. An event loop thread never waits, its messages are dropped when the ring buffer is full. The
+ * dropped messages are counted, and the count is logged periodically.
+ * <p>
+ * The file is rotated after midnight, the same way as with the {@link DefaultAccessLogReceiver}.
+ */
+public class RingBufferAccessLogReceiver implements AccessLogReceiver, Closeable {
+
+    private static final Logger log = Logger.getLogger(RingBufferAccessLogReceiver.class);
+
+    private static final String DEFAULT_LOG_SUFFIX = "log";
+    private static final String DOT = ".";
+    private static final long DROPPED_REPORT_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    private static final int MAX_RETAINED_ENCODER_CAPACITY = 8192;
+
+    private static final ThreadLocal<byte[]> ENCODER_BUFFER = new ThreadLocal<>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[512];
+        }
+    };
+
+    private final byte[] ring;
+    private final boolean dropWhenFull;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    // Total number of bytes written to and read from the ring, guarded by the lock
+    private long head;
+    private long tail;
+    private volatile boolean closed;
+
+    private final LongAdder droppedMessages = new LongAdder();
+    private long reportedDroppedMessages;
+    private long lastDroppedReport;
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+    private final String logBaseName;
+    private final String logNameSuffix;
+    private final boolean rotate;
+
+    // Only accessed by the writer thread
+    private FileChannel channel;
+    private long changeOverPoint;
+    private String currentDateString;
+
+    private final Thread writerThread;
+
+    public RingBufferAccessLogReceiver(Path outputDirectory, String logBaseName, String logNameSuffix, boolean rotate,
+            int bufferSize, boolean dropWhenFull) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The buffer size must be positive: " + bufferSize);
+        }
+        this.ring = new byte[bufferSize];
+        this.dropWhenFull = dropWhenFull;
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = effectiveLogBaseName(logBaseName);
+        this.logNameSuffix = effectiveLogNameSuffix(logNameSuffix);
+        this.rotate = rotate;
+        this.defaultLogFile = outputDirectory.resolve(this.logBaseName + this.logNameSuffix);
+        calculateChangeOverPoint();
+        this.writerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                writeLoop();
+            }
+        }, "access-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    private static String effectiveLogBaseName(String logBaseName) {
+        if (logBaseName == null) {
+            return "";
+        }
+        if (!logBaseName.endsWith(DOT)) {
+            return logBaseName;
+        }
+        return logBaseName.substring(0, logBaseName.length() - 1);
+    }
+
+    private static String effectiveLogNameSuffix(String logNameSuffix) {
+        var result = (logNameSuffix != null) ? logNameSuffix : DEFAULT_LOG_SUFFIX;
+        if (result.charAt(0) != '.') {
+            return '.' + result;
+        }
+        return result;
+    }
+
+    @Override
+    public void logMessage(String message) {
+        logMessage((CharSequence) message);
+    }
+
+    @Override
+    public void logMessage(CharSequence message) {
+        byte[] encoded = ENCODER_BUFFER.get();
+        int length = encodedLength(message);
+        if (encoded.length < length) {
+            encoded = new byte[Math.max(length, encoded.length * 2)];
+            if (encoded.length <= MAX_RETAINED_ENCODER_CAPACITY) {
+                ENCODER_BUFFER.set(encoded);
+            }
+        }
+        encode(message, encoded);
+        if (length > ring.length) {
+            droppedMessages.increment();
+            return;
+        }
+        lock.lock();
+        try {
+            while (ring.length - (head - tail) < length) {
+                if (closed) {
+                    return;
+                }
+                if (dropWhenFull || Context.isOnEventLoopThread()) {
+                    // blocking an event loop would stall all its connections
+                    droppedMessages.increment();
+                    return;
+                }
+                notFull.awaitUninterruptibly();
+            }
+            if (closed) {
+                return;
+            }
+            int offset = (int) (head % ring.length);
+            int firstPart = Math.min(length, ring.length - offset);
+            System.arraycopy(encoded, 0, ring, offset, firstPart);
+            if (firstPart < length) {
+                System.arraycopy(encoded, firstPart, ring, 0, length - firstPart);
+            }
+            boolean wasEmpty = head == tail;
+            head += length;
+            if (wasEmpty) {
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of messages that were dropped because the ring buffer was full
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    /**
+     * Returns the length of the UTF-8 encoding of the message, including the trailing new line.
+     */
+    private static int encodedLength(CharSequence message) {
+        int length = message.length();
+        int encodedLength = length + 1;
+        for (int i = 0; i < length; i++) {
+            char c = message.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    encodedLength += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(message.charAt(i + 1))) {
+                    // 4 bytes for 2 chars
+                    encodedLength += 2;
+                    i++;
+                } else {
+                    encodedLength += 2;
+                }
+            }
+        }
+        return encodedLength;
+    }
+
+    private static void encode(CharSequence message, byte[] target) {
+        int length = message.length();
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            char c = message.charAt(i);
+            if (c < 0x80) {
+                target[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                target[pos++] = (byte) (0xC0 | (c >> 6));
+                target[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(message.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, message.charAt(++i));
+                target[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                target[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                target[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                target[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, replaced with '?' padded to the expected length
+                target[pos++] = '?';
+                target[pos++] = '?';
+                target[pos++] = '?';
+            } else {
+                target[pos++] = (byte) (0xE0 | (c >> 12));
+                target[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                target[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        target[pos] = '\n';
+    }
+
+    private void writeLoop() {
+        openChannel(true);
+        while (true) {
+            long start;
+            long end;
+            lock.lock();
+            try {
+                while (head == tail && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (head == tail) {
+                    // closed and everything was written
+                    break;
+                }
+                start = tail;
+                end = head;
+            } finally {
+                lock.unlock();
+            }
+            // the producers do not touch the region between the tail and the head, so it can be written without the lock
+            writeBatch(start, end);
+            lock.lock();
+            try {
+                tail = end;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            reportDroppedMessages();
+        }
+        reportDroppedMessages();
+        closeChannel();
+    }
+
+    private void writeBatch(long start, long end) {
+        if (System.currentTimeMillis() > changeOverPoint) {
+            doRotate();
+        }
+        if (channel == null) {
+            openChannel(false);
+            if (channel == null) {
+                return;
+            }
+        }
+        int offset = (int) (start % ring.length);
+        int length = (int) (end - start);
+        int firstPart = Math.min(length, ring.length - offset);
+        try {
+            writeFully(ByteBuffer.wrap(ring, offset, firstPart));
+            if (firstPart < length) {
+                writeFully(ByteBuffer.wrap(ring, 0, length - firstPart));
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+            closeChannel();
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void openChannel(boolean initial) {
+        try {
+            if (initial && rotate && Files.exists(defaultLogFile)) {
+                //if there is an existing log file check if it should be rotated
+                Calendar c = Calendar.getInstance();
+                c.setTimeInMillis(changeOverPoint);
+                c.add(Calendar.DATE, -1);
+                if (Files.getLastModifiedTime(defaultLogFile).toMillis() <= c.getTimeInMillis()) {
+                    doRotate();
+                }
+            }
+            channel = FileChannel.open(defaultLogFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND,
+                    StandardOpenOption.CREATE);
+        } catch (IOException e) {
+            log.error("Error opening access log", e);
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error closing access log", e);
+            }
+            channel = null;
+        }
+    }
+
+    private void calculateChangeOverPoint() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.add(Calendar.DATE, 1);
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        currentDateString = df.format(new Date());
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = calendar.getTimeInMillis();
+    }
+
+    private void doRotate() {
+        if (!rotate) {
+            changeOverPoint = Long.MAX_VALUE;
+            return;
+        }
+        try {
+            closeChannel();
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = outputDirectory.resolve(logBaseName + DOT + currentDateString + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + DOT + currentDateString + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            calculateChangeOverPoint();
+        }
+    }
+
+    private void reportDroppedMessages() {
+        long dropped = droppedMessages.sum();
+        if (dropped == reportedDroppedMessages) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - lastDroppedReport < DROPPED_REPORT_INTERVAL_MILLIS && !closed) {
+            return;
+        }
+        log.warnf("%d access log messages were dropped because the buffer was full (%d in total)",
+                dropped - reportedDroppedMessages, dropped);
+        reportedDroppedMessages = dropped;
+        lastDroppedReport = now;
+    }
+
+    /**
+     * Writes the pending messages and stops the writer thread.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogReceiver;
+import io.vertx.core.Vertx;
+
+class RingBufferAccessLogReceiverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testMessagesAreWritten() throws IOException {
+        List<String> expected = new ArrayList<>();
+        // the messages take about 30 bytes, so the buffer holds two of them: most messages are split across the end of
+        // the ring, and the request thread waits for the writer thread when the ring is full
+        try (RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(tempDir, "access", null, false, 64,
+                false)) {
+            for (int i = 0; i < 500; i++) {
+                String message = "GET /hello/" + i + " 200 \u00e9\u20ac\ud83d\ude00";
+                expected.add(message);
+                if (i % 2 == 0) {
+                    receiver.logMessage(message);
+                } else {
+                    receiver.logMessage(new StringBuilder(message));
+                }
+            }
+        }
+        assertThat(Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @Test
+    void testMessagesAreDroppedWhenTooLong() throws IOException {
+        try (RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(tempDir, "dropped", "txt", false, 16,
+                true)) {
+            receiver.logMessage("short");
+            receiver.logMessage("a message longer than the buffer");
+            receiver.logMessage("short again");
+            receiver.close();
+            assertThat(receiver.getDroppedMessages()).isEqualTo(1);
+        }
+        assertThat(Files.readAllLines(tempDir.resolve("dropped.txt"), StandardCharsets.UTF_8))
+                .containsExactly("short", "short again");
+    }
+
+    @Test
+    void testEventLoopIsNotBlockedWhenFull() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try (RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(tempDir, "event-loop", null, false, 32,
+                false)) {
+            // the buffer only holds one message, the event loop logs faster than the writer thread writes the file
+            CompletableFuture<Void> logged = new CompletableFuture<>();
+            vertx.runOnContext(v -> {
+                for (int i = 0; i < 1000; i++) {
+                    receiver.logMessage("GET /hello/" + i + " 200");
+                }
+                logged.complete(null);
+            });
+            logged.get(10, TimeUnit.SECONDS);
+            receiver.close();
+            assertThat(receiver.getDroppedMessages()).isPositive();
+            assertThat(Files.readAllLines(tempDir.resolve("event-loop.log"), StandardCharsets.UTF_8))
+                    .hasSize((int) (1000 - receiver.getDroppedMessages()));
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -87,9 +87,12 @@ void testOpenConnections() throws Exception {
 
             assertEquals(2, connections.listAll().size());
             assertNull(connections.stream().filter(c -> c.id().equals(client2Id)).findFirst().orElse(null));
+            assertTrue(connections.findByConnectionId(client2Id).isEmpty());
+            assertTrue(connections.findByConnectionId("unknown").isEmpty());
 
             found = connections.findByEndpointId("end");
             assertEquals(2, found.size());
+            assertTrue(connections.findByEndpointId("unknown").isEmpty());
         }
     }
 
@@ -44,6 +44,8 @@ public interface WebSocketConnection extends Connection {
     interface BroadcastSender extends Sender {
 
         /**
+         * The predicate is tested on the event loop the connection was opened on, i.e. possibly on several threads
+         * concurrently and not on the thread that sends the message. It must be thread-safe and must not block.
          *
          * @param predicate
          * @return a new sender that sends messages to all open clients connected to the same WebSocket endpoint and matching
@@ -1,11 +1,20 @@
 package io.quarkus.websockets.next.runtime;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import jakarta.annotation.PreDestroy;
@@ -20,14 +29,39 @@
 import io.quarkus.websockets.next.Open;
 import io.quarkus.websockets.next.OpenConnections;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 
+/**
+ * The registry of open server connections.
+ * <p>
+ * The connections are indexed by the generated endpoint class, by the endpoint id and by the connection id so that the
+ * lookups do not need to iterate over all open connections. The connections of an endpoint are further sharded by the
+ * Vert.x event loop the connection belongs to. A broadcast is dispatched once per event loop and the messages are written
+ * on the event loop that owns the connection, i.e. the writes do not need to be handed over to another thread one by
+ * one.
+ */
 @Singleton
 public class ConnectionManager implements OpenConnections {
 
     private static final Logger LOG = Logger.getLogger(ConnectionManager.class);
 
-    // generatedEndpointClassName -> open connections
-    private final ConcurrentMap<String, Set<WebSocketConnection>> endpointToConnections = new ConcurrentHashMap<>();
+    // The shard of the connections registered outside a Vert.x context
+    private static final Object NO_CONTEXT = new Object();
+
+    // generatedEndpointClass -> open connections
+    private final ConcurrentMap<String, EndpointConnections> endpointToConnections = new ConcurrentHashMap<>();
+
+    // endpointId -> open connections
+    private final ConcurrentMap<String, EndpointConnections> endpointIdToConnections = new ConcurrentHashMap<>();
+
+    // connectionId -> open connection
+    private final ConcurrentMap<String, Registration> idToConnection = new ConcurrentHashMap<>();
 
     private final List<ConnectionListener> listeners = new CopyOnWriteArrayList<>();
 
@@ -50,12 +84,40 @@ public Iterator<WebSocketConnection> iterator() {
 
     @Override
     public Stream<WebSocketConnection> stream() {
-        return endpointToConnections.values().stream().flatMap(Set::stream).filter(WebSocketConnection::isOpen);
+        return endpointToConnections.values().stream().flatMap(e -> e.connections.stream())
+                .filter(WebSocketConnection::isOpen);
+    }
+
+    @Override
+    public Collection<WebSocketConnection> findByEndpointId(String endpointId) {
+        EndpointConnections connections = endpointIdToConnections.get(endpointId);
+        if (connections == null) {
+            return List.of();
+        }
+        return connections.connections.stream().filter(WebSocketConnection::isOpen).toList();
+    }
+
+    @Override
+    public Optional<WebSocketConnection> findByConnectionId(String connectionId) {
+        Registration registration = idToConnection.get(connectionId);
+        if (registration == null || !registration.connection.isOpen()) {
+            return Optional.empty();
+        }
+        return Optional.of(registration.connection);
     }
 
     void add(String endpoint, WebSocketConnection connection) {
         LOG.debugf("Add connection: %s", connection);
-        if (endpointToConnections.computeIfAbsent(endpoint, e -> ConcurrentHashMap.newKeySet()).add(connection)) {
+        EndpointConnections connections = endpointToConnections.computeIfAbsent(endpoint, e -> new EndpointConnections());
+        endpointIdToConnections.putIfAbsent(connection.endpointId(), connections);
+        if (connections.connections.add(connection)) {
+            Context context = Vertx.currentContext();
+            if (context != null) {
+                context = VertxContext.getRootContext(context);
+            }
+            Shard shard = connections.shard(context);
+            shard.connections.add(connection);
+            idToConnection.put(connection.id(), new Registration(connection, shard));
             if (openEvent != null) {
                 openEvent.fireAsync(connection);
             }
@@ -74,9 +136,13 @@ void add(String endpoint, WebSocketConnection connection) {
 
     void remove(String endpoint, WebSocketConnection connection) {
         LOG.debugf("Remove connection: %s", connection);
-        Set<WebSocketConnection> connections = endpointToConnections.get(endpoint);
+        EndpointConnections connections = endpointToConnections.get(endpoint);
         if (connections != null) {
-            if (connections.remove(connection)) {
+            if (connections.connections.remove(connection)) {
+                Registration registration = idToConnection.remove(connection.id());
+                if (registration != null) {
+                    registration.shard.connections.remove(connection);
+                }
                 if (closedEvent != null) {
                     closedEvent.fireAsync(connection);
                 }
@@ -100,11 +166,38 @@ void remove(String endpoint, WebSocketConnection connection) {
      * @return the connections for the given endpoint, never {@code null}
      */
     public Set<WebSocketConnection> getConnections(String endpoint) {
-        Set<WebSocketConnection> ret = endpointToConnections.get(endpoint);
+        EndpointConnections ret = endpointToConnections.get(endpoint);
         if (ret == null) {
             return Set.of();
         }
-        return ret;
+        return ret.connections;
+    }
+
+    /**
+     * Sends the message to all open connections of the given endpoint that match the filter.
+     * <p>
+     * The connections of each event loop are processed by a single task executed on the event loop. The returned
+     * {@link Uni} completes when all the messages are sent. Failures caused by a connection closed in the meantime are
+     * ignored.
+     *
+     * @param endpoint the generated endpoint class
+     * @param filter the filter, may be {@code null}
+     * @param sendFunction the function used to send the message to a connection
+     * @param message the message
+     * @return a new {@link Uni}
+     */
+    <M> Uni<Void> broadcast(String endpoint, Predicate<WebSocketConnection> filter,
+            BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
+        EndpointConnections connections = endpointToConnections.get(endpoint);
+        if (connections == null || connections.connections.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Void>>() {
+            @Override
+            public void accept(UniEmitter<? super Void> emitter) {
+                new Broadcast<>(emitter, filter, sendFunction, message).dispatch(connections.shards.values());
+            }
+        });
     }
 
     public void addListener(ConnectionListener listener) {
@@ -114,6 +207,8 @@ public void addListener(ConnectionListener listener) {
     @PreDestroy
     void destroy() {
         endpointToConnections.clear();
+        endpointIdToConnections.clear();
+        idToConnection.clear();
     }
 
     public interface ConnectionListener {
@@ -123,4 +218,133 @@ public interface ConnectionListener {
         void connectionRemoved(String endpoint, String connectionId);
     }
 
+    private static final class EndpointConnections {
+
+        final Set<WebSocketConnection> connections = ConcurrentHashMap.newKeySet();
+
+        // root context or NO_CONTEXT -> shard; the number of shards is bounded by the number of event loops
+        final ConcurrentMap<Object, Shard> shards = new ConcurrentHashMap<>();
+
+        Shard shard(Context context) {
+            return shards.computeIfAbsent(context == null ? NO_CONTEXT : context, c -> new Shard(context));
+        }
+
+    }
+
+    private static final class Shard {
+
+        // null if the connections were registered outside a Vert.x context
+        final Context context;
+
+        final Set<WebSocketConnection> connections = ConcurrentHashMap.newKeySet();
+
+        Shard(Context context) {
+            this.context = context;
+        }
+
+    }
+
+    private static final class Registration {
+
+        final WebSocketConnection connection;
+
+        final Shard shard;
+
+        Registration(WebSocketConnection connection, Shard shard) {
+            this.connection = connection;
+            this.shard = shard;
+        }
+
+    }
+
+    private static final class Broadcast<M> {
+
+        private final UniEmitter<? super Void> emitter;
+        private final Predicate<WebSocketConnection> filter;
+        private final BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction;
+        private final M message;
+
+        // The dispatch, the shard tasks and the messages that were not sent yet
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        Broadcast(UniEmitter<? super Void> emitter, Predicate<WebSocketConnection> filter,
+                BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.sendFunction = sendFunction;
+            this.message = message;
+        }
+
+        void dispatch(Collection<Shard> shards) {
+            Context current = Vertx.currentContext();
+            if (current != null) {
+                current = VertxContext.getRootContext(current);
+            }
+            for (Shard shard : shards) {
+                if (shard.connections.isEmpty()) {
+                    continue;
+                }
+                pending.incrementAndGet();
+                if (shard.context == null || shard.context == current) {
+                    send(shard);
+                } else {
+                    shard.context.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            send(shard);
+                        }
+                    });
+                }
+            }
+            done();
+        }
+
+        private void send(Shard shard) {
+            try {
+                // the filter is tested on the event loop of the shard, as documented by BroadcastSender#filter()
+                for (WebSocketConnection connection : shard.connections) {
+                    if (connection.isOpen()
+                            && (filter == null || filter.test(connection))) {
+                        pending.incrementAndGet();
+                        sendFunction.apply(connection, message).subscribe().with(new Consumer<Void>() {
+                            @Override
+                            public void accept(Void ignored) {
+                                done();
+                            }
+                        }, new Consumer<Throwable>() {
+                            @Override
+                            public void accept(Throwable t) {
+                                // Intentionally ignore 'WebSocket is closed' failures
+                                // It might happen that the connection is closed in the mean time
+                                if (!Endpoints.isWebSocketIsClosedFailure(t, (WebSocketConnectionBase) connection)) {
+                                    failures.add(t);
+                                }
+                                done();
+                            }
+                        });
+                    }
+                }
+            } catch (Throwable t) {
+                failures.add(t);
+            } finally {
+                done();
+            }
+        }
+
+        private void done() {
+            if (pending.decrementAndGet() != 0) {
+                return;
+            }
+            if (failures.isEmpty()) {
+                emitter.complete(null);
+            } else if (failures.size() == 1) {
+                emitter.fail(failures.peek());
+            } else {
+                emitter.fail(new CompositeException(new ArrayList<>(failures)));
+            }
+        }
+
+    }
+
 }
@@ -187,12 +187,6 @@ public Uni<Void> apply(WebSocketConnection c, String s) {
                 return c.sendText(s);
             }
         };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
         private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
             @Override
             public Uni<Void> apply(WebSocketConnection c, Buffer b) {
@@ -218,7 +212,9 @@ public Uni<Void> sendText(String message) {
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            // Encode the message once for all connections, an encoding failure fails the returned Uni
+            return Uni.createFrom().item(() -> encodeText(message))
+                    .chain(text -> doSend(SEND_TEXT_STR, text));
         }
 
         @Override
@@ -237,25 +233,7 @@ public Uni<Void> sendPong(Buffer data) {
         }
 
         private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
-            Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
-            if (connections.isEmpty()) {
-                return Uni.createFrom().voidItem();
-            }
-            List<Uni<Void>> unis = new ArrayList<>(connections.size());
-            for (WebSocketConnection connection : connections) {
-                if (connection.isOpen()
-                        && (filter == null || filter.test(connection))) {
-                    unis.add(sendFunction.apply(connection, message)
-                            // Intentionally ignore 'WebSocket is closed' failures
-                            // It might happen that the connection is closed in the mean time
-                            .onFailure(t -> Endpoints.isWebSocketIsClosedFailure(t, (WebSocketConnectionBase) connection))
-                            .recoverWithNull());
-                }
-            }
-            if (unis.isEmpty()) {
-                return Uni.createFrom().voidItem();
-            }
-            return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
+            return connectionManager.broadcast(generatedEndpointClass, filter, sendFunction, message);
         }
 
     }
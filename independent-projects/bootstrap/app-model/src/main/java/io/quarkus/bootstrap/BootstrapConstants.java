@@ -45,6 +45,11 @@ public interface BootstrapConstants {
 
     String QUARKUS_BOOTSTRAP_WORKSPACE_DISCOVERY = "quarkus.bootstrap.workspace-discovery";
 
+    /**
+     * Whether the resources provided by the class path archives are cached in the build directory, enabled by default
+     */
+    String QUARKUS_BOOTSTRAP_CLASSPATH_RESOURCE_CACHE = "quarkus.bootstrap.classpath-resource-cache";
+
     /**
      * Prefix for properties configuring extension Dev mode JVM arguments
      */
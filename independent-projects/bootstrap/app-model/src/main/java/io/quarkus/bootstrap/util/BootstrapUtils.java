@@ -109,6 +109,17 @@ public static Path getSerializedTestAppModelPath(Path projectBuildDir) {
         return getBootstrapBuildDir(projectBuildDir).resolve("test-app-model.dat");
     }
 
+    /**
+     * Returns a location of the cache of the resources provided by the class path archives.
+     *
+     * @param projectBuildDir project build directory
+     * @param mode launch mode
+     * @return file of the class path resource cache
+     */
+    public static Path getClassPathResourceCachePath(Path projectBuildDir, String mode) {
+        return getBootstrapBuildDir(projectBuildDir).resolve(mode + "-classpath-resources.idx");
+    }
+
     private static Path getBootstrapBuildDir(Path projectBuildDir) {
         return projectBuildDir.resolve("quarkus").resolve("bootstrap");
     }
@@ -0,0 +1,85 @@
+package io.quarkus.bootstrap.benchmarks;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+
+import io.quarkus.bootstrap.classloading.ClassPathResourceCache;
+import io.quarkus.bootstrap.classloading.PathTreeClassPathElement;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.paths.PathTree;
+
+/**
+ * Measures the first lookup of a new {@link QuarkusClassLoader}, i.e. the construction of its resource index, with the
+ * resources of the archive collected by walking the archive ({@code scan}) or read from a {@link ClassPathResourceCache}
+ * ({@code cached}). The archive is the benchmark jar, i.e. an archive with a few thousand entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BenchmarkClassPathResourceCache {
+
+    private static final String RESOURCE_NAME = Runner.class.getName().replace('.', '/') + ".class";
+
+    @Param({ "scan", "cached" })
+    public String mode;
+
+    private Path jar;
+    private Path cacheFile;
+
+    @Setup
+    public void setup() throws URISyntaxException, IOException {
+        jar = Path.of(Runner.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        cacheFile = Files.createTempDirectory("classpath-resource-cache").resolve("resources.idx");
+        ClassPathResourceCache cache = ClassPathResourceCache.open(cacheFile, 1);
+        try (QuarkusClassLoader classLoader = createClassLoader(cache)) {
+            classLoader.getResource(RESOURCE_NAME);
+        }
+        cache.persist();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(cacheFile);
+        Files.deleteIfExists(cacheFile.getParent());
+    }
+
+    @Benchmark
+    public URL firstLookup() {
+        ClassPathResourceCache cache = "cached".equals(mode) ? ClassPathResourceCache.open(cacheFile, 1) : null;
+        try (QuarkusClassLoader classLoader = createClassLoader(cache)) {
+            return classLoader.getResource(RESOURCE_NAME);
+        }
+    }
+
+    private QuarkusClassLoader createClassLoader(ClassPathResourceCache cache) {
+        return QuarkusClassLoader.builder("benchmark", ClassLoader.getPlatformClassLoader(), false)
+                .addNormalPriorityElement(new PathTreeClassPathElement(PathTree.ofArchive(jar), true, null, cache))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkClassPathResourceCache.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
@@ -0,0 +1,107 @@
+package io.quarkus.bootstrap.benchmarks;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+
+import io.quarkus.bootstrap.classloading.ClassPathElement;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+
+/**
+ * Simulates the startup of an application: a new {@link QuarkusClassLoader} loads all the classes of the benchmark jar,
+ * i.e. a few thousand classes, from the given number of threads. Each thread loads all the classes, starting at a
+ * different offset, so that the threads both define classes and find classes defined by other threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BenchmarkParallelClassLoading {
+
+    @Param({ "1", "8" })
+    public int threads;
+
+    private Path jar;
+    private List<String> classNames;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() throws URISyntaxException, IOException {
+        jar = Path.of(Runner.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        classNames = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String entry = entries.nextElement().getName();
+                if (entry.endsWith(".class") && !entry.startsWith("META-INF/") && !entry.endsWith("module-info.class")) {
+                    classNames.add(entry.substring(0, entry.length() - 6).replace('/', '.'));
+                }
+            }
+        }
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int loadClasses() throws Exception {
+        AtomicInteger loaded = new AtomicInteger();
+        try (QuarkusClassLoader classLoader = QuarkusClassLoader
+                .builder("benchmark", ClassLoader.getPlatformClassLoader(), false)
+                .addNormalPriorityElement(ClassPathElement.fromPath(jar, true))
+                .build()) {
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                int offset = t * classNames.size() / threads;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < classNames.size(); i++) {
+                        try {
+                            classLoader.loadClass(classNames.get((offset + i) % classNames.size()));
+                            loaded.incrementAndGet();
+                        } catch (ClassNotFoundException | LinkageError e) {
+                            // optional dependencies of the classes of the jar are missing
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return loaded.get();
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkParallelClassLoading.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
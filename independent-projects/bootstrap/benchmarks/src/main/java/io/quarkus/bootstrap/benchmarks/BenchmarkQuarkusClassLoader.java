@@ -0,0 +1,92 @@
+package io.quarkus.bootstrap.benchmarks;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+
+import io.quarkus.bootstrap.classloading.ClassPathElement;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+
+/**
+ * Measures the lookups of a {@link QuarkusClassLoader} which loads the classes and resources of the benchmark jar, i.e. of
+ * an archive with a few thousand entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BenchmarkQuarkusClassLoader {
+
+    private static final String CLASS_NAME = Runner.class.getName();
+    private static final String RESOURCE_NAME = CLASS_NAME.replace('.', '/') + ".class";
+    private static final String MISSING_CLASS_NAME = "org.acme.Missing";
+    private static final String MISSING_RESOURCE_NAME = "org/acme/Missing.class";
+
+    private QuarkusClassLoader classLoader;
+
+    @Setup
+    public void setup() throws URISyntaxException, ClassNotFoundException {
+        Path jar = Path.of(Runner.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        classLoader = QuarkusClassLoader.builder("benchmark", ClassLoader.getPlatformClassLoader(), false)
+                .addNormalPriorityElement(ClassPathElement.fromPath(jar, true))
+                .build();
+        // define the class so that the benchmark measures the lookup of an already loaded class
+        classLoader.loadClass(CLASS_NAME);
+    }
+
+    @TearDown
+    public void tearDown() {
+        classLoader.close();
+    }
+
+    @Benchmark
+    public Class<?> loadLoadedClass() throws ClassNotFoundException {
+        return classLoader.loadClass(CLASS_NAME);
+    }
+
+    @Benchmark
+    public Class<?> loadParentClass() throws ClassNotFoundException {
+        return classLoader.loadClass("java.lang.String");
+    }
+
+    @Benchmark
+    public void loadMissingClass(Blackhole blackhole) {
+        try {
+            blackhole.consume(classLoader.loadClass(MISSING_CLASS_NAME));
+        } catch (ClassNotFoundException expected) {
+            blackhole.consume(expected);
+        }
+    }
+
+    @Benchmark
+    public URL getResource() {
+        return classLoader.getResource(RESOURCE_NAME);
+    }
+
+    @Benchmark
+    public URL getMissingResource() {
+        return classLoader.getResource(MISSING_RESOURCE_NAME);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkQuarkusClassLoader.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
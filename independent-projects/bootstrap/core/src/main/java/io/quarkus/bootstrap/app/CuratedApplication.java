@@ -17,12 +17,15 @@
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import io.quarkus.bootstrap.BootstrapConstants;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
 import io.quarkus.bootstrap.classloading.ClassPathResource;
+import io.quarkus.bootstrap.classloading.ClassPathResourceCache;
 import io.quarkus.bootstrap.classloading.FilteredClassPathElement;
 import io.quarkus.bootstrap.classloading.MemoryClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.bootstrap.model.ApplicationModel;
+import io.quarkus.bootstrap.util.BootstrapUtils;
 import io.quarkus.maven.dependency.ArtifactKey;
 import io.quarkus.maven.dependency.DependencyFlags;
 import io.quarkus.maven.dependency.ResolvedDependency;
@@ -61,6 +64,12 @@ public class CuratedApplication implements Serializable, AutoCloseable {
      */
     private volatile QuarkusClassLoader baseRuntimeClassLoader;
 
+    /**
+     * The cache of the resources provided by the archives, created lazily and written when the application is closed.
+     * Guarded by {@code this}, volatile for the unsynchronized fast path of {@link #getResourceCache()}.
+     */
+    private volatile ClassPathResourceCache resourceCache;
+
     private final QuarkusBootstrap quarkusBootstrap;
     private final CurationResult curationResult;
     private final ConfiguredClassLoading configuredClassLoading;
@@ -192,13 +201,36 @@ public void accept(ClassPathElement classPathElement) {
             consumer.accept(ClassPathElement.EMPTY);
             return;
         }
-        cpe = ClassPathElement.fromDependency(contentTree, artifact);
+        cpe = ClassPathElement.fromDependency(contentTree, artifact, getResourceCache());
         consumer.accept(cpe);
         if (useCpeCache) {
             augmentationElements.put(artifact.getKey(), cpe);
         }
     }
 
+    private ClassPathResourceCache getResourceCache() {
+        ClassPathResourceCache cache = resourceCache;
+        if (cache == null && quarkusBootstrap.getTargetDirectory() != null
+                && !"false".equals(System.getProperty(BootstrapConstants.QUARKUS_BOOTSTRAP_CLASSPATH_RESOURCE_CACHE))) {
+            synchronized (this) {
+                // the cache maps a file, only one instance must be opened
+                cache = resourceCache;
+                if (cache == null) {
+                    long key = 0;
+                    for (ResolvedDependency dep : appModel.getDependencies()) {
+                        key = 31 * key + dep.getKey().hashCode();
+                        key = 31 * key + dep.getVersion().hashCode();
+                        key = 31 * key + dep.getFlags();
+                    }
+                    cache = ClassPathResourceCache.open(BootstrapUtils.getClassPathResourceCachePath(
+                            quarkusBootstrap.getTargetDirectory(), quarkusBootstrap.getMode().name().toLowerCase()), key);
+                    resourceCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
     private void addCpElement(QuarkusClassLoader.Builder builder, ResolvedDependency dep, ClassPathElement element) {
         final ArtifactKey key = dep.getKey();
         if (configuredClassLoading.isParentFirstArtifact(key)) {
@@ -462,6 +494,12 @@ public void close() {
             baseRuntimeClassLoader = null;
         }
         augmentationElements.clear();
+        synchronized (this) {
+            if (resourceCache != null) {
+                resourceCache.persist();
+                resourceCache = null;
+            }
+        }
     }
 
     public boolean isEligibleForReuse() {
@@ -109,6 +109,10 @@ static ClassPathElement fromDependency(PathTree contentTree, ResolvedDependency
         return new PathTreeClassPathElement(contentTree, dep.isRuntimeCp(), dep);
     }
 
+    static ClassPathElement fromDependency(PathTree contentTree, ResolvedDependency dep, ClassPathResourceCache resourceCache) {
+        return new PathTreeClassPathElement(contentTree, dep.isRuntimeCp(), dep, resourceCache);
+    }
+
     ClassPathElement EMPTY = new ClassPathElement() {
 
         @Override
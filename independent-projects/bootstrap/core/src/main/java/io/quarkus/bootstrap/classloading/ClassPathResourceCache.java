@@ -0,0 +1,265 @@
+package io.quarkus.bootstrap.classloading;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.paths.PathTree;
+
+/**
+ * A persistent cache of the resources provided by the archives of the class path.
+ * <p>
+ * Collecting the resources of an archive requires to walk all its entries, which is costly for applications with hundreds
+ * of dependencies and happens at each launch. The resources collected from the archives are stored in a file that is
+ * memory-mapped at the next launch: the resources of an archive are only decoded when they are requested.
+ * <p>
+ * An entry is only used if the archive has the same size and last modified time and the path tree is configured the same
+ * way as when the entry was stored. The whole file is ignored if it was written for another application model, another
+ * Java version (multi-release archives are resolved differently) or another version of the format. In all these cases the
+ * resources are collected from the archive.
+ * <p>
+ * The format of the file is:
+ *
+ * <pre>
+ * int magic, int version, long key, int number of entries
+ * for each entry:
+ *   archive path, long size, long last modified time, int path tree hash, int number of resources, int length of resources
+ *   resources
+ * </pre>
+ *
+ * The strings are encoded as an int length followed by the UTF-8 bytes.
+ */
+public final class ClassPathResourceCache {
+
+    private static final Logger log = Logger.getLogger(ClassPathResourceCache.class);
+
+    private static final int MAGIC = 0x51435243;
+    private static final int VERSION = 1;
+
+    private final Path file;
+    private final long key;
+    private final ByteBuffer stored;
+    private final Map<String, Entry> storedEntries;
+    // the stored entries that were used by this launch
+    private final Set<String> usedEntries = ConcurrentHashMap.newKeySet();
+    private final Map<String, Entry> addedEntries = new ConcurrentHashMap<>();
+
+    private ClassPathResourceCache(Path file, long key, ByteBuffer stored, Map<String, Entry> storedEntries) {
+        this.file = file;
+        this.key = key;
+        this.stored = stored;
+        this.storedEntries = storedEntries;
+    }
+
+    /**
+     * Opens the cache stored in the given file. If the file does not exist or was written for another key, the cache is
+     * empty.
+     *
+     * @param file the file
+     * @param key identifies the application model
+     * @return the cache
+     */
+    public static ClassPathResourceCache open(Path file, long key) {
+        key = 31 * key + Runtime.version().feature();
+        if (Files.isRegularFile(file)) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (buffer.remaining() >= 20 && buffer.getInt() == MAGIC && buffer.getInt() == VERSION
+                        && buffer.getLong() == key) {
+                    int count = buffer.getInt();
+                    Map<String, Entry> entries = new HashMap<>(count * 4 / 3 + 1);
+                    for (int i = 0; i < count; i++) {
+                        String archive = readString(buffer);
+                        Entry entry = new Entry(buffer.getLong(), buffer.getLong(), buffer.getInt(), buffer.getInt(),
+                                buffer.getInt(), buffer.position(), null);
+                        buffer.position(entry.offset + entry.length);
+                        entries.put(archive, entry);
+                    }
+                    return new ClassPathResourceCache(file, key, buffer, entries);
+                }
+                log.debugf("Class path resource cache %s is outdated", file);
+            } catch (RuntimeException | IOException e) {
+                log.debugf(e, "Unable to read the class path resource cache %s", file);
+            }
+        }
+        return new ClassPathResourceCache(file, key, null, Map.of());
+    }
+
+    /**
+     * @param pathTree the path tree of an archive
+     * @return the resources of the archive, or {@code null} if not cached or outdated
+     */
+    public Set<String> getResources(PathTree pathTree) {
+        Path archive = getArchive(pathTree);
+        if (archive == null) {
+            return null;
+        }
+        String archiveKey = archive.toString();
+        Entry entry = addedEntries.get(archiveKey);
+        if (entry != null) {
+            return entry.resources;
+        }
+        entry = storedEntries.get(archiveKey);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+            if (attributes.size() != entry.size || attributes.lastModifiedTime().toMillis() != entry.lastModified
+                    || pathTree.hashCode() != entry.treeHash) {
+                return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        ByteBuffer buffer = stored.slice(entry.offset, entry.length);
+        Set<String> resources = new HashSet<>(entry.count * 4 / 3 + 1);
+        for (int i = 0; i < entry.count; i++) {
+            resources.add(readString(buffer));
+        }
+        usedEntries.add(archiveKey);
+        return resources;
+    }
+
+    /**
+     * Stores the resources collected from an archive. The cache is only written to the file by {@link #persist()}.
+     *
+     * @param pathTree the path tree of an archive
+     * @param resources the resources of the archive
+     */
+    public void putResources(PathTree pathTree, Set<String> resources) {
+        Path archive = getArchive(pathTree);
+        if (archive == null) {
+            return;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+            addedEntries.put(archive.toString(), new Entry(attributes.size(), attributes.lastModifiedTime().toMillis(),
+                    pathTree.hashCode(), resources.size(), 0, 0, resources));
+        } catch (IOException e) {
+            log.debugf(e, "Unable to read the attributes of %s", archive);
+        }
+    }
+
+    /**
+     * Writes the cache to the file if resources were collected from archives during this launch. Only the entries used
+     * during this launch are kept.
+     */
+    public void persist() {
+        if (addedEntries.isEmpty()) {
+            return;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(key);
+            int count = 0;
+            for (String archive : usedEntries) {
+                if (!addedEntries.containsKey(archive)) {
+                    count++;
+                }
+            }
+            out.writeInt(count + addedEntries.size());
+            for (String archive : usedEntries) {
+                if (addedEntries.containsKey(archive)) {
+                    continue;
+                }
+                Entry entry = storedEntries.get(archive);
+                writeEntryHeader(out, archive, entry, entry.length);
+                byte[] resources = new byte[entry.length];
+                stored.get(entry.offset, resources);
+                out.write(resources);
+            }
+            for (Map.Entry<String, Entry> added : addedEntries.entrySet()) {
+                ByteArrayOutputStream resourceBytes = new ByteArrayOutputStream();
+                DataOutputStream resourceOut = new DataOutputStream(resourceBytes);
+                for (String resource : added.getValue().resources) {
+                    writeString(resourceOut, resource);
+                }
+                writeEntryHeader(out, added.getKey(), added.getValue(), resourceBytes.size());
+                resourceBytes.writeTo(out);
+            }
+            out.flush();
+
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(tmp, bytes.toByteArray());
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            // e.g. the previous file is still mapped on Windows
+            log.debugf(e, "Unable to write the class path resource cache %s", file);
+        }
+    }
+
+    private static Path getArchive(PathTree pathTree) {
+        if (!pathTree.isArchiveOrigin() || pathTree.getRoots().size() != 1) {
+            return null;
+        }
+        return pathTree.getRoots().iterator().next();
+    }
+
+    private static void writeEntryHeader(DataOutputStream out, String archive, Entry entry, int length) throws IOException {
+        writeString(out, archive);
+        out.writeLong(entry.size);
+        out.writeLong(entry.lastModified);
+        out.writeInt(entry.treeHash);
+        out.writeInt(entry.count);
+        out.writeInt(length);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class Entry {
+
+        final long size;
+        final long lastModified;
+        final int treeHash;
+        final int count;
+        final int length;
+        // the position of the resources in the stored buffer
+        final int offset;
+        // not null for an entry added during this launch
+        final Set<String> resources;
+
+        Entry(long size, long lastModified, int treeHash, int count, int length, int offset, Set<String> resources) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.treeHash = treeHash;
+            this.count = count;
+            this.length = length;
+            this.offset = offset;
+            this.resources = resources;
+        }
+    }
+}
@@ -54,6 +54,9 @@ public class ClassPathResourceIndex {
     // let's go with default max segments + 3 for the META-INF/versions/<version> part
     private static final int MAX_SEGMENTS_META_INF_VERSIONS = MAX_SEGMENTS_DEFAULT + 3;
 
+    public static final byte BANNED = 1;
+    public static final byte PARENT_FIRST = 2;
+
     private static final char SLASH = '/';
     private static final char DOT = '.';
 
@@ -64,20 +67,19 @@ public class ClassPathResourceIndex {
     private final Map<String, ClassPathElement> transformedClasses;
 
     private final Set<String> relodableClasses;
-    private final Set<String> parentFirstResources;
-    private final Set<String> bannedResources;
+    /**
+     * The banned and parent first resources, so that both can be checked with a single lookup.
+     */
+    private final Map<String, Byte> resourceFlags;
 
     private ClassPathResourceIndex(Map<String, ClassPathElement[]> resourceMapping,
             Map<String, ClassPathElement> transformedClasses,
             Set<String> reloadableClasses,
-            Set<String> parentFirstResources,
-            Set<String> bannedResources) {
+            Map<String, Byte> resourceFlags) {
         this.resourceMapping = resourceMapping.isEmpty() ? Map.of() : Collections.unmodifiableMap(resourceMapping);
         this.transformedClasses = transformedClasses.isEmpty() ? Map.of() : transformedClasses;
         this.relodableClasses = reloadableClasses.isEmpty() ? Set.of() : Collections.unmodifiableSet(reloadableClasses);
-        this.parentFirstResources = parentFirstResources.isEmpty() ? Set.of()
-                : Collections.unmodifiableSet(parentFirstResources);
-        this.bannedResources = bannedResources.isEmpty() ? Set.of() : Collections.unmodifiableSet(bannedResources);
+        this.resourceFlags = resourceFlags.isEmpty() ? Map.of() : Collections.unmodifiableMap(resourceFlags);
     }
 
     public Set<String> getReloadableClasses() {
@@ -85,11 +87,20 @@ public Set<String> getReloadableClasses() {
     }
 
     public boolean isParentFirst(String resource) {
-        return parentFirstResources.contains(resource);
+        return (getFlags(resource) & PARENT_FIRST) != 0;
     }
 
     public boolean isBanned(String resource) {
-        return bannedResources.contains(resource);
+        return (getFlags(resource) & BANNED) != 0;
+    }
+
+    /**
+     * @param resource the resource name
+     * @return a combination of {@link #BANNED} and {@link #PARENT_FIRST}
+     */
+    public byte getFlags(String resource) {
+        Byte flags = resourceFlags.get(resource);
+        return flags != null ? flags : 0;
     }
 
     // it's tempting to use an Optional here but let's avoid the additional allocation
@@ -201,8 +212,7 @@ public static class Builder {
         private final Map<String, List<ClassPathElement>> resourceMapping = new HashMap<>();
 
         private final Set<String> reloadableClasses = new HashSet<>();
-        private final Set<String> parentFirstResources = new HashSet<>();
-        private final Set<String> bannedResources = new HashSet<>();
+        private final Map<String, Byte> resourceFlags = new HashMap<>();
 
         public void scanClassPathElement(ClassPathElement classPathElement,
                 BiConsumer<ClassPathElement, String> consumer) {
@@ -241,11 +251,17 @@ public void addResourceMapping(ClassPathElement classPathElement, String resourc
         }
 
         public void addParentFirstResource(String resource) {
-            parentFirstResources.add(resource);
+            addFlag(resource, PARENT_FIRST);
         }
 
         public void addBannedResource(String resource) {
-            bannedResources.add(resource);
+            addFlag(resource, BANNED);
+        }
+
+        private void addFlag(String resource, byte flag) {
+            Byte flags = resourceFlags.get(resource);
+            // Byte.valueOf() returns cached instances
+            resourceFlags.put(resource, Byte.valueOf((byte) (flags != null ? flags | flag : flag)));
         }
 
         public ClassPathResourceIndex build() {
@@ -256,7 +272,7 @@ public ClassPathResourceIndex build() {
             }
 
             return new ClassPathResourceIndex(compactedResourceMapping, transformedClasses,
-                    reloadableClasses, parentFirstResources, bannedResources);
+                    reloadableClasses, resourceFlags);
         }
     }
 }
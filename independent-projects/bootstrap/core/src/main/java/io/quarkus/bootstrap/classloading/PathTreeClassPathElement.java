@@ -37,6 +37,7 @@ public class PathTreeClassPathElement extends AbstractClassPathElement {
     private final OpenPathTree pathTree;
     private final boolean runtime;
     private final ResolvedDependency resolvedDependency;
+    private final ClassPathResourceCache resourceCache;
     private volatile Set<String> resources;
 
     public PathTreeClassPathElement(PathTree pathTree, boolean runtime) {
@@ -44,10 +45,22 @@ public PathTreeClassPathElement(PathTree pathTree, boolean runtime) {
     }
 
     public PathTreeClassPathElement(PathTree pathTree, boolean runtime, ResolvedDependency resolvedDependency) {
+        this(pathTree, runtime, resolvedDependency, null);
+    }
+
+    /**
+     * @param pathTree the path tree
+     * @param runtime whether the element is a runtime element
+     * @param resolvedDependency the dependency, may be {@code null}
+     * @param resourceCache the cache of the provided resources, may be {@code null}
+     */
+    public PathTreeClassPathElement(PathTree pathTree, boolean runtime, ResolvedDependency resolvedDependency,
+            ClassPathResourceCache resourceCache) {
         this.pathTree = Objects.requireNonNull(pathTree, "Path tree is null").open();
         this.lock = new ReentrantReadWriteLock();
         this.runtime = runtime;
         this.resolvedDependency = resolvedDependency;
+        this.resourceCache = resourceCache;
     }
 
     @Override
@@ -156,7 +169,15 @@ public <T> T apply(Function<OpenPathTree, T> func) {
     public Set<String> getProvidedResources() {
         Set<String> resources = this.resources;
         if (resources == null) {
-            resources = apply(PathTreeClassPathElement::collectResources);
+            if (resourceCache != null) {
+                resources = resourceCache.getResources(pathTree.getOriginalTree());
+            }
+            if (resources == null) {
+                resources = apply(PathTreeClassPathElement::collectResources);
+                if (resourceCache != null) {
+                    resourceCache.putResources(pathTree.getOriginalTree(), resources);
+                }
+            }
             this.resources = resources;
         }
         return resources;
@@ -222,8 +222,11 @@ private String sanitizeName(String name) {
     }
 
     private boolean parentFirst(String name, ClassPathResourceIndex classPathResourceIndex) {
-        return parentFirst || name.startsWith("io/quarkus/devservices/crossclassloader")
-                || classPathResourceIndex.isParentFirst(name);
+        return parentFirst(name) || classPathResourceIndex.isParentFirst(name);
+    }
+
+    private boolean parentFirst(String name) {
+        return parentFirst || name.startsWith("io/quarkus/devservices/crossclassloader");
     }
 
     public void reset(Map<String, byte[]> generatedResources, Map<String, byte[]> transformedClasses) {
@@ -528,37 +531,46 @@ public Class<?> loadClass(String name) throws ClassNotFoundException {
     protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
         ensureOpen(name);
 
-        for (ClassLoaderEventListener l : classLoaderEventListeners) {
-            l.loadClass(name, this.name);
+        for (int i = 0; i < classLoaderEventListeners.size(); i++) {
+            classLoaderEventListeners.get(i).loadClass(name, this.name);
         }
         if (isInJdkPackage(name)) {
             return parent.loadClass(name);
         }
 
+        // the classes that were already defined by this class loader are returned without locking
+        Class<?> c = findLoadedClass(name);
+        if (c != null) {
+            return c;
+        }
+
         //even if the thread is interrupted we still want to be able to load classes
         //if the interrupt bit is set then we clear it and restore it at the end
         boolean interrupted = Thread.interrupted();
         try {
             ClassPathResourceIndex classPathResourceIndex = getClassPathResourceIndex();
-            synchronized (getClassLoadingLock(name)) {
-                Class<?> c = findLoadedClass(name);
-                if (c != null) {
-                    return c;
-                }
-                String resourceName = fromClassNameToResourceName(name);
-                if (classPathResourceIndex.isBanned(resourceName)) {
-                    throw new ClassNotFoundException(name);
+            String resourceName = fromClassNameToResourceName(name);
+            // a single lookup for both the banned and the parent first resources
+            byte flags = classPathResourceIndex.getFlags(resourceName);
+            if ((flags & ClassPathResourceIndex.BANNED) != 0) {
+                throw new ClassNotFoundException(name);
+            }
+            boolean parentFirst = (flags & ClassPathResourceIndex.PARENT_FIRST) != 0 || parentFirst(resourceName);
+            if (parentFirst) {
+                try {
+                    return parent.loadClass(name);
+                } catch (ClassNotFoundException ignore) {
+                    log.tracef("Class %s not found in parent first load from %s", name, parent);
                 }
-                boolean parentFirst = parentFirst(resourceName, classPathResourceIndex);
-                if (parentFirst) {
-                    try {
-                        return parent.loadClass(name);
-                    } catch (ClassNotFoundException ignore) {
-                        log.tracef("Class %s not found in parent first load from %s", name, parent);
+            }
+            ClassPathElement classPathElement = classPathResourceIndex.getFirstClassPathElement(resourceName);
+            if (classPathElement != null) {
+                // only the definition of a class requires the lock, the delegation to the parent does not
+                synchronized (getClassLoadingLock(name)) {
+                    c = findLoadedClass(name);
+                    if (c != null) {
+                        return c;
                     }
-                }
-                ClassPathElement classPathElement = classPathResourceIndex.getFirstClassPathElement(resourceName);
-                if (classPathElement != null) {
                     final ClassPathResource classPathElementResource = classPathElement.getResource(resourceName);
                     if (classPathElementResource != null) { //can happen if the class loader was closed
                         byte[] data = classPathElementResource.getData();
@@ -572,14 +584,14 @@ protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundE
                         return cl;
                     }
                 }
+            }
 
-                if (!parentFirst) {
-                    return parent.loadClass(name);
-                }
-
-                throw new ClassNotFoundException(name);
+            if (!parentFirst) {
+                return parent.loadClass(name);
             }
 
+            throw new ClassNotFoundException(name);
+
         } finally {
             if (interrupted) {
                 //restore interrupt state
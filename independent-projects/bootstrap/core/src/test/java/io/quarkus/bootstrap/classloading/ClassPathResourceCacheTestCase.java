@@ -0,0 +1,68 @@
+package io.quarkus.bootstrap.classloading;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.paths.PathTree;
+
+public class ClassPathResourceCacheTestCase {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testCachedResources() throws IOException {
+        Path jar = createJar(dir.resolve("test.jar"), "org/acme/Foo.class", "application.properties");
+        Path cacheFile = dir.resolve("cache").resolve("resources.idx");
+
+        ClassPathResourceCache cache = ClassPathResourceCache.open(cacheFile, 1);
+        assertNull(cache.getResources(PathTree.ofArchive(jar)));
+        Set<String> resources;
+        try (PathTreeClassPathElement element = new PathTreeClassPathElement(PathTree.ofArchive(jar), true, null, cache)) {
+            resources = element.getProvidedResources();
+        }
+        assertTrue(resources.contains("org/acme/Foo.class"));
+        assertTrue(resources.contains("application.properties"));
+        cache.persist();
+
+        cache = ClassPathResourceCache.open(cacheFile, 1);
+        assertEquals(resources, cache.getResources(PathTree.ofArchive(jar)));
+        // Another application model
+        assertNull(ClassPathResourceCache.open(cacheFile, 2).getResources(PathTree.ofArchive(jar)));
+
+        // The archive is modified
+        createJar(jar, "org/acme/Bar.class");
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+        assertNull(cache.getResources(PathTree.ofArchive(jar)));
+        try (PathTreeClassPathElement element = new PathTreeClassPathElement(PathTree.ofArchive(jar), true, null, cache)) {
+            resources = element.getProvidedResources();
+        }
+        assertTrue(resources.contains("org/acme/Bar.class"));
+        assertFalse(resources.contains("org/acme/Foo.class"));
+    }
+
+    private static Path createJar(Path jar, String... entries) throws IOException {
+        try (OutputStream out = Files.newOutputStream(jar); ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (String entry : entries) {
+                zip.putNextEntry(new ZipEntry(entry));
+                zip.write(entry.getBytes());
+                zip.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
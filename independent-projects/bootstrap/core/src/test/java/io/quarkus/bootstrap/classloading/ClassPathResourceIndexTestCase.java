@@ -1,6 +1,8 @@
 package io.quarkus.bootstrap.classloading;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,4 +23,24 @@ public void testGetResourceKey() {
         assertEquals("META-INF/versions/17/io/quarkus/core",
                 ClassPathResourceIndex.getResourceKey("META-INF/versions/17/io/quarkus/core/deployment"));
     }
+
+    @Test
+    public void testFlags() {
+        ClassPathResourceIndex.Builder builder = ClassPathResourceIndex.builder();
+        builder.addBannedResource("org/acme/Banned.class");
+        builder.addParentFirstResource("org/acme/ParentFirst.class");
+        builder.addBannedResource("org/acme/Both.class");
+        builder.addParentFirstResource("org/acme/Both.class");
+        ClassPathResourceIndex index = builder.build();
+
+        assertEquals(ClassPathResourceIndex.BANNED, index.getFlags("org/acme/Banned.class"));
+        assertEquals(ClassPathResourceIndex.PARENT_FIRST, index.getFlags("org/acme/ParentFirst.class"));
+        assertEquals(ClassPathResourceIndex.BANNED | ClassPathResourceIndex.PARENT_FIRST,
+                index.getFlags("org/acme/Both.class"));
+        assertEquals(0, index.getFlags("org/acme/Other.class"));
+        assertTrue(index.isBanned("org/acme/Both.class"));
+        assertTrue(index.isParentFirst("org/acme/Both.class"));
+        assertFalse(index.isBanned("org/acme/ParentFirst.class"));
+        assertFalse(index.isParentFirst("org/acme/Banned.class"));
+    }
 }
@@ -0,0 +1,101 @@
+package io.quarkus.qute;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A template compiled to bytecode, usually generated during the build.
+ * <p>
+ * A compiled template renders the top-level nodes of a template directly to an {@link Appendable}. The text nodes are
+ * appended as is and the compiled expressions invoke the property accessors directly, i.e. without any
+ * {@link ValueResolver} and {@link java.util.concurrent.CompletionStage}. All other nodes, e.g. sections, are rendered by
+ * the {@link Interpreter}.
+ * <p>
+ * A compiled template is only used if its fingerprint matches the fingerprint of the parsed template.
+ *
+ * @see EngineBuilder#addCompiledTemplate(String, CompiledTemplate)
+ */
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @return the fingerprint of the template this template was compiled from
+     * @see #fingerprint(List)
+     */
+    int getFingerprint();
+
+    /**
+     *
+     * @param data the template data
+     * @param out the output
+     * @param interpreter the interpreter used to render the nodes that are not compiled
+     * @throws IOException
+     */
+    void render(Mapper data, Appendable out, Interpreter interpreter) throws IOException;
+
+    /**
+     * Computes the fingerprint of the top-level nodes of a template, i.e. {@link Template#getNodes()}. The fingerprint
+     * reflects the kind and the content of the nodes.
+     *
+     * @param nodes
+     * @return the fingerprint
+     */
+    static int fingerprint(List<TemplateNode> nodes) {
+        int result = 1;
+        for (TemplateNode node : nodes) {
+            int hash;
+            if (Parser.isDummyNode(node)) {
+                hash = 0;
+            } else {
+                switch (node.kind()) {
+                    case TEXT:
+                        hash = node.asText().getValue().hashCode();
+                        break;
+                    case EXPRESSION:
+                        hash = node.asExpression().expression.toOriginalString().hashCode();
+                        break;
+                    case SECTION:
+                        hash = node.asSection().getName().hashCode();
+                        break;
+                    case PARAM_DECLARATION:
+                        hash = node.asParamDeclaration().getKey().hashCode();
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unsupported node: " + node);
+                }
+                hash = 31 * node.kind().ordinal() + hash;
+            }
+            result = 31 * result + hash;
+        }
+        return result;
+    }
+
+    /**
+     * Renders the top-level nodes of a template that are not compiled.
+     */
+    interface Interpreter {
+
+        /**
+         * Renders the top-level node with the given index.
+         *
+         * @param index
+         * @param out
+         * @throws IOException
+         */
+        void renderNode(int index, Appendable out) throws IOException;
+
+        /**
+         * Renders the value of the top-level expression node with the given index. The result mappers are applied, e.g. the
+         * value is escaped if needed. If the value is a {@link java.util.concurrent.CompletionStage} then the node is rendered
+         * by the interpreter.
+         *
+         * @param index
+         * @param value
+         * @param out
+         * @throws IOException
+         */
+        void renderValue(int index, Object value, Appendable out) throws IOException;
+
+    }
+
+}
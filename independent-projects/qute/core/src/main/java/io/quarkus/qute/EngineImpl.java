@@ -36,6 +36,7 @@ class EngineImpl implements Engine {
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final List<ParserHook> parserHooks;
     final List<TemplateInstance.Initializer> initializers;
+    final Map<String, CompiledTemplate> compiledTemplates;
     final boolean removeStandaloneLines;
     private final long timeout;
     private final boolean useAsyncTimeout;
@@ -54,6 +55,7 @@ class EngineImpl implements Engine {
         this.parserHooks = ImmutableList.copyOf(builder.parserHooks);
         this.removeStandaloneLines = builder.removeStandaloneLines;
         this.initializers = ImmutableList.copyOf(builder.initializers);
+        this.compiledTemplates = Map.copyOf(builder.compiledTemplates);
         this.timeout = builder.timeout;
         this.useAsyncTimeout = builder.useAsyncTimeout;
         this.traceManager = builder.enableTracing ? new TraceManagerImpl() : null;
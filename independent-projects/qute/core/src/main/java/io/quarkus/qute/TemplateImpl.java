@@ -2,7 +2,10 @@
 
 import static io.quarkus.qute.Namespaces.DATA_NAMESPACE;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -22,9 +25,11 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.qute.TemplateInstanceBase.DataMap;
 import io.quarkus.qute.trace.TemplateEvent;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.AbstractUni;
 
 class TemplateImpl implements Template {
 
@@ -37,6 +42,8 @@ class TemplateImpl implements Template {
     final SectionNode root;
     private final List<ParameterDeclaration> parameterDeclarations;
     private final LazyValue<Map<String, Fragment>> fragments;
+    // May be null
+    private final CompiledTemplate compiledTemplate;
 
     // The initial capacity of the StringBuilder used to render the template
     final Capacity capacity;
@@ -51,6 +58,7 @@ class TemplateImpl implements Template {
         this.parameterDeclarations = ImmutableList.copyOf(root.getParameterDeclarations());
         // Use a lazily initialized map to avoid unnecessary performance costs during parsing
         this.fragments = initFragments(root);
+        this.compiledTemplate = initCompiledTemplate();
         this.capacity = new Capacity();
     }
 
@@ -125,6 +133,19 @@ public SectionNode getRootNode() {
         return root;
     }
 
+    private CompiledTemplate initCompiledTemplate() {
+        if (engine.compiledTemplates.isEmpty()) {
+            return null;
+        }
+        CompiledTemplate compiled = engine.compiledTemplates.get(templateId);
+        if (compiled != null && compiled.getFingerprint() != CompiledTemplate.fingerprint(root.blocks.get(0).nodes)) {
+            // E.g. the template was parsed with a different configuration
+            LOG.debugf("Compiled template ignored - the fingerprint does not match the parsed template: %s", templateId);
+            return null;
+        }
+        return compiled;
+    }
+
     private LazyValue<Map<String, Fragment>> initFragments(SectionNode section) {
         if (section.name.equals(Parser.ROOT_HELPER_NAME)) {
             // Initialize the lazy map for root sections only
@@ -165,6 +186,12 @@ private class TemplateInstanceImpl extends TemplateInstanceBase {
 
         @Override
         public String render() {
+            if (compiledTemplate != null && engine.traceManager == null) {
+                Object data = data();
+                if (data instanceof DataMap) {
+                    return renderCompiled((DataMap) data);
+                }
+            }
             long timeout = getTimeout();
             try {
                 return renderAsyncNoTimeout().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
@@ -184,6 +211,11 @@ public String render() {
 
         @Override
         public Multi<String> createMulti() {
+            if (engine.traceManager == null) {
+                long timeout = engine.useAsyncTimeout() ? getTimeout() : -1;
+                return Multi.createFrom().deferred(() -> renderOnDemand(timeout));
+            }
+            // Trace listeners are notified when the whole template is resolved
             Multi<String> multi = Multi.createFrom().emitter(emitter -> renderData(data(), emitter::emit)
                     .whenComplete((r, f) -> {
                         if (f == null) {
@@ -224,7 +256,7 @@ public CompletionStage<String> renderAsync() {
 
         @Override
         public CompletionStage<Void> consume(Consumer<String> resultConsumer) {
-            CompletionStage<Void> cs = renderData(data(), resultConsumer);
+            CompletionStage<Void> cs = renderIncrementally(data(), resultConsumer);
             if (engine.useAsyncTimeout()) {
                 cs = cs.toCompletableFuture().orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
             }
@@ -249,6 +281,23 @@ private CompletionStage<String> renderAsyncNoTimeout() {
             });
         }
 
+        private String renderCompiled(DataMap data) {
+            StringBuilder builder = new StringBuilder(getCapacity());
+            ResolutionContext rootContext = new ResolutionContextImpl(data, engine.getEvaluator(), null, this);
+            setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
+            try {
+                compiledTemplate.render(data, builder, new Interpreter(rootContext, getTimeout()));
+            } catch (IOException e) {
+                // StringBuilder does not throw IOException
+                throw new UncheckedIOException(e);
+            } finally {
+                fireRenderedActions();
+            }
+            String str = builder.toString();
+            capacity.update(str.length());
+            return str;
+        }
+
         private int getCapacity() {
             return attributes.isEmpty() ? capacity.get() : getCapacityAttributeValue();
         }
@@ -291,16 +340,7 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        fireRenderedActions();
                     }
                 }
                 if (event != null) {
@@ -312,6 +352,173 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
             return result;
         }
 
+        /**
+         * A top-level node is only resolved when the subscriber requests more items and the output of the previous node was
+         * emitted. If the timeout is positive, the rendering fails once the timeout has elapsed since the subscription.
+         */
+        private Multi<String> renderOnDemand(long timeout) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+            ResolutionContext rootContext = new ResolutionContextImpl(data(), engine.getEvaluator(), null, this);
+            setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
+            return Multi.createFrom().iterable(root.blocks.get(0).nodes)
+                    .concatMap(node -> {
+                        Uni<ResultNode> resolved = Uni.createFrom().completionStage(() -> node.resolve(rootContext));
+                        if (timeout > 0) {
+                            long remaining = deadline - System.nanoTime();
+                            if (remaining <= 0) {
+                                return Multi.createFrom().failure(newTimeoutException(timeout));
+                            }
+                            resolved = resolved.ifNoItem().after(Duration.ofNanos(remaining))
+                                    .failWith(() -> newTimeoutException(timeout));
+                        }
+                        return resolved.onItem().transformToMulti(resultNode -> {
+                            List<String> chunks = new ArrayList<>();
+                            resultNode.process(chunks::add);
+                            return Multi.createFrom().iterable(chunks);
+                        });
+                    })
+                    .onTermination().invoke(this::fireRenderedActions);
+        }
+
+        /**
+         * All top-level nodes are resolved concurrently. However, the result of a node is passed to the consumer as soon as the
+         * node and all the previous nodes are resolved, i.e. the consumer does not need to wait until the whole template is
+         * resolved.
+         */
+        private CompletionStage<Void> renderIncrementally(Object data, Consumer<String> consumer) {
+            if (engine.traceManager != null) {
+                // Trace listeners are notified when the whole template is resolved
+                return renderData(data, consumer);
+            }
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            ResolutionContext rootContext = new ResolutionContextImpl(data,
+                    engine.getEvaluator(), null, this);
+            setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
+            List<TemplateNode> nodes = root.blocks.get(0).nodes;
+            @SuppressWarnings("unchecked")
+            CompletableFuture<ResultNode>[] results = new CompletableFuture[nodes.size()];
+            try {
+                for (int i = 0; i < results.length; i++) {
+                    results[i] = nodes.get(i).resolve(rootContext).toCompletableFuture();
+                }
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+                return result;
+            }
+            processResults(results, 0, consumer, result);
+            return result;
+        }
+
+        private void processResults(CompletableFuture<ResultNode>[] results, int start, Consumer<String> consumer,
+                CompletableFuture<Void> result) {
+            for (int i = start; i < results.length; i++) {
+                CompletableFuture<ResultNode> nodeResult = results[i];
+                if (nodeResult.isDone() && !nodeResult.isCompletedExceptionally()) {
+                    if (!processResult(nodeResult.join(), consumer, result)) {
+                        return;
+                    }
+                } else {
+                    // Wait for the node and continue with the next one
+                    int next = i + 1;
+                    nodeResult.whenComplete((r, t) -> {
+                        if (t != null) {
+                            fireRenderedActions();
+                            result.completeExceptionally(t);
+                        } else if (processResult(r, consumer, result)) {
+                            processResults(results, next, consumer, result);
+                        }
+                    });
+                    return;
+                }
+            }
+            fireRenderedActions();
+            result.complete(null);
+        }
+
+        private boolean processResult(ResultNode resultNode, Consumer<String> consumer, CompletableFuture<Void> result) {
+            try {
+                resultNode.process(consumer);
+                return true;
+            } catch (Throwable e) {
+                fireRenderedActions();
+                result.completeExceptionally(e);
+                return false;
+            }
+        }
+
+        private void fireRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Renders the top-level nodes that are not compiled synchronously, i.e. blocks until a node is resolved.
+         */
+        private class Interpreter implements CompiledTemplate.Interpreter {
+
+            private final ResolutionContext context;
+            private final long timeout;
+
+            Interpreter(ResolutionContext context, long timeout) {
+                this.context = context;
+                this.timeout = timeout;
+            }
+
+            @Override
+            public void renderNode(int index, Appendable out) throws IOException {
+                process(root.blocks.get(0).nodes.get(index).resolve(context), out);
+            }
+
+            @Override
+            public void renderValue(int index, Object value, Appendable out) throws IOException {
+                ExpressionNode node = (ExpressionNode) root.blocks.get(0).nodes.get(index);
+                if (value instanceof CompletionStage || value instanceof AbstractUni) {
+                    process(node.toResultNode(CompletionStageSupport.toCompletionStage(value)), out);
+                    return;
+                }
+                value = SingleResultNode.extractValue(value);
+                if (value != null) {
+                    out.append(node.hasEngineResultMappers() ? node.mapResult(value) : value.toString());
+                }
+            }
+
+            private void process(CompletionStage<ResultNode> result, Appendable out) {
+                ResultNode resultNode;
+                try {
+                    resultNode = result.toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                } catch (TimeoutException e) {
+                    throw newTimeoutException(timeout);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    } else {
+                        throw new IllegalStateException(e.getCause());
+                    }
+                }
+                resultNode.process(new Consumer<String>() {
+                    @Override
+                    public void accept(String value) {
+                        try {
+                            out.append(value);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                });
+            }
+
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
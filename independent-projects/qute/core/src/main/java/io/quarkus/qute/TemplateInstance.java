@@ -120,6 +120,10 @@ default CompletionStage<String> renderAsync() {
      * represents a part of the rendered template.
      * <p>
      * This operation does not trigger rendering. Instead, each subscription triggers a new rendering of the template.
+     * <p>
+     * The top-level nodes are resolved on demand, one after another: a node is only resolved when the subscriber requests
+     * more items and the output of the previous node was emitted. The first chunks may therefore be emitted before the
+     * whole template is resolved. If the async timeout is used, it applies to the whole rendering.
      *
      * @return a new Multi
      * @see Multi#subscribe()
@@ -142,6 +146,9 @@ default Uni<String> createUni() {
 
     /**
      * Triggers rendering.
+     * <p>
+     * The chunks of a top-level node are consumed as soon as the node and all the previous nodes are resolved, i.e. the
+     * first chunks may be consumed before the whole template is resolved.
      *
      * @param consumer To consume chunks of the rendered template
      * @return a completion stage that is completed once the rendering finished
@@ -0,0 +1,85 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class CompiledTemplateTest {
+
+    static final String CONTENT = "Hello {name}!{#if active} OK{/if}";
+
+    @Test
+    public void testCompiledTemplate() {
+        AtomicInteger renders = new AtomicInteger();
+        Engine engine = Engine.builder().addDefaults().addResultMapper(new HtmlEscaper(List.of(Variant.TEXT_HTML)))
+                .addCompiledTemplate("foo.html", new HelloCompiledTemplate(fingerprint(), renders))
+                .build();
+        Template foo = engine.parse(CONTENT, Variant.forContentType(Variant.TEXT_HTML), "foo.html");
+
+        // The expression is escaped and the section is rendered by the interpreter
+        assertEquals("Hello &lt;b&gt;! OK", foo.data("name", "<b>").data("active", true).render());
+        assertEquals(1, renders.get());
+        assertEquals("Hello Martin!", foo.data("name", Optional.of("Martin")).data("active", false).render());
+        assertEquals(2, renders.get());
+        assertEquals("Hello !", foo.data("name", null).data("active", false).render());
+        assertEquals(3, renders.get());
+        // Completion stages are resolved by the interpreter
+        assertEquals("Hello Lu!", foo.data("name", CompletableFuture.completedFuture("Lu")).data("active", false).render());
+        assertEquals(4, renders.get());
+
+        // Asynchronous rendering and a data object are always interpreted
+        assertEquals("Hello Lu! OK", foo.data("name", "Lu").data("active", true).renderAsync().toCompletableFuture().join());
+        assertEquals("Hello Lu! OK", foo.render(Map.of("name", "Lu", "active", true)));
+        assertEquals(4, renders.get());
+    }
+
+    @Test
+    public void testFingerprintMismatch() {
+        AtomicInteger renders = new AtomicInteger();
+        Engine engine = Engine.builder().addDefaults()
+                .addCompiledTemplate("foo.html", new HelloCompiledTemplate(fingerprint(), renders))
+                .build();
+        Template foo = engine.parse("Hello {name}?{#if active} OK{/if}", null, "foo.html");
+        assertEquals("Hello Lu? OK", foo.data("name", "Lu").data("active", true).render());
+        assertEquals(0, renders.get());
+    }
+
+    private static int fingerprint() {
+        return CompiledTemplate.fingerprint(Engine.builder().addDefaults().build().parse(CONTENT).getNodes());
+    }
+
+    // The equivalent of a compiled template generated for CONTENT
+    static class HelloCompiledTemplate implements CompiledTemplate {
+
+        private final int fingerprint;
+        private final AtomicInteger renders;
+
+        HelloCompiledTemplate(int fingerprint, AtomicInteger renders) {
+            this.fingerprint = fingerprint;
+            this.renders = renders;
+        }
+
+        @Override
+        public int getFingerprint() {
+            return fingerprint;
+        }
+
+        @Override
+        public void render(Mapper data, Appendable out, Interpreter interpreter) throws IOException {
+            renders.incrementAndGet();
+            out.append("Hello ");
+            interpreter.renderValue(1, data.get("name"), out);
+            out.append("!");
+            interpreter.renderNode(3, out);
+        }
+
+    }
+
+}
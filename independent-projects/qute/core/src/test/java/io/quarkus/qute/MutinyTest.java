@@ -1,13 +1,18 @@
 package io.quarkus.qute;
 
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -31,6 +36,39 @@ public void testCreateMulti() throws InterruptedException {
         assertMulti(multi.select().first(), "foo");
     }
 
+    @Test
+    public void testCreateMultiIncremental() throws InterruptedException {
+        Engine engine = Engine.builder().addDefaults().build();
+        CompletableFuture<String> bar = new CompletableFuture<>();
+        Multi<String> multi = engine.parse("Hello {foo}! {#if true}{bar}{/if}.").data("foo", "Lu").data("bar", bar)
+                .createMulti();
+        BlockingQueue<String> chunks = new LinkedBlockingQueue<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        multi.subscribe().with(chunks::add, latch::countDown);
+        // The nodes before the unresolved section are emitted immediately
+        assertEquals("Hello ", chunks.poll(2, TimeUnit.SECONDS));
+        assertEquals("Lu", chunks.poll(2, TimeUnit.SECONDS));
+        assertEquals("! ", chunks.poll(2, TimeUnit.SECONDS));
+        assertNull(chunks.poll(100, TimeUnit.MILLISECONDS));
+        bar.complete("Bar");
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals("Bar", chunks.poll());
+        assertEquals(".", chunks.poll());
+        assertNull(chunks.poll());
+    }
+
+    @Test
+    public void testCreateMultiTimeoutAppliesToTheWholeRendering() {
+        Engine engine = Engine.builder().addDefaults().build();
+        // The nodes are resolved one after another, each of them within the timeout
+        Uni<String> slow = Uni.createFrom().item("x").onItem().delayIt().by(Duration.ofMillis(300));
+        TemplateInstance instance = engine.parse("{a}{b}{c}").data("a", slow).data("b", slow).data("c", slow);
+        instance.setAttribute(TemplateInstance.TIMEOUT, 500);
+        assertThatExceptionOfType(TemplateException.class)
+                .isThrownBy(() -> instance.createMulti().collect().asList().await().atMost(Duration.ofSeconds(10)))
+                .withMessageContaining("rendering timeout [500ms]");
+    }
+
     @Test
     public void testCreateUni() throws InterruptedException {
         Engine engine = Engine.builder().addDefaults().build();
@@ -0,0 +1,309 @@
+package io.quarkus.qute.generator;
+
+import static io.quarkus.qute.generator.ValueResolverGenerator.generatedNameFromTarget;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.classDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.fieldDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.methodDescOf;
+
+import java.lang.constant.ClassDesc;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.gizmo2.Const;
+import io.quarkus.gizmo2.Expr;
+import io.quarkus.gizmo2.LocalVar;
+import io.quarkus.gizmo2.ParamVar;
+import io.quarkus.gizmo2.creator.BlockCreator;
+import io.quarkus.gizmo2.desc.ClassMethodDesc;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.Mapper;
+import io.quarkus.qute.TemplateNode;
+
+/**
+ * Generates {@link CompiledTemplate}s for type-safe templates.
+ * <p>
+ * Only the top-level nodes of a template are compiled. Text nodes are appended directly. An expression is compiled if
+ * it does not have a namespace, it does not contain a virtual method and all its parts can be resolved to public
+ * members of public classes. Such an expression is rendered by a generated static method that invokes the member
+ * accessors directly. All other nodes are rendered by the {@link CompiledTemplate.Interpreter}.
+ */
+public class CompiledTemplateGenerator extends AbstractGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    public static final String SUFFIX = "_CompiledTemplate";
+
+    // The size of the generated method is limited
+    static final int MAX_NODES = 2000;
+    // The string constants in the constant pool are limited to 65535 bytes
+    static final int MAX_TEXT_LENGTH = 16384;
+
+    private final BiFunction<ClassInfo, String, AnnotationTarget> memberFinder;
+
+    /**
+     *
+     * @param index
+     * @param classOutput
+     * @param memberFinder finds the member that is used to resolve a property of a class; if {@code null} is returned then
+     *        the expression is not compiled
+     */
+    public CompiledTemplateGenerator(IndexView index, ClassOutput classOutput,
+            BiFunction<ClassInfo, String, AnnotationTarget> memberFinder) {
+        super(index, classOutput);
+        this.memberFinder = memberFinder;
+    }
+
+    /**
+     *
+     * @param targetPackage
+     * @param baseName
+     * @param nodes the top-level nodes of the template
+     * @param bindings the types of the template parameters
+     * @return the name of the generated class or {@code null} if there is nothing to compile
+     */
+    public String generate(String targetPackage, String baseName, List<TemplateNode> nodes, Map<String, Type> bindings) {
+        if (nodes.size() > MAX_NODES) {
+            LOGGER.debugf("Template %s not compiled: too many nodes", baseName);
+            return null;
+        }
+        List<Step> steps = new ArrayList<>(nodes.size());
+        boolean compiled = false;
+        for (int i = 0; i < nodes.size(); i++) {
+            TemplateNode node = nodes.get(i);
+            Step step = null;
+            if (node.isText() && node.asText().getValue().length() <= MAX_TEXT_LENGTH) {
+                step = new Step(i, node.asText().getValue(), null, null);
+            } else if (node.isExpression()) {
+                step = compileExpression(i, node.getExpressions().get(0), bindings);
+            }
+            if (step != null) {
+                compiled = true;
+            } else {
+                step = new Step(i, null, null, null);
+            }
+            steps.add(step);
+        }
+        if (!compiled) {
+            LOGGER.debugf("Template %s not compiled: no node can be compiled", baseName);
+            return null;
+        }
+
+        String generatedClassName = generatedNameFromTarget(targetPackage, baseName, SUFFIX).replace('/', '.');
+        generatedTypes.add(generatedClassName);
+        ClassDesc generatedClass = ClassDesc.of(generatedClassName);
+        int fingerprint = CompiledTemplate.fingerprint(nodes);
+
+        gizmo.class_(generatedClassName, cc -> {
+            cc.implements_(CompiledTemplate.class);
+            cc.defaultConstructor();
+
+            // CompiledTemplate#getFingerprint()
+            cc.method("getFingerprint", mc -> {
+                mc.returning(int.class);
+                mc.body(bc -> bc.return_(Const.of(fingerprint)));
+            });
+
+            // A static method for each compiled expression
+            for (Step step : steps) {
+                if (step.members == null) {
+                    continue;
+                }
+                cc.staticMethod("node" + step.index, mc -> {
+                    mc.returning(void.class);
+                    ParamVar data = mc.parameter("data", Mapper.class);
+                    ParamVar out = mc.parameter("out", Appendable.class);
+                    ParamVar interpreter = mc.parameter("interpreter", CompiledTemplate.Interpreter.class);
+                    mc.body(bc -> implementNode(bc, step, data, out, interpreter));
+                });
+            }
+
+            // CompiledTemplate#render()
+            cc.method("render", mc -> {
+                mc.returning(void.class);
+                ParamVar data = mc.parameter("data", Mapper.class);
+                ParamVar out = mc.parameter("out", Appendable.class);
+                ParamVar interpreter = mc.parameter("interpreter", CompiledTemplate.Interpreter.class);
+                mc.body(bc -> {
+                    for (Step step : steps) {
+                        if (step.text != null) {
+                            bc.invokeInterface(Descriptors.APPENDABLE_APPEND, out, Const.of(step.text));
+                        } else if (step.members != null) {
+                            bc.invokeStatic(ClassMethodDesc.of(generatedClass, "node" + step.index, void.class, Mapper.class,
+                                    Appendable.class, CompiledTemplate.Interpreter.class), data, out, interpreter);
+                        } else {
+                            bc.invokeInterface(Descriptors.INTERPRETER_RENDER_NODE, interpreter, Const.of(step.index), out);
+                        }
+                    }
+                    bc.return_();
+                });
+            });
+        });
+        return generatedClassName;
+    }
+
+    private void implementNode(BlockCreator bc, Step step, ParamVar data, ParamVar out, ParamVar interpreter) {
+        Const index = Const.of(step.index);
+        Const name = Const.of(step.name);
+        // The parameter may not be set at all
+        bc.ifNot(bc.invokeInterface(Descriptors.MAPPER_APPLIES_TO, data, name), notSet -> {
+            notSet.invokeInterface(Descriptors.INTERPRETER_RENDER_NODE, interpreter, index, out);
+            notSet.return_();
+        });
+        LocalVar root = bc.localVar("root", bc.invokeInterface(Descriptors.MAPPER_GET, data, name));
+        if (step.members.isEmpty()) {
+            bc.invokeInterface(Descriptors.INTERPRETER_RENDER_VALUE, interpreter, index, root, out);
+            bc.return_();
+            return;
+        }
+        // If the value does not match the declared type then the node is rendered by the interpreter
+        bc.ifNot(bc.instanceOf(root, classDescOf(step.rootClass)), noMatch -> {
+            noMatch.invokeInterface(Descriptors.INTERPRETER_RENDER_NODE, interpreter, index, out);
+            noMatch.return_();
+        });
+        Expr current = bc.cast(root, classDescOf(step.rootClass));
+        Type currentType = null;
+        for (int i = 0; i < step.members.size(); i++) {
+            if (i > 0) {
+                // A null intermediate value is rendered by the interpreter, i.e. the same way as in the interpreted template
+                LocalVar base = bc.localVar("base" + i, current);
+                bc.ifNull(base, isNull -> {
+                    isNull.invokeInterface(Descriptors.INTERPRETER_RENDER_NODE, interpreter, index, out);
+                    isNull.return_();
+                });
+                current = base;
+            }
+            AnnotationTarget member = step.members.get(i);
+            if (member.kind() == AnnotationTarget.Kind.METHOD) {
+                MethodInfo method = member.asMethod();
+                current = method.declaringClass().isInterface()
+                        ? bc.invokeInterface(methodDescOf(method), current)
+                        : bc.invokeVirtual(methodDescOf(method), current);
+                currentType = method.returnType();
+            } else {
+                FieldInfo field = member.asField();
+                current = current.field(fieldDescOf(field));
+                currentType = field.type();
+            }
+        }
+        LocalVar value = bc.localVar("value", currentType.kind() == Kind.PRIMITIVE ? bc.box(current) : current);
+        bc.invokeInterface(Descriptors.INTERPRETER_RENDER_VALUE, interpreter, index, value, out);
+        bc.return_();
+    }
+
+    private Step compileExpression(int index, Expression expression, Map<String, Type> bindings) {
+        if (expression.hasNamespace() || expression.isLiteral()) {
+            return null;
+        }
+        List<Expression.Part> parts = expression.getParts();
+        for (Expression.Part part : parts) {
+            if (part.isVirtualMethod()) {
+                return null;
+            }
+        }
+        String name = parts.get(0).getName();
+        Type type = bindings.get(name);
+        if (type == null) {
+            return null;
+        }
+        if (parts.size() == 1) {
+            return new Step(index, null, name, List.of());
+        }
+        ClassInfo rootClass = null;
+        List<AnnotationTarget> members = new ArrayList<>(parts.size() - 1);
+        for (Expression.Part part : parts.subList(1, parts.size())) {
+            ClassInfo clazz = lookupClass(type);
+            if (clazz == null) {
+                return null;
+            }
+            if (rootClass == null) {
+                rootClass = clazz;
+            }
+            AnnotationTarget member = memberFinder.apply(clazz, part.getName());
+            if (member == null) {
+                return null;
+            }
+            if (member.kind() == AnnotationTarget.Kind.METHOD) {
+                MethodInfo method = member.asMethod();
+                if (!isAccessible(method.declaringClass(), method.flags()) || !method.parameterTypes().isEmpty()
+                        || method.returnType().kind() == Kind.VOID) {
+                    return null;
+                }
+                type = method.returnType();
+            } else if (member.kind() == AnnotationTarget.Kind.FIELD) {
+                FieldInfo field = member.asField();
+                if (!isAccessible(field.declaringClass(), field.flags())) {
+                    return null;
+                }
+                type = field.type();
+            } else {
+                return null;
+            }
+            members.add(member);
+        }
+        if (type.kind() != Kind.PRIMITIVE && hasAsyncResult(type)) {
+            // The result must be resolved by the interpreter
+            return null;
+        }
+        return new Step(index, null, name, members, rootClass);
+    }
+
+    private ClassInfo lookupClass(Type type) {
+        if (type.kind() != Kind.CLASS && type.kind() != Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        ClassInfo clazz = index.getClassByName(type.name());
+        if (clazz == null || !Modifier.isPublic(clazz.flags()) || hasAsyncResult(type)
+                || hasClassInTypeClosure(clazz, DotNames.MAPPER, index)) {
+            // Mappers and async results are resolved by the interpreter
+            return null;
+        }
+        return clazz;
+    }
+
+    private boolean hasAsyncResult(Type type) {
+        return type.name().equals(DotNames.UNI) || type.name().equals(DotNames.MULTI) || hasCompletionStage(type);
+    }
+
+    private static boolean isAccessible(ClassInfo declaringClass, int flags) {
+        return Modifier.isPublic(flags) && !Modifier.isStatic(flags) && Modifier.isPublic(declaringClass.flags());
+    }
+
+    private static final class Step {
+
+        final int index;
+        // Not null for a compiled text node
+        final String text;
+        // Not null for a compiled expression node
+        final String name;
+        final List<AnnotationTarget> members;
+        final ClassInfo rootClass;
+
+        Step(int index, String text, String name, List<AnnotationTarget> members) {
+            this(index, text, name, members, null);
+        }
+
+        Step(int index, String text, String name, List<AnnotationTarget> members, ClassInfo rootClass) {
+            this.index = index;
+            this.text = text;
+            this.name = name;
+            this.members = members;
+            this.rootClass = rootClass;
+        }
+
+    }
+
+}
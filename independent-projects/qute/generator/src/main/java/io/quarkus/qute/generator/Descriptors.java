@@ -12,10 +12,12 @@
 import io.quarkus.gizmo2.desc.ConstructorDesc;
 import io.quarkus.gizmo2.desc.FieldDesc;
 import io.quarkus.gizmo2.desc.MethodDesc;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.CompletedStage;
 import io.quarkus.qute.EvalContext;
 import io.quarkus.qute.EvaluatedParams;
 import io.quarkus.qute.Expression;
+import io.quarkus.qute.Mapper;
 import io.quarkus.qute.Results;
 import io.quarkus.qute.Results.NotFound;
 import io.quarkus.qute.TemplateInstance;
@@ -108,6 +110,16 @@ private Descriptors() {
     public static final MethodDesc VALUE_RESOLVERS_HAS_NO_PARAMS = MethodDesc.of(ValueResolvers.class,
             "hasNoParams", boolean.class, EvalContext.class);
 
+    public static final MethodDesc APPENDABLE_APPEND = MethodDesc.of(Appendable.class, "append", Appendable.class,
+            CharSequence.class);
+    public static final MethodDesc MAPPER_GET = MethodDesc.of(Mapper.class, "get", Object.class, String.class);
+    public static final MethodDesc MAPPER_APPLIES_TO = MethodDesc.of(Mapper.class, "appliesTo", boolean.class,
+            String.class);
+    public static final MethodDesc INTERPRETER_RENDER_NODE = MethodDesc.of(CompiledTemplate.Interpreter.class,
+            "renderNode", void.class, int.class, Appendable.class);
+    public static final MethodDesc INTERPRETER_RENDER_VALUE = MethodDesc.of(CompiledTemplate.Interpreter.class,
+            "renderValue", void.class, int.class, Object.class, Appendable.class);
+
     public static final FieldDesc EVALUATED_PARAMS_STAGE = FieldDesc.of(EvaluatedParams.class, "stage");
 
     public static final FieldDesc RESULTS_TRUE = FieldDesc.of(Results.class, "TRUE");
@@ -4,6 +4,8 @@
 
 import org.jboss.jandex.DotName;
 
+import io.quarkus.qute.Mapper;
+
 final class DotNames {
 
     static final DotName BOOLEAN = DotName.createSimple(Boolean.class.getName());
@@ -17,5 +19,8 @@ final class DotNames {
     static final DotName STRING = DotName.createSimple(String.class.getName());
     static final DotName COMPLETION_STAGE = DotName.createSimple(CompletionStage.class.getName());
     static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    static final DotName MAPPER = DotName.createSimple(Mapper.class.getName());
+    static final DotName UNI = DotName.createSimple("io.smallrye.mutiny.Uni");
+    static final DotName MULTI = DotName.createSimple("io.smallrye.mutiny.Multi");
 
 }
@@ -0,0 +1,111 @@
+package io.quarkus.qute.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+
+public class CompiledTemplateGeneratorTest {
+
+    static final String CONTENT = "{order.name}: {order.count}x {order.customer.name}{#if order.count > 1}!{/if} "
+            + "{order.name ?: 'none'}";
+
+    @Test
+    public void testGenerator() throws Exception {
+        Index index = SimpleGeneratorTest.index(Order.class, Customer.class, String.class);
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(index,
+                ClassOutput.fileWriter(new File("target/test-classes/").toPath()),
+                CompiledTemplateGeneratorTest::findMember);
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).build();
+        String className = generator.generate("io.quarkus.qute.generator", "order", engine.parse(CONTENT).getNodes(),
+                Map.of("order", Type.create(DotName.createSimple(Order.class.getName()), Kind.CLASS)));
+        assertEquals("io.quarkus.qute.generator.order_CompiledTemplate", className);
+
+        CompiledTemplate compiledTemplate = (CompiledTemplate) CompiledTemplateGeneratorTest.class.getClassLoader()
+                .loadClass(className).getDeclaredConstructor().newInstance();
+        engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addCompiledTemplate("order.html", compiledTemplate).build();
+        Template order = engine.parse(CONTENT, null, "order.html");
+        assertEquals("Pen: 2x Lu! Pen", order.data("order", new Order("Pen", 2, new Customer("Lu"))).render());
+        // The value does not match the declared type - rendered by the interpreter
+        assertEquals("Pen: 1x Lu Pen", order.data("order", Map.of("name", "Pen", "count", 1,
+                "customer", Map.of("name", "Lu"))).render());
+    }
+
+    @Test
+    public void testNothingToCompile() throws IOException {
+        Index index = SimpleGeneratorTest.index(Order.class, Customer.class, String.class);
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(index,
+                ClassOutput.fileWriter(new File("target/test-classes/").toPath()),
+                CompiledTemplateGeneratorTest::findMember);
+        Engine engine = Engine.builder().addDefaults().build();
+        assertNull(generator.generate("io.quarkus.qute.generator", "foo",
+                engine.parse("{#if order.count > 1}{order.name.toUpperCase}{/if}{order.customer.name.or('none')}")
+                        .getNodes(),
+                Map.of("order", Type.create(DotName.createSimple(Order.class.getName()), Kind.CLASS))));
+    }
+
+    static AnnotationTarget findMember(ClassInfo clazz, String name) {
+        String getter = "get" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (MethodInfo method : clazz.methods()) {
+            if (method.parametersCount() == 0 && (method.name().equals(name) || method.name().equals(getter))) {
+                return method;
+            }
+        }
+        return clazz.field(name);
+    }
+
+    public static class Order {
+
+        private final String name;
+        public final int count;
+        private final Customer customer;
+
+        public Order(String name, int count, Customer customer) {
+            this.name = name;
+            this.count = count;
+            this.customer = customer;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+    }
+
+    public static class Customer {
+
+        private final String name;
+
+        public Customer(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+}
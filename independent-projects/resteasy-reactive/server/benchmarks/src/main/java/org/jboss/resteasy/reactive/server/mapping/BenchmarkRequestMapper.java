@@ -0,0 +1,125 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the matching of request paths by the {@link RequestMapper}.
+ * <p>
+ * The {@code stemPathMatcher} and {@code stemTrie} benchmarks compare the lookup of the longest matching stem by the
+ * {@link PathMatcher}, which was used by the {@link RequestMapper} previously, and by the {@link StemTrie}. The
+ * {@code map} benchmark measures the whole matching, including the path parameters.
+ * <p>
+ * The benchmark is located in the {@code org.jboss.resteasy.reactive.server.mapping} package because it needs to access
+ * the package-private matchers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BenchmarkRequestMapper {
+
+    private static final String[] METHOD_TEMPLATES = { "", "/{id}", "/{id}/items", "/{id}/items/{itemId}", "/search",
+            "/{id:\\d+}/history", "/export", "/count" };
+
+    /**
+     * The number of resource classes, each of them declares the {@link #METHOD_TEMPLATES}.
+     */
+    @Param({ "10", "100" })
+    public int resources;
+
+    private RequestMapper<String> mapper;
+    private PathMatcher<ArrayList<RequestMapper.RequestPath<String>>> pathMatcher;
+    private StemTrie<ArrayList<RequestMapper.RequestPath<String>>> stemTrie;
+    private String[] paths;
+    private int index;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        for (int r = 0; r < resources; r++) {
+            for (String method : METHOD_TEMPLATES) {
+                String template = "/api/v1/resource" + r + method;
+                templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+            }
+        }
+        mapper = new RequestMapper<>(templates);
+
+        // the same structure as built by the RequestMapper
+        Map<String, ArrayList<RequestMapper.RequestPath<String>>> aggregates = new HashMap<>();
+        for (RequestMapper.RequestPath<String> template : templates) {
+            aggregates.computeIfAbsent(template.template.stem, k -> new ArrayList<>()).add(template);
+        }
+        PathMatcher.Builder<ArrayList<RequestMapper.RequestPath<String>>> pathMatcherBuilder = new PathMatcher.Builder<>();
+        StemTrie.Builder<ArrayList<RequestMapper.RequestPath<String>>> stemTrieBuilder = new StemTrie.Builder<>();
+        for (Map.Entry<String, ArrayList<RequestMapper.RequestPath<String>>> entry : aggregates.entrySet()) {
+            Collections.sort(entry.getValue());
+            pathMatcherBuilder.addPrefixPath(entry.getKey(), entry.getValue());
+            stemTrieBuilder.addStem(entry.getKey(), entry.getValue());
+        }
+        pathMatcher = pathMatcherBuilder.build();
+        stemTrie = stemTrieBuilder.build();
+
+        List<String> paths = new ArrayList<>();
+        for (int r = 0; r < resources; r += Math.max(1, resources / 10)) {
+            String resource = "/api/v1/resource" + r;
+            paths.add(resource);
+            paths.add(resource + "/42");
+            paths.add(resource + "/42/items/7");
+            paths.add(resource + "/search");
+            paths.add(resource + "/42/history");
+            paths.add(resource + "/unknown/path/segments");
+        }
+        this.paths = paths.toArray(new String[0]);
+    }
+
+    private String nextPath() {
+        String path = paths[index];
+        index = index + 1 == paths.length ? 0 : index + 1;
+        return path;
+    }
+
+    @Benchmark
+    public void stemPathMatcher(Blackhole blackhole) {
+        PathMatcher.PathMatch<ArrayList<RequestMapper.RequestPath<String>>> match = pathMatcher.match(nextPath());
+        blackhole.consume(match.getValue());
+        blackhole.consume(match.getMatched().length());
+    }
+
+    @Benchmark
+    public void stemTrie(Blackhole blackhole) {
+        StemTrie.Node<ArrayList<RequestMapper.RequestPath<String>>> match = stemTrie.match(nextPath());
+        blackhole.consume(match.getValue());
+        blackhole.consume(match.getLength());
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> map() {
+        return mapper.map(nextPath());
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkRequestMapper.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
@@ -12,13 +12,12 @@
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
 
-    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    private final StemTrie<ArrayList<RequestPath<T>>> stems;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
-        pathMatcherBuilder = new PathMatcher.Builder<>();
+        StemTrie.Builder<ArrayList<RequestPath<T>>> stemsBuilder = new StemTrie.Builder<>();
         this.templates = templates;
         int max = 0;
         Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
@@ -34,11 +33,11 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
             @Override
             public void accept(String stem, ArrayList<RequestPath<T>> list) {
                 Collections.sort(list);
-                pathMatcherBuilder.addPrefixPath(stem, list);
+                stemsBuilder.addStem(stem, list);
             }
         });
         maxParams = max;
-        requestPaths = pathMatcherBuilder.build();
+        stems = stemsBuilder.build();
     }
 
     /**
@@ -48,13 +47,13 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
      * @return best RequestMatch, or null if the path has no match
      */
     public RequestMatch<T> map(String path) {
-        var result = mapFromPathMatcher(path, requestPaths.match(path), 0);
+        var result = mapFromStem(path, stems.match(path), 0);
         if (result != null) {
             return result;
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path), 0);
+        return mapFromStem(path, stems.defaultMatch(), 0);
     }
 
     /**
@@ -68,33 +67,34 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
             return null;
         }
 
-        var initialMatches = requestPaths.match(path);
-        var result = mapFromPathMatcher(path, initialMatches, 0);
+        var initialMatches = stems.match(path);
+        var result = mapFromStem(path, initialMatches, 0);
         if (result != null) {
             int idx = nextMatchStartingIndex(initialMatches, lastMatch);
-            return mapFromPathMatcher(path, initialMatches, idx);
+            return mapFromStem(path, initialMatches, idx);
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        initialMatches = requestPaths.defaultMatch(path);
-        result = mapFromPathMatcher(path, initialMatches, 0);
+        initialMatches = stems.defaultMatch();
+        result = mapFromStem(path, initialMatches, 0);
         if (result != null) {
             int idx = nextMatchStartingIndex(initialMatches, lastMatch);
-            return mapFromPathMatcher(path, initialMatches, idx);
+            return mapFromStem(path, initialMatches, idx);
         }
         return null;
     }
 
-    private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
+    private int nextMatchStartingIndex(StemTrie.Node<ArrayList<RequestPath<T>>> initialMatches,
             RequestMatch<T> current) {
-        if (initialMatches.getValue() == null || initialMatches.getValue().isEmpty()) {
+        var value = initialMatches.getValue();
+        if (value == null || value.isEmpty()) {
             return -1;
         }
-        for (int i = 0; i < initialMatches.getValue().size(); i++) {
-            if (initialMatches.getValue().get(i).template == current.template) {
+        for (int i = 0; i < value.size(); i++) {
+            if (value.get(i).template == current.template) {
                 i++;
 
-                if (i < initialMatches.getValue().size()) {
+                if (i < value.size()) {
                     return i;
                 }
                 return -1;
@@ -105,20 +105,26 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
+    private RequestMatch<T> mapFromStem(String path, StemTrie.Node<ArrayList<RequestPath<T>>> initialMatches,
             int startIdx) {
         var value = initialMatches.getValue();
         if (value == null || startIdx < 0) {
             return null;
         }
         int pathLength = path.length();
+        // the array is only allocated once and reused by the candidates that don't match
+        String[] params = null;
         for (int index = startIdx; index < value.size(); index++) {
             RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            if (params == null) {
+                params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            } else if (params.length > 0) {
+                Arrays.fill(params, null);
+            }
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
+            int matchPos = initialMatches.getLength();
             for (int i = 1; i < potentialMatch.template.components.length; ++i) {
                 URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
@@ -256,11 +262,35 @@ public String toString() {
     }
 
     public void dump() {
-        this.requestPaths.dump(0);
+        Map<String, ArrayList<RequestPath<T>>> requestPaths = getRequestPathsByStem();
+        System.err.println("Paths: " + requestPaths.size());
+        for (Map.Entry<String, ArrayList<RequestPath<T>>> entry : requestPaths.entrySet()) {
+            System.err.println(" " + entry.getKey() + ": ");
+            for (RequestPath<T> requestPath : entry.getValue()) {
+                requestPath.dump(3);
+            }
+        }
     }
 
+    /**
+     * @return the request paths grouped by stem
+     * @deprecated the paths are no longer matched with a {@link PathMatcher}, the returned matcher is built on each call,
+     *             use {@link #getRequestPathsByStem()} instead
+     */
+    @Deprecated(forRemoval = true)
     public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
+        PathMatcher.Builder<ArrayList<RequestPath<T>>> builder = new PathMatcher.Builder<>();
+        for (Map.Entry<String, ArrayList<RequestPath<T>>> entry : stems.stems().entrySet()) {
+            builder.addPrefixPath(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return the request paths grouped by stem, sorted by stem
+     */
+    public Map<String, ArrayList<RequestPath<T>>> getRequestPathsByStem() {
+        return stems.stems();
     }
 
     public ArrayList<RequestPath<T>> getTemplates() {
@@ -0,0 +1,210 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A radix trie of path stems, used to find the longest stem that is a prefix of a request path.
+ * <p>
+ * Unlike {@link PathMatcher}, which hashes the path prefix once for every distinct stem length, the trie is walked
+ * in a single pass over the request path and the lookup does not allocate.
+ * <p>
+ * The trie is immutable once built, and as such it is thread safe.
+ */
+@SuppressWarnings("ForLoopReplaceableByForEach")
+final class StemTrie<T> {
+
+    private final Node<T> root;
+    private final Node<T> defaultNode;
+
+    private StemTrie(Node<T> root, Node<T> defaultNode) {
+        this.root = root;
+        this.defaultNode = defaultNode;
+    }
+
+    /**
+     * Finds the longest registered stem which is a prefix of the given path.
+     *
+     * @param path the request path
+     * @return the node of the longest matching stem, or the {@link #defaultMatch() default node} if no stem matches;
+     *         never {@code null}
+     */
+    Node<T> match(String path) {
+        Node<T> best = defaultNode;
+        Node<T> node = root;
+        int pos = 0;
+        int length = path.length();
+        while (pos < length) {
+            Node<T> child = node.child(path.charAt(pos));
+            if (child == null) {
+                break;
+            }
+            String label = child.label;
+            int labelLength = label.length();
+            if (pos + labelLength > length || !path.regionMatches(pos, label, 0, labelLength)) {
+                break;
+            }
+            pos += labelLength;
+            node = child;
+            if (node.hasValue) {
+                best = node;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return the node of the {@code /} stem, which matches any path
+     */
+    Node<T> defaultMatch() {
+        return defaultNode;
+    }
+
+    /**
+     * @return the registered stems and their values, sorted by stem
+     */
+    Map<String, T> stems() {
+        Map<String, T> stems = new TreeMap<>();
+        if (defaultNode.value != null) {
+            stems.put(defaultNode.label, defaultNode.value);
+        }
+        collectStems(root, "", stems);
+        return stems;
+    }
+
+    private static <T> void collectStems(Node<T> node, String prefix, Map<String, T> stems) {
+        String stem = prefix + node.label;
+        if (node.hasValue) {
+            stems.put(stem, node.value);
+        }
+        for (int i = 0; i < node.children.length; ++i) {
+            collectStems(node.children[i], stem, stems);
+        }
+    }
+
+    static final class Node<T> {
+        final String label;
+        /**
+         * The length of the stem this node represents.
+         */
+        final int length;
+        final T value;
+        final boolean hasValue;
+        // sorted by the first character of the child label
+        final char[] firstChars;
+        final Node<T>[] children;
+
+        Node(String label, int length, T value, boolean hasValue, char[] firstChars, Node<T>[] children) {
+            this.label = label;
+            this.length = length;
+            this.value = value;
+            this.hasValue = hasValue;
+            this.firstChars = firstChars;
+            this.children = children;
+        }
+
+        T getValue() {
+            return value;
+        }
+
+        /**
+         * @return the number of characters of the path matched by this node
+         */
+        int getLength() {
+            return length;
+        }
+
+        private Node<T> child(char c) {
+            char[] firstChars = this.firstChars;
+            if (firstChars.length < 8) {
+                for (int i = 0; i < firstChars.length; ++i) {
+                    if (firstChars[i] == c) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+            int low = 0;
+            int high = firstChars.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = firstChars[mid];
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+    }
+
+    static class Builder<T> {
+
+        private static final String STRING_PATH_SEPARATOR = "/";
+
+        private final MutableNode<T> root = new MutableNode<>();
+        private T defaultValue;
+
+        /**
+         * Adds a stem. The {@code /} stem is the default value, which is used if no other stem matches.
+         *
+         * @param stem the stem
+         * @param value the value
+         */
+        void addStem(String stem, T value) {
+            if (stem.isEmpty()) {
+                throw new IllegalArgumentException("Path not specified");
+            }
+            if (STRING_PATH_SEPARATOR.equals(stem)) {
+                defaultValue = value;
+                return;
+            }
+            MutableNode<T> node = root;
+            for (int i = 0; i < stem.length(); ++i) {
+                node = node.children.computeIfAbsent(stem.charAt(i), c -> new MutableNode<>());
+            }
+            node.value = value;
+            node.hasValue = true;
+        }
+
+        StemTrie<T> build() {
+            return new StemTrie<>(compress("", 0, root),
+                    new Node<>(STRING_PATH_SEPARATOR, 1, defaultValue, true, new char[0], newArray(0)));
+        }
+
+        private Node<T> compress(String label, int length, MutableNode<T> node) {
+            char[] firstChars = new char[node.children.size()];
+            Node<T>[] children = newArray(node.children.size());
+            int i = 0;
+            for (Map.Entry<Character, MutableNode<T>> entry : node.children.entrySet()) {
+                // collapse the chains of nodes without value into a single edge
+                StringBuilder childLabel = new StringBuilder().append(entry.getKey().charValue());
+                MutableNode<T> child = entry.getValue();
+                while (!child.hasValue && child.children.size() == 1) {
+                    Map.Entry<Character, MutableNode<T>> only = child.children.entrySet().iterator().next();
+                    childLabel.append(only.getKey().charValue());
+                    child = only.getValue();
+                }
+                firstChars[i] = entry.getKey();
+                children[i] = compress(childLabel.toString(), length + childLabel.length(), child);
+                i++;
+            }
+            return new Node<>(label, length, node.value, node.hasValue, firstChars, children);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newArray(int size) {
+            return new Node[size];
+        }
+    }
+
+    private static final class MutableNode<T> {
+        // sorted, so that the children of the compressed node are sorted too
+        final TreeMap<Character, MutableNode<T>> children = new TreeMap<>();
+        T value;
+        boolean hasValue;
+    }
+}
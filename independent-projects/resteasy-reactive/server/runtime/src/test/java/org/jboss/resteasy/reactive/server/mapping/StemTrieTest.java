@@ -0,0 +1,76 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class StemTrieTest {
+
+    @Test
+    public void testLongestStem() {
+        StemTrie.Builder<String> builder = new StemTrie.Builder<>();
+        builder.addStem("/", "root");
+        builder.addStem("/api/", "api");
+        builder.addStem("/api/users/", "users");
+        builder.addStem("/api/users/admin", "admin");
+        builder.addStem("/apis", "apis");
+        StemTrie<String> trie = builder.build();
+
+        assertMatch(trie, "/api/users/1", "users", 11);
+        assertMatch(trie, "/api/users/admin/roles", "admin", 16);
+        assertMatch(trie, "/api/users", "api", 5);
+        assertMatch(trie, "/apis/1", "apis", 5);
+        assertMatch(trie, "/ap", "root", 1);
+        assertMatch(trie, "/other", "root", 1);
+        assertMatch(trie, "", "root", 1);
+    }
+
+    @Test
+    public void testNoDefaultStem() {
+        StemTrie.Builder<String> builder = new StemTrie.Builder<>();
+        builder.addStem("/a", "a");
+        StemTrie<String> trie = builder.build();
+
+        assertMatch(trie, "/a/b", "a", 2);
+        assertNull(trie.match("/b").getValue());
+        assertEquals(1, trie.defaultMatch().getLength());
+    }
+
+    @Test
+    public void testManyChildren() {
+        StemTrie.Builder<String> builder = new StemTrie.Builder<>();
+        for (char c = 'a'; c <= 'z'; c++) {
+            builder.addStem("/" + c, String.valueOf(c));
+        }
+        StemTrie<String> trie = builder.build();
+
+        for (char c = 'a'; c <= 'z'; c++) {
+            assertMatch(trie, "/" + c + "/x", String.valueOf(c), 2);
+        }
+        assertNull(trie.match("/A").getValue());
+    }
+
+    @Test
+    public void testStems() {
+        StemTrie.Builder<String> builder = new StemTrie.Builder<>();
+        builder.addStem("/api/users/", "users");
+        builder.addStem("/", "root");
+        builder.addStem("/api/", "api");
+        builder.addStem("/apis", "apis");
+        Map<String, String> stems = builder.build().stems();
+
+        assertEquals(List.of("/", "/api/", "/api/users/", "/apis"), List.copyOf(stems.keySet()));
+        assertEquals(List.of("root", "api", "users", "apis"), List.copyOf(stems.values()));
+    }
+
+    private static void assertMatch(StemTrie<String> trie, String path, String value, int length) {
+        StemTrie.Node<String> node = trie.match(path);
+        assertEquals(value, node.getValue());
+        assertEquals(length, node.getLength());
+    }
+
+}